@@ -76,6 +76,24 @@ def save_state():
 def health():
     return jsonify({"status": "healthy", "model": MODEL_NAME})
 
+@app.route('/embed', methods=['POST'])
+def embed():
+    """Embed already-prefixed texts ("query: ..." / "passage: ...")"""
+    data = request.json
+    texts = data.get('texts', [])
+    
+    if not texts:
+        return jsonify({"embeddings": [], "dim": EMBEDDING_DIM})
+    
+    try:
+        embeddings = model.encode(texts).astype('float32')
+        faiss.normalize_L2(embeddings)  # Normalize for cosine similarity
+        return jsonify({"embeddings": embeddings.tolist(), "dim": EMBEDDING_DIM})
+        
+    except Exception as e:
+        logger.error(f"Embed error: {e}")
+        return jsonify({"error": str(e)}), 500
+
 @app.route('/index/add', methods=['POST'])
 def add_document():
     data = request.json
@@ -191,7 +209,22 @@ def get_documents():
             "title": meta.get('title', 'Untitled'),
             "content": meta.get('content', data.get('text', '')),
             "category": meta.get('category', 'General'),
-            "createdBy": meta.get('createdBy', 'System')
+            "createdBy": meta.get('createdBy', 'System'),
+            "createdAt": meta.get('createdAt')
+        })
+    return jsonify(docs_list)
+
+@app.route('/index/export', methods=['GET'])
+def export_documents():
+    """Documents together with their cached vectors, used to warm up a client-side index"""
+    docs_list = []
+    for doc_id in state["id_list"]:
+        data = state["documents"][doc_id]
+        docs_list.append({
+            "id": doc_id,
+            "text": data.get('text', ''),
+            "metadata": data.get('metadata', {}),
+            "embedding": state["embeddings"].get(doc_id)
         })
     return jsonify(docs_list)
 
@@ -5,7 +5,7 @@ import { Router } from '@angular/router';
 import { ApiService } from '../../services/api.service';
 import { AuthService } from '../../services/auth.service';
 import { ToastService } from '../../services/toast.service';
-import { Document, SearchResult, SearchResponse, KnowledgeBaseStats } from '../../models/document.model';
+import { Document, SearchResult, SearchResponse, KnowledgeBaseStats, ImportJob } from '../../models/document.model';
 
 @Component({
     selector: 'app-dashboard',
@@ -215,16 +215,31 @@ export class DashboardComponent implements OnInit {
         this.toastService.show('Importing documents... This may take a moment.', 'info');
 
         this.apiService.importFile(file).subscribe({
-            next: (result) => {
-                this.toastService.show(`✓ Imported ${result.imported} documents!`, 'success');
-                this.refreshData();
-            },
+            next: (job) => this.pollImportJob(job.jobId),
             error: (err) => this.toastService.show('Failed to import: ' + (err.error?.error || err.message), 'error')
         });
 
         input.value = '';
     }
 
+    private pollImportJob(jobId: string) {
+        this.apiService.getImportJob(jobId).subscribe({
+            next: (job: ImportJob) => {
+                if (job.status === 'COMPLETED') {
+                    const failed = job.rowsFailed ? ` (${job.rowsFailed} failed)` : '';
+                    this.toastService.show(`✓ Imported ${job.rowsIndexed} documents!${failed}`, 'success');
+                    this.refreshData();
+                } else if (job.status === 'FAILED') {
+                    this.toastService.show('Failed to import: ' + job.error, 'error');
+                    this.refreshData();
+                } else {
+                    setTimeout(() => this.pollImportJob(jobId), 1000);
+                }
+            },
+            error: (err) => this.toastService.show('Failed to import: ' + (err.error?.error || err.message), 'error')
+        });
+    }
+
     // Logout
     handleLogout() {
         this.authService.logout().subscribe({
@@ -24,6 +24,19 @@ export interface KnowledgeBaseStats {
     embeddingDimension: number;
 }
 
+export interface ImportJob {
+    jobId: string;
+    filename: string;
+    status: 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+    rowsParsed: number;
+    rowsSkipped: number;
+    rowsEmbedded: number;
+    rowsIndexed: number;
+    rowsFailed: number;
+    rowsPerSecond: number;
+    error?: string;
+}
+
 export interface User {
     id: number;
     username: string;
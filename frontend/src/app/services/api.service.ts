@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Document, SearchResponse, KnowledgeBaseStats } from '../models/document.model';
+import { Document, SearchResponse, KnowledgeBaseStats, ImportJob } from '../models/document.model';
 
 @Injectable({
     providedIn: 'root'
@@ -52,11 +52,15 @@ export class ApiService {
         return this.http.get<KnowledgeBaseStats>(`${this.apiBase}/stats`);
     }
 
-    // File Import
-    importFile(file: File): Observable<any> {
+    // File Import (runs in the background; poll the returned job)
+    importFile(file: File): Observable<ImportJob> {
         const formData = new FormData();
         formData.append('file', file);
-        return this.http.post(`${this.apiBase}/import`, formData);
+        return this.http.post<ImportJob>(`${this.apiBase}/import`, formData);
+    }
+
+    getImportJob(jobId: string): Observable<ImportJob> {
+        return this.http.get<ImportJob>(`${this.apiBase}/import/${jobId}`);
     }
 
     // Categories
@@ -0,0 +1,63 @@
+package com.demo.knowledgebase.config;
+
+import com.demo.knowledgebase.service.EmbeddingProvider;
+import com.demo.knowledgebase.service.HashingEmbeddingProvider;
+import com.demo.knowledgebase.service.HttpEmbeddingProvider;
+import com.demo.knowledgebase.service.OnnxEmbeddingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * Creates the embedding provider.
+ * 
+ * embedding.provider selects the backend:
+ * - http: the Python embedding server (default)
+ * - onnx: multilingual-e5-small inside the JVM with ONNX Runtime
+ * - hashing: deterministic feature hashing, for load tests and CI without a model
+ */
+@Configuration
+public class EmbeddingConfig {
+
+    @Value("${embedding.server.url:http://localhost:8000}")
+    private String serverUrl;
+
+    @Value("${vector.index.dimension:384}")
+    private int dimension;
+
+    @Value("${embedding.onnx.model-path:models/multilingual-e5-small/model.onnx}")
+    private String onnxModelPath;
+
+    @Value("${embedding.onnx.tokenizer-path:models/multilingual-e5-small/tokenizer.json}")
+    private String onnxTokenizerPath;
+
+    @Value("${embedding.onnx.max-length:512}")
+    private int onnxMaxLength;
+
+    @Value("${embedding.onnx.batch-size:32}")
+    private int onnxBatchSize;
+
+    @Value("${embedding.onnx.threads:2}")
+    private int onnxThreads;
+
+    @Bean(destroyMethod = "close")
+    public EmbeddingProvider embeddingProvider(
+            @Value("${embedding.provider:http}") String type,
+            RestTemplate embeddingRestTemplate) throws Exception {
+        switch (type.trim().toLowerCase()) {
+            case "http":
+                return new HttpEmbeddingProvider(embeddingRestTemplate, serverUrl, dimension);
+            case "onnx":
+                return new OnnxEmbeddingProvider(Path.of(onnxModelPath), Path.of(onnxTokenizerPath),
+                        dimension, onnxMaxLength, onnxBatchSize, onnxThreads);
+            case "hashing":
+                return new HashingEmbeddingProvider(dimension);
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown embedding.provider: " + type + " (use http, onnx or hashing)");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.demo.knowledgebase.config;
+
+import com.demo.knowledgebase.service.HttpClientMetrics;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * Shared HTTP client for all calls to the Python embedding server.
+ * 
+ * - Connections are pooled and kept alive, so a search does not pay TCP setup
+ * - Connect and read timeouts stop a stalled server from hanging request threads
+ * - Every call is timed by HttpClientMetrics (reported in /api/stats)
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public HttpClientMetrics httpClientMetrics() {
+        return new HttpClientMetrics();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient embeddingHttpClient(
+            @Value("${embedding.http.max-connections:50}") int maxConnections,
+            @Value("${embedding.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${embedding.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${embedding.http.read-timeout-ms:60000}") long readTimeoutMs,
+            @Value("${embedding.http.pool-timeout-ms:5000}") long poolTimeoutMs) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
+
+        System.out.println("✓ Embedding HTTP client: pool " + maxConnections + " (" + maxConnectionsPerRoute
+                + " per route), connect " + connectTimeoutMs + "ms, read " + readTimeoutMs + "ms");
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate embeddingRestTemplate(CloseableHttpClient embeddingHttpClient, HttpClientMetrics metrics) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(embeddingHttpClient));
+        restTemplate.setInterceptors(List.of(metrics));
+        return restTemplate;
+    }
+}
@@ -1,6 +1,7 @@
 package com.demo.knowledgebase.config;
 
 import com.demo.knowledgebase.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -74,6 +75,9 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable()) // Disable for API access
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses (NDJSON listings) finish on an async dispatch
+                        // of a request that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Public resources - Angular & legacy
                         .requestMatchers("/", "/index.html", "/login", "/login.html",
                                 "/register", "/register.html", "/dashboard")
@@ -93,7 +97,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/documents").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/documents/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/documents/**").hasRole("ADMIN")
-                        .requestMatchers("/api/import").hasRole("ADMIN")
+                        .requestMatchers("/api/import", "/api/import/**").hasRole("ADMIN")
 
                         // Everything else requires authentication
                         .anyRequest().authenticated())
@@ -0,0 +1,149 @@
+package com.demo.knowledgebase.config;
+
+import com.demo.knowledgebase.service.BinaryVectorIndex;
+import com.demo.knowledgebase.service.FlatVectorIndex;
+import com.demo.knowledgebase.service.HnswVectorIndex;
+import com.demo.knowledgebase.service.IvfVectorIndex;
+import com.demo.knowledgebase.service.QuantizedVectorIndex;
+import com.demo.knowledgebase.service.VectorEncoding;
+import com.demo.knowledgebase.service.VectorIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+
+/**
+ * Creates the in-process vector index used for semantic search.
+ * 
+ * vector.index.type selects the backend:
+ * - flat: exact brute-force scan (best for small and medium corpora)
+ * - hnsw: approximate graph search (sub-linear, for large corpora)
+ * - int8: scalar-quantized scan (4x less RAM) with exact rescoring from disk
+ * - ivf: k-means partitions, scanning only the nprobe closest lists
+ *   (vector.index.ivf.pq=true stores product-quantized codes in the lists)
+ * - pq: product-quantized scan (m bytes per vector), an IVF index with one list
+ * 
+ * vector.binary.enabled adds a 1-bit sign-code tier next to the main index,
+ * used by searches with mode=binary.
+ */
+@Configuration
+public class VectorIndexConfig {
+
+    @Value("${vector.index.dimension:384}")
+    private int dimension;
+
+    @Value("${vector.index.encoding:float32}")
+    private String encoding;
+
+    @Value("${vector.index.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${vector.index.hnsw.ef-construction:200}")
+    private int hnswEfConstruction;
+
+    @Value("${vector.index.hnsw.ef-search:64}")
+    private int hnswEfSearch;
+
+    @Value("${vector.index.hnsw.compact-ratio:0.2}")
+    private double hnswCompactRatio;
+
+    @Value("${vector.index.ivf.nlist:256}")
+    private int ivfNlist;
+
+    @Value("${vector.index.ivf.nprobe:16}")
+    private int ivfNprobe;
+
+    @Value("${vector.index.ivf.train-at:10000}")
+    private int ivfTrainAt;
+
+    @Value("${vector.index.ivf.kmeans-iterations:10}")
+    private int ivfIterations;
+
+    @Value("${vector.index.ivf.search-threads:4}")
+    private int ivfSearchThreads;
+
+    @Value("${vector.index.ivf.pq:false}")
+    private boolean ivfPq;
+
+    @Value("${vector.index.pq.m:48}")
+    private int pqM;
+
+    @Value("${vector.index.pq.train-at:10000}")
+    private int pqTrainAt;
+
+    @Value("${vector.index.pq.kmeans-iterations:10}")
+    private int pqIterations;
+
+    @Value("${vector.index.int8.calibration:per-dimension}")
+    private String int8Calibration;
+
+    @Value("${vector.index.int8.calibration-sample:1000}")
+    private int int8CalibrationSample;
+
+    @Value("${vector.index.int8.rescore-factor:4}")
+    private int int8RescoreFactor;
+
+    @Value("${vector.index.int8.vector-file:data/vectors-f32.bin}")
+    private String int8VectorFile;
+
+    @Bean
+    @Primary
+    public VectorIndex vectorIndex(@Value("${vector.index.type:flat}") String type) {
+        switch (type.trim().toLowerCase()) {
+            case "flat":
+                VectorEncoding flatEncoding = VectorEncoding.parse(encoding);
+                System.out.println("✓ Vector index: flat (exact, " + flatEncoding.name().toLowerCase() + "), "
+                        + dimension + " dims");
+                return new FlatVectorIndex(dimension, flatEncoding);
+            case "hnsw":
+                System.out.println("✓ Vector index: HNSW (M=" + hnswM + ", efConstruction=" + hnswEfConstruction
+                        + ", efSearch=" + hnswEfSearch + ", compacting at " + hnswCompactRatio + " tombstones), "
+                        + dimension + " dims");
+                return new HnswVectorIndex(dimension, hnswM, hnswEfConstruction, hnswEfSearch, hnswCompactRatio);
+            case "int8":
+                boolean perDimension = parseCalibration(int8Calibration);
+                System.out.println("✓ Vector index: int8 (" + int8Calibration + " calibration, rescoring top "
+                        + int8RescoreFactor + "x from " + int8VectorFile + "), " + dimension + " dims");
+                return new QuantizedVectorIndex(dimension, perDimension, int8CalibrationSample, int8RescoreFactor,
+                        Path.of(int8VectorFile));
+            case "ivf":
+                System.out.println("✓ Vector index: IVF" + (ivfPq ? "-PQ" : "") + " (nlist=" + ivfNlist
+                        + ", nprobe=" + ivfNprobe + (ivfPq ? ", m=" + pqM : "") + ", trained at " + ivfTrainAt
+                        + " vectors), " + dimension + " dims");
+                return new IvfVectorIndex(dimension, ivfNlist, ivfNprobe, ivfTrainAt, ivfIterations, ivfSearchThreads,
+                        ivfPq ? pqM : 0);
+            case "pq":
+                System.out.println("✓ Vector index: PQ (m=" + pqM + ", trained at " + pqTrainAt + " vectors), "
+                        + dimension + " dims");
+                return new IvfVectorIndex(dimension, 1, 1, pqTrainAt, pqIterations, 1, pqM);
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown vector.index.type: " + type + " (use flat, hnsw, int8, ivf or pq)");
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "vector.binary.enabled", havingValue = "true")
+    public BinaryVectorIndex binaryVectorIndex(
+            @Value("${vector.binary.oversample:20}") int oversample,
+            @Value("${vector.binary.vector-file:data/vectors-binary-f32.bin}") String vectorFile) {
+        System.out.println("✓ Binary search tier: " + dimension + "-bit sign codes, rescoring top "
+                + oversample + "x from " + vectorFile);
+        return new BinaryVectorIndex(dimension, oversample, Path.of(vectorFile));
+    }
+
+    private static boolean parseCalibration(String calibration) {
+        switch (calibration.trim().toLowerCase()) {
+            case "per-dimension":
+                return true;
+            case "global":
+                return false;
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown vector.index.int8.calibration: " + calibration + " (use per-dimension or global)");
+        }
+    }
+}
@@ -1,22 +1,33 @@
 package com.demo.knowledgebase.controller;
 
 import com.demo.knowledgebase.model.Document;
+import com.demo.knowledgebase.model.DocumentSummary;
+import com.demo.knowledgebase.model.ImportJob;
 import com.demo.knowledgebase.model.SearchResult;
-import com.demo.knowledgebase.service.FileImportService;
+import com.demo.knowledgebase.service.DocumentStore;
+import com.demo.knowledgebase.service.ImportJobService;
 import com.demo.knowledgebase.service.KnowledgeBaseService;
 import com.demo.knowledgebase.service.KnowledgeBaseService.KnowledgeBaseStats;
+import com.demo.knowledgebase.service.SearchOptions;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.security.Principal;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 /**
  * REST API Controller for the Knowledge Base.
@@ -31,48 +42,119 @@ import java.util.Map;
 @CrossOrigin(origins = "*") // Allow frontend access
 public class KnowledgeBaseController {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+    private static final int MAX_EF = 10_000;
+    private static final int MAX_NPROBE = 10_000;
+    private static final int MAX_OVERSAMPLE = 100;
+
     private final KnowledgeBaseService knowledgeBaseService;
-    private final FileImportService fileImportService;
-    private final RestTemplate restTemplate;
-    private final String faissServerUrl;
+    private final ImportJobService importJobService;
+    private final ObjectMapper objectMapper;
 
     public KnowledgeBaseController(
             KnowledgeBaseService knowledgeBaseService,
-            FileImportService fileImportService,
-            @Value("${embedding.server.url:http://localhost:8000}") String faissServerUrl) {
+            ImportJobService importJobService,
+            ObjectMapper objectMapper) {
         this.knowledgeBaseService = knowledgeBaseService;
-        this.fileImportService = fileImportService;
-        this.restTemplate = new RestTemplate();
-        this.faissServerUrl = faissServerUrl;
+        this.importJobService = importJobService;
+        this.objectMapper = objectMapper;
     }
 
     // =====================
-    // CSV Import
+    // CSV / Excel Import
     // =====================
 
+    /**
+     * POST /api/import - Start an asynchronous import (202 Accepted)
+     * 
+     * Returns the job right away; poll GET /api/import/{jobId} for progress.
+     */
     @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<Map<String, Object>> importFile(@RequestParam("file") MultipartFile file,
+    public ResponseEntity<?> importFile(@RequestParam("file") MultipartFile file,
             Principal principal) {
         try {
             String username = principal != null ? principal.getName() : "Anonymous";
-            Map<String, Object> result = fileImportService.importFile(file, username);
-            return ResponseEntity.ok(result);
+            ImportJob job = importJobService.submit(file, username);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Too many imports in progress, please try again later"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("error", e.getMessage() != null ? e.getMessage() : "Unknown error"));
         }
     }
 
+    /**
+     * GET /api/import/{jobId} - Progress of an import job
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJob> getImportJob(@PathVariable String jobId) {
+        return importJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // =====================
     // Document CRUD Operations
     // =====================
 
     /**
-     * GET /api/documents - Get all documents
+     * GET /api/documents - Get documents
+     * 
+     * Without parameters, returns every document as one JSON array.
+     * Otherwise documents are listed in ID order:
+     * - limit (default 100, at most 1000) and cursor: one page,
+     *   {"documents": [...], "nextCursor": "..."}; pass nextCursor back to
+     *   get the following page (null after the last one)
+     * - content=false: leaves out the content of each document
+     * - format=ndjson: streams one document per line instead (see
+     *   {@link #streamDocuments})
+     * 
+     * Paged and streamed listings use the same memory whatever the corpus size.
+     * Every listing carries the content version as its ETag, and is answered
+     * with 304 Not Modified without reading any document if If-None-Match
+     * still holds it.
      */
     @GetMapping("/documents")
-    public List<Document> getAllDocuments() {
-        return knowledgeBaseService.getAllDocuments();
+    public ResponseEntity<?> getAllDocuments(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean content,
+            @RequestParam(required = false) String format,
+            WebRequest request) {
+        if (format != null) {
+            // format=ndjson is mapped to streamDocuments
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown format: " + format + " (use ndjson)");
+        }
+        String afterId = parseListing(limit, cursor);
+        return conditional(request, contentETag(), ok -> {
+            if (limit == null && cursor == null && content) {
+                return ok.body(knowledgeBaseService.getAllDocuments());
+            }
+            return ok.body(getDocumentPage(afterId, limit, content));
+        });
+    }
+
+    /**
+     * GET /api/documents?format=ndjson - Stream documents
+     * 
+     * Writes one document per line straight to the response, in ID order
+     * from the cursor on (every document unless limit is given); content=false
+     * leaves out the content. Declared as a StreamingResponseBody so Spring
+     * writes it on an async dispatch instead of looking for a converter.
+     */
+    @GetMapping(value = "/documents", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamDocuments(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean content,
+            WebRequest request) {
+        String afterId = parseListing(limit, cursor);
+        return conditional(request, contentETag(), ok -> ok.contentType(MediaType.APPLICATION_NDJSON)
+                .body(writeDocuments(afterId, limit, content)));
     }
 
     /**
@@ -124,14 +206,10 @@ public class KnowledgeBaseController {
      * DELETE /api/documents/all - Delete all documents (ADMIN only)
      */
     @DeleteMapping("/documents/all")
-    @SuppressWarnings("unchecked")
     public ResponseEntity<Map<String, Object>> deleteAllDocuments() {
         try {
-            Map<String, Object> result = restTemplate.postForObject(
-                    faissServerUrl + "/index/clear",
-                    null,
-                    Map.class);
-            return ResponseEntity.ok(result != null ? result : Map.of("success", true));
+            knowledgeBaseService.clearIndex();
+            return ResponseEntity.ok(Map.of("status", "cleared"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", e.getMessage()));
@@ -156,20 +234,42 @@ public class KnowledgeBaseController {
     // =====================
 
     /**
-     * GET /api/search?query=...&category=...&maxResults=... - Perform semantic
-     * search
+     * GET /api/search?query=...&category=...&maxResults=...&ef=...&nprobe=...&mode=...&oversample=...
+     * - Perform semantic search
      * 
      * This is the key feature! It finds documents semantically similar
      * to the query, not just keyword matches.
-     * Optionally filters results by category after FAISS returns them.
+     * Optionally restricted to one category, inside the index.
+     * ef (HNSW only) trades latency for recall: higher is slower but finds
+     * more of the true nearest neighbours; nprobe (IVF only) does the same.
+     * mode=binary searches the 1-bit tier; oversample sets how many candidates
+     * per result it rescores exactly.
+     * 
+     * Limits (400 Bad Request outside them): maxResults 1-1000, ef 1-10000,
+     * nprobe 1-10000 (no more than the index has lists are scanned),
+     * oversample 1-100.
      */
     @GetMapping("/search")
     public SearchResponse semanticSearch(
             @RequestParam String query,
             @RequestParam(required = false) String category,
-            @RequestParam(defaultValue = "10") int maxResults) {
+            @RequestParam(defaultValue = "10") int maxResults,
+            @RequestParam(required = false) Integer ef,
+            @RequestParam(required = false) Integer nprobe,
+            @RequestParam(required = false) String mode,
+            @RequestParam(required = false) Integer oversample) {
 
-        List<SearchResult> results = knowledgeBaseService.semanticSearch(query, maxResults, category);
+        requireInRange("maxResults", maxResults, MAX_SEARCH_RESULTS);
+        requireInRange("ef", ef, MAX_EF);
+        requireInRange("nprobe", nprobe, MAX_NPROBE);
+        requireInRange("oversample", oversample, MAX_OVERSAMPLE);
+        SearchOptions options;
+        try {
+            options = new SearchOptions(ef, nprobe, mode != null ? SearchOptions.Mode.parse(mode) : null, oversample);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        List<SearchResult> results = knowledgeBaseService.semanticSearch(query, maxResults, category, options);
 
         return new SearchResponse(
                 query,
@@ -183,10 +283,23 @@ public class KnowledgeBaseController {
 
     /**
      * GET /api/categories - Get distinct document categories
+     * 
+     * With counts=true, returns the number of documents per category and per
+     * creator instead of the plain list. Both are kept up to date on every
+     * write, so this never reads the documents. Conditional on the content
+     * version, like /api/documents.
      */
     @GetMapping("/categories")
-    public List<String> getCategories() {
-        return knowledgeBaseService.getCategories();
+    public ResponseEntity<?> getCategories(@RequestParam(defaultValue = "false") boolean counts,
+            WebRequest request) {
+        return conditional(request, contentETag(), ok -> {
+            if (counts) {
+                return ok.body(new CategoryCountsResponse(
+                        knowledgeBaseService.getCategoryCounts(),
+                        knowledgeBaseService.getCreatorCounts()));
+            }
+            return ok.body(knowledgeBaseService.getCategories());
+        });
     }
 
     // =====================
@@ -195,10 +308,102 @@ public class KnowledgeBaseController {
 
     /**
      * GET /api/stats - Get knowledge base statistics
+     * 
+     * Hit rates, latencies and health checks change without any write, so
+     * the ETag is a hash of the serialized stats rather than the content
+     * version: a 304 saves the transfer, and the stats are cheap to gather.
      */
     @GetMapping("/stats")
-    public KnowledgeBaseStats getStats() {
-        return knowledgeBaseService.getStats();
+    public ResponseEntity<?> getStats(WebRequest request) throws JsonProcessingException {
+        KnowledgeBaseStats stats = knowledgeBaseService.getStats();
+        byte[] json = objectMapper.writeValueAsBytes(stats);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+        return conditional(request, etag, ok -> ok.contentType(MediaType.APPLICATION_JSON).body(json));
+    }
+
+    // =====================
+    // Helpers
+    // =====================
+
+    /**
+     * Answers 304 Not Modified if If-None-Match holds the strong entity tag,
+     * without building the body; otherwise lets {@code body} complete the 200.
+     * Both carry the tag and Cache-Control: no-cache, which lets browsers
+     * keep the response but makes them revalidate it every time (Spring
+     * Security's default no-store would keep them from ever asking).
+     */
+    private static <T> ResponseEntity<T> conditional(WebRequest request, String etag,
+            Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return body.apply(ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()));
+    }
+
+    // Read before the content, so a write landing meanwhile makes the tag stale rather than the body
+    private String contentETag() {
+        return "\"" + knowledgeBaseService.getContentVersion() + "\"";
+    }
+
+    // Optional parameters (null) are not checked
+    private static void requireInRange(String name, Integer value, int max) {
+        if (value != null && (value < 1 || value > max)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " must be between 1 and " + max);
+        }
+    }
+
+    // Validates limit and returns the ID the cursor points after (null for the start)
+    private static String parseListing(Integer limit, String cursor) {
+        if (limit != null && limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be at least 1");
+        }
+        return cursor != null ? decodeCursor(cursor) : null;
+    }
+
+    private StreamingResponseBody writeDocuments(String afterId, Integer limit, boolean content) {
+        long count = limit != null ? limit : Long.MAX_VALUE;
+        return out -> {
+            try {
+                knowledgeBaseService.forEachDocument(afterId, count, document -> {
+                    try {
+                        Object line = content ? document : DocumentSummary.of(document);
+                        out.write(objectMapper.writeValueAsBytes(line));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // Usually the client went away
+            }
+        };
+    }
+
+    private DocumentPage getDocumentPage(String afterId, Integer limit, boolean content) {
+        int pageSize = Math.min(limit != null ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        // One extra document tells whether there is a next page
+        List<Document> documents = knowledgeBaseService.getDocumentPage(afterId, pageSize + 1);
+        String nextCursor = null;
+        if (documents.size() > pageSize) {
+            documents = documents.subList(0, pageSize);
+            nextCursor = encodeCursor(documents.get(pageSize - 1).getId());
+        }
+        List<?> page = content ? documents : documents.stream().map(DocumentSummary::of).toList();
+        return new DocumentPage(page, nextCursor);
+    }
+
+    // Cursors are the last listed ID, base64url-encoded so clients treat them as opaque
+    private static String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
     }
 
     // =====================
@@ -211,6 +416,19 @@ public class KnowledgeBaseController {
     public record DocumentRequest(String title, String content, String category) {
     }
 
+    /**
+     * Documents per category and per creator.
+     */
+    public record CategoryCountsResponse(List<DocumentStore.Count> categories, List<DocumentStore.Count> creators) {
+    }
+
+    /**
+     * One page of documents (or summaries without content) and the cursor of
+     * the next page, null after the last one.
+     */
+    public record DocumentPage(List<?> documents, String nextCursor) {
+    }
+
     /**
      * Response wrapper for search results.
      */
@@ -0,0 +1,15 @@
+package com.demo.knowledgebase.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A document without its content, for listings that do not display it.
+ */
+public record DocumentSummary(String id, String title, String category, LocalDateTime createdAt,
+        String createdBy) {
+
+    public static DocumentSummary of(Document document) {
+        return new DocumentSummary(document.getId(), document.getTitle(), document.getCategory(),
+                document.getCreatedAt(), document.getCreatedBy());
+    }
+}
@@ -0,0 +1,154 @@
+package com.demo.knowledgebase.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of an asynchronous file import.
+ *
+ * Rows move through three stages:
+ * - parsed: read from the file (rows without title or content are skipped)
+ * - embedded: converted to vectors by the embedding model
+ * - indexed: stored and searchable
+ *
+ * Rows of a batch that fails to embed or index are counted as failed.
+ * The counters are updated by the import thread and read by pollers.
+ */
+public class ImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String jobId;
+    private final String filename;
+    private final String createdBy;
+    private final Instant submittedAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    private final AtomicLong rowsParsed = new AtomicLong();
+    private final AtomicLong rowsSkipped = new AtomicLong();
+    private final AtomicLong rowsEmbedded = new AtomicLong();
+    private final AtomicLong rowsIndexed = new AtomicLong();
+    private final AtomicLong rowsFailed = new AtomicLong();
+
+    public ImportJob(String filename, String createdBy) {
+        this.jobId = UUID.randomUUID().toString();
+        this.filename = filename;
+        this.createdBy = createdBy;
+        this.submittedAt = Instant.now();
+    }
+
+    // State transitions (called by the import thread)
+    public void markRunning() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    public void markCompleted() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    public void markFailed(String error) {
+        this.error = error;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    public void addParsed(long rows) {
+        rowsParsed.addAndGet(rows);
+    }
+
+    public void addSkipped(long rows) {
+        rowsSkipped.addAndGet(rows);
+    }
+
+    public void addEmbedded(long rows) {
+        rowsEmbedded.addAndGet(rows);
+    }
+
+    public void addIndexed(long rows) {
+        rowsIndexed.addAndGet(rows);
+    }
+
+    public void addFailed(long rows) {
+        rowsFailed.addAndGet(rows);
+    }
+
+    // Getters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed.get();
+    }
+
+    public long getRowsSkipped() {
+        return rowsSkipped.get();
+    }
+
+    public long getRowsEmbedded() {
+        return rowsEmbedded.get();
+    }
+
+    public long getRowsIndexed() {
+        return rowsIndexed.get();
+    }
+
+    public long getRowsFailed() {
+        return rowsFailed.get();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    /**
+     * Indexed rows per second since the job started.
+     */
+    public double getRowsPerSecond() {
+        Instant start = startedAt;
+        if (start == null) {
+            return 0.0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = Duration.between(start, end).toMillis() / 1000.0;
+        return seconds > 0 ? rowsIndexed.get() / seconds : 0.0;
+    }
+}
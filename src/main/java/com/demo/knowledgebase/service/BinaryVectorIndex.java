@@ -0,0 +1,94 @@
+package com.demo.knowledgebase.service;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Ultra-compact vector index: one sign bit per component.
+ *
+ * === HOW IT WORKS ===
+ * Bit d of a vector's code is set when component d is positive, so a
+ * 384-dim vector becomes 6 longs (48 bytes instead of 1.5 KB). Vectors
+ * pointing the same way agree on most signs, so the Hamming distance
+ * between codes (popcount of their XOR) approximates the angle between them.
+ *
+ * Pass 1 of the search (see {@link RescoringVectorIndex}) is a Hamming scan
+ * with Long.bitCount that keeps the closest topK * oversample rows for exact
+ * rescoring.
+ *
+ * The oversampling factor trades latency for recall; it can be set per query
+ * with {@link SearchOptions#oversample()}.
+ */
+public class BinaryVectorIndex extends RescoringVectorIndex {
+
+    private final int words;
+    private final int defaultOversample;
+
+    private long[] codes;
+
+    public BinaryVectorIndex(int dimension, int oversample, Path vectorFilePath) {
+        super(dimension, vectorFilePath);
+        this.words = (dimension + 63) / 64;
+        this.defaultOversample = Math.max(1, oversample);
+        reset();
+    }
+
+    @Override
+    protected void encodeRow(float[] vector, int row) {
+        encode(vector, codes, row * words);
+    }
+
+    @Override
+    protected void moveRow(int from, int to) {
+        System.arraycopy(codes, from * words, codes, to * words, words);
+    }
+
+    @Override
+    protected void resizeCodes(int capacity) {
+        codes = Arrays.copyOf(codes, capacity * words);
+    }
+
+    @Override
+    protected void resetCodes(int capacity) {
+        codes = new long[capacity * words];
+    }
+
+    @Override
+    protected long codeBytes() {
+        return (long) codes.length * Long.BYTES;
+    }
+
+    @Override
+    protected int candidateFactor(SearchOptions options) {
+        return options.oversample() != null ? Math.max(1, options.oversample()) : defaultOversample;
+    }
+
+    @Override
+    protected RowScorer scorer(float[] query) {
+        long[] queryCode = new long[words];
+        encode(query, queryCode, 0);
+        long[] slab = codes;
+        // Fewer differing bits = higher score
+        return row -> -hamming(queryCode, slab, row * words);
+    }
+
+    /**
+     * Writes the sign bits of the vector into {@code words} longs at {@code offset}.
+     */
+    private void encode(float[] vector, long[] target, int offset) {
+        Arrays.fill(target, offset, offset + words, 0L);
+        for (int d = 0; d < dimension; d++) {
+            if (vector[d] > 0) {
+                target[offset + (d >>> 6)] |= 1L << (d & 63);
+            }
+        }
+    }
+
+    private int hamming(long[] query, long[] slab, int offset) {
+        int distance = 0;
+        for (int w = 0; w < words; w++) {
+            distance += Long.bitCount(query[w] ^ slab[offset + w]);
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,78 @@
+package com.demo.knowledgebase.service;
+
+import com.demo.knowledgebase.model.Document;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Binary encoding of documents and vectors shared by the write-ahead log and
+ * the snapshots.
+ *
+ * Strings are written as a UTF-8 byte count (-1 for null) followed by the
+ * bytes, so content is not limited to the 64 KB of {@code writeUTF}.
+ * Timestamps are ISO-8601 strings.
+ */
+final class DocumentCodec {
+
+    private DocumentCodec() {
+    }
+
+    static void writeDocument(DataOutput out, Document document) throws IOException {
+        writeString(out, document.getId());
+        writeString(out, document.getTitle());
+        writeString(out, document.getContent());
+        writeString(out, document.getCategory());
+        writeString(out, document.getCreatedAt() != null ? document.getCreatedAt().toString() : null);
+        writeString(out, document.getCreatedBy());
+    }
+
+    static Document readDocument(DataInput in) throws IOException {
+        String id = readString(in);
+        String title = readString(in);
+        String content = readString(in);
+        String category = readString(in);
+        String createdAt = readString(in);
+        String createdBy = readString(in);
+        return new Document(id, title, content, category,
+                createdAt != null ? LocalDateTime.parse(createdAt) : null, createdBy);
+    }
+
+    static void writeVector(DataOutput out, float[] vector) throws IOException {
+        out.writeInt(vector.length);
+        for (float value : vector) {
+            out.writeFloat(value);
+        }
+    }
+
+    static float[] readVector(DataInput in) throws IOException {
+        float[] vector = new float[in.readInt()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = in.readFloat();
+        }
+        return vector;
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,251 @@
+package com.demo.knowledgebase.service;
+
+import com.demo.knowledgebase.model.Document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe in-memory store of the documents held by the VectorStore.
+ *
+ * Backed by a ConcurrentHashMap: reads never take a lock, so searches and
+ * document lookups are never blocked by concurrent imports or deletes.
+ * A sorted set of the IDs lets listings walk the documents in ID order from
+ * any point, one page at a time, without copying the whole store.
+ *
+ * Also keeps a running estimate of the heap used by the documents, for the
+ * stats endpoint, and the IDs of the documents per category and per creator
+ * (posting lists), updated on every put and remove. Searches use them to stay
+ * within a category inside the vector index; their sizes are the document
+ * counts, read without touching the documents.
+ */
+public class DocumentStore {
+
+    // Rough per-object costs on a 64-bit JVM with compressed oops
+    private static final long DOCUMENT_OVERHEAD = 40;
+    private static final long STRING_OVERHEAD = 40;
+    private static final long TIMESTAMP_OVERHEAD = 48;
+    private static final long MAP_ENTRY_OVERHEAD = 48;
+    private static final long ORDER_ENTRY_OVERHEAD = 40;
+
+    private final ConcurrentHashMap<String, Document> documents = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<String> orderedIds = new ConcurrentSkipListSet<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final Postings byCategory = new Postings();
+    private final Postings byCreator = new Postings();
+
+    public Optional<Document> get(String id) {
+        return Optional.ofNullable(documents.get(id));
+    }
+
+    public boolean contains(String id) {
+        return documents.containsKey(id);
+    }
+
+    /**
+     * Stores a document, replacing any document with the same ID.
+     */
+    public void put(Document document) {
+        documents.compute(document.getId(), (id, previous) -> {
+            estimatedBytes.addAndGet(estimateSize(document) - (previous != null ? estimateSize(previous) : 0));
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(document);
+            orderedIds.add(id); // Already there when replacing, so listings never miss it
+            return document;
+        });
+    }
+
+    public Optional<Document> remove(String id) {
+        Document[] removed = new Document[1];
+        documents.computeIfPresent(id, (key, previous) -> {
+            estimatedBytes.addAndGet(-estimateSize(previous));
+            unindex(previous);
+            orderedIds.remove(key);
+            removed[0] = previous;
+            return null;
+        });
+        return Optional.ofNullable(removed[0]);
+    }
+
+    public void clear() {
+        for (String id : documents.keySet()) {
+            remove(id);
+        }
+    }
+
+    /**
+     * Returns a point-in-time copy of all documents.
+     */
+    public List<Document> snapshot() {
+        return new ArrayList<>(documents.values());
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Returns a live, read-only view of the IDs of the documents in a
+     * category (case-insensitive); empty for unknown categories.
+     */
+    public Set<String> idsInCategory(String category) {
+        return byCategory.ids(category);
+    }
+
+    /**
+     * Returns the number of documents per category, sorted by name.
+     * Categories differing only in case are counted together.
+     */
+    public List<Count> categoryCounts() {
+        return byCategory.counts();
+    }
+
+    /**
+     * Returns the number of documents per creator (createdBy), sorted by name.
+     */
+    public List<Count> creatorCounts() {
+        return byCreator.counts();
+    }
+
+    public Stats stats() {
+        return new Stats(documents.size(), estimatedBytes.get());
+    }
+
+    /**
+     * Returns up to limit documents in ID order, starting after the given ID
+     * (null = from the first).
+     */
+    public List<Document> page(String afterId, int limit) {
+        List<Document> page = new ArrayList<>(Math.min(limit, 1024));
+        forEach(afterId, limit, page::add);
+        return page;
+    }
+
+    /**
+     * Passes up to limit documents to the consumer in ID order, starting
+     * after the given ID (null = from the first). Documents added or removed
+     * meanwhile may or may not be seen; nothing is copied up front.
+     */
+    public void forEach(String afterId, long limit, Consumer<Document> consumer) {
+        Set<String> ids = afterId != null ? orderedIds.tailSet(afterId, false) : orderedIds;
+        long passed = 0;
+        for (String id : ids) {
+            if (passed >= limit) {
+                return;
+            }
+            Document document = documents.get(id);
+            if (document != null) {
+                consumer.accept(document);
+                passed++;
+            }
+        }
+    }
+
+    private void index(Document document) {
+        byCategory.add(document.getCategory(), document.getId());
+        byCreator.add(document.getCreatedBy(), document.getId());
+    }
+
+    private void unindex(Document document) {
+        byCategory.remove(document.getCategory(), document.getId());
+        byCreator.remove(document.getCreatedBy(), document.getId());
+    }
+
+    private static long estimateSize(Document doc) {
+        return DOCUMENT_OVERHEAD + MAP_ENTRY_OVERHEAD + ORDER_ENTRY_OVERHEAD + TIMESTAMP_OVERHEAD
+                + estimateSize(doc.getId())
+                + estimateSize(doc.getTitle())
+                + estimateSize(doc.getContent())
+                + estimateSize(doc.getCategory())
+                + estimateSize(doc.getCreatedBy());
+    }
+
+    private static long estimateSize(String value) {
+        // Worst case of 2 bytes per char (non-Latin text such as Arabic)
+        return value == null ? 0 : STRING_OVERHEAD + 2L * value.length();
+    }
+
+    /**
+     * IDs of the documents per value of one field, keyed case-insensitively
+     * and shown with the spelling first seen. Documents without a value are
+     * not listed. Each key is updated atomically, so a set is never dropped
+     * while an ID is being added to it.
+     */
+    private static final class Postings {
+        private final ConcurrentHashMap<String, Posting> byValue = new ConcurrentHashMap<>();
+
+        void add(String value, String id) {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            byValue.compute(key(value), (key, posting) -> {
+                Posting updated = posting != null ? posting : new Posting(value);
+                updated.ids.add(id);
+                return updated;
+            });
+        }
+
+        void remove(String value, String id) {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            byValue.computeIfPresent(key(value), (key, posting) -> {
+                posting.ids.remove(id);
+                return posting.ids.isEmpty() ? null : posting;
+            });
+        }
+
+        Set<String> ids(String value) {
+            Posting posting = value == null ? null : byValue.get(key(value));
+            return posting != null ? Collections.unmodifiableSet(posting.ids) : Set.of();
+        }
+
+        List<Count> counts() {
+            List<Count> counts = new ArrayList<>(byValue.size());
+            for (Posting posting : byValue.values()) {
+                int size = posting.ids.size();
+                if (size > 0) {
+                    counts.add(new Count(posting.value, size));
+                }
+            }
+            counts.sort(Comparator.comparing(Count::name));
+            return counts;
+        }
+
+        private static String key(String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final class Posting {
+        final String value;
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        Posting(String value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * A field value and the number of documents that have it.
+     */
+    public record Count(String name, int count) {
+    }
+
+    /**
+     * Document count and estimated heap footprint.
+     */
+    public record Stats(int documents, long estimatedBytes) {
+    }
+}
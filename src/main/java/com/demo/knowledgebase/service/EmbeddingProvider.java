@@ -0,0 +1,37 @@
+package com.demo.knowledgebase.service;
+
+import java.util.List;
+
+/**
+ * Source of text embeddings, selected with embedding.provider.
+ *
+ * Implementations:
+ * - {@link HttpEmbeddingProvider}: the Python embedding server
+ * - {@link OnnxEmbeddingProvider}: multilingual-e5-small inside the JVM
+ * - {@link HashingEmbeddingProvider}: deterministic feature hashing, no model
+ *
+ * Texts arrive already prefixed ("query: " / "passage: "); prefixing and the
+ * query cache are handled once, in {@link EmbeddingService}.
+ */
+public interface EmbeddingProvider extends AutoCloseable {
+
+    /**
+     * Embeds a batch of texts, returning one L2-normalized vector per text,
+     * in input order.
+     */
+    List<float[]> embed(List<String> texts);
+
+    /**
+     * Length of the returned vectors.
+     */
+    int dimension();
+
+    /**
+     * Short human-readable description for startup logs.
+     */
+    String description();
+
+    @Override
+    default void close() throws Exception {
+    }
+}
@@ -4,63 +4,123 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Service for checking embedding server health and getting stats.
+ * Service for computing embeddings and checking embedding server health.
  * 
- * Note: The actual embedding generation is now handled by the FAISS server.
- * This service is mainly for health checks and configuration.
+ * The vectors come from the configured {@link EmbeddingProvider}
+ * (embedding.provider = http, onnx or hashing); this service adds the e5
+ * prefixes and caching on top, the same for every provider.
+ * 
+ * e5 models expect a prefix telling them what the text is:
+ * - "query: " for search queries
+ * - "passage: " for documents being indexed
+ * 
+ * Query embeddings are cached (LRU + TTL): repeated searches skip the model.
  */
 @Service
 public class EmbeddingService {
 
+    public static final String QUERY_PREFIX = "query: ";
+    public static final String PASSAGE_PREFIX = "passage: ";
+
     private final RestTemplate restTemplate;
     private final String serverUrl;
+    private final EmbeddingProvider provider;
+
+    // Keyed on the prefixed, normalized query text that is sent to the model
+    private final ExpiringLruCache<String, float[]> queryCache;
 
     public EmbeddingService(
-            @Value("${embedding.server.url:http://localhost:8000}") String serverUrl) {
-        this.restTemplate = new RestTemplate();
+            RestTemplate embeddingRestTemplate,
+            EmbeddingProvider provider,
+            @Value("${embedding.server.url:http://localhost:8000}") String serverUrl,
+            @Value("${embedding.query-cache.max-size:10000}") int queryCacheSize,
+            @Value("${embedding.query-cache.ttl-seconds:3600}") long queryCacheTtlSeconds) {
+        this.restTemplate = embeddingRestTemplate;
+        this.provider = provider;
         this.serverUrl = serverUrl;
+        this.queryCache = new ExpiringLruCache<>(queryCacheSize, queryCacheTtlSeconds, TimeUnit.SECONDS);
         System.out.println("✓ Embedding Service initialized");
         System.out.println("  → Server: " + serverUrl);
         System.out.println("  → Model: multilingual-e5-small (100 languages, Arabic ✓)");
-        System.out.println("  → Vector DB: FAISS with persistence");
+        System.out.println("  → Embeddings: " + provider.description());
+        System.out.println("  → Query cache: " + queryCacheSize + " entries, TTL " + queryCacheTtlSeconds + "s");
     }
 
     /**
      * Returns the embedding dimension (384 for multilingual-e5-small).
      */
     public int getEmbeddingDimension() {
-        return 384;
+        return provider.dimension();
     }
 
     /**
-     * Checks if the FAISS server is available.
+     * Embeds a search query, served from the query cache when possible.
+     * The returned vector is shared with the cache and must not be modified.
      */
-    @SuppressWarnings("unchecked")
-    public boolean isServerHealthy() {
-        try {
-            Map<String, Object> response = restTemplate.getForObject(
-                    serverUrl + "/health",
-                    Map.class);
-            return response != null && "healthy".equals(response.get("status"));
-        } catch (Exception e) {
-            return false;
+    public float[] embedQuery(String query) {
+        String key = QUERY_PREFIX + normalizeQuery(query);
+        return queryCache.get(key, text -> embed(List.of(text)).get(0));
+    }
+
+    /**
+     * Normalizes a query so trivially different spellings share a cache entry:
+     * Unicode NFC, trimmed, runs of whitespace collapsed to one space.
+     * Case is kept because the e5 tokenizer is case-sensitive.
+     */
+    static String normalizeQuery(String query) {
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFC);
+        return normalized.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Returns hit/miss counters of the query embedding cache.
+     */
+    public ExpiringLruCache.Stats getQueryCacheStats() {
+        return queryCache.stats();
+    }
+
+    /**
+     * Embeds document texts in a single batch call.
+     */
+    public List<float[]> embedPassages(List<String> texts) {
+        List<String> prefixed = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            prefixed.add(PASSAGE_PREFIX + text);
         }
+        return embed(prefixed);
+    }
+
+    private List<float[]> embed(List<String> prefixedTexts) {
+        return provider.embed(prefixedTexts);
+    }
+
+    static float[] toFloatArray(List<Number> values) {
+        float[] vector = new float[values.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = values.get(i).floatValue();
+        }
+        return vector;
     }
 
     /**
-     * Gets server statistics.
+     * Checks if the embedding server is available.
      */
     @SuppressWarnings("unchecked")
-    public Map<String, Object> getServerStats() {
+    public boolean isServerHealthy() {
         try {
-            return restTemplate.getForObject(
-                    serverUrl + "/index/stats",
+            Map<String, Object> response = restTemplate.getForObject(
+                    serverUrl + "/health",
                     Map.class);
+            return response != null && "healthy".equals(response.get("status"));
         } catch (Exception e) {
-            return Map.of("error", e.getMessage());
+            return false;
         }
     }
 }
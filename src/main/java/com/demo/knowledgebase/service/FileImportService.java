@@ -1,158 +1,176 @@
 package com.demo.knowledgebase.service;
 
+import com.demo.knowledgebase.model.Document;
+import com.demo.knowledgebase.model.ImportJob;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class FileImportService {
 
     private static final Logger logger = LoggerFactory.getLogger(FileImportService.class);
+    private static final String HEADER_ROW_MISSING =
+            "Excel file must start with a header row containing 'title' and 'content' columns";
     private final KnowledgeBaseService knowledgeBaseService;
+    private final int batchSize;
+    private final int embedConcurrency;
+    private final int queueDepth;
 
-    public FileImportService(KnowledgeBaseService knowledgeBaseService) {
+    public FileImportService(
+            KnowledgeBaseService knowledgeBaseService,
+            @Value("${import.batch-size:256}") int batchSize,
+            @Value("${import.pipeline.embed-concurrency:2}") int embedConcurrency,
+            @Value("${import.pipeline.queue-depth:4}") int queueDepth) {
         this.knowledgeBaseService = knowledgeBaseService;
+        this.batchSize = Math.max(1, batchSize);
+        this.embedConcurrency = embedConcurrency;
+        this.queueDepth = queueDepth;
     }
 
-    public Map<String, Object> importFile(MultipartFile file, String username) throws Exception {
-        String filename = file.getOriginalFilename();
+    /**
+     * Checks that the file type is supported, so a bad upload is rejected
+     * before an import job is queued.
+     */
+    public void checkSupported(String filename) {
         if (filename == null)
             throw new IllegalArgumentException("Filename cannot be null");
 
-        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
-        int count = 0;
+        String extension = extensionOf(filename);
+        if (extension.equals("xls")) {
+            // Only the .xlsx (OOXML) streaming reader is available
+            throw new IllegalArgumentException(
+                    "Legacy .xls workbooks are not supported. Please save the file as .xlsx or .csv");
+        }
+        if (!extension.equals("csv") && !extension.equals("xlsx")) {
+            throw new IllegalArgumentException("Unsupported file format: " + extension + ". Please use .csv or .xlsx");
+        }
+    }
 
+    /**
+     * Imports a file that has been saved to disk, reporting progress on the job.
+     * 
+     * Parsing runs on the calling thread and feeds an ImportPipeline, which
+     * embeds and indexes earlier batches in parallel. A batch that fails is
+     * counted as failed and the import goes on, unless several batches in a
+     * row fail (the embedding server is most likely down).
+     */
+    public void importFile(Path file, String filename, String username, ImportJob job) throws Exception {
+        checkSupported(filename);
         logger.info("Importing file: {} by user: {}", filename, username);
 
-        if (extension.equals("csv")) {
-            count = parseCsv(file, username);
-        } else if (extension.equals("xlsx") || extension.equals("xls")) {
-            count = parseExcel(file.getInputStream(), username);
-        } else {
-            throw new IllegalArgumentException("Unsupported file format: " + extension + ". Please use .csv or .xlsx");
+        try (ImportPipeline pipeline = new ImportPipeline(knowledgeBaseService, job, embedConcurrency, queueDepth)) {
+            DocumentBatcher batcher = new DocumentBatcher(job, pipeline);
+            if (extensionOf(filename).equals("csv")) {
+                parseCsv(file, username, batcher);
+            } else {
+                parseExcel(file, username, batcher);
+            }
+            batcher.flush();
+            pipeline.finish();
         }
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("imported", count);
-        result.put("message", "Successfully imported " + count + " documents");
-        return result;
+        logger.info("Imported {} of {} rows from {} ({} failed)",
+                job.getRowsIndexed(), job.getRowsParsed(), filename, job.getRowsFailed());
     }
 
-    private int parseCsv(MultipartFile file, String username) throws Exception {
-        // Robust encoding detection: try UTF-8, then CP1256 (Arabic Windows)
-        byte[] bytes = file.getBytes();
-        String content;
-
-        // Very basic heuristic: check for UTF-8 replacement chars or look valid
-        // Ideally we assume UTF-8, if user complains we support CP1256
-        // For now, let's try to interpret as UTF-8.
-        // Apache Commons CSV handles BOM automatically if we use the right input stream
+    private static String extensionOf(String filename) {
+        return filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
+    }
 
-        // We will decode manually to control fallback
-        Charset[] charsets = { StandardCharsets.UTF_8, Charset.forName("windows-1256"), StandardCharsets.ISO_8859_1 };
+    /**
+     * Streams the CSV straight from the upload and indexes it in batches,
+     * so memory stays flat no matter how large the file is.
+     */
+    private void parseCsv(Path file, String username, DocumentBatcher batcher) throws Exception {
+        // CSV files are read as UTF-8; a leading byte order mark is skipped
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+            skipByteOrderMark(reader);
 
-        // Since detecting valid encoding is hard without a library, we will rely on
-        // UTF-8 default
-        // but normalize line endings.
-        // Actually, for CSV, let's just use UTF-8 BOM aware reader.
+            try (CSVParser parser = CSVFormat.DEFAULT.builder()
+                    .setHeader()
+                    .setSkipHeaderRecord(true)
+                    .setIgnoreHeaderCase(true)
+                    .setTrim(true)
+                    .build().parse(reader)) {
 
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
-                CSVParser parser = CSVFormat.DEFAULT.builder()
-                        .setHeader()
-                        .setSkipHeaderRecord(true)
-                        .setIgnoreHeaderCase(true)
-                        .setTrim(true)
-                        .build().parse(reader)) {
-
-            int count = 0;
-            for (CSVRecord record : parser) {
-                if (processRecord(record.toMap(), username)) {
-                    count++;
+                for (CSVRecord record : parser) {
+                    Document document = toDocument(record.toMap(), username);
+                    if (document != null) {
+                        batcher.add(document);
+                    } else {
+                        batcher.skip();
+                    }
                 }
             }
-            return count;
         }
     }
 
-    private int parseExcel(InputStream inputStream, String username) throws Exception {
-        try (Workbook workbook = new XSSFWorkbook(inputStream)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            Row headerRow = sheet.getRow(0);
-
-            if (headerRow == null)
-                return 0;
-
-            // Map header names to column indices
-            Map<String, Integer> headers = new HashMap<>();
-            for (Cell cell : headerRow) {
-                headers.put(cell.getStringCellValue().toLowerCase().trim(), cell.getColumnIndex());
-            }
-
-            if (!headers.containsKey("title") || !headers.containsKey("content")) {
-                throw new IllegalArgumentException("Excel file must contain 'title' and 'content' columns");
-            }
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
 
-            java.util.List<com.demo.knowledgebase.model.Document> docsToAdd = new java.util.ArrayList<>();
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null)
-                    continue;
+    /**
+     * Streams the first sheet of an .xlsx workbook with the POI SAX reader and
+     * indexes it in batches. Unlike XSSFWorkbook, no cell objects are built,
+     * so memory stays flat no matter how large the workbook is.
+     */
+    private void parseExcel(Path file, String username, DocumentBatcher batcher) throws Exception {
+        // Opening from a file lets POI read the zip lazily instead of buffering it
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
 
-                String title = getCellValue(row, headers.get("title"));
-                String content = getCellValue(row, headers.get("content"));
-                String category = headers.containsKey("category") ? getCellValue(row, headers.get("category"))
-                        : "General";
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext())
+                throw new IllegalArgumentException("Excel file has no sheets");
 
-                if (title != null && !title.isEmpty() && content != null && !content.isEmpty()) {
-                    docsToAdd.add(com.demo.knowledgebase.model.Document.create(title, content, category, username));
-                }
+            ExcelRowHandler rowHandler = new ExcelRowHandler(batcher, username);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(), strings, rowHandler, new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
             }
-
-            if (!docsToAdd.isEmpty()) {
-                knowledgeBaseService.addDocuments(docsToAdd);
-            }
-            return docsToAdd.size();
+            if (rowHandler.headers.isEmpty())
+                throw new IllegalArgumentException(HEADER_ROW_MISSING);
         }
     }
 
-    private String getCellValue(Row row, Integer columnIndex) {
-        if (columnIndex == null)
-            return null;
-        Cell cell = row.getCell(columnIndex);
-        if (cell == null)
-            return "";
-
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                return String.valueOf(cell.getNumericCellValue());
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return "";
-        }
-    }
-
-    private boolean processRecord(Map<String, String> record, String username) {
+    private Document toDocument(Map<String, String> record, String username) {
         String title = get(record, "title");
         String content = get(record, "content");
         String category = get(record, "category");
@@ -160,10 +178,9 @@ public class FileImportService {
             category = "General";
 
         if (title != null && !title.isEmpty() && content != null && !content.isEmpty()) {
-            knowledgeBaseService.addDocument(title, content, category, username);
-            return true;
+            return Document.create(title, content, category, username);
         }
-        return false;
+        return null;
     }
 
     private String get(Map<String, String> map, String key) {
@@ -175,4 +192,108 @@ public class FileImportService {
         }
         return null;
     }
+
+    /**
+     * Receives the sheet cell by cell from the SAX reader. Row 0 is the header;
+     * every following row is turned into a document. Values are trimmed, as
+     * for CSV files.
+     */
+    private class ExcelRowHandler implements SheetContentsHandler {
+        private final DocumentBatcher batcher;
+        private final String username;
+        private final Map<String, Integer> headers = new HashMap<>();
+        private final Map<Integer, String> rowValues = new HashMap<>();
+        private int currentColumn;
+
+        ExcelRowHandler(DocumentBatcher batcher, String username) {
+            this.batcher = batcher;
+            this.username = username;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            rowValues.clear();
+            currentColumn = -1;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // The reference can be missing in files written by some tools
+            currentColumn = cellReference != null ? new CellReference(cellReference).getCol() : currentColumn + 1;
+            rowValues.put(currentColumn, formattedValue);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) {
+                // Map header names to column indices
+                rowValues.forEach((column, name) -> headers.put(name.toLowerCase().trim(), column));
+                if (!headers.containsKey("title") || !headers.containsKey("content")) {
+                    throw new IllegalArgumentException("Excel file must contain 'title' and 'content' columns");
+                }
+                return;
+            }
+            if (headers.isEmpty())
+                throw new IllegalArgumentException(HEADER_ROW_MISSING);
+
+            String title = valueOf("title");
+            String content = valueOf("content");
+            String category = headers.containsKey("category") ? valueOf("category") : "";
+            if (category.isBlank())
+                category = "General";
+
+            if (title.isEmpty() || content.isEmpty()) {
+                batcher.skip();
+                return;
+            }
+            try {
+                batcher.add(Document.create(title, content, category, username));
+            } catch (InterruptedException e) {
+                // SAX callbacks cannot throw checked exceptions
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Import interrupted", e);
+            }
+        }
+
+        private String valueOf(String header) {
+            String value = rowValues.get(headers.get(header));
+            return value != null ? value.trim() : "";
+        }
+    }
+
+    /**
+     * Collects parsed documents into fixed-size batches (one embedding + index
+     * call per batch, not per row) and hands them to the pipeline.
+     */
+    private class DocumentBatcher {
+        private final ImportJob job;
+        private final ImportPipeline pipeline;
+        private List<Document> batch = new ArrayList<>(batchSize);
+
+        DocumentBatcher(ImportJob job, ImportPipeline pipeline) {
+            this.job = job;
+            this.pipeline = pipeline;
+        }
+
+        void add(Document document) throws InterruptedException {
+            job.addParsed(1);
+            batch.add(document);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void skip() {
+            job.addParsed(1);
+            job.addSkipped(1);
+        }
+
+        void flush() throws InterruptedException {
+            if (batch.isEmpty())
+                return;
+            List<Document> full = batch;
+            batch = new ArrayList<>(batchSize);
+            pipeline.submit(full);
+        }
+    }
 }
@@ -0,0 +1,228 @@
+package com.demo.knowledgebase.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Brute-force (exact) vector index.
+ *
+ * === HOW IT WORKS ===
+ * All vectors live back to back in a single float[] slab (row-major), so a
+ * search is one sequential pass of dot products over contiguous memory.
+ * A bounded min-heap keeps the best topK rows while scanning.
+ *
+ * Removing a document moves the last row into the freed slot, keeping the
+ * slab dense without rebuilding anything.
+ *
+ * A filtered search scores only the rows of the filter's IDs, so searching a
+ * small category costs a fraction of a full scan.
+ *
+ * === ENCODING ===
+ * FLOAT32 keeps a float[] slab. FLOAT16 keeps half-precision bits in a
+ * short[] slab ({@link Float16}), converted on the fly during the scan: half
+ * the memory and half the bytes read per query, for a relative error per
+ * component below 0.05%.
+ *
+ * Searches share a read lock; adds and removes take the write lock.
+ */
+public class FlatVectorIndex implements VectorIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int dimension;
+    private final VectorEncoding encoding;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private float[] vectors; // FLOAT32 slab, null otherwise
+    private short[] halves; // FLOAT16 slab, null otherwise
+    private String[] ids;
+    private final Map<String, Integer> rowsById = new HashMap<>();
+    private int size;
+
+    public FlatVectorIndex(int dimension) {
+        this(dimension, VectorEncoding.FLOAT32);
+    }
+
+    public FlatVectorIndex(int dimension, VectorEncoding encoding) {
+        this.dimension = dimension;
+        this.encoding = encoding;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void add(String id, float[] vector) {
+        VectorMath.checkDimension(vector, dimension);
+        float[] normalized = VectorMath.normalize(vector);
+
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.get(id);
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                ids[row] = id;
+                rowsById.put(id, row);
+            }
+            if (halves != null) {
+                Float16.encode(normalized, halves, row * dimension);
+            } else {
+                System.arraycopy(normalized, 0, vectors, row * dimension, dimension);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.remove(id);
+            if (row == null) {
+                return false;
+            }
+            int last = --size;
+            if (row != last) {
+                // Fill the hole with the last row
+                if (halves != null) {
+                    System.arraycopy(halves, last * dimension, halves, row * dimension, dimension);
+                } else {
+                    System.arraycopy(vectors, last * dimension, vectors, row * dimension, dimension);
+                }
+                ids[row] = ids[last];
+                rowsById.put(ids[row], row);
+            }
+            ids[last] = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK) {
+        VectorMath.checkDimension(query, dimension);
+        float[] q = VectorMath.normalize(query);
+
+        lock.readLock().lock();
+        try {
+            TopK best = new TopK(Math.min(topK, size));
+            if (halves != null) {
+                for (int row = 0, offset = 0; row < size; row++, offset += dimension) {
+                    best.offer(row, Float16.dot(q, halves, offset));
+                }
+            } else {
+                for (int row = 0, offset = 0; row < size; row++, offset += dimension) {
+                    best.offer(row, VectorMath.dot(q, vectors, offset));
+                }
+            }
+            return toHits(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK, SearchOptions options, Set<String> filter) {
+        VectorMath.checkDimension(query, dimension);
+        float[] q = VectorMath.normalize(query);
+
+        lock.readLock().lock();
+        try {
+            TopK best = new TopK(Math.min(topK, Math.min(size, filter.size())));
+            for (String id : filter) {
+                Integer row = rowsById.get(id);
+                if (row != null) {
+                    int offset = row * dimension;
+                    best.offer(row, halves != null
+                            ? Float16.dot(q, halves, offset)
+                            : VectorMath.dot(q, vectors, offset));
+                }
+            }
+            return toHits(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = halves != null ? (long) halves.length * Short.BYTES : (long) vectors.length * Float.BYTES;
+            return Stats.of(size, 0, 0, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    public VectorEncoding encoding() {
+        return encoding;
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            allocate(INITIAL_CAPACITY);
+            rowsById.clear();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Hit> toHits(TopK best) {
+        int[] rows = new int[best.size()];
+        float[] scores = new float[best.size()];
+        int n = best.drainDescending(rows, scores);
+
+        List<Hit> hits = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            hits.add(new Hit(ids[rows[i]], scores[i]));
+        }
+        return hits;
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(rows, ids.length * 2);
+        if (halves != null) {
+            halves = Arrays.copyOf(halves, newCapacity * dimension);
+        } else {
+            vectors = Arrays.copyOf(vectors, newCapacity * dimension);
+        }
+        ids = Arrays.copyOf(ids, newCapacity);
+    }
+
+    private void allocate(int capacity) {
+        if (encoding == VectorEncoding.FLOAT16) {
+            halves = new short[capacity * dimension];
+        } else {
+            vectors = new float[capacity * dimension];
+        }
+        ids = new String[capacity];
+    }
+}
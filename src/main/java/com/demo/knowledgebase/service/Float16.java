@@ -0,0 +1,116 @@
+package com.demo.knowledgebase.service;
+
+/**
+ * IEEE 754 half-precision (binary16) conversions.
+ *
+ * Java 17 has no float16 type or {@code Float.float16ToFloat}, so halves are
+ * carried as raw {@code short} bits:
+ * - float to half rounds to nearest-even, with subnormals, overflow to
+ *   infinity, and NaN handled
+ * - half to float looks the value up in a 65536-entry table (256 KB), which
+ *   is exact for every input and keeps scan loops free of branches
+ *
+ * Normalized embedding components lie in [-1, 1], where a half keeps 11
+ * significant bits (relative error below 0.05%).
+ */
+final class Float16 {
+
+    private static final float[] TO_FLOAT = new float[1 << 16];
+
+    static {
+        for (int bits = 0; bits < TO_FLOAT.length; bits++) {
+            TO_FLOAT[bits] = decode(bits);
+        }
+    }
+
+    private Float16() {
+    }
+
+    static float toFloat(short half) {
+        return TO_FLOAT[half & 0xFFFF];
+    }
+
+    static short fromFloat(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = (bits >>> 23) & 0xFF;
+        int mantissa = bits & 0x7F_FFFF;
+
+        if (exponent == 0xFF) {
+            // Infinity, or NaN (kept quiet and non-zero)
+            return (short) (sign | 0x7C00 | (mantissa != 0 ? 0x0200 | (mantissa >>> 13) : 0));
+        }
+        int halfExponent = exponent - 127 + 15;
+        if (halfExponent >= 0x1F) {
+            return (short) (sign | 0x7C00); // Overflow
+        }
+        if (halfExponent <= 0) {
+            if (halfExponent < -10) {
+                return (short) sign; // Underflows to zero
+            }
+            // Subnormal half: shift the mantissa (with its implicit bit) into place
+            mantissa |= 0x80_0000;
+            int shift = 14 - halfExponent;
+            int half = mantissa >>> shift;
+            int remainder = mantissa & ((1 << shift) - 1);
+            int halfway = 1 << (shift - 1);
+            if (remainder > halfway || (remainder == halfway && (half & 1) != 0)) {
+                half++;
+            }
+            return (short) (sign | half);
+        }
+        int half = (halfExponent << 10) | (mantissa >>> 13);
+        int remainder = mantissa & 0x1FFF;
+        if (remainder > 0x1000 || (remainder == 0x1000 && (half & 1) != 0)) {
+            half++; // May carry into the exponent, up to infinity, which is correct
+        }
+        return (short) (sign | half);
+    }
+
+    /**
+     * Dot product of {@code query} with the half row at {@code offset} in a
+     * row-major slab.
+     */
+    static float dot(float[] query, short[] slab, int offset) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int n = query.length;
+        int i = 0;
+        for (; i + 3 < n; i += 4) {
+            s0 += query[i] * TO_FLOAT[slab[offset + i] & 0xFFFF];
+            s1 += query[i + 1] * TO_FLOAT[slab[offset + i + 1] & 0xFFFF];
+            s2 += query[i + 2] * TO_FLOAT[slab[offset + i + 2] & 0xFFFF];
+            s3 += query[i + 3] * TO_FLOAT[slab[offset + i + 3] & 0xFFFF];
+        }
+        for (; i < n; i++) {
+            s0 += query[i] * TO_FLOAT[slab[offset + i] & 0xFFFF];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static void encode(float[] vector, short[] slab, int offset) {
+        for (int i = 0; i < vector.length; i++) {
+            slab[offset + i] = fromFloat(vector[i]);
+        }
+    }
+
+    static void decode(short[] slab, int offset, float[] vector) {
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = TO_FLOAT[slab[offset + i] & 0xFFFF];
+        }
+    }
+
+    private static float decode(int bits) {
+        int sign = (bits & 0x8000) << 16;
+        int exponent = (bits >>> 10) & 0x1F;
+        int mantissa = bits & 0x3FF;
+        if (exponent == 0x1F) {
+            return Float.intBitsToFloat(sign | 0x7F80_0000 | (mantissa << 13));
+        }
+        if (exponent == 0) {
+            // Zero or subnormal: mantissa * 2^-24
+            float magnitude = mantissa * 0x1p-24f;
+            return sign != 0 ? -magnitude : magnitude;
+        }
+        return Float.intBitsToFloat(sign | ((exponent - 15 + 127) << 23) | (mantissa << 13));
+    }
+}
@@ -0,0 +1,108 @@
+package com.demo.knowledgebase.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Deterministic embeddings by feature hashing - no model, no Python.
+ *
+ * Meant for load tests, benchmarks and CI: it is fast, needs nothing
+ * installed and always returns the same vector for the same text, on any
+ * machine. It is NOT semantic: texts are only similar when they share words.
+ *
+ * === HOW IT WORKS ===
+ * 1. Lowercase the text and split it into words (letters and digits)
+ * 2. Hash each word, and each character trigram of it, to a dimension and
+ *    a sign, and add it there (trigrams give some tolerance to typos and
+ *    word forms)
+ * 3. L2-normalize, like the real model
+ *
+ * The "query: " / "passage: " prefix is dropped first, so a query equal to
+ * a document's text finds that document with similarity 1.
+ */
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float TRIGRAM_WEIGHT = 0.5f;
+
+    private final int dimension;
+
+    public HashingEmbeddingProvider(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Dimension must be positive: " + dimension);
+        }
+        this.dimension = dimension;
+    }
+
+    @Override
+    public List<float[]> embed(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(embed(text));
+        }
+        return vectors;
+    }
+
+    private float[] embed(String text) {
+        float[] vector = new float[dimension];
+        for (String word : WORD_SEPARATOR.split(stripPrefix(text).toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            addFeature(vector, word, WORD_WEIGHT);
+            String padded = "#" + word + "#";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                addFeature(vector, padded.substring(i, i + 3), TRIGRAM_WEIGHT);
+            }
+        }
+        return VectorMath.normalize(vector);
+    }
+
+    private void addFeature(float[] vector, String feature, float weight) {
+        long hash = hash(feature);
+        int slot = (int) Long.remainderUnsigned(hash, dimension);
+        // An independent bit picks the sign, so collisions cancel out on average
+        vector[slot] += hash < 0 ? -weight : weight;
+    }
+
+    private static String stripPrefix(String text) {
+        if (text.startsWith(EmbeddingService.QUERY_PREFIX)) {
+            return text.substring(EmbeddingService.QUERY_PREFIX.length());
+        }
+        if (text.startsWith(EmbeddingService.PASSAGE_PREFIX)) {
+            return text.substring(EmbeddingService.PASSAGE_PREFIX.length());
+        }
+        return text;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 chars, finished with the SplitMix64 mixer
+     * so that short strings still spread over all bits.
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 30;
+        h *= 0xbf58476d1ce4e5b9L;
+        h ^= h >>> 27;
+        h *= 0x94d049bb133111ebL;
+        h ^= h >>> 31;
+        return h;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public String description() {
+        return "deterministic feature hashing (" + dimension + " dims, not semantic)";
+    }
+}
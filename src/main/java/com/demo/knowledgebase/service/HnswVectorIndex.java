@@ -0,0 +1,694 @@
+package com.demo.knowledgebase.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Approximate nearest-neighbour index using HNSW (Hierarchical Navigable Small
+ * World graphs, Malkov &amp; Yashunin 2016).
+ *
+ * === HOW IT WORKS ===
+ * Every vector is a node in a layered graph. Layer 0 holds all nodes; each
+ * higher layer holds an exponentially smaller random subset. A search starts
+ * at the top layer, greedily walks towards the query, drops a layer and
+ * repeats, so it only visits a tiny fraction of the corpus.
+ *
+ * === TUNING ===
+ * - M: links per node (2*M on layer 0). Higher = better recall, more memory
+ * - efConstruction: candidate list size while inserting. Higher = better graph,
+ *   slower inserts
+ * - efSearch: candidate list size while searching. Can be overridden per query
+ *
+ * === FILTERED SEARCH ===
+ * Nodes outside the filter are walked through like tombstones but never
+ * returned, so the top-k come from matching nodes only. The more selective
+ * the filter, the further the walk has to go; once it has visited as many
+ * nodes as the filter holds, scoring the filter's nodes directly is cheaper
+ * and exact, so the search switches to that.
+ *
+ * === DELETES ===
+ * Deleted nodes are tombstoned: a remove is a bit flip, and tombstoned nodes
+ * are never returned but stay in the graph so searches can still route
+ * through them. Re-adding an ID tombstones its old node.
+ *
+ * Once tombstones make up compactRatio of the graph, a background thread
+ * rebuilds it from the live nodes while searches and writes carry on against
+ * the old one. Writes made during the rebuild are replayed onto the new graph
+ * before it replaces the old one, so both are briefly held in memory.
+ */
+public class HnswVectorIndex implements VectorIndex, AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    // Below this many tombstones a rebuild is not worth it, whatever the ratio
+    private static final int MIN_COMPACT_TOMBSTONES = 64;
+    // One per thread: searches and inserts never nest on a thread
+    private static final ThreadLocal<VisitedNodes> VISITED = ThreadLocal.withInitial(VisitedNodes::new);
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final int defaultEfSearch;
+    private final double levelMultiplier;
+    private final double compactRatio;
+    private final Random random = new Random(42);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService compactor; // null when compaction is off
+
+    private float[] vectors;
+    private String[] ids;
+    // links[node][level][0] is the neighbour count, followed by the neighbours
+    private int[][][] links;
+    private BitSet deleted = new BitSet();
+    private Map<String, Integer> nodesById = new HashMap<>();
+    private int nodeCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int tombstones;
+
+    private boolean compacting;
+    private List<Mutation> writesDuringCompaction; // Replayed onto the rebuilt graph
+    private long compactions;
+    private long resets; // Lets a compaction notice a clear() that happened meanwhile
+
+    public HnswVectorIndex(int dimension, int m, int efConstruction, int efSearch) {
+        this(dimension, m, efConstruction, efSearch, 0);
+    }
+
+    /**
+     * @param compactRatio rebuild the graph once this fraction of its nodes
+     *                     are tombstones (0 = never)
+     */
+    public HnswVectorIndex(int dimension, int m, int efConstruction, int efSearch, double compactRatio) {
+        if (m < 2) {
+            throw new IllegalArgumentException("HNSW M must be at least 2");
+        }
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = 2 * m;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.defaultEfSearch = efSearch;
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.compactRatio = compactRatio;
+        this.compactor = compactRatio > 0 ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hnsw-compactor");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.vectors = new float[INITIAL_CAPACITY * dimension];
+        this.ids = new String[INITIAL_CAPACITY];
+        this.links = new int[INITIAL_CAPACITY][][];
+    }
+
+    @Override
+    public void add(String id, float[] vector) {
+        VectorMath.checkDimension(vector, dimension);
+        float[] q = VectorMath.normalize(vector);
+
+        lock.writeLock().lock();
+        try {
+            insert(id, q);
+            if (writesDuringCompaction != null) {
+                writesDuringCompaction.add(new Mutation(id, q));
+            }
+            compactIfDue();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            if (!tombstone(id)) {
+                return false;
+            }
+            if (writesDuringCompaction != null) {
+                writesDuringCompaction.add(new Mutation(id, null));
+            }
+            compactIfDue();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK) {
+        return search(query, topK, SearchOptions.DEFAULT);
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK, SearchOptions options) {
+        VectorMath.checkDimension(query, dimension);
+        float[] q = VectorMath.normalize(query);
+        int requestedEf = options.efSearch() != null ? options.efSearch() : defaultEfSearch;
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint == -1 || topK <= 0) {
+                return new ArrayList<>();
+            }
+            // The lists never hold more than every node; ef sizes them up front
+            int ef = Math.min(Math.max(requestedEf, topK), nodeCount);
+
+            int ep = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                ep = greedyClosest(q, ep, l);
+            }
+
+            return toHits(searchLayer(q, ep, ef, 0, null, Integer.MAX_VALUE), topK);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK, SearchOptions options, Set<String> filter) {
+        VectorMath.checkDimension(query, dimension);
+        float[] q = VectorMath.normalize(query);
+        int requestedEf = options.efSearch() != null ? options.efSearch() : defaultEfSearch;
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint == -1 || topK <= 0 || filter.isEmpty()) {
+                return new ArrayList<>();
+            }
+            // The lists never hold more than every node; ef sizes them up front
+            int ef = Math.min(Math.max(requestedEf, topK), nodeCount);
+
+            int ep = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                ep = greedyClosest(q, ep, l);
+            }
+
+            ScoredQueue found = searchLayer(q, ep, ef, 0, filter, filter.size());
+            return found != null ? toHits(found, topK) : searchExactly(q, topK, filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            return Stats.of(nodesById.size(), tombstones, compactions, (long) vectors.length * Float.BYTES);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            vectors = new float[INITIAL_CAPACITY * dimension];
+            ids = new String[INITIAL_CAPACITY];
+            links = new int[INITIAL_CAPACITY][][];
+            deleted.clear();
+            nodesById.clear();
+            nodeCount = 0;
+            entryPoint = -1;
+            maxLevel = -1;
+            tombstones = 0;
+            // A running compaction notices and throws its copy away
+            resets++;
+            compacting = false;
+            writesDuringCompaction = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+    }
+
+    // =====================
+    // Compaction
+    // =====================
+
+    /**
+     * A write made while a compaction was rebuilding the graph: an add, or a
+     * remove when vector is null.
+     */
+    private record Mutation(String id, float[] vector) {
+    }
+
+    /**
+     * Schedules a compaction if tombstones have passed the threshold. Called
+     * under the write lock.
+     */
+    private void compactIfDue() {
+        if (compactor == null || compacting || compactor.isShutdown() || tombstones < MIN_COMPACT_TOMBSTONES
+                || tombstones < compactRatio * nodeCount) {
+            return;
+        }
+        compacting = true;
+        compactor.execute(this::compact);
+    }
+
+    /**
+     * Rebuilds the graph from the live nodes. Only the copy is taken under
+     * the lock; the rebuild itself runs alongside searches and writes.
+     */
+    private void compact() {
+        long start = System.currentTimeMillis();
+        String[] liveIds;
+        float[] liveVectors;
+        int removed;
+        long resetsAtStart;
+        lock.writeLock().lock();
+        try {
+            liveIds = new String[nodesById.size()];
+            liveVectors = new float[liveIds.length * dimension];
+            int live = 0;
+            for (int node = deleted.nextClearBit(0); node < nodeCount; node = deleted.nextClearBit(node + 1)) {
+                liveIds[live] = ids[node];
+                System.arraycopy(vectors, node * dimension, liveVectors, live * dimension, dimension);
+                live++;
+            }
+            removed = tombstones;
+            resetsAtStart = resets;
+            writesDuringCompaction = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        HnswVectorIndex rebuilt = new HnswVectorIndex(dimension, m, efConstruction, defaultEfSearch);
+        try {
+            for (int i = 0; i < liveIds.length; i++) {
+                rebuilt.insert(liveIds[i], Arrays.copyOfRange(liveVectors, i * dimension, (i + 1) * dimension));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                if (resets == resetsAtStart) {
+                    compacting = false;
+                    writesDuringCompaction = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            System.err.println("HNSW compaction failed: " + e.getMessage());
+            return;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            if (resets != resetsAtStart) {
+                return; // Cleared while rebuilding
+            }
+            replayed = writesDuringCompaction.size();
+            for (Mutation write : writesDuringCompaction) {
+                if (write.vector() != null) {
+                    rebuilt.insert(write.id(), write.vector());
+                } else {
+                    rebuilt.tombstone(write.id());
+                }
+            }
+            vectors = rebuilt.vectors;
+            ids = rebuilt.ids;
+            links = rebuilt.links;
+            deleted = rebuilt.deleted;
+            nodesById = rebuilt.nodesById;
+            nodeCount = rebuilt.nodeCount;
+            entryPoint = rebuilt.entryPoint;
+            maxLevel = rebuilt.maxLevel;
+            tombstones = rebuilt.tombstones;
+            writesDuringCompaction = null;
+            compacting = false;
+            compactions++;
+            compactIfDue(); // In case enough was removed during the rebuild
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("✓ HNSW index compacted: " + removed + " tombstones dropped, " + liveIds.length
+                + " nodes rebuilt (" + replayed + " writes replayed) in " + (System.currentTimeMillis() - start)
+                + " ms");
+    }
+
+    // =====================
+    // Graph internals
+    // =====================
+
+    /**
+     * Inserts a normalized vector as a new node, tombstoning the ID's old node.
+     * Called under the write lock (or on a graph no other thread can see).
+     */
+    private void insert(String id, float[] q) {
+        tombstone(id);
+
+        int node = nodeCount++;
+        ensureCapacity(nodeCount);
+        System.arraycopy(q, 0, vectors, node * dimension, dimension);
+        ids[node] = id;
+        nodesById.put(id, node);
+
+        int level = randomLevel();
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[maxLinks(l) + 1];
+        }
+
+        if (entryPoint == -1) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            ep = greedyClosest(q, ep, l);
+        }
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            ScoredQueue found = searchLayer(q, ep, efConstruction, l, null, Integer.MAX_VALUE);
+            int[] candidates = drainBestFirst(found);
+            if (candidates.length == 0) {
+                continue;
+            }
+            int[] neighbours = selectNeighbours(q, candidates, m);
+            for (int neighbour : neighbours) {
+                addLink(node, neighbour, l);
+                addLink(neighbour, node, l);
+            }
+            ep = candidates[0];
+        }
+
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    private boolean tombstone(String id) {
+        Integer node = nodesById.remove(id);
+        if (node == null) {
+            return false;
+        }
+        deleted.set(node);
+        tombstones++;
+        return true;
+    }
+
+    private int maxLinks(int level) {
+        return level == 0 ? maxM0 : m;
+    }
+
+    private int randomLevel() {
+        double r = 1.0 - random.nextDouble(); // (0, 1]
+        return (int) Math.floor(-Math.log(r) * levelMultiplier);
+    }
+
+    private float similarity(float[] q, int node) {
+        return VectorMath.dot(q, vectors, node * dimension);
+    }
+
+    private float similarity(int a, int b) {
+        float s = 0;
+        int offsetA = a * dimension;
+        int offsetB = b * dimension;
+        for (int i = 0; i < dimension; i++) {
+            s += vectors[offsetA + i] * vectors[offsetB + i];
+        }
+        return s;
+    }
+
+    /**
+     * Walks greedily towards the query on one layer (ef = 1).
+     */
+    private int greedyClosest(float[] q, int ep, int level) {
+        int current = ep;
+        float currentScore = similarity(q, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbours = links[current][level];
+            for (int i = 1; i <= neighbours[0]; i++) {
+                int candidate = neighbours[i];
+                float score = similarity(q, candidate);
+                if (score > currentScore) {
+                    current = candidate;
+                    currentScore = score;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Beam search on one layer.
+     *
+     * @param filter     IDs that may be returned (null = all)
+     * @param visitLimit nodes to visit at most
+     * @return up to ef live (matching) nodes, worst first, or null once more
+     *         than visitLimit nodes were visited
+     */
+    private ScoredQueue searchLayer(float[] q, int ep, int ef, int level, Set<String> filter, int visitLimit) {
+        VisitedNodes visited = VISITED.get();
+        try {
+            return searchLayer(q, ep, ef, level, filter, visitLimit, visited);
+        } finally {
+            visited.clear();
+        }
+    }
+
+    private ScoredQueue searchLayer(float[] q, int ep, int ef, int level, Set<String> filter, int visitLimit,
+            VisitedNodes visited) {
+        ScoredQueue candidates = ScoredQueue.bestFirst(ef * 2);
+        ScoredQueue results = ScoredQueue.worstFirst(ef + 1);
+        int visits = 1;
+
+        float epScore = similarity(q, ep);
+        visited.visit(ep);
+        candidates.push(ep, epScore);
+        if (returnable(ep, filter)) {
+            results.push(ep, epScore);
+        }
+
+        while (!candidates.isEmpty()) {
+            float candidateScore = candidates.topScore();
+            int candidate = candidates.pop();
+            if (results.size() >= ef && candidateScore < results.topScore()) {
+                break;
+            }
+
+            int[] neighbours = links[candidate][level];
+            for (int i = 1; i <= neighbours[0]; i++) {
+                int neighbour = neighbours[i];
+                if (!visited.visit(neighbour)) {
+                    continue;
+                }
+                if (++visits > visitLimit) {
+                    return null;
+                }
+
+                float score = similarity(q, neighbour);
+                if (results.size() < ef || score > results.topScore()) {
+                    // Tombstoned and filtered-out nodes are still explored, just never returned
+                    candidates.push(neighbour, score);
+                    if (returnable(neighbour, filter)) {
+                        results.push(neighbour, score);
+                        if (results.size() > ef) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private boolean returnable(int node, Set<String> filter) {
+        return !deleted.get(node) && (filter == null || filter.contains(ids[node]));
+    }
+
+    /**
+     * Scores every node of the filter: exact, and cheaper than a walk that
+     * would have to visit more nodes than that.
+     */
+    private List<Hit> searchExactly(float[] q, int topK, Set<String> filter) {
+        TopK best = new TopK(Math.min(topK, filter.size()));
+        for (String id : filter) {
+            Integer node = nodesById.get(id);
+            if (node != null) {
+                best.offer(node, similarity(q, node));
+            }
+        }
+        int[] nodes = new int[best.size()];
+        float[] scores = new float[best.size()];
+        int n = best.drainDescending(nodes, scores);
+        List<Hit> hits = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            hits.add(new Hit(ids[nodes[i]], scores[i]));
+        }
+        return hits;
+    }
+
+    private List<Hit> toHits(ScoredQueue found, int topK) {
+        while (found.size() > topK) {
+            found.pop();
+        }
+        Hit[] hits = new Hit[found.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            float score = found.topScore();
+            hits[i] = new Hit(ids[found.pop()], score);
+        }
+        return new ArrayList<>(Arrays.asList(hits));
+    }
+
+    private static int[] drainBestFirst(ScoredQueue worstFirst) {
+        int[] nodes = new int[worstFirst.size()];
+        for (int i = nodes.length - 1; i >= 0; i--) {
+            nodes[i] = worstFirst.pop();
+        }
+        return nodes;
+    }
+
+    /**
+     * Neighbour selection heuristic: a candidate is kept only if it is closer
+     * to the base than to any neighbour already kept, which spreads links in
+     * different directions. Remaining slots are filled with the closest pruned
+     * candidates.
+     *
+     * @param candidates candidate nodes, best first
+     */
+    private int[] selectNeighbours(float[] base, int[] candidates, int max) {
+        if (candidates.length <= max) {
+            return candidates;
+        }
+        int[] selected = new int[max];
+        int count = 0;
+        int[] pruned = new int[candidates.length];
+        int prunedCount = 0;
+
+        for (int candidate : candidates) {
+            if (count >= max) {
+                break;
+            }
+            float toBase = similarity(base, candidate);
+            boolean keep = true;
+            for (int i = 0; i < count; i++) {
+                if (similarity(candidate, selected[i]) > toBase) {
+                    keep = false;
+                    break;
+                }
+            }
+            if (keep) {
+                selected[count++] = candidate;
+            } else {
+                pruned[prunedCount++] = candidate;
+            }
+        }
+        for (int i = 0; i < prunedCount && count < max; i++) {
+            selected[count++] = pruned[i];
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    private void addLink(int from, int to, int level) {
+        int[] neighbours = links[from][level];
+        int count = neighbours[0];
+        for (int i = 1; i <= count; i++) {
+            if (neighbours[i] == to) {
+                return;
+            }
+        }
+        int max = neighbours.length - 1;
+        if (count < max) {
+            neighbours[count + 1] = to;
+            neighbours[0] = count + 1;
+            return;
+        }
+
+        // Full: re-select the best max links among the old ones plus the new one
+        float[] base = Arrays.copyOfRange(vectors, from * dimension, (from + 1) * dimension);
+        ScoredQueue ranked = ScoredQueue.worstFirst(max + 1);
+        for (int i = 1; i <= count; i++) {
+            ranked.push(neighbours[i], similarity(base, neighbours[i]));
+        }
+        ranked.push(to, similarity(base, to));
+
+        int[] kept = selectNeighbours(base, drainBestFirst(ranked), max);
+        neighbours[0] = kept.length;
+        System.arraycopy(kept, 0, neighbours, 1, kept.length);
+    }
+
+    private void ensureCapacity(int nodes) {
+        if (nodes <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(nodes, ids.length * 2);
+        vectors = Arrays.copyOf(vectors, newCapacity * dimension);
+        ids = Arrays.copyOf(ids, newCapacity);
+        links = Arrays.copyOf(links, newCapacity);
+    }
+
+    /**
+     * Nodes already seen by one beam search. Reused across searches, and only
+     * the bits that were set are cleared afterwards, so a search costs what it
+     * visits rather than the size of the graph.
+     */
+    private static final class VisitedNodes {
+
+        private final BitSet marks = new BitSet();
+        private int[] touched = new int[256];
+        private int count;
+
+        /**
+         * Marks the node.
+         *
+         * @return false if it was already marked
+         */
+        boolean visit(int node) {
+            if (marks.get(node)) {
+                return false;
+            }
+            marks.set(node);
+            if (count == touched.length) {
+                touched = Arrays.copyOf(touched, count * 2);
+            }
+            touched[count++] = node;
+            return true;
+        }
+
+        void clear() {
+            for (int i = 0; i < count; i++) {
+                marks.clear(touched[i]);
+            }
+            count = 0;
+        }
+    }
+}
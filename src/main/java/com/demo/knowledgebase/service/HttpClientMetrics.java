@@ -0,0 +1,90 @@
+package com.demo.knowledgebase.service;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records per-endpoint latency of calls to the embedding server.
+ *
+ * Registered as a RestTemplate interceptor, so every call is timed. Paths are
+ * grouped by their first two segments, so /index/document/{id} is one entry.
+ */
+public class HttpClientMetrics implements ClientHttpRequestInterceptor {
+
+    private final Map<String, EndpointTimer> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        EndpointTimer timer = timers.computeIfAbsent(
+                request.getMethod().name() + " " + endpointOf(request.getURI().getPath()),
+                key -> new EndpointTimer());
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            failed = response.getStatusCode().isError();
+            return response;
+        } finally {
+            timer.record(System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the timers, keyed by "METHOD /path".
+     */
+    public Map<String, Stats> snapshot() {
+        Map<String, Stats> snapshot = new TreeMap<>();
+        timers.forEach((endpoint, timer) -> snapshot.put(endpoint, timer.stats()));
+        return snapshot;
+    }
+
+    static String endpointOf(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        int first = path.indexOf('/', 1);
+        if (first < 0) {
+            return path;
+        }
+        int second = path.indexOf('/', first + 1);
+        return second < 0 ? path : path.substring(0, second);
+    }
+
+    private static final class EndpointTimer {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos, boolean failed) {
+            calls.increment();
+            if (failed) {
+                errors.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        Stats stats() {
+            long n = calls.sum();
+            double avgMillis = n == 0 ? 0.0 : totalNanos.sum() / 1e6 / n;
+            return new Stats(n, errors.sum(), avgMillis, maxNanos.get() / 1e6);
+        }
+    }
+
+    /**
+     * Call count, failed calls and latency in milliseconds for one endpoint.
+     */
+    public record Stats(long calls, long errors, double avgMillis, double maxMillis) {
+    }
+}
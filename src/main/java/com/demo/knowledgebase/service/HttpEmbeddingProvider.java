@@ -0,0 +1,62 @@
+package com.demo.knowledgebase.service;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embeds texts with the Python embedding server (POST /embed).
+ *
+ * The server runs multilingual-e5-small with sentence-transformers and
+ * returns normalized vectors; one HTTP call is made per batch.
+ */
+public class HttpEmbeddingProvider implements EmbeddingProvider {
+
+    private final RestTemplate restTemplate;
+    private final String serverUrl;
+    private final int dimension;
+
+    public HttpEmbeddingProvider(RestTemplate restTemplate, String serverUrl, int dimension) {
+        this.restTemplate = restTemplate;
+        this.serverUrl = serverUrl;
+        this.dimension = dimension;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<float[]> embed(List<String> texts) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> response = restTemplate.postForObject(
+                serverUrl + "/embed",
+                new HttpEntity<>(Map.of("texts", texts), headers),
+                Map.class);
+
+        if (response == null || !response.containsKey("embeddings")) {
+            throw new IllegalStateException("Embedding server returned no embeddings");
+        }
+
+        List<List<Number>> embeddings = (List<List<Number>>) response.get("embeddings");
+        List<float[]> vectors = new ArrayList<>(embeddings.size());
+        for (List<Number> embedding : embeddings) {
+            vectors.add(EmbeddingService.toFloatArray(embedding));
+        }
+        return vectors;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public String description() {
+        return "Python server over HTTP (" + serverUrl + ")";
+    }
+}
@@ -0,0 +1,134 @@
+package com.demo.knowledgebase.service;
+
+import com.demo.knowledgebase.model.ImportJob;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs file imports in the background.
+ *
+ * An upload is saved to a temp file and queued; the request returns the job
+ * ID immediately and clients poll the job for progress. Imports run on a
+ * small bounded pool: when all workers are busy and the queue is full, new
+ * uploads are rejected instead of piling up.
+ */
+@Service
+public class ImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobService.class);
+
+    private final FileImportService fileImportService;
+    private final StatsService statsService;
+    private final ThreadPoolExecutor executor;
+    private final int maxRetainedJobs;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(
+            FileImportService fileImportService,
+            StatsService statsService,
+            @Value("${import.jobs.workers:2}") int workers,
+            @Value("${import.jobs.queue-capacity:10}") int queueCapacity,
+            @Value("${import.jobs.retained:100}") int maxRetainedJobs) {
+        this.fileImportService = fileImportService;
+        this.statsService = statsService;
+        this.maxRetainedJobs = maxRetainedJobs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "import-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queues an upload for import.
+     *
+     * @throws IllegalArgumentException   if the file type is not supported
+     * @throws RejectedExecutionException if too many imports are already queued
+     */
+    public ImportJob submit(MultipartFile file, String username) throws IOException {
+        String filename = file.getOriginalFilename();
+        fileImportService.checkSupported(filename);
+
+        // The multipart upload is deleted when the request ends, so keep a copy
+        Path tempFile = Files.createTempFile("kb-import-", ".upload");
+        file.transferTo(tempFile);
+
+        ImportJob job = new ImportJob(filename, username);
+        jobs.put(job.getJobId(), job);
+        try {
+            executor.execute(() -> run(job, tempFile));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        pruneFinishedJobs();
+        return job;
+    }
+
+    public Optional<ImportJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(ImportJob job, Path file) {
+        job.markRunning();
+        try {
+            fileImportService.importFile(file, job.getFilename(), job.getCreatedBy(), job);
+            job.markCompleted();
+        } catch (Exception e) {
+            logger.error("Import job {} ({}) failed: {}", job.getJobId(), job.getFilename(), e.getMessage());
+            job.markFailed(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            statsService.recordImport(job);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete temp file {}", file);
+            }
+        }
+    }
+
+    /**
+     * Keeps the job table bounded by dropping the oldest finished jobs.
+     */
+    private void pruneFinishedJobs() {
+        int excess = jobs.size() - maxRetainedJobs;
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(ImportJob::isFinished)
+                .sorted(Comparator.comparing(ImportJob::getFinishedAt))
+                .limit(excess)
+                .forEach(job -> jobs.remove(job.getJobId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,249 @@
+package com.demo.knowledgebase.service;
+
+import com.demo.knowledgebase.model.Document;
+import com.demo.knowledgebase.model.ImportJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Staged import pipeline for one import job.
+ *
+ * <pre>
+ * parser thread --> [embed queue] --> N embedding workers --> [index queue] --> index writer
+ * </pre>
+ *
+ * The parser keeps reading rows while earlier batches are being embedded, and
+ * several embedding calls run at once, so the model never sits idle waiting
+ * for Java. Both queues are bounded: when embedding falls behind, the parser
+ * blocks (backpressure) instead of buffering the whole file.
+ *
+ * A batch that fails is counted as failed and the import goes on; after
+ * {@value #MAX_CONSECUTIVE_FAILURES} failures in a row the pipeline aborts.
+ */
+public class ImportPipeline implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportPipeline.class);
+    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+    private static final long POLL_MILLIS = 200;
+
+    // Sentinels, compared by identity
+    private static final List<Document> END_OF_INPUT = Collections.unmodifiableList(new ArrayList<>());
+    private static final EmbeddedBatch END_OF_EMBEDDINGS = new EmbeddedBatch(List.of(), List.of());
+
+    private final KnowledgeBaseService knowledgeBaseService;
+    private final ImportJob job;
+    private final int embedConcurrency;
+    private final BlockingQueue<List<Document>> embedQueue;
+    private final BlockingQueue<EmbeddedBatch> indexQueue;
+    private final ExecutorService workers;
+
+    private final AtomicInteger runningEmbedders;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicReference<Exception> fatalError = new AtomicReference<>();
+    private volatile boolean writerStopped;
+
+    public ImportPipeline(KnowledgeBaseService knowledgeBaseService, ImportJob job,
+            int embedConcurrency, int queueDepth) {
+        this.knowledgeBaseService = knowledgeBaseService;
+        this.job = job;
+        this.embedConcurrency = Math.max(1, embedConcurrency);
+        this.embedQueue = new ArrayBlockingQueue<>(Math.max(1, queueDepth));
+        this.indexQueue = new ArrayBlockingQueue<>(Math.max(1, queueDepth));
+        this.runningEmbedders = new AtomicInteger(this.embedConcurrency);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.embedConcurrency + 1, runnable -> {
+            Thread thread = new Thread(runnable, "import-stage-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < this.embedConcurrency; i++) {
+            workers.execute(this::runEmbedder);
+        }
+        workers.execute(this::runIndexWriter);
+    }
+
+    /**
+     * Hands a parsed batch to the embedding stage, blocking while the queue is full.
+     *
+     * @throws IllegalStateException if the pipeline has aborted
+     */
+    public void submit(List<Document> batch) throws InterruptedException {
+        while (!embedQueue.offer(batch, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            throwIfFailed();
+        }
+        throwIfFailed();
+    }
+
+    /**
+     * Signals end of input and waits until every batch has been indexed.
+     *
+     * @throws IllegalStateException if the pipeline aborted
+     */
+    public void finish() throws InterruptedException {
+        for (int i = 0; i < embedConcurrency; i++) {
+            while (!embedQueue.offer(END_OF_INPUT, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                throwIfFailed();
+            }
+        }
+        workers.shutdown();
+        while (!workers.awaitTermination(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            throwIfFailed();
+        }
+        throwIfFailed();
+    }
+
+    /**
+     * Stops the pipeline. After {@link #finish} this only releases the
+     * threads; otherwise (the parser failed) the remaining batches are
+     * dropped and the stages are told to stop, and this waits for them.
+     *
+     * The stages are never interrupted: an interrupt during the index
+     * writer's file I/O would close the store's channels for good.
+     */
+    @Override
+    public void close() {
+        if (workers.isTerminated()) {
+            return;
+        }
+        fail(new IllegalStateException("Import aborted"));
+        boolean interrupted = false;
+        try {
+            // Embedders drop queued batches once failed, so the pills get in
+            for (int i = 0; i < embedConcurrency && runningEmbedders.get() > 0; i++) {
+                try {
+                    while (!embedQueue.offer(END_OF_INPUT, POLL_MILLIS, TimeUnit.MILLISECONDS)
+                            && runningEmbedders.get() > 0) {
+                        // Retry until an embedder takes a batch
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    i--;
+                }
+            }
+            workers.shutdown();
+            while (true) {
+                try {
+                    if (workers.awaitTermination(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void throwIfFailed() {
+        Exception error = fatalError.get();
+        if (error != null) {
+            throw new IllegalStateException(error.getMessage(), error);
+        }
+    }
+
+    // =====================
+    // Stages
+    // =====================
+
+    private void runEmbedder() {
+        try {
+            while (true) {
+                List<Document> batch = embedQueue.take();
+                if (batch == END_OF_INPUT) {
+                    break;
+                }
+                if (fatalError.get() != null) {
+                    continue; // Drain so the parser is never left blocked
+                }
+                try {
+                    List<float[]> vectors = knowledgeBaseService.embedDocuments(batch);
+                    job.addEmbedded(batch.size());
+                    putForIndexing(new EmbeddedBatch(batch, vectors));
+                } catch (RuntimeException e) {
+                    recordFailure(batch, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // The last embedder to finish tells the writer no more batches are coming
+            if (runningEmbedders.decrementAndGet() == 0) {
+                try {
+                    putForIndexing(END_OF_EMBEDDINGS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void putForIndexing(EmbeddedBatch batch) throws InterruptedException {
+        while (!indexQueue.offer(batch, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (writerStopped) {
+                return;
+            }
+        }
+    }
+
+    private void runIndexWriter() {
+        boolean completed = false;
+        try {
+            while (true) {
+                EmbeddedBatch batch = indexQueue.take();
+                if (batch == END_OF_EMBEDDINGS) {
+                    break;
+                }
+                if (fatalError.get() != null) {
+                    continue;
+                }
+                try {
+                    knowledgeBaseService.addEmbeddedDocuments(batch.documents(), batch.vectors());
+                    job.addIndexed(batch.documents().size());
+                    consecutiveFailures.set(0);
+                } catch (RuntimeException e) {
+                    recordFailure(batch.documents(), e);
+                }
+            }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            writerStopped = true;
+            if (!completed) {
+                // Without a writer the queues would fill up and block the parser
+                fail(new IllegalStateException("Index writer stopped unexpectedly"));
+            }
+        }
+    }
+
+    private void recordFailure(List<Document> batch, RuntimeException e) {
+        job.addFailed(batch.size());
+        logger.warn("Import batch of {} rows failed: {}", batch.size(), e.getMessage());
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= MAX_CONSECUTIVE_FAILURES) {
+            fail(new IllegalStateException("Giving up after " + failures + " failed batches: " + e.getMessage(), e));
+        }
+    }
+
+    private void fail(Exception error) {
+        fatalError.compareAndSet(null, error);
+    }
+
+    private record EmbeddedBatch(List<Document> documents, List<float[]> vectors) {
+    }
+}
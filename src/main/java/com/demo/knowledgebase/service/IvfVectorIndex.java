@@ -0,0 +1,658 @@
+package com.demo.knowledgebase.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Inverted-file (IVF) vector index: vectors are partitioned into lists by a
+ * k-means coarse quantizer, and a query only scans the closest lists.
+ *
+ * === HOW IT WORKS ===
+ * - nlist centroids are trained with spherical k-means over the stored vectors
+ * - Each vector is stored in the list of its nearest centroid (a float slab,
+ *   like {@link FlatVectorIndex})
+ * - A query ranks the centroids and scans only the nprobe best lists, exactly
+ * - When the lists to scan are large, they are split across a small pool of
+ *   search threads and the partial top-k results are merged
+ *
+ * Memory is the flat slab plus the centroids; an insert costs one pass over
+ * the centroids. nprobe can be set per query ({@link SearchOptions#nprobe()}).
+ *
+ * === PRODUCT QUANTIZATION ===
+ * With pqSubspaces > 0 the lists hold {@link ProductQuantizer} codes instead
+ * of floats: each vector is stored as m bytes encoding its residual from the
+ * list centroid. Since {@code q . x = q . centroid + q . residual}, a row is
+ * scored as the centroid's score (already known from ranking the lists) plus
+ * m lookups in one per-query table shared by all lists. Returned scores are
+ * these estimates. With nlist = 1 this is a standalone PQ index.
+ *
+ * === FILTERED SEARCH ===
+ * A filter smaller than the probed lists is scored directly, row by row
+ * through each ID's location (exact for float lists). A larger one is
+ * checked while the probed lists are scanned; if they hold fewer than topK
+ * matches, the filter is scored directly after all, so matches in lists that
+ * were not probed are still found.
+ *
+ * === TRAINING ===
+ * Until trainAt vectors have been added, everything sits in a single list and
+ * searches are exact. The add that reaches trainAt hands training to a
+ * background thread and returns: k-means runs once, on a sample of at most
+ * 256 vectors per list, without holding the lock, so searches (still exact
+ * over the single list) and inserts go on meanwhile. The PQ codebooks, if
+ * any, are trained next on the residuals of up to 16384 vectors. Then all
+ * vectors are distributed to their lists (and encoded). A failed training
+ * run is logged and retried on a later add. The index is rebuilt, and so
+ * retrained, on every startup.
+ *
+ * Searches share a read lock; adds and removes take the write lock.
+ */
+public class IvfVectorIndex implements VectorIndex, AutoCloseable {
+
+    private static final int MAX_TRAINING_ROWS_PER_LIST = 256;
+    private static final int PQ_TRAINING_ROWS = 16_384;
+    private static final int PARALLEL_SCAN_ROWS = 16_384;
+
+    private final int dimension;
+    private final int nlist;
+    private final int defaultNprobe;
+    private final int trainAt;
+    private final int iterations;
+    private final int searchThreads;
+    private final int pqSubspaces; // 0 = lists store floats
+    private final ExecutorService searchPool;
+    private final ExecutorService trainer;
+    private final Random random = new Random(42);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private float[] centroids; // null until trained
+    private ProductQuantizer pq; // null until trained, or when not coding
+    private InvertedList[] lists;
+    private final Map<String, Location> locations = new HashMap<>();
+    private boolean training;
+    private long resets; // Lets a training run notice a clear() that happened meanwhile
+
+    public IvfVectorIndex(int dimension, int nlist, int nprobe, int trainAt, int iterations, int searchThreads) {
+        this(dimension, nlist, nprobe, trainAt, iterations, searchThreads, 0);
+    }
+
+    /**
+     * @param pqSubspaces number of PQ subspaces (bytes per vector), or 0 to
+     *                    keep full-precision vectors in the lists
+     */
+    public IvfVectorIndex(int dimension, int nlist, int nprobe, int trainAt, int iterations, int searchThreads,
+            int pqSubspaces) {
+        if (pqSubspaces > 0) {
+            ProductQuantizer.checkSubspaces(dimension, pqSubspaces);
+        }
+        this.dimension = dimension;
+        this.nlist = Math.max(1, nlist);
+        this.defaultNprobe = Math.max(1, Math.min(nprobe, this.nlist));
+        this.trainAt = Math.max(trainAt,
+                Math.max(this.nlist, pqSubspaces > 0 ? ProductQuantizer.CENTROIDS : 0));
+        this.iterations = Math.max(1, iterations);
+        this.searchThreads = Math.max(1, searchThreads);
+        this.pqSubspaces = Math.max(0, pqSubspaces);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.searchPool = Executors.newFixedThreadPool(this.searchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "ivf-search-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.trainer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ivf-trainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reset();
+    }
+
+    @Override
+    public void add(String id, float[] vector) {
+        VectorMath.checkDimension(vector, dimension);
+        float[] normalized = VectorMath.normalize(vector);
+
+        lock.writeLock().lock();
+        try {
+            Location previous = locations.get(id);
+            if (previous != null) {
+                // The new vector may belong to another list
+                removeAt(previous);
+            }
+            int list = centroids == null ? 0 : nearestList(normalized);
+            int row = pq == null
+                    ? lists[list].add(id, normalized)
+                    : lists[list].add(id, encodeResidual(normalized, list, centroids, pq));
+            locations.put(id, new Location(list, row));
+            trainIfDue();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Location location = locations.remove(id);
+            if (location == null) {
+                return false;
+            }
+            removeAt(location);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK) {
+        return search(query, topK, SearchOptions.DEFAULT);
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK, SearchOptions options) {
+        return probeAndScan(query, topK, options, null);
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK, SearchOptions options, Set<String> filter) {
+        return probeAndScan(query, topK, options, filter);
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return locations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = centroids != null ? (long) centroids.length * Float.BYTES : 0;
+            for (InvertedList list : lists) {
+                bytes += list.codes != null ? list.codes.length : (long) list.vectors.length * Float.BYTES;
+            }
+            return Stats.of(locations.size(), 0, 0, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        trainer.shutdownNow();
+        searchPool.shutdownNow();
+    }
+
+    // =====================
+    // Search
+    // =====================
+
+    /**
+     * Ranks the centroids, then scans the nprobe closest lists (or scores the
+     * filter directly, see FILTERED SEARCH).
+     *
+     * @param filter IDs that may be returned (null = all)
+     */
+    private List<Hit> probeAndScan(float[] query, int topK, SearchOptions options, Set<String> filter) {
+        VectorMath.checkDimension(query, dimension);
+        float[] q = VectorMath.normalize(query);
+        int nprobe = options.nprobe() != null ? Math.max(1, Math.min(options.nprobe(), nlist)) : defaultNprobe;
+
+        lock.readLock().lock();
+        try {
+            if (filter != null && (filter.isEmpty() || topK <= 0)) {
+                return List.of();
+            }
+            int[] probe;
+            float[] probeScores;
+            if (centroids == null) {
+                probe = new int[] { 0 };
+                probeScores = new float[1];
+            } else {
+                probe = new int[nprobe];
+                probeScores = new float[nprobe];
+                closestLists(q, probe, probeScores);
+            }
+            Probe plan = new Probe(q, probe, probeScores, pq == null ? null : pq.lookupTable(q), filter);
+            long rows = 0;
+            for (int list : probe) {
+                rows += lists[list].size;
+            }
+            if (filter != null && filter.size() <= rows) {
+                return scoreFilter(plan, topK);
+            }
+            if (rows == 0 || topK <= 0) {
+                return List.of();
+            }
+
+            int tasks = Math.min(searchThreads, probe.length);
+            List<Hit> hits = tasks == 1 || rows < PARALLEL_SCAN_ROWS
+                    ? scan(plan, topK, 0, 1)
+                    : scanInParallel(plan, topK, tasks);
+            if (filter != null && hits.size() < topK) {
+                return scoreFilter(plan, topK);
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Fills {@code probe} with the closest lists, best first, and
+     * {@code scores} with the query's dot product with their centroids.
+     */
+    private void closestLists(float[] q, int[] probe, float[] scores) {
+        TopK best = new TopK(probe.length);
+        for (int c = 0, offset = 0; c < nlist; c++, offset += dimension) {
+            best.offer(c, VectorMath.dot(q, centroids, offset));
+        }
+        best.drainDescending(probe, scores);
+    }
+
+    /**
+     * Scans the lists at positions first, first + step, ... of the probe.
+     */
+    private List<Hit> scan(Probe plan, int topK, int first, int step) {
+        int[] probe = plan.lists();
+        int count = (probe.length - first + step - 1) / step;
+        int[] scanned = new int[count];
+        int[] bases = new int[count]; // Candidate number of each list's first row
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            scanned[i] = probe[first + i * step];
+            bases[i] = total;
+            total += lists[scanned[i]].size;
+        }
+
+        TopK best = new TopK(Math.min(topK, total));
+        Set<String> filter = plan.filter();
+        for (int i = 0; i < count; i++) {
+            InvertedList list = lists[scanned[i]];
+            if (list.codes != null) {
+                float centroidScore = plan.centroidScores()[first + i * step];
+                for (int row = 0, offset = 0; row < list.size; row++, offset += pqSubspaces) {
+                    if (filter == null || filter.contains(list.ids[row])) {
+                        best.offer(bases[i] + row,
+                                centroidScore + ProductQuantizer.score(plan.table(), list.codes, offset, pqSubspaces));
+                    }
+                }
+            } else {
+                for (int row = 0, offset = 0; row < list.size; row++, offset += dimension) {
+                    if (filter == null || filter.contains(list.ids[row])) {
+                        best.offer(bases[i] + row, VectorMath.dot(plan.query(), list.vectors, offset));
+                    }
+                }
+            }
+        }
+
+        int[] candidates = new int[best.size()];
+        float[] scores = new float[best.size()];
+        int n = best.drainDescending(candidates, scores);
+        List<Hit> hits = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int at = Arrays.binarySearch(bases, candidates[i]);
+            // Empty lists share a base with the next one: step to the last match
+            int slot = at >= 0 ? lastWithBase(bases, at) : -at - 2;
+            InvertedList list = lists[scanned[slot]];
+            hits.add(new Hit(list.ids[candidates[i] - bases[slot]], scores[i]));
+        }
+        return hits;
+    }
+
+    /**
+     * Scores the filter's rows wherever they are stored, whichever lists the
+     * probe selected. Costs one row per ID plus, with PQ, one centroid score
+     * per list met.
+     */
+    private List<Hit> scoreFilter(Probe plan, int topK) {
+        float[] centroidScores = null;
+        if (pq != null) {
+            centroidScores = new float[nlist];
+            Arrays.fill(centroidScores, Float.NaN);
+        }
+        List<String> scored = new ArrayList<>();
+        TopK best = new TopK(Math.min(topK, plan.filter().size()));
+        for (String id : plan.filter()) {
+            Location location = locations.get(id);
+            if (location == null) {
+                continue;
+            }
+            InvertedList list = lists[location.list()];
+            float score;
+            if (list.codes != null) {
+                if (Float.isNaN(centroidScores[location.list()])) {
+                    centroidScores[location.list()] = VectorMath.dot(plan.query(), centroids,
+                            location.list() * dimension);
+                }
+                score = centroidScores[location.list()]
+                        + ProductQuantizer.score(plan.table(), list.codes, location.row() * pqSubspaces, pqSubspaces);
+            } else {
+                score = VectorMath.dot(plan.query(), list.vectors, location.row() * dimension);
+            }
+            best.offer(scored.size(), score);
+            scored.add(id);
+        }
+
+        int[] candidates = new int[best.size()];
+        float[] scores = new float[best.size()];
+        int n = best.drainDescending(candidates, scores);
+        List<Hit> hits = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            hits.add(new Hit(scored.get(candidates[i]), scores[i]));
+        }
+        return hits;
+    }
+
+    private static int lastWithBase(int[] bases, int at) {
+        while (at + 1 < bases.length && bases[at + 1] == bases[at]) {
+            at++;
+        }
+        return at;
+    }
+
+    private List<Hit> scanInParallel(Probe plan, int topK, int tasks) {
+        List<Callable<List<Hit>>> scans = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            int first = t;
+            scans.add(() -> scan(plan, topK, first, tasks));
+        }
+        List<Hit> merged = new ArrayList<>(tasks * topK);
+        try {
+            for (Future<List<Hit>> partial : searchPool.invokeAll(scans)) {
+                merged.addAll(partial.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("IVF search failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        merged.sort(Comparator.comparingDouble(Hit::score).reversed());
+        return merged.size() > topK ? new ArrayList<>(merged.subList(0, topK)) : merged;
+    }
+
+    // =====================
+    // Training and storage
+    // =====================
+
+    /**
+     * Starts training in the background once trainAt vectors are stored.
+     * Called under the write lock.
+     */
+    private void trainIfDue() {
+        if (centroids != null || training || trainer.isShutdown() || locations.size() < trainAt) {
+            return;
+        }
+        training = true;
+        trainer.execute(this::train);
+    }
+
+    /**
+     * Trains the centroids (and PQ codebooks) on a sample of the vectors
+     * stored so far (all in list 0), then moves every vector to its nearest list.
+     */
+    private void train() {
+        long start = System.currentTimeMillis();
+        float[] sample;
+        int sampleRows;
+        long resetsAtStart;
+        lock.readLock().lock();
+        try {
+            int wanted = Math.max(nlist * MAX_TRAINING_ROWS_PER_LIST, pqSubspaces > 0 ? PQ_TRAINING_ROWS : 0);
+            sampleRows = Math.min(lists[0].size, wanted);
+            sample = sample(lists[0], sampleRows);
+            resetsAtStart = resets;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        float[] trained;
+        ProductQuantizer trainedPq = null;
+        try {
+            trained = KMeans.train(sample, 0, dimension, sampleRows, dimension, nlist, iterations, true, random);
+            if (pqSubspaces > 0) {
+                trainedPq = ProductQuantizer.train(residuals(sample, sampleRows, trained), sampleRows, dimension,
+                        pqSubspaces, iterations, random);
+            }
+        } catch (RuntimeException e) {
+            // Searches stay exact over the single list; a later add retries
+            System.err.println("IVF training failed: " + e.getMessage());
+            lock.writeLock().lock();
+            try {
+                if (resets == resetsAtStart) {
+                    training = false;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (resets != resetsAtStart) {
+                return; // Cleared while training; start over at trainAt
+            }
+            distribute(trained, trainedPq);
+            training = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("✓ IVF index trained: " + nlist + " lists"
+                + (trainedPq != null ? ", PQ with " + pqSubspaces + " subspaces" : "")
+                + " from " + sampleRows + " vectors in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private void distribute(float[] trained, ProductQuantizer trainedPq) {
+        InvertedList all = lists[0];
+        int[] assignment = IntStream.range(0, all.size).parallel()
+                .map(row -> KMeans.nearest(trained, nlist, dimension, all.vectors, row * dimension, true))
+                .toArray();
+        byte[][] codes = trainedPq == null ? null : IntStream.range(0, all.size).parallel()
+                .mapToObj(row -> encodeResidual(Arrays.copyOfRange(all.vectors, row * dimension,
+                        (row + 1) * dimension), assignment[row], trained, trainedPq))
+                .toArray(byte[][]::new);
+
+        lists = new InvertedList[nlist];
+        for (int c = 0; c < nlist; c++) {
+            lists[c] = trainedPq == null
+                    ? new InvertedList(dimension, false)
+                    : new InvertedList(pqSubspaces, true);
+        }
+        float[] vector = new float[dimension];
+        for (int row = 0; row < all.size; row++) {
+            int list = assignment[row];
+            int at;
+            if (codes != null) {
+                at = lists[list].add(all.ids[row], codes[row]);
+            } else {
+                System.arraycopy(all.vectors, row * dimension, vector, 0, dimension);
+                at = lists[list].add(all.ids[row], vector);
+            }
+            locations.put(all.ids[row], new Location(list, at));
+        }
+        centroids = trained;
+        pq = trainedPq;
+    }
+
+    /**
+     * Returns each sample row minus its nearest centroid.
+     */
+    private float[] residuals(float[] sample, int rows, float[] trained) {
+        float[] residuals = new float[rows * dimension];
+        IntStream.range(0, rows).parallel().forEach(row -> {
+            int offset = row * dimension;
+            int centroid = KMeans.nearest(trained, nlist, dimension, sample, offset, true) * dimension;
+            for (int d = 0; d < dimension; d++) {
+                residuals[offset + d] = sample[offset + d] - trained[centroid + d];
+            }
+        });
+        return residuals;
+    }
+
+    private byte[] encodeResidual(float[] vector, int list, float[] centroids, ProductQuantizer quantizer) {
+        float[] residual = new float[dimension];
+        int centroid = list * dimension;
+        for (int d = 0; d < dimension; d++) {
+            residual[d] = vector[d] - centroids[centroid + d];
+        }
+        byte[] code = new byte[pqSubspaces];
+        quantizer.encode(residual, code, 0);
+        return code;
+    }
+
+    /**
+     * Copies {@code rows} distinct random rows of the list.
+     */
+    private float[] sample(InvertedList list, int rows) {
+        // Partial Fisher-Yates shuffle picks distinct rows
+        int[] order = IntStream.range(0, list.size).toArray();
+        float[] sample = new float[rows * dimension];
+        for (int i = 0; i < rows; i++) {
+            int j = i + random.nextInt(order.length - i);
+            int picked = order[j];
+            order[j] = order[i];
+            order[i] = picked;
+            System.arraycopy(list.vectors, picked * dimension, sample, i * dimension, dimension);
+        }
+        return sample;
+    }
+
+    private int nearestList(float[] vector) {
+        return KMeans.nearest(centroids, nlist, dimension, vector, 0, true);
+    }
+
+    private void removeAt(Location location) {
+        String moved = lists[location.list()].removeAt(location.row());
+        if (moved != null) {
+            locations.put(moved, location);
+        }
+    }
+
+    private void reset() {
+        resets++;
+        training = false;
+        centroids = null;
+        pq = null;
+        lists = new InvertedList[] { new InvertedList(dimension, false) };
+        locations.clear();
+    }
+
+    private record Location(int list, int row) {
+    }
+
+    /**
+     * What one search scans: the query, the probed lists with their centroid
+     * scores, the PQ lookup table (null when lists hold floats) and the IDs
+     * that may be returned (null = all).
+     */
+    private record Probe(float[] query, int[] lists, float[] centroidScores, float[] table, Set<String> filter) {
+    }
+
+    /**
+     * One inverted list: a dense slab (floats, or PQ codes) plus the ID of each row.
+     */
+    private static final class InvertedList {
+        private static final int INITIAL_CAPACITY = 16;
+
+        final int width; // Floats or code bytes per row
+        float[] vectors; // null when coded
+        byte[] codes; // null when not coded
+        String[] ids;
+        int size;
+
+        InvertedList(int width, boolean coded) {
+            this.width = width;
+            if (coded) {
+                codes = new byte[INITIAL_CAPACITY * width];
+            } else {
+                vectors = new float[INITIAL_CAPACITY * width];
+            }
+            ids = new String[INITIAL_CAPACITY];
+        }
+
+        int add(String id, float[] vector) {
+            grow();
+            System.arraycopy(vector, 0, vectors, size * width, width);
+            ids[size] = id;
+            return size++;
+        }
+
+        int add(String id, byte[] code) {
+            grow();
+            System.arraycopy(code, 0, codes, size * width, width);
+            ids[size] = id;
+            return size++;
+        }
+
+        private void grow() {
+            if (size < ids.length) {
+                return;
+            }
+            if (codes != null) {
+                codes = Arrays.copyOf(codes, size * 2 * width);
+            } else {
+                vectors = Arrays.copyOf(vectors, size * 2 * width);
+            }
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+
+        /**
+         * Removes a row by moving the last row into its place.
+         *
+         * @return the ID of the moved row, or null if none moved
+         */
+        String removeAt(int row) {
+            int last = --size;
+            String moved = null;
+            if (row != last) {
+                if (codes != null) {
+                    System.arraycopy(codes, last * width, codes, row * width, width);
+                } else {
+                    System.arraycopy(vectors, last * width, vectors, row * width, width);
+                }
+                ids[row] = ids[last];
+                moved = ids[row];
+            }
+            ids[last] = null;
+            return moved;
+        }
+    }
+}
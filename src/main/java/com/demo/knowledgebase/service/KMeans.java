@@ -0,0 +1,141 @@
+package com.demo.knowledgebase.service;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Lloyd's k-means over row-major float data, used to train index quantizers.
+ *
+ * Two metrics:
+ * - spherical: rows are assigned by largest dot product and centroids are
+ *   re-normalized, which suits normalized embeddings (IVF lists)
+ * - Euclidean: rows are assigned by smallest squared distance (PQ codebooks)
+ *
+ * Initial centroids are distinct random rows; a cluster that ends up empty is
+ * re-seeded with a random row. Assignment runs in parallel over rows.
+ */
+final class KMeans {
+
+    private KMeans() {
+    }
+
+    /**
+     * Trains k centroids.
+     *
+     * @param data      row-major training rows
+     * @param offset    offset of the first component of each row within its stride
+     * @param stride    distance between consecutive rows in {@code data}
+     * @param rows      number of rows (must be at least k)
+     * @param dimension components per row used for training
+     * @return k centroids, row-major ({@code k * dimension})
+     */
+    static float[] train(float[] data, int offset, int stride, int rows, int dimension, int k,
+            int iterations, boolean spherical, Random random) {
+        if (rows < k) {
+            throw new IllegalArgumentException("Need at least " + k + " rows to train, got " + rows);
+        }
+        float[] centroids = new float[k * dimension];
+        int[] picks = random.ints(0, rows).distinct().limit(k).toArray();
+        for (int c = 0; c < k; c++) {
+            System.arraycopy(data, picks[c] * stride + offset, centroids, c * dimension, dimension);
+        }
+
+        int[] assignment = new int[rows];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            float[] current = centroids;
+            IntStream.range(0, rows).parallel().forEach(row ->
+                    assignment[row] = nearest(current, k, dimension, data, row * stride + offset, spherical));
+
+            float[] sums = new float[k * dimension];
+            int[] counts = new int[k];
+            for (int row = 0; row < rows; row++) {
+                int c = assignment[row];
+                counts[c]++;
+                int from = row * stride + offset;
+                int to = c * dimension;
+                for (int d = 0; d < dimension; d++) {
+                    sums[to + d] += data[from + d];
+                }
+            }
+
+            for (int c = 0; c < k; c++) {
+                int to = c * dimension;
+                if (counts[c] == 0) {
+                    System.arraycopy(data, random.nextInt(rows) * stride + offset, sums, to, dimension);
+                    counts[c] = 1;
+                }
+                for (int d = 0; d < dimension; d++) {
+                    sums[to + d] /= counts[c];
+                }
+                if (spherical) {
+                    normalizeInPlace(sums, to, dimension);
+                }
+            }
+            centroids = sums;
+        }
+        return centroids;
+    }
+
+    /**
+     * Returns the centroid closest to the row at {@code offset}.
+     */
+    static int nearest(float[] centroids, int k, int dimension, float[] row, int offset, boolean spherical) {
+        int best = 0;
+        float bestScore = Float.NEGATIVE_INFINITY;
+        for (int c = 0; c < k; c++) {
+            float score = spherical
+                    ? dot(centroids, c * dimension, row, offset, dimension)
+                    : -squaredDistance(centroids, c * dimension, row, offset, dimension);
+            if (score > bestScore) {
+                bestScore = score;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+            s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+            s2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+            s3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static float squaredDistance(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float s0 = 0, s1 = 0;
+        int i = 0;
+        for (; i + 1 < length; i += 2) {
+            float d0 = a[aOffset + i] - b[bOffset + i];
+            float d1 = a[aOffset + i + 1] - b[bOffset + i + 1];
+            s0 += d0 * d0;
+            s1 += d1 * d1;
+        }
+        for (; i < length; i++) {
+            float d = a[aOffset + i] - b[bOffset + i];
+            s0 += d * d;
+        }
+        return s0 + s1;
+    }
+
+    private static void normalizeInPlace(float[] values, int offset, int length) {
+        double norm = 0;
+        for (int i = 0; i < length; i++) {
+            norm += values[offset + i] * values[offset + i];
+        }
+        if (norm == 0) {
+            return;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < length; i++) {
+            values[offset + i] *= scale;
+        }
+    }
+}
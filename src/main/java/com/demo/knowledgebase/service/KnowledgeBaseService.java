@@ -2,10 +2,16 @@ package com.demo.knowledgebase.service;
 
 import com.demo.knowledgebase.model.Document;
 import com.demo.knowledgebase.model.SearchResult;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -16,14 +22,41 @@ import java.util.stream.Collectors;
  * - Semantic search functionality
  * 
  * It delegates to the VectorStore for storage and search operations.
+ * 
+ * === RESULT CACHE ===
+ * Search results are cached per (query, maxResults, category, options).
+ * Every mutation bumps an index generation counter that is part of the cache
+ * key, so results computed before a change are simply never looked up again.
+ *
+ * The same counter versions the content for HTTP conditional requests
+ * ({@link #getContentVersion()}).
  */
 @Service
 public class KnowledgeBaseService {
 
     private final VectorStore vectorStore;
+    private final EmbeddingService embeddingService;
+    private final HttpClientMetrics httpClientMetrics;
+    private final StatsService statsService;
+
+    // Bumped after every mutation; part of every result cache key
+    private final AtomicLong generation = new AtomicLong();
+    // The generation restarts at 0, so versions handed out name the process too
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final ExpiringLruCache<SearchCacheKey, List<SearchResult>> resultCache;
 
-    public KnowledgeBaseService(VectorStore vectorStore) {
+    public KnowledgeBaseService(
+            VectorStore vectorStore,
+            EmbeddingService embeddingService,
+            HttpClientMetrics httpClientMetrics,
+            StatsService statsService,
+            @Value("${search.result-cache.max-size:1000}") int resultCacheSize,
+            @Value("${search.result-cache.ttl-seconds:600}") long resultCacheTtlSeconds) {
         this.vectorStore = vectorStore;
+        this.embeddingService = embeddingService;
+        this.httpClientMetrics = httpClientMetrics;
+        this.statsService = statsService;
+        this.resultCache = new ExpiringLruCache<>(resultCacheSize, resultCacheTtlSeconds, TimeUnit.SECONDS);
     }
 
     /**
@@ -31,7 +64,11 @@ public class KnowledgeBaseService {
      */
     public Document addDocument(String title, String content, String category, String createdBy) {
         Document document = Document.create(title, content, category, createdBy);
-        vectorStore.addDocument(document);
+        try {
+            vectorStore.addDocument(document);
+        } finally {
+            generation.incrementAndGet();
+        }
         return document;
     }
 
@@ -39,7 +76,29 @@ public class KnowledgeBaseService {
      * Adds multiple documents at once.
      */
     public void addDocuments(List<Document> documents) {
-        vectorStore.addDocuments(documents);
+        try {
+            vectorStore.addDocuments(documents);
+        } finally {
+            generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * Computes embeddings for a batch of documents (first half of addDocuments).
+     */
+    public List<float[]> embedDocuments(List<Document> documents) {
+        return vectorStore.embedDocuments(documents);
+    }
+
+    /**
+     * Adds documents whose embeddings were computed by {@link #embedDocuments}.
+     */
+    public void addEmbeddedDocuments(List<Document> documents, List<float[]> vectors) {
+        try {
+            vectorStore.addEmbeddedDocuments(documents, vectors);
+        } finally {
+            generation.incrementAndGet();
+        }
     }
 
     /**
@@ -56,36 +115,71 @@ public class KnowledgeBaseService {
         return vectorStore.getAllDocuments();
     }
 
+    /**
+     * Returns up to limit documents in ID order, after the given ID (null = from the first).
+     */
+    public List<Document> getDocumentPage(String afterId, int limit) {
+        return vectorStore.getDocumentPage(afterId, limit);
+    }
+
+    /**
+     * Passes up to limit documents to the consumer in ID order, after the
+     * given ID (null = from the first), one at a time.
+     */
+    public void forEachDocument(String afterId, long limit, Consumer<Document> consumer) {
+        vectorStore.forEachDocument(afterId, limit, consumer);
+    }
+
     /**
      * Deletes a document by ID.
      */
     public boolean deleteDocument(String id) {
         try {
-            // Always try to delete from FAISS - documents may not be in local cache
             vectorStore.removeDocument(id);
             return true;
         } catch (Exception e) {
             System.err.println("Error deleting document: " + e.getMessage());
             return false;
+        } finally {
+            generation.incrementAndGet();
         }
     }
 
     /**
-     * Updates a document by deleting and re-adding it with new content.
-     * The FAISS embedding is regenerated for the updated text.
+     * Deletes every document in the knowledge base.
+     */
+    public void clearIndex() {
+        try {
+            vectorStore.clearIndex();
+        } finally {
+            generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * Updates a document's title, content and category, keeping its ID and
+     * when and by whom it was created. The embedding is regenerated for the
+     * updated text and replaces the old vector in the in-process index.
+     *
+     * @return the updated document, or empty if no document has this ID
      */
     public Optional<Document> updateDocument(String id, String title, String content, String category) {
         try {
-            // Delete old document from FAISS
-            vectorStore.removeDocument(id);
+            Optional<Document> existing = vectorStore.getDocument(id);
+            if (existing.isEmpty()) {
+                return Optional.empty();
+            }
 
-            // Create updated document with same ID and original timestamp
-            Document updated = new Document(id, title, content, category, java.time.LocalDateTime.now(), null);
+            // Adding under the same ID replaces the old document and vector
+            Document updated = new Document(id, title, content, category, existing.get().getCreatedAt(),
+                    existing.get().getCreatedBy());
             vectorStore.addDocument(updated);
             return Optional.of(updated);
         } catch (Exception e) {
             System.err.println("Error updating document: " + e.getMessage());
             return Optional.empty();
+        } finally {
+            generation.incrementAndGet();
         }
     }
 
@@ -98,25 +192,44 @@ public class KnowledgeBaseService {
      * words aren't present.
      */
     public List<SearchResult> semanticSearch(String query, int maxResults) {
-        return vectorStore.search(query, maxResults);
+        return semanticSearch(query, maxResults, null, SearchOptions.DEFAULT);
     }
 
     /**
-     * Performs semantic search with post-FAISS category filtering.
-     * Fetches extra results from FAISS to compensate for filtering,
-     * then trims to the requested maxResults.
+     * Performs semantic search within a category (null or blank = all).
+     * The index only considers the category's documents, so up to
+     * maxResults of them are returned however rare the category is.
      */
     public List<SearchResult> semanticSearch(String query, int maxResults, String category) {
-        if (category == null || category.isBlank()) {
-            return semanticSearch(query, maxResults);
+        return semanticSearch(query, maxResults, category, SearchOptions.DEFAULT);
+    }
+
+    /**
+     * Performs semantic search with category filtering and per-query index
+     * options (e.g. a higher HNSW efSearch for better recall).
+     */
+    public List<SearchResult> semanticSearch(String query, int maxResults, String category,
+            SearchOptions options) {
+        // Read the generation before searching: if a mutation lands meanwhile,
+        // the entry is stored under the old generation and never served
+        SearchCacheKey key = new SearchCacheKey(
+                EmbeddingService.normalizeQuery(query),
+                maxResults,
+                category == null || category.isBlank() ? null : category.toLowerCase(Locale.ROOT),
+                options,
+                generation.get());
+
+        List<SearchResult> cached = resultCache.get(key);
+        if (cached != null) {
+            return cached;
         }
-        // Fetch more results from FAISS to ensure enough remain after filtering
-        int fetchCount = maxResults * 3;
-        List<SearchResult> allResults = vectorStore.search(query, fetchCount);
-        return allResults.stream()
-                .filter(r -> category.equalsIgnoreCase(r.getDocument().getCategory()))
-                .limit(maxResults)
-                .collect(Collectors.toList());
+
+        List<SearchResult> results = List.copyOf(vectorStore.search(query, maxResults, options, category));
+        // An empty list may just mean the embedding server was unreachable
+        if (!results.isEmpty()) {
+            resultCache.put(key, results);
+        }
+        return results;
     }
 
     /**
@@ -127,39 +240,75 @@ public class KnowledgeBaseService {
     }
 
     /**
-     * Returns all distinct categories from the documents.
+     * Returns all distinct categories from the documents, sorted.
      */
     public List<String> getCategories() {
-        return vectorStore.getAllDocuments().stream()
-                .map(Document::getCategory)
-                .filter(c -> c != null && !c.isBlank())
-                .distinct()
-                .sorted()
+        return vectorStore.getCategoryCounts().stream()
+                .map(DocumentStore.Count::name)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Gets statistics about the knowledge base.
+     * Returns the number of documents per category, sorted by category.
+     */
+    public List<DocumentStore.Count> getCategoryCounts() {
+        return vectorStore.getCategoryCounts();
+    }
+
+    /**
+     * Returns the number of documents per creator, sorted by creator.
+     */
+    public List<DocumentStore.Count> getCreatorCounts() {
+        return vectorStore.getCreatorCounts();
+    }
+
+    /**
+     * Gets statistics about the knowledge base. Every figure is read from
+     * memory; the embedding server status is refreshed in the background.
      */
     public KnowledgeBaseStats getStats() {
         return new KnowledgeBaseStats(
                 vectorStore.getDocumentCount(),
-                vectorStore.getEmbeddingDimension());
+                vectorStore.getEmbeddingDimension(),
+                generation.get(),
+                vectorStore.getDocumentStoreStats(),
+                vectorStore.getIndexStats(),
+                vectorStore.getBinaryIndexStats(),
+                embeddingService.getQueryCacheStats(),
+                resultCache.stats(),
+                vectorStore.getSearchStats(),
+                httpClientMetrics.snapshot(),
+                statsService.getEmbeddingServer(),
+                statsService.getLastImport());
     }
 
     /**
-     * Reloads documents from FAISS server into local cache.
-     * Called after CSV import to sync the cache.
+     * Returns a version of the documents and categories that changes whenever
+     * they may have: after every mutation, when the one-time import of
+     * documents persisted on the Python server completes, and across
+     * restarts. Read it before reading the content, so the content is never
+     * older than the version.
      */
-    public void reloadDocuments() {
-        // The VectorStore handles caching, this is a placeholder
-        // In a full implementation, you'd sync with the FAISS server
-        System.out.println("✓ Documents cache reloaded");
+    public String getContentVersion() {
+        return instance + "-" + generation.get() + (vectorStore.isIndexLoaded() ? "" : "-unloaded");
     }
 
     /**
      * Simple stats record.
      */
-    public record KnowledgeBaseStats(int documentCount, int embeddingDimension) {
+    public record KnowledgeBaseStats(int documentCount, int embeddingDimension, long indexGeneration,
+            DocumentStore.Stats documentStore, VectorIndex.Stats vectorIndex, VectorIndex.Stats binaryIndex,
+            ExpiringLruCache.Stats queryEmbeddingCache, ExpiringLruCache.Stats searchResultCache,
+            SearchMetrics.Stats search,
+            Map<String, HttpClientMetrics.Stats> embeddingServerCalls,
+            StatsService.ServerStatus embeddingServer, StatsService.ImportThroughput lastImport) {
+    }
+
+    /**
+     * Result cache key. Query and category are normalized so equivalent
+     * requests share an entry.
+     */
+    private record SearchCacheKey(String query, int maxResults, String category, SearchOptions options,
+            long generation) {
     }
 }
@@ -0,0 +1,207 @@
+package com.demo.knowledgebase.service;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs multilingual-e5-small inside the JVM with ONNX Runtime.
+ *
+ * === PIPELINE ===
+ * 1. Tokenize with the model's own tokenizer.json (HuggingFace tokenizers via DJL)
+ * 2. Run the transformer on the CPU (ONNX Runtime)
+ * 3. Mean-pool the token vectors, ignoring padding
+ * 4. L2-normalize, exactly like sentence-transformers does in the Python server
+ *
+ * Texts must already carry their "query: " / "passage: " prefix.
+ *
+ * Large requests are split into micro-batches that run in parallel on a
+ * dedicated pool, so model inference never runs on request threads and the
+ * number of concurrent inferences is bounded.
+ *
+ * The model files come from the Hugging Face repo intfloat/multilingual-e5-small
+ * (onnx/model.onnx and tokenizer.json).
+ */
+public class OnnxEmbeddingProvider implements EmbeddingProvider {
+
+    private static final String INPUT_IDS = "input_ids";
+    private static final String ATTENTION_MASK = "attention_mask";
+    private static final String TOKEN_TYPE_IDS = "token_type_ids";
+
+    private final OrtEnvironment environment;
+    private final OrtSession session;
+    private final HuggingFaceTokenizer tokenizer;
+    private final boolean needsTokenTypes;
+    private final int dimension;
+    private final int batchSize;
+    private final ExecutorService inferencePool;
+
+    public OnnxEmbeddingProvider(Path modelPath, Path tokenizerPath, int dimension, int maxLength, int batchSize,
+            int threads) throws OrtException, IOException {
+        this.environment = OrtEnvironment.getEnvironment();
+
+        OrtSession.SessionOptions options = new OrtSession.SessionOptions();
+        // Parallelism comes from running micro-batches side by side
+        options.setIntraOpNumThreads(1);
+        options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+        this.session = environment.createSession(modelPath.toString(), options);
+        this.needsTokenTypes = session.getInputNames().contains(TOKEN_TYPE_IDS);
+
+        this.tokenizer = HuggingFaceTokenizer.builder()
+                .optTokenizerPath(tokenizerPath)
+                .optMaxLength(maxLength)
+                .optTruncation(true)
+                .optPadding(true)
+                .build();
+
+        this.dimension = dimension;
+        checkOutputWidth(modelPath);
+
+        this.batchSize = Math.max(1, batchSize);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.inferencePool = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "onnx-embed-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public List<float[]> embed(List<String> texts) {
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+        List<Future<List<float[]>>> batches = new ArrayList<>();
+        for (int start = 0; start < texts.size(); start += batchSize) {
+            List<String> batch = texts.subList(start, Math.min(start + batchSize, texts.size()));
+            batches.add(inferencePool.submit(() -> infer(batch)));
+        }
+
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        try {
+            for (Future<List<float[]>> batch : batches) {
+                vectors.addAll(batch.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batches.forEach(batch -> batch.cancel(true));
+            throw new IllegalStateException("Interrupted while embedding", e);
+        } catch (ExecutionException e) {
+            batches.forEach(batch -> batch.cancel(true));
+            throw new IllegalStateException("ONNX inference failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return vectors;
+    }
+
+    /**
+     * Embeds one probe text so a model that does not produce vectors of the
+     * configured dimension fails at startup instead of on the first write.
+     */
+    private void checkOutputWidth(Path modelPath) throws OrtException {
+        int width;
+        try {
+            width = infer(List.of("query: dimension check")).get(0).length;
+        } catch (OrtException | RuntimeException e) {
+            tokenizer.close();
+            session.close();
+            throw e;
+        }
+        if (width != dimension) {
+            tokenizer.close();
+            session.close();
+            throw new IllegalStateException("ONNX model " + modelPath + " produces " + width
+                    + "-dimensional vectors but vector.index.dimension is " + dimension);
+        }
+    }
+
+    private List<float[]> infer(List<String> texts) throws OrtException {
+        Encoding[] encodings = tokenizer.batchEncode(texts);
+        int batch = encodings.length;
+        int length = encodings[0].getIds().length; // Padded to the longest text
+
+        long[][] inputIds = new long[batch][];
+        long[][] attentionMask = new long[batch][];
+        long[][] tokenTypes = new long[batch][];
+        for (int i = 0; i < batch; i++) {
+            inputIds[i] = encodings[i].getIds();
+            attentionMask[i] = encodings[i].getAttentionMask();
+            tokenTypes[i] = encodings[i].getTypeIds();
+        }
+
+        Map<String, OnnxTensor> inputs = new HashMap<>();
+        try {
+            inputs.put(INPUT_IDS, OnnxTensor.createTensor(environment, inputIds));
+            inputs.put(ATTENTION_MASK, OnnxTensor.createTensor(environment, attentionMask));
+            if (needsTokenTypes) {
+                inputs.put(TOKEN_TYPE_IDS, OnnxTensor.createTensor(environment, tokenTypes));
+            }
+            try (OrtSession.Result result = session.run(inputs)) {
+                // last_hidden_state: [batch][tokens][dimension]
+                float[][][] hidden = (float[][][]) result.get(0).getValue();
+                List<float[]> vectors = new ArrayList<>(batch);
+                for (int i = 0; i < batch; i++) {
+                    vectors.add(meanPool(hidden[i], attentionMask[i], length));
+                }
+                return vectors;
+            }
+        } finally {
+            inputs.values().forEach(OnnxTensor::close);
+        }
+    }
+
+    /**
+     * Averages the vectors of the real (non-padding) tokens, then normalizes.
+     */
+    private static float[] meanPool(float[][] tokens, long[] mask, int length) {
+        float[] pooled = new float[tokens[0].length];
+        int count = 0;
+        for (int t = 0; t < length; t++) {
+            if (mask[t] == 0) {
+                continue;
+            }
+            float[] token = tokens[t];
+            for (int d = 0; d < pooled.length; d++) {
+                pooled[d] += token[d];
+            }
+            count++;
+        }
+        if (count > 0) {
+            for (int d = 0; d < pooled.length; d++) {
+                pooled[d] /= count;
+            }
+        }
+        return VectorMath.normalize(pooled);
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public String description() {
+        return "in-process ONNX Runtime (batches of " + batchSize + ")";
+    }
+
+    @Override
+    public void close() throws OrtException {
+        inferencePool.shutdownNow();
+        tokenizer.close();
+        session.close();
+    }
+}
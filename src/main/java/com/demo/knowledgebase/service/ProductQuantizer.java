@@ -0,0 +1,120 @@
+package com.demo.knowledgebase.service;
+
+import java.util.Random;
+
+/**
+ * Product quantizer: compresses a vector to m bytes.
+ *
+ * The vector is cut into m subspaces of dimension/m components. Each
+ * subspace has its own codebook of 256 centroids (trained with k-means), and
+ * a sub-vector is stored as the index of its nearest centroid. With 384
+ * dimensions and m = 48, a vector takes 48 bytes instead of 1536.
+ *
+ * === ASYMMETRIC DISTANCE COMPUTATION ===
+ * Queries are not quantized. For each query a lookup table holds the dot
+ * product of each query sub-vector with each centroid of its subspace
+ * (m * 256 floats); the score of a stored vector is then the sum of m table
+ * entries picked by its codes - no decoding, no multiplications.
+ *
+ * Immutable once trained.
+ */
+final class ProductQuantizer {
+
+    static final int CENTROIDS = 256;
+
+    private final int dimension;
+    private final int m;
+    private final int subDimension;
+    private final float[] codebooks; // [subspace][centroid][component]
+
+    private ProductQuantizer(int dimension, int m, float[] codebooks) {
+        this.dimension = dimension;
+        this.m = m;
+        this.subDimension = dimension / m;
+        this.codebooks = codebooks;
+    }
+
+    /**
+     * Trains the codebooks on row-major training vectors.
+     *
+     * @param rows number of training vectors (at least {@value #CENTROIDS})
+     */
+    static ProductQuantizer train(float[] data, int rows, int dimension, int m, int iterations, Random random) {
+        checkSubspaces(dimension, m);
+        int subDimension = dimension / m;
+        float[] codebooks = new float[m * CENTROIDS * subDimension];
+        for (int j = 0; j < m; j++) {
+            float[] centroids = KMeans.train(data, j * subDimension, dimension, rows, subDimension, CENTROIDS,
+                    iterations, false, random);
+            System.arraycopy(centroids, 0, codebooks, j * CENTROIDS * subDimension, centroids.length);
+        }
+        return new ProductQuantizer(dimension, m, codebooks);
+    }
+
+    static void checkSubspaces(int dimension, int m) {
+        if (m <= 0 || dimension % m != 0) {
+            throw new IllegalArgumentException(
+                    "PQ subspaces (m=" + m + ") must divide the dimension (" + dimension + ")");
+        }
+    }
+
+    int codeSize() {
+        return m;
+    }
+
+    /**
+     * Writes the m codes of the vector at {@code offset}.
+     */
+    void encode(float[] vector, byte[] codes, int offset) {
+        for (int j = 0; j < m; j++) {
+            int base = j * CENTROIDS * subDimension;
+            int best = 0;
+            float bestDistance = Float.POSITIVE_INFINITY;
+            for (int c = 0; c < CENTROIDS; c++) {
+                float distance = KMeans.squaredDistance(codebooks, base + c * subDimension,
+                        vector, j * subDimension, subDimension);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = c;
+                }
+            }
+            codes[offset + j] = (byte) best;
+        }
+    }
+
+    /**
+     * Builds the per-query table: entry {@code j * 256 + c} is the dot product
+     * of query subspace j with centroid c of that subspace.
+     */
+    float[] lookupTable(float[] query) {
+        float[] table = new float[m * CENTROIDS];
+        for (int j = 0; j < m; j++) {
+            int base = j * CENTROIDS * subDimension;
+            for (int c = 0; c < CENTROIDS; c++) {
+                table[j * CENTROIDS + c] = KMeans.dot(codebooks, base + c * subDimension,
+                        query, j * subDimension, subDimension);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Approximate dot product of the query with the coded vector at {@code offset}.
+     */
+    static float score(float[] table, byte[] codes, int offset, int m) {
+        float s0 = 0, s1 = 0;
+        int j = 0;
+        for (; j + 1 < m; j += 2) {
+            s0 += table[j * CENTROIDS + (codes[offset + j] & 0xFF)];
+            s1 += table[(j + 1) * CENTROIDS + (codes[offset + j + 1] & 0xFF)];
+        }
+        if (j < m) {
+            s0 += table[j * CENTROIDS + (codes[offset + j] & 0xFF)];
+        }
+        return s0 + s1;
+    }
+
+    int dimension() {
+        return dimension;
+    }
+}
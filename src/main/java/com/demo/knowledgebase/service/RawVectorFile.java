@@ -0,0 +1,172 @@
+package com.demo.knowledgebase.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Full-precision vectors on disk, one fixed-size float32 slot after another.
+ *
+ * Slot i starts at byte {@code i * dimension * 4} (little-endian). Reads and
+ * writes use positional FileChannel calls, which are safe to run from
+ * several threads at once. Slot allocation is not thread-safe: callers
+ * serialize allocate/release/truncate (the indexes do so under their write lock).
+ *
+ * Interrupting a thread in the middle of channel I/O closes the channel for
+ * every thread. Each operation then reopens the file and retries, and the
+ * interrupted thread gets its interrupt flag back afterwards, so one
+ * cancelled request cannot break the index for the others.
+ *
+ * The file is scratch space: it is truncated when opened, since the index
+ * is rebuilt on startup.
+ */
+final class RawVectorFile implements AutoCloseable {
+
+    private final Path path;
+    private final int dimension;
+    private final int stride;
+    private volatile FileChannel channel;
+    private boolean closed; // Guarded by this
+
+    // Slots freed by release(), reused before the file grows
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private int nextSlot;
+
+    RawVectorFile(Path path, int dimension) {
+        this.path = path;
+        this.dimension = dimension;
+        this.stride = dimension * Float.BYTES;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open vector file " + path, e);
+        }
+    }
+
+    /**
+     * Returns a free slot, reusing released ones first.
+     */
+    int allocate() {
+        return freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextSlot++;
+    }
+
+    void release(int slot) {
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Returns a buffer sized for one slot, to be reused across reads by one thread.
+     */
+    ByteBuffer newBuffer() {
+        return ByteBuffer.allocate(stride).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    void write(int slot, float[] vector, ByteBuffer buffer) {
+        long start = (long) slot * stride;
+        run("write", channel -> {
+            buffer.clear();
+            buffer.asFloatBuffer().put(vector, 0, dimension);
+            long position = start;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        });
+    }
+
+    void read(int slot, float[] vector, ByteBuffer buffer) {
+        long start = (long) slot * stride;
+        run("read", channel -> {
+            buffer.clear();
+            long position = start;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of file at slot " + slot);
+                }
+                position += read;
+            }
+        });
+        buffer.flip();
+        buffer.asFloatBuffer().get(vector, 0, dimension);
+    }
+
+    /**
+     * Drops all slots.
+     */
+    void truncate() {
+        freeSlotCount = 0;
+        nextSlot = 0;
+        run("truncate", channel -> channel.truncate(0));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+
+    /**
+     * Runs one operation, reopening the channel and retrying it whenever an
+     * interrupt (of this or another thread) closed the channel underneath it.
+     */
+    private void run(String action, ChannelOperation operation) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                FileChannel current = channel;
+                try {
+                    operation.run(current);
+                    return;
+                } catch (ClosedByInterruptException e) {
+                    // Clear the flag so the retry is not interrupted again; restored below
+                    Thread.interrupted();
+                    interrupted = true;
+                    reopen(current);
+                } catch (ClosedChannelException e) {
+                    reopen(current);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot " + action + " vector file " + path, e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Replaces the failed channel unless another thread already did or the
+     * file was closed on purpose. The file is not truncated again.
+     */
+    private synchronized void reopen(FileChannel failed) throws IOException {
+        if (closed) {
+            throw new ClosedChannelException();
+        }
+        if (channel == failed) {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            System.out.println("  → Reopened vector file after an interrupted operation: " + path);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChannelOperation {
+        void run(FileChannel channel) throws IOException;
+    }
+}
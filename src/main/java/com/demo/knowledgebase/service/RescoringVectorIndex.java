@@ -0,0 +1,303 @@
+package com.demo.knowledgebase.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Base of the indexes that scan compact codes in memory and rescore the best
+ * candidates with the full-precision vectors kept on disk.
+ *
+ * === HOW IT WORKS ===
+ * Every row has a code (its layout is up to the subclass), an ID and a slot in
+ * the {@link RawVectorFile}. Search runs in two passes:
+ * 1. Score rows by their codes and keep the best topK * candidate factor
+ * 2. Read those rows' full-precision vectors from disk and rerank them by
+ *    their exact dot product
+ *
+ * So returned scores are exact; the codes only decide which candidates get
+ * rescored. A filtered search scores only the filter's rows in pass 1.
+ * Removing a row moves the last row into its place, so rows stay dense and
+ * scans never skip holes.
+ *
+ * Searches share a read lock; adds and removes take the write lock.
+ */
+abstract class RescoringVectorIndex implements VectorIndex, AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    protected final int dimension;
+    private final RawVectorFile vectorFile;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private String[] ids;
+    private int[] slots; // Row -> slot in the vector file
+    private final Map<String, Integer> rowsById = new HashMap<>();
+    private int size;
+    private final ByteBuffer writeBuffer;
+
+    protected RescoringVectorIndex(int dimension, Path vectorFilePath) {
+        this.dimension = dimension;
+        this.vectorFile = new RawVectorFile(vectorFilePath, dimension);
+        this.writeBuffer = vectorFile.newBuffer();
+    }
+
+    /**
+     * Writes the code of the (normalized) vector for the given row.
+     */
+    protected abstract void encodeRow(float[] vector, int row);
+
+    /**
+     * Copies the code of row {@code from} over row {@code to}.
+     */
+    protected abstract void moveRow(int from, int to);
+
+    /**
+     * Grows the code storage to the given number of rows, keeping existing codes.
+     */
+    protected abstract void resizeCodes(int capacity);
+
+    /**
+     * Drops all codes and allocates room for the given number of rows.
+     */
+    protected abstract void resetCodes(int capacity);
+
+    /**
+     * Returns the heap held by the codes.
+     */
+    protected abstract long codeBytes();
+
+    /**
+     * Returns how many candidates per requested hit pass 1 keeps for rescoring.
+     */
+    protected abstract int candidateFactor(SearchOptions options);
+
+    /**
+     * Prepares pass 1 for one query. Called under the read lock; the scorer
+     * is only used while it is held.
+     */
+    protected abstract RowScorer scorer(float[] query);
+
+    /**
+     * Called under the write lock after a vector was stored.
+     *
+     * @param rows The number of rows now indexed
+     */
+    protected void added(float[] vector, int rows) {
+    }
+
+    @Override
+    public void add(String id, float[] vector) {
+        VectorMath.checkDimension(vector, dimension);
+        float[] normalized = VectorMath.normalize(vector);
+
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.get(id);
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                ids[row] = id;
+                slots[row] = vectorFile.allocate();
+                rowsById.put(id, row);
+            }
+            vectorFile.write(slots[row], normalized, writeBuffer);
+            encodeRow(normalized, row);
+            added(normalized, size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.remove(id);
+            if (row == null) {
+                return false;
+            }
+            vectorFile.release(slots[row]);
+            int last = --size;
+            if (row != last) {
+                // Fill the hole with the last row
+                moveRow(last, row);
+                ids[row] = ids[last];
+                slots[row] = slots[last];
+                rowsById.put(ids[row], row);
+            }
+            ids[last] = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK) {
+        return search(query, topK, SearchOptions.DEFAULT);
+    }
+
+    @Override
+    public List<Hit> search(float[] query, int topK, SearchOptions options) {
+        VectorMath.checkDimension(query, dimension);
+        float[] q = VectorMath.normalize(query);
+
+        lock.readLock().lock();
+        try {
+            RowScorer scorer = scorer(q);
+            TopK candidates = new TopK((int) Math.min((long) topK * candidateFactor(options), size));
+            for (int row = 0; row < size; row++) {
+                candidates.offer(row, scorer.score(row));
+            }
+            return rescore(q, candidates, topK);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores only the filter's rows in pass 1, looked up by ID, so the scan
+     * costs the size of the filter rather than of the index.
+     */
+    @Override
+    public List<Hit> search(float[] query, int topK, SearchOptions options, Set<String> filter) {
+        VectorMath.checkDimension(query, dimension);
+        float[] q = VectorMath.normalize(query);
+
+        lock.readLock().lock();
+        try {
+            RowScorer scorer = scorer(q);
+            TopK candidates = new TopK((int) Math.min((long) topK * candidateFactor(options),
+                    Math.min(size, filter.size())));
+            for (String id : filter) {
+                Integer row = rowsById.get(id);
+                if (row != null) {
+                    candidates.offer(row, scorer.score(row));
+                }
+            }
+            return rescore(q, candidates, topK);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            // Codes only; the float32 vectors for rescoring stay on disk
+            return Stats.of(size, 0, 0, codeBytes());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+            vectorFile.truncate();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        vectorFile.close();
+    }
+
+    /**
+     * Recomputes every row's code from its full-precision vector. Called under
+     * the write lock.
+     */
+    protected void reencode() {
+        float[] vector = new float[dimension];
+        ByteBuffer readBuffer = vectorFile.newBuffer();
+        for (int row = 0; row < size; row++) {
+            vectorFile.read(slots[row], vector, readBuffer);
+            encodeRow(vector, row);
+        }
+    }
+
+    /**
+     * Empties the index. Subclasses call it last in their constructor, once
+     * their own fields are set.
+     */
+    protected void reset() {
+        ids = new String[INITIAL_CAPACITY];
+        slots = new int[INITIAL_CAPACITY];
+        rowsById.clear();
+        size = 0;
+        resetCodes(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Pass 2: exact scores from the full-precision vectors on disk.
+     */
+    private List<Hit> rescore(float[] q, TopK candidates, int topK) {
+        int[] candidateRows = new int[candidates.size()];
+        int n = candidates.drainDescending(candidateRows, new float[candidates.size()]);
+
+        TopK best = new TopK(Math.min(topK, n));
+        float[] vector = new float[dimension];
+        ByteBuffer readBuffer = vectorFile.newBuffer();
+        for (int i = 0; i < n; i++) {
+            int row = candidateRows[i];
+            vectorFile.read(slots[row], vector, readBuffer);
+            best.offer(row, VectorMath.dot(q, vector));
+        }
+
+        int[] rows = new int[best.size()];
+        float[] scores = new float[best.size()];
+        int found = best.drainDescending(rows, scores);
+
+        List<Hit> hits = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            hits.add(new Hit(ids[rows[i]], scores[i]));
+        }
+        return hits;
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(rows, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        slots = Arrays.copyOf(slots, newCapacity);
+        resizeCodes(newCapacity);
+    }
+
+    /**
+     * Pass-1 score of a row for one query; higher is closer.
+     */
+    @FunctionalInterface
+    protected interface RowScorer {
+        float score(int row);
+    }
+}
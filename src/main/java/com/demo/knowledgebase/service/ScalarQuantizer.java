@@ -0,0 +1,117 @@
+package com.demo.knowledgebase.service;
+
+import java.util.Arrays;
+
+/**
+ * Maps float components to 8-bit codes with a linear min/max scale.
+ *
+ * For dimension d, value x is stored as
+ * {@code code = round((x - min[d]) / scale[d]) - 128}, with
+ * {@code scale[d] = (max[d] - min[d]) / 255}. Values outside the calibrated
+ * range are clamped.
+ *
+ * Queries are quantized too. With {@code w[d] = q[d] * scale[d]} and
+ * {@code w[d] ~ wScale * qc[d]} (qc = the query's 8-bit codes):
+ * <pre>
+ * q . x  ~  sum(q[d] * (min[d] + (code[d] + 128) * scale[d]))
+ *        =  bias + sum(w[d] * code[d])
+ *        ~  bias + wScale * sum(qc[d] * code[d])
+ * </pre>
+ * bias and wScale are the same for every row of one query, so candidates
+ * can be ranked by the integer dot product alone, which the JIT compiles
+ * to SIMD instructions.
+ *
+ * Immutable; a new instance is created on recalibration.
+ */
+final class ScalarQuantizer {
+
+    private static final float MIN_SCALE = 1e-9f;
+
+    private final float[] min;
+    private final float[] scale;
+
+    private ScalarQuantizer(float[] min, float[] max) {
+        this.min = min;
+        this.scale = new float[min.length];
+        for (int d = 0; d < min.length; d++) {
+            scale[d] = Math.max((max[d] - min[d]) / 255f, MIN_SCALE);
+        }
+    }
+
+    /**
+     * Covers the full range of normalized vectors, [-1, 1], for use until
+     * enough vectors have been seen to calibrate.
+     */
+    static ScalarQuantizer uncalibrated(int dimension) {
+        float[] min = new float[dimension];
+        float[] max = new float[dimension];
+        Arrays.fill(min, -1f);
+        Arrays.fill(max, 1f);
+        return new ScalarQuantizer(min, max);
+    }
+
+    /**
+     * Calibrates from observed per-dimension ranges.
+     *
+     * @param perDimension true to keep a range per dimension, false to use one
+     *                     global range for all dimensions
+     */
+    static ScalarQuantizer calibrate(float[] observedMin, float[] observedMax, boolean perDimension) {
+        float[] min = observedMin.clone();
+        float[] max = observedMax.clone();
+        if (!perDimension) {
+            float globalMin = Float.POSITIVE_INFINITY;
+            float globalMax = Float.NEGATIVE_INFINITY;
+            for (int d = 0; d < min.length; d++) {
+                globalMin = Math.min(globalMin, min[d]);
+                globalMax = Math.max(globalMax, max[d]);
+            }
+            Arrays.fill(min, globalMin);
+            Arrays.fill(max, globalMax);
+        }
+        return new ScalarQuantizer(min, max);
+    }
+
+    void encode(float[] vector, byte[] codes, int offset) {
+        for (int d = 0; d < vector.length; d++) {
+            int level = Math.round((vector[d] - min[d]) / scale[d]);
+            level = Math.max(0, Math.min(255, level));
+            codes[offset + d] = (byte) (level - 128);
+        }
+    }
+
+    /**
+     * Quantizes a query for ranking with {@link #dot}: the query's
+     * per-dimension weights {@code q[d] * scale[d]}, scaled to [-127, 127].
+     */
+    byte[] encodeQuery(float[] query) {
+        float[] weights = new float[query.length];
+        float maxAbs = 0;
+        for (int d = 0; d < query.length; d++) {
+            weights[d] = query[d] * scale[d];
+            maxAbs = Math.max(maxAbs, Math.abs(weights[d]));
+        }
+        byte[] codes = new byte[query.length];
+        if (maxAbs == 0) {
+            return codes;
+        }
+        float factor = 127f / maxAbs;
+        for (int d = 0; d < query.length; d++) {
+            codes[d] = (byte) Math.round(weights[d] * factor);
+        }
+        return codes;
+    }
+
+    /**
+     * Integer dot product of query codes with the row codes at {@code offset}.
+     * Larger means more similar, for rows scored against the same query.
+     */
+    static int dot(byte[] query, byte[] codes, int offset) {
+        int sum = 0;
+        // A single int accumulator over bytes is vectorized by C2
+        for (int i = 0; i < query.length; i++) {
+            sum += query[i] * codes[offset + i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,112 @@
+package com.demo.knowledgebase.service;
+
+import java.util.Arrays;
+
+/**
+ * Growable binary heap of (node, score) pairs backed by primitive arrays.
+ * 
+ * Ordered either best-first (highest score on top) or worst-first (lowest
+ * score on top), which is what a graph search needs for its candidate and
+ * result lists.
+ */
+final class ScoredQueue {
+
+    private final boolean maxHeap;
+    private int[] nodes;
+    private float[] scores;
+    private int size;
+
+    ScoredQueue(int initialCapacity, boolean maxHeap) {
+        this.maxHeap = maxHeap;
+        this.nodes = new int[Math.max(initialCapacity, 4)];
+        this.scores = new float[nodes.length];
+    }
+
+    static ScoredQueue bestFirst(int initialCapacity) {
+        return new ScoredQueue(initialCapacity, true);
+    }
+
+    static ScoredQueue worstFirst(int initialCapacity) {
+        return new ScoredQueue(initialCapacity, false);
+    }
+
+    void push(int node, float score) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        nodes[size] = node;
+        scores[size] = score;
+        siftUp(size++);
+    }
+
+    int topNode() {
+        return nodes[0];
+    }
+
+    float topScore() {
+        return scores[0];
+    }
+
+    int pop() {
+        int node = nodes[0];
+        size--;
+        if (size > 0) {
+            nodes[0] = nodes[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return node;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private boolean above(int a, int b) {
+        return maxHeap ? scores[a] > scores[b] : scores[a] < scores[b];
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!above(i, parent)) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int top = left;
+            int right = left + 1;
+            if (right < size && above(right, left)) {
+                top = right;
+            }
+            if (!above(top, i)) {
+                break;
+            }
+            swap(i, top);
+            i = top;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int n = nodes[a];
+        nodes[a] = nodes[b];
+        nodes[b] = n;
+        float s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+    }
+}
@@ -0,0 +1,74 @@
+package com.demo.knowledgebase.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency per search mode, and the sampled recall of BINARY mode.
+ *
+ * Recall is measured on a sample of BINARY searches by running the same
+ * query in STANDARD mode and counting how many of its hits BINARY also
+ * returned. With a flat standard index that is the true recall@k.
+ */
+public class SearchMetrics {
+
+    private final Map<SearchOptions.Mode, Timer> timers = new EnumMap<>(SearchOptions.Mode.class);
+    private final LongAdder recallSamples = new LongAdder();
+    private final DoubleAdder recallTotal = new DoubleAdder();
+
+    public SearchMetrics() {
+        for (SearchOptions.Mode mode : SearchOptions.Mode.values()) {
+            timers.put(mode, new Timer());
+        }
+    }
+
+    public void recordLatency(SearchOptions.Mode mode, long nanos) {
+        timers.get(mode).record(nanos);
+    }
+
+    public void recordRecall(double recall) {
+        recallSamples.increment();
+        recallTotal.add(recall);
+    }
+
+    public Stats snapshot() {
+        Map<SearchOptions.Mode, Latency> latency = new EnumMap<>(SearchOptions.Mode.class);
+        timers.forEach((mode, timer) -> latency.put(mode, timer.latency()));
+        long samples = recallSamples.sum();
+        return new Stats(latency, samples, samples == 0 ? 0.0 : recallTotal.sum() / samples);
+    }
+
+    private static final class Timer {
+        private final LongAdder searches = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            searches.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        Latency latency() {
+            long n = searches.sum();
+            double avgMillis = n == 0 ? 0.0 : totalNanos.sum() / 1e6 / n;
+            return new Latency(n, avgMillis, maxNanos.get() / 1e6);
+        }
+    }
+
+    /**
+     * Index search count and latency in milliseconds (embedding time excluded).
+     */
+    public record Latency(long searches, double avgMillis, double maxMillis) {
+    }
+
+    /**
+     * Latency per mode, plus BINARY recall averaged over the sampled queries.
+     */
+    public record Stats(Map<SearchOptions.Mode, Latency> latency, long binaryRecallSamples,
+            double binaryRecall) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.demo.knowledgebase.service;
+
+import java.util.Locale;
+
+/**
+ * Per-query knobs for the vector index.
+ * 
+ * Every field is optional; null means "use the index's configured default".
+ * 
+ * @param efSearch   HNSW candidate list size - higher finds more true neighbours
+ *                   (better recall) at the cost of latency
+ * @param nprobe     IVF lists scanned per query - same trade-off
+ * @param mode       which index answers the query (null = STANDARD)
+ * @param oversample BINARY mode: candidates rescored per requested result
+ */
+public record SearchOptions(Integer efSearch, Integer nprobe, Mode mode, Integer oversample) {
+
+    public static final SearchOptions DEFAULT = new SearchOptions(null, null, null, null);
+
+    public SearchOptions {
+        if (mode == null) {
+            mode = Mode.STANDARD;
+        }
+    }
+
+    /**
+     * Search modes.
+     * 
+     * - STANDARD: the configured vector index (vector.index.type)
+     * - BINARY: 1-bit sign codes scanned by Hamming distance, then exact
+     *   rescoring (needs vector.binary.enabled=true)
+     */
+    public enum Mode {
+        STANDARD, BINARY;
+
+        /**
+         * Parses a mode name, ignoring case.
+         * 
+         * @throws IllegalArgumentException for unknown names
+         */
+        public static Mode parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown search mode: " + name + " (use standard or binary)");
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.demo.knowledgebase.service;
+
+import com.demo.knowledgebase.model.Document;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * A compacted copy of every document and its vector, as of one write-ahead
+ * log sequence number.
+ *
+ * A snapshot is two files in the store directory:
+ * - snapshot-[sequence].kbvf: the vectors, a {@link VectorFile} (memory-mapped
+ *   when read, float32 or float16)
+ * - snapshot-[sequence].docs: the documents, in the same order
+ *
+ * The .docs file is written under a temporary name and renamed last, so a
+ * snapshot exists only once both files are complete.
+ */
+final class Snapshot {
+
+    private static final String PREFIX = "snapshot-";
+    private static final String DOCUMENTS = ".docs";
+    private static final String VECTORS = ".kbvf";
+    private static final String TEMPORARY = ".tmp";
+    private static final int MAGIC = 0x4B425344; // "KBSD"
+    private static final int VERSION = 1;
+    private static final int WRITE_BATCH = 1024;
+
+    /**
+     * A complete snapshot on disk.
+     */
+    record Info(long sequence, Path documents, Path vectors) {
+    }
+
+    private Snapshot() {
+    }
+
+    /**
+     * Returns the newest complete snapshot in the directory.
+     */
+    static Optional<Info> latest(Path directory) {
+        Info latest = null;
+        for (Path file : list(directory)) {
+            String name = file.getFileName().toString();
+            if (!name.endsWith(DOCUMENTS)) {
+                continue;
+            }
+            long sequence = Long.parseLong(name.substring(PREFIX.length(), name.length() - DOCUMENTS.length()));
+            Path vectors = directory.resolve(PREFIX + name.substring(PREFIX.length(),
+                    name.length() - DOCUMENTS.length()) + VECTORS);
+            if (Files.exists(vectors) && (latest == null || sequence > latest.sequence())) {
+                latest = new Info(sequence, file, vectors);
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * Deletes every snapshot file, complete or not, except those of {@code keep}.
+     */
+    static void deleteAllExcept(Path directory, Info keep) {
+        for (Path file : list(directory)) {
+            if (keep != null && (file.equals(keep.documents()) || file.equals(keep.vectors()))) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                System.err.println("Cannot delete old snapshot file " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Passes every document of the snapshot with its vector to the consumer.
+     *
+     * @return the number of documents read
+     */
+    static int read(Info snapshot, int dimension, BiConsumer<Document, float[]> consumer) {
+        try (VectorFile vectors = new VectorFile(snapshot.vectors(), dimension, VectorEncoding.FLOAT32);
+                InputStream file = Files.newInputStream(snapshot.documents());
+                DataInputStream documents = new DataInputStream(new BufferedInputStream(file, 1 << 16))) {
+            if (documents.readInt() != MAGIC || documents.readInt() != VERSION) {
+                throw new IOException("Not a snapshot: " + snapshot.documents());
+            }
+            documents.readLong(); // Sequence, also in the file name
+            return vectors.replay((id, vector) -> {
+                try {
+                    Document document = documents.readBoolean() ? DocumentCodec.readDocument(documents) : null;
+                    if (document == null || !id.equals(document.getId())) {
+                        throw new IOException("Documents and vectors out of step at " + id);
+                    }
+                    consumer.accept(document, vector);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot read snapshot " + snapshot.documents(), e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read snapshot " + snapshot.documents(), e);
+        }
+    }
+
+    /**
+     * Starts writing a snapshot for the given log sequence number.
+     */
+    static Writer create(Path directory, long sequence, int dimension, VectorEncoding encoding) {
+        String base = String.format("%s%020d", PREFIX, sequence);
+        try {
+            return new Writer(sequence, directory.resolve(base + DOCUMENTS), directory.resolve(base + VECTORS),
+                    dimension, encoding);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create snapshot " + base, e);
+        }
+    }
+
+    private static List<Path> list(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().startsWith(PREFIX)).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list snapshots in " + directory, e);
+        }
+    }
+
+    /**
+     * Writes one snapshot; {@link #commit} makes it visible.
+     */
+    static final class Writer {
+
+        private final long sequence;
+        private final Path documentsPath;
+        private final Path temporaryPath;
+        private final Path vectorsPath;
+        private final FileOutputStream documentsFile;
+        private final DataOutputStream documents;
+        private final VectorFile vectors;
+        private final List<String> pendingIds = new ArrayList<>(WRITE_BATCH);
+        private final List<float[]> pendingVectors = new ArrayList<>(WRITE_BATCH);
+        private int count;
+
+        private Writer(long sequence, Path documentsPath, Path vectorsPath, int dimension, VectorEncoding encoding)
+                throws IOException {
+            this.sequence = sequence;
+            this.documentsPath = documentsPath;
+            this.temporaryPath = documentsPath.resolveSibling(documentsPath.getFileName() + TEMPORARY);
+            this.vectorsPath = vectorsPath;
+            Files.deleteIfExists(vectorsPath); // Left over from an interrupted attempt
+            this.vectors = new VectorFile(vectorsPath, dimension, encoding);
+            this.documentsFile = new FileOutputStream(temporaryPath.toFile());
+            this.documents = new DataOutputStream(new BufferedOutputStream(documentsFile, 1 << 16));
+            documents.writeInt(MAGIC);
+            documents.writeInt(VERSION);
+            documents.writeLong(sequence);
+        }
+
+        void add(Document document, float[] vector) {
+            try {
+                documents.writeBoolean(true);
+                DocumentCodec.writeDocument(documents, document);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write snapshot " + temporaryPath, e);
+            }
+            pendingIds.add(document.getId());
+            pendingVectors.add(vector);
+            if (pendingIds.size() == WRITE_BATCH) {
+                flushVectors();
+            }
+            count++;
+        }
+
+        int count() {
+            return count;
+        }
+
+        /**
+         * Syncs both files to disk and publishes the snapshot.
+         */
+        Info commit() {
+            try {
+                flushVectors();
+                vectors.close();
+                documents.writeBoolean(false);
+                documents.flush();
+                documentsFile.getFD().sync();
+                documents.close();
+                Files.move(temporaryPath, documentsPath, StandardCopyOption.ATOMIC_MOVE);
+                return new Info(sequence, documentsPath, vectorsPath);
+            } catch (IOException e) {
+                abort();
+                throw new UncheckedIOException("Cannot write snapshot " + documentsPath, e);
+            }
+        }
+
+        void abort() {
+            try {
+                documents.close();
+                vectors.close();
+            } catch (IOException e) {
+                // Deleting anyway
+            }
+            try {
+                Files.deleteIfExists(temporaryPath);
+                Files.deleteIfExists(vectorsPath);
+            } catch (IOException e) {
+                System.err.println("Cannot delete incomplete snapshot " + documentsPath + ": " + e.getMessage());
+            }
+        }
+
+        private void flushVectors() {
+            vectors.append(pendingIds, pendingVectors);
+            pendingIds.clear();
+            pendingVectors.clear();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.demo.knowledgebase.service;
+
+import com.demo.knowledgebase.model.ImportJob;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the /api/stats figures that are not counted by the component they
+ * describe, so reading the stats never waits on the network:
+ * - the embedding server's health, checked on a background schedule
+ *   (stats.remote-refresh-seconds) and served from the last check
+ * - the throughput of the last finished import, recorded when it finishes
+ *
+ * Everything else in the stats (documents, generation, vector memory,
+ * tombstones, cache hit rates) is kept up to date where it changes.
+ */
+@Service
+public class StatsService {
+
+    private final EmbeddingService embeddingService;
+    private final ScheduledExecutorService refresher;
+
+    private volatile ServerStatus embeddingServer = new ServerStatus(null, null, null);
+    private volatile ImportThroughput lastImport;
+
+    public StatsService(
+            EmbeddingService embeddingService,
+            @Value("${stats.remote-refresh-seconds:30}") long refreshSeconds) {
+        this.embeddingService = embeddingService;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stats-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshRemote, 0, Math.max(1, refreshSeconds), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the result of the last embedding server health check (all
+     * fields null until the first check has run).
+     */
+    public ServerStatus getEmbeddingServer() {
+        return embeddingServer;
+    }
+
+    /**
+     * Returns the throughput of the last finished import, or null if none
+     * has finished since startup.
+     */
+    public ImportThroughput getLastImport() {
+        return lastImport;
+    }
+
+    /**
+     * Records a finished import job.
+     */
+    public void recordImport(ImportJob job) {
+        if (!job.isFinished() || job.getStartedAt() == null) {
+            return;
+        }
+        double seconds = Duration.between(job.getStartedAt(), job.getFinishedAt()).toMillis() / 1000.0;
+        lastImport = new ImportThroughput(job.getFilename(), job.getStatus(), job.getRowsIndexed(),
+                job.getRowsFailed(), seconds, job.getRowsPerSecond(), job.getFinishedAt());
+    }
+
+    @PreDestroy
+    public void close() {
+        refresher.shutdownNow();
+    }
+
+    private void refreshRemote() {
+        try {
+            long start = System.nanoTime();
+            boolean healthy = embeddingService.isServerHealthy();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            embeddingServer = new ServerStatus(healthy, millis, Instant.now());
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the previous status stays visible
+            System.err.println("Embedding server check failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Health of a remote server as of its last check, and how long the check took.
+     */
+    public record ServerStatus(Boolean healthy, Long responseMillis, Instant checkedAt) {
+    }
+
+    /**
+     * Rows indexed (and failed) by an import, its duration and indexing rate.
+     */
+    public record ImportThroughput(String filename, ImportJob.Status status, long rowsIndexed, long rowsFailed,
+            double seconds, double rowsPerSecond, Instant finishedAt) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.demo.knowledgebase.service;
+
+/**
+ * Bounded min-heap that keeps the {@code k} highest-scoring rows seen so far.
+ * 
+ * Backed by two primitive arrays, so offering a candidate never allocates.
+ * Not thread-safe: each search uses its own instance.
+ */
+final class TopK {
+
+    private final int k;
+    private final float[] scores;
+    private final int[] rows;
+    private int size;
+
+    TopK(int k) {
+        this.k = Math.max(k, 0);
+        this.scores = new float[this.k];
+        this.rows = new int[this.k];
+    }
+
+    void offer(int row, float score) {
+        if (size < k) {
+            scores[size] = score;
+            rows[size] = row;
+            siftUp(size++);
+        } else if (k > 0 && score > scores[0]) {
+            scores[0] = score;
+            rows[0] = row;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Empties the heap into {@code outRows}/{@code outScores}, best first.
+     * 
+     * @return the number of entries written
+     */
+    int drainDescending(int[] outRows, float[] outScores) {
+        int n = size;
+        for (int i = n - 1; i >= 0; i--) {
+            outRows[i] = rows[0];
+            outScores[i] = scores[0];
+            size--;
+            if (size > 0) {
+                scores[0] = scores[size];
+                rows[0] = rows[size];
+                siftDown(0);
+            }
+        }
+        return n;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[parent] <= scores[i]) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && scores[right] < scores[left]) {
+                smallest = right;
+            }
+            if (scores[i] <= scores[smallest]) {
+                break;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        float s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+        int r = rows[a];
+        rows[a] = rows[b];
+        rows[b] = r;
+    }
+}
@@ -0,0 +1,31 @@
+package com.demo.knowledgebase.service;
+
+/**
+ * How vector components are stored.
+ */
+public enum VectorEncoding {
+
+    FLOAT32(Float.BYTES),
+    FLOAT16(Short.BYTES);
+
+    private final int bytesPerComponent;
+
+    VectorEncoding(int bytesPerComponent) {
+        this.bytesPerComponent = bytesPerComponent;
+    }
+
+    public int bytesPerComponent() {
+        return bytesPerComponent;
+    }
+
+    public static VectorEncoding parse(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "float32":
+                return FLOAT32;
+            case "float16":
+                return FLOAT16;
+            default:
+                throw new IllegalArgumentException("Unknown vector encoding: " + name + " (use float32 or float16)");
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.demo.knowledgebase.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Persistent, append-only file of document vectors owned by the Java side.
+ *
+ * === LAYOUT (little-endian) ===
+ * <pre>
+ * header (64 bytes): magic "KBVF", version, dimension, encoding (0 = float32, 1 = float16),
+ *                    record count, byte offset of the end of the records, zero padding
+ * record:            state (1 byte), ID length (4 bytes), ID (UTF-8),
+ *                    vector (dimension x 4 bytes float32, or x 2 bytes float16)
+ * </pre>
+ * Adding a vector appends a LIVE record; re-adding an ID appends another one
+ * and the last record wins. Removing appends a DELETED record. Records are
+ * written before the header count and end are bumped, so a crash mid-append
+ * leaves at most an ignored partial record. IDs are not limited in length.
+ *
+ * Version 1 files, whose records had a fixed 64-byte ID field (IDs of at
+ * most 62 bytes), can still be read but not appended to.
+ *
+ * === LOADING ===
+ * {@link #replay} maps the file read-only with {@code FileChannel.map} and
+ * decodes vectors straight from the mapping: no parsing, and the OS page
+ * cache keeps the file warm across restarts. One pass over the IDs finds
+ * the latest record per ID, a second decodes only those.
+ *
+ * The encoding is fixed when the file is created; an existing file keeps its
+ * own. Unlike {@link RawVectorFile} (index scratch space) this file survives
+ * restarts. All writes are synchronized.
+ */
+public final class VectorFile implements AutoCloseable {
+
+    static final int MAGIC = 0x4B425646; // "KBVF" read as a big-endian int
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 64;
+
+    private static final int COUNT_OFFSET = 16; // Followed by the end offset
+    private static final int ID_OFFSET = 1 + Integer.BYTES;
+    private static final int V1_ID_FIELD_BYTES = 64; // State, length byte, 62 ID bytes
+    private static final long MAX_WINDOW_BYTES = Integer.MAX_VALUE;
+    private static final byte LIVE = 1;
+    private static final byte DELETED = 2;
+
+    private final Path path;
+    private final int dimension;
+    private final VectorEncoding encoding;
+    private final int vectorBytes;
+    private final FileChannel channel;
+    private int version;
+    private long count;
+    private long end; // Byte offset just past the last complete record
+
+    public VectorFile(Path path, int dimension, VectorEncoding encoding) {
+        this.path = path;
+        this.dimension = dimension;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            if (channel.size() < HEADER_BYTES) {
+                this.encoding = encoding;
+                this.version = VERSION;
+                this.end = HEADER_BYTES;
+                writeHeader(0);
+            } else {
+                this.encoding = readHeader();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open vector file " + path, e);
+        }
+        this.vectorBytes = dimension * this.encoding.bytesPerComponent();
+        try {
+            if (version == 1) {
+                // Fixed stride: the count tells where the records end
+                long stride = V1_ID_FIELD_BYTES + vectorBytes;
+                count = Math.min(count, (channel.size() - HEADER_BYTES) / stride);
+                end = HEADER_BYTES + count * stride;
+            } else if (end > channel.size()) {
+                // The header got to disk before the records it counts
+                recoverEnd();
+            }
+            // Drop a partial record left by an interrupted append
+            channel.truncate(end);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open vector file " + path, e);
+        }
+    }
+
+    /**
+     * Appends one LIVE record per ID (vectors.get(i) belongs to ids.get(i)).
+     */
+    public synchronized void append(List<String> ids, List<float[]> vectors) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        checkWritable();
+        byte[][] idBytes = new byte[ids.size()][];
+        long bytes = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            idBytes[i] = ids.get(i).getBytes(StandardCharsets.UTF_8);
+            bytes += ID_OFFSET + idBytes[i].length + vectorBytes;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(bytes)).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < ids.size(); i++) {
+            putRecord(buffer, LIVE, idBytes[i], vectors.get(i));
+        }
+        write(buffer, ids.size());
+    }
+
+    /**
+     * Appends a DELETED record for the ID.
+     */
+    public synchronized void appendDeletion(String id) {
+        checkWritable();
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(ID_OFFSET + idBytes.length + vectorBytes)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        putRecord(buffer, DELETED, idBytes, null);
+        write(buffer, 1);
+    }
+
+    /**
+     * Drops all records (and upgrades a version 1 file).
+     */
+    public synchronized void clear() {
+        try {
+            version = VERSION;
+            end = HEADER_BYTES;
+            writeHeader(0);
+            channel.truncate(HEADER_BYTES);
+            count = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot clear vector file " + path, e);
+        }
+    }
+
+    /**
+     * Passes the latest vector of every ID that is not deleted to the
+     * consumer, in file order.
+     *
+     * @return the number of vectors passed
+     */
+    public synchronized int replay(BiConsumer<String, float[]> consumer) {
+        if (count == 0) {
+            return 0;
+        }
+        try {
+            // Pass 1: latest record per ID
+            Map<String, Long> latest = new HashMap<>();
+            walk((position, state, id, window, vectorAt) -> {
+                if (state == LIVE) {
+                    latest.put(id, position);
+                } else {
+                    latest.remove(id);
+                }
+            });
+
+            // Pass 2: decode only those
+            int[] passed = { 0 };
+            walk((position, state, id, window, vectorAt) -> {
+                Long wanted = latest.get(id);
+                if (wanted != null && wanted == position) {
+                    consumer.accept(id, readVector(window, vectorAt));
+                    passed[0]++;
+                }
+            });
+            return passed[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read vector file " + path, e);
+        }
+    }
+
+    public synchronized long recordCount() {
+        return count;
+    }
+
+    public VectorEncoding encoding() {
+        return encoding;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.force(true);
+        channel.close();
+    }
+
+    private void checkWritable() {
+        if (version != VERSION) {
+            throw new IllegalStateException("Vector file " + path + " has the version " + version
+                    + " layout and can only be read");
+        }
+    }
+
+    private void putRecord(ByteBuffer buffer, byte state, byte[] idBytes, float[] vector) {
+        int start = buffer.position();
+        buffer.put(state);
+        buffer.putInt(idBytes.length);
+        buffer.put(idBytes);
+        if (vector == null) {
+            buffer.position(start + ID_OFFSET + idBytes.length + vectorBytes);
+            return;
+        }
+        VectorMath.checkDimension(vector, dimension);
+        for (float value : vector) {
+            if (encoding == VectorEncoding.FLOAT16) {
+                buffer.putShort(Float16.fromFloat(value));
+            } else {
+                buffer.putFloat(value);
+            }
+        }
+    }
+
+    private void write(ByteBuffer buffer, int records) {
+        buffer.flip();
+        try {
+            long position = end;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            count += records;
+            end = position;
+            writeCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to vector file " + path, e);
+        }
+    }
+
+    /**
+     * Visits every record in file order. The file is mapped in windows of up
+     * to 2 GB that always start at a record, so no record straddles two.
+     */
+    private void walk(RecordVisitor visitor) throws IOException {
+        MappedByteBuffer window = null;
+        long windowStart = 0;
+        long position = HEADER_BYTES;
+        while (position < end) {
+            int at = window == null ? -1 : (int) (position - windowStart);
+            if (window == null || at + ID_OFFSET > window.limit()) {
+                window = map(position);
+                windowStart = position;
+                at = 0;
+                if (ID_OFFSET > window.limit()) {
+                    throw new IOException("Corrupt record at byte " + position + " of " + path);
+                }
+            }
+            int idLength;
+            int idAt;
+            long length;
+            if (version == 1) {
+                idLength = window.get(at + 1) & 0xFF;
+                idAt = at + 2;
+                length = V1_ID_FIELD_BYTES + vectorBytes;
+            } else {
+                idLength = window.getInt(at + 1);
+                idAt = at + ID_OFFSET;
+                length = ID_OFFSET + (long) idLength + vectorBytes;
+            }
+            if (idLength < 0 || position + length > end || length > MAX_WINDOW_BYTES) {
+                throw new IOException("Corrupt record at byte " + position + " of " + path);
+            }
+            if (at + length > window.limit()) {
+                window = map(position);
+                windowStart = position;
+                idAt -= at;
+                at = 0;
+            }
+            byte[] id = new byte[idLength];
+            window.get(idAt, id);
+            long vectorAt = length - vectorBytes;
+            visitor.visit(position, window.get(at), new String(id, StandardCharsets.UTF_8), window,
+                    (int) (at + vectorAt));
+            position += length;
+        }
+    }
+
+    private MappedByteBuffer map(long position) throws IOException {
+        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                Math.min(end - position, MAX_WINDOW_BYTES));
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        return window;
+    }
+
+    private float[] readVector(ByteBuffer chunk, int at) {
+        float[] vector = new float[dimension];
+        if (encoding == VectorEncoding.FLOAT16) {
+            for (int d = 0; d < dimension; d++) {
+                vector[d] = Float16.toFloat(chunk.getShort(at + d * Short.BYTES));
+            }
+        } else {
+            for (int d = 0; d < dimension; d++) {
+                vector[d] = chunk.getFloat(at + d * Float.BYTES);
+            }
+        }
+        return vector;
+    }
+
+    private void writeHeader(long records) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(version).putInt(dimension).putInt(encoding.ordinal()).putLong(records)
+                .putLong(end);
+        header.clear();
+        writeFully(header, 0);
+    }
+
+    private void writeCount() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(0, count).putLong(Long.BYTES, end);
+        writeFully(buffer, COUNT_OFFSET);
+    }
+
+    private VectorEncoding readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // Fill the header
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a vector file: " + path);
+        }
+        version = header.getInt();
+        if (version != 1 && version != VERSION) {
+            throw new IllegalStateException("Unsupported vector file version " + version + ": " + path);
+        }
+        int fileDimension = header.getInt();
+        if (fileDimension != dimension) {
+            throw new IllegalStateException("Vector file " + path + " holds " + fileDimension
+                    + "-dim vectors, but vector.index.dimension is " + dimension);
+        }
+        int encodingCode = header.getInt();
+        if (encodingCode < 0 || encodingCode >= VectorEncoding.values().length) {
+            throw new IllegalStateException("Unknown encoding " + encodingCode + " in vector file " + path);
+        }
+        count = header.getLong();
+        end = header.getLong(); // Zero padding in version 1; set from the count there
+        if (version == VERSION && end < HEADER_BYTES) {
+            throw new IllegalStateException("Corrupt header in vector file " + path);
+        }
+        return VectorEncoding.values()[encodingCode];
+    }
+
+    /**
+     * Counts the records that are complete on disk, from the start of the
+     * file, and makes the header match.
+     */
+    private void recoverEnd() throws IOException {
+        long size = channel.size();
+        ByteBuffer prefix = ByteBuffer.allocate(ID_OFFSET).order(ByteOrder.LITTLE_ENDIAN);
+        long records = 0;
+        long position = HEADER_BYTES;
+        while (records < count && position + ID_OFFSET <= size) {
+            prefix.clear();
+            while (prefix.hasRemaining() && channel.read(prefix, position + prefix.position()) >= 0) {
+                // Fill the prefix
+            }
+            int idLength = prefix.getInt(1);
+            long length = ID_OFFSET + (long) idLength + vectorBytes;
+            if (idLength < 0 || position + length > size) {
+                break;
+            }
+            position += length;
+            records++;
+        }
+        System.err.println("Vector file " + path + " ends early: keeping " + records + " of " + count + " records");
+        count = records;
+        end = position;
+        writeCount();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Receives one record during {@link #walk}; the vector starts at
+     * {@code vectorAt} in {@code window}.
+     */
+    private interface RecordVisitor {
+        void visit(long position, byte state, String id, ByteBuffer window, int vectorAt);
+    }
+}
@@ -0,0 +1,123 @@
+package com.demo.knowledgebase.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-process vector index used by the {@link VectorStore} for similarity search.
+ * 
+ * Vectors are L2-normalized, so the dot product of two vectors is their
+ * cosine similarity (1.0 = same direction, -1.0 = opposite).
+ * 
+ * Implementations must be safe to call from concurrent request threads.
+ */
+public interface VectorIndex {
+
+    /**
+     * Adds a vector, replacing any existing vector stored under the same ID.
+     */
+    void add(String id, float[] vector);
+
+    /**
+     * Removes a vector.
+     * 
+     * @return true if a vector was stored under the given ID
+     */
+    boolean remove(String id);
+
+    /**
+     * Finds the vectors most similar to the query.
+     * 
+     * @param query The (normalized) query vector
+     * @param topK  Maximum number of hits to return
+     * @return Hits sorted by similarity (highest first)
+     */
+    List<Hit> search(float[] query, int topK);
+
+    /**
+     * Finds the vectors most similar to the query, honouring per-query options.
+     * Indexes without tunable search parameters ignore the options.
+     */
+    default List<Hit> search(float[] query, int topK, SearchOptions options) {
+        return search(query, topK);
+    }
+
+    /**
+     * Finds the vectors most similar to the query among the given IDs only
+     * (for example the documents of one category). IDs without a vector are
+     * ignored; fewer than topK hits means fewer vectors match.
+     *
+     * The default asks the unfiltered search for more hits until topK of them
+     * pass the filter. Indexes that can apply the filter while scanning
+     * override it so the cost follows the size of the filter instead.
+     */
+    default List<Hit> search(float[] query, int topK, SearchOptions options, Set<String> filter) {
+        int size = size();
+        if (topK <= 0 || filter.isEmpty() || size == 0) {
+            return new ArrayList<>();
+        }
+        // Start from the expected number of hits needed at the filter's selectivity
+        int fetch = (int) Math.min(size, Math.max(topK, (long) topK * size / filter.size()));
+        while (true) {
+            List<Hit> hits = search(query, fetch, options);
+            List<Hit> matching = new ArrayList<>(topK);
+            for (Hit hit : hits) {
+                if (filter.contains(hit.id())) {
+                    matching.add(hit);
+                    if (matching.size() == topK) {
+                        return matching;
+                    }
+                }
+            }
+            if (hits.size() < fetch || fetch >= size) {
+                return matching;
+            }
+            fetch = (int) Math.min(size, fetch * 4L);
+        }
+    }
+
+    /**
+     * Returns the number of indexed vectors.
+     */
+    int size();
+
+    /**
+     * Returns the vector dimension (384 for multilingual-e5-small).
+     */
+    int dimension();
+
+    /**
+     * Removes all vectors.
+     */
+    void clear();
+
+    /**
+     * Returns size, memory and delete bookkeeping for the stats endpoint.
+     * Indexes that remove vectors in place never hold tombstones. The default
+     * assumes one float32 vector per entry.
+     */
+    default Stats stats() {
+        return Stats.of(size(), 0, 0, (long) size() * dimension() * Float.BYTES);
+    }
+
+    /**
+     * A search hit: document ID and its cosine similarity to the query.
+     */
+    record Hit(String id, float score) {
+    }
+
+    /**
+     * Vectors searchable, deleted vectors still held (tombstones) and their
+     * share of all stored vectors, how often tombstones were compacted away,
+     * and the heap allocated to vector data (slabs, codes; not IDs or links).
+     */
+    record Stats(int vectors, int tombstones, double tombstoneRatio, long compactions, long vectorBytes) {
+
+        static Stats of(int vectors, int tombstones, long compactions, long vectorBytes) {
+            int stored = vectors + tombstones;
+            return new Stats(vectors, tombstones, stored == 0 ? 0 : (double) tombstones / stored, compactions,
+                    vectorBytes);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.demo.knowledgebase.service;
+
+/**
+ * Small vector helpers shared by the index implementations.
+ */
+final class VectorMath {
+
+    private VectorMath() {
+    }
+
+    /**
+     * Dot product of {@code query} with the row stored at {@code offset} in a
+     * row-major slab.
+     */
+    static float dot(float[] query, float[] slab, int offset) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int n = query.length;
+        int i = 0;
+        // Four independent accumulators let the JIT pipeline the multiply-adds
+        for (; i + 3 < n; i += 4) {
+            s0 += query[i] * slab[offset + i];
+            s1 += query[i + 1] * slab[offset + i + 1];
+            s2 += query[i + 2] * slab[offset + i + 2];
+            s3 += query[i + 3] * slab[offset + i + 3];
+        }
+        for (; i < n; i++) {
+            s0 += query[i] * slab[offset + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static float dot(float[] a, float[] b) {
+        return dot(a, b, 0);
+    }
+
+    /**
+     * Returns an L2-normalized copy of the vector.
+     */
+    static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        float[] copy = vector.clone();
+        if (norm == 0) {
+            return copy;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] *= scale;
+        }
+        return copy;
+    }
+
+    static void checkDimension(float[] vector, int dimension) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                    "Expected a " + dimension + "-dim vector but got " + vector.length + " dims");
+        }
+    }
+}
@@ -3,81 +3,108 @@ package com.demo.knowledgebase.service;
 import com.demo.knowledgebase.model.Document;
 import com.demo.knowledgebase.model.SearchResult;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
- * Vector Store using FAISS (Facebook AI Similarity Search).
- * 
- * === WHAT IS FAISS? ===
- * FAISS is a library for efficient similarity search developed by Facebook AI.
- * It can search through millions of vectors in milliseconds!
+ * Vector Store backed by an in-process {@link VectorIndex}.
  * 
  * === HOW IT WORKS ===
- * 1. Documents are stored in the Python FAISS server
- * 2. Each document is converted to a 384-dim vector (embedding)
- * 3. FAISS indexes these vectors for fast similarity search
- * 4. Search queries are also converted to vectors and compared
+ * 1. Each document is converted to a 384-dim vector (embedding) by the
+ *    configured EmbeddingProvider
+ * 2. The vector is kept in the Java-side VectorIndex
+ * 3. Search queries are embedded too, and the index is scanned in-process -
+ *    no JSON round-trip per search
  * 
  * === PERSISTENCE ===
- * Unlike in-memory storage, FAISS saves to disk:
- * - faiss_data/faiss_index.bin (the vector index)
- * - faiss_data/documents.json (document metadata)
+ * Documents and vectors are stored by the {@link PersistenceService} (write-ahead
+ * log plus snapshots); every change is logged before it is applied here, and
+ * the index is rebuilt from the store on startup. The Python server only
+ * computes embeddings.
+ * If the store is brand new, documents the Python server persisted before
+ * (faiss_data/state.json) are imported once, on first use, from /index/export.
+ * 
+ * === BINARY TIER ===
+ * With vector.binary.enabled=true every vector is also kept as a 1-bit sign
+ * code in a {@link BinaryVectorIndex}; searches with mode=BINARY use it
+ * instead of the main index. A sample of those searches is replayed against
+ * the main index to measure recall.
  */
 @Service
 public class VectorStore {
 
     private final RestTemplate restTemplate;
     private final String faissServerUrl;
+    private final EmbeddingService embeddingService;
+    private final VectorIndex index;
+    private final PersistenceService persistence;
+    private final BinaryVectorIndex binaryIndex; // null unless vector.binary.enabled
+    private final double recallSampleRate;
+    private final SearchMetrics searchMetrics = new SearchMetrics();
+
+    // Local cache for fast document access (lock-free reads)
+    private final DocumentStore localDocuments = new DocumentStore();
 
-    // Local cache for fast document access
-    private final Map<String, Document> localDocuments = new HashMap<>();
+    // False until documents persisted by the FAISS server have been imported
+    // (only ever needed when the store was empty on startup)
+    private volatile boolean indexLoaded;
 
     public VectorStore(
-            @Value("${embedding.server.url:http://localhost:8000}") String faissServerUrl) {
-        this.restTemplate = new RestTemplate();
+            RestTemplate embeddingRestTemplate,
+            EmbeddingService embeddingService,
+            VectorIndex index,
+            PersistenceService persistence,
+            Optional<BinaryVectorIndex> binaryIndex,
+            @Value("${embedding.server.url:http://localhost:8000}") String faissServerUrl,
+            @Value("${vector.binary.recall-sample-rate:0.01}") double recallSampleRate) {
+        this.restTemplate = embeddingRestTemplate;
         this.faissServerUrl = faissServerUrl;
+        this.embeddingService = embeddingService;
+        this.index = index;
+        this.persistence = persistence;
+        this.binaryIndex = binaryIndex.orElse(null);
+        this.recallSampleRate = recallSampleRate;
+        if (embeddingService.getEmbeddingDimension() != index.dimension()) {
+            throw new IllegalStateException("Embedding dimension " + embeddingService.getEmbeddingDimension()
+                    + " does not match vector.index.dimension " + index.dimension());
+        }
+        persistence.recover((document, vector) -> {
+            indexVector(document.getId(), vector);
+            localDocuments.put(document);
+        });
+        this.indexLoaded = !persistence.isFresh();
+
         System.out.println("✓ VectorStore initialized");
-        System.out.println("  → Using FAISS server at: " + faissServerUrl);
+        if (!indexLoaded) {
+            System.out.println("  → Will import documents from the FAISS server at " + faissServerUrl);
+        }
+        System.out.println("  → Searching in-process (" + index.getClass().getSimpleName() + ")");
+        if (this.binaryIndex != null) {
+            System.out.println("  → Binary search tier enabled (recall sampled on "
+                    + (recallSampleRate * 100) + "% of binary searches)");
+        }
     }
 
     /**
-     * Adds a document to the FAISS index.
+     * Adds a document to the index.
      */
     public void addDocument(Document document) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("id", document.getId());
-            body.put("text", document.getTextForEmbedding());
-            body.put("metadata", Map.of(
-                    "title", document.getTitle(),
-                    "category", document.getCategory(),
-                    "content", document.getContent(),
-                    "createdAt", document.getCreatedAt().toString(),
-                    "createdBy", document.getCreatedBy() != null ? document.getCreatedBy() : "System"));
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+            float[] vector = embeddingService.embedPassages(List.of(document.getTextForEmbedding())).get(0);
 
-            restTemplate.postForObject(
-                    faissServerUrl + "/index/add",
-                    request,
-                    Map.class);
-
-            // Cache locally
-            localDocuments.put(document.getId(), document);
+            persistence.put(List.of(document), List.of(vector));
+            indexVector(document.getId(), vector);
+            localDocuments.put(document);
 
         } catch (Exception e) {
-            System.err.println("Error adding document to FAISS: " + e.getMessage());
-            throw new RuntimeException("Failed to add document to FAISS: " + e.getMessage(), e);
+            System.err.println("Error adding document: " + e.getMessage());
+            throw new RuntimeException("Failed to add document: " + e.getMessage(), e);
         }
     }
 
@@ -85,47 +112,40 @@ public class VectorStore {
      * Adds multiple documents at once (batch operation - much faster!).
      */
     public void addDocuments(List<Document> docs) {
+        addEmbeddedDocuments(docs, embedDocuments(docs));
+    }
+
+    /**
+     * Computes the embeddings of a batch of documents without indexing them.
+     * Together with {@link #addEmbeddedDocuments} this lets imports run
+     * embedding and indexing as separate stages.
+     */
+    public List<float[]> embedDocuments(List<Document> docs) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            List<Map<String, Object>> docsData = docs.stream().map(doc -> {
-                Map<String, Object> docMap = new HashMap<>();
-                docMap.put("id", doc.getId());
-                docMap.put("text", doc.getTextForEmbedding());
-                docMap.put("metadata", Map.of(
-                        "title", doc.getTitle(),
-                        "category", doc.getCategory(),
-                        "content", doc.getContent(),
-                        "createdAt", doc.getCreatedAt().toString(),
-                        "createdBy", doc.getCreatedBy() != null ? doc.getCreatedBy() : "System"));
-                return docMap;
-            }).collect(Collectors.toList());
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("documents", docsData);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(
-                    faissServerUrl + "/index/add-batch",
-                    request,
-                    Map.class);
-
-            // Cache locally
-            for (Document doc : docs) {
-                localDocuments.put(doc.getId(), doc);
-            }
+            List<String> texts = docs.stream().map(Document::getTextForEmbedding).toList();
+            return embeddingService.embedPassages(texts);
+        } catch (Exception e) {
+            System.err.println("Error embedding documents: " + e.getMessage());
+            throw new RuntimeException("Failed to embed documents: " + e.getMessage(), e);
+        }
+    }
 
-            if (response != null) {
-                System.out.println("✓ Added " + response.get("added") + " documents to FAISS index");
-                System.out.println("  → Total documents: " + response.get("total_documents"));
+    /**
+     * Adds already-embedded documents (vectors.get(i) belongs to docs.get(i)).
+     */
+    public void addEmbeddedDocuments(List<Document> docs, List<float[]> vectors) {
+        try {
+            persistence.put(docs, vectors);
+            for (int i = 0; i < docs.size(); i++) {
+                indexVector(docs.get(i).getId(), vectors.get(i));
+                localDocuments.put(docs.get(i));
             }
+            System.out.println("✓ Added " + docs.size() + " documents");
+            System.out.println("  → Total documents: " + localDocuments.size());
 
         } catch (Exception e) {
-            System.err.println("Error adding documents to FAISS: " + e.getMessage());
-            throw new RuntimeException("Failed to add documents to FAISS: " + e.getMessage(), e);
+            System.err.println("Error adding documents: " + e.getMessage());
+            throw new RuntimeException("Failed to add documents: " + e.getMessage(), e);
         }
     }
 
@@ -134,7 +154,15 @@ public class VectorStore {
      */
     public void removeDocument(String documentId) {
         try {
-            restTemplate.delete(faissServerUrl + "/index/document/" + documentId);
+            ensureIndexLoaded();
+            if (!localDocuments.contains(documentId)) {
+                return;
+            }
+            persistence.delete(documentId);
+            index.remove(documentId);
+            if (binaryIndex != null) {
+                binaryIndex.remove(documentId);
+            }
             localDocuments.remove(documentId);
         } catch (Exception e) {
             System.err.println("Error removing document: " + e.getMessage());
@@ -142,169 +170,326 @@ public class VectorStore {
     }
 
     /**
-     * Performs semantic search using FAISS.
+     * Performs semantic search against the in-process index.
      * 
      * @param query The search query text
      * @param topK  Maximum number of results to return
      * @return List of search results sorted by similarity (highest first)
      */
-    @SuppressWarnings("unchecked")
     public List<SearchResult> search(String query, int topK) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("query", query);
-            body.put("top_k", topK);
+        return search(query, topK, SearchOptions.DEFAULT);
+    }
 
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+    /**
+     * Performs semantic search with per-query index options (e.g. HNSW efSearch,
+     * BINARY mode). BINARY falls back to the main index when the tier is disabled.
+     */
+    public List<SearchResult> search(String query, int topK, SearchOptions options) {
+        return search(query, topK, options, null);
+    }
 
-            Map<String, Object> response = restTemplate.postForObject(
-                    faissServerUrl + "/index/search",
-                    request,
-                    Map.class);
+    /**
+     * Performs semantic search restricted to one category (case-insensitive;
+     * null or blank = all documents). The category's documents are looked up
+     * in their posting list and the index only considers those, so topK
+     * results come back whenever the category holds that many documents.
+     */
+    public List<SearchResult> search(String query, int topK, SearchOptions options, String category) {
+        try {
+            ensureIndexLoaded();
 
-            if (response == null || !response.containsKey("results")) {
+            Set<String> filter = category == null || category.isBlank()
+                    ? null
+                    : localDocuments.idsInCategory(category);
+            if (filter != null && filter.isEmpty()) {
                 return Collections.emptyList();
             }
+            float[] queryVector = embeddingService.embedQuery(query);
+            List<VectorIndex.Hit> hits = searchIndex(queryVector, topK, options, filter);
 
-            List<Map<String, Object>> results = (List<Map<String, Object>>) response.get("results");
-
-            return results.stream().map(result -> {
-                String id = (String) result.get("id");
-                Map<String, Object> metadata = (Map<String, Object>) result.get("metadata");
-
-                // Get from local cache or create from metadata
-                Document doc = localDocuments.get(id);
-                if (doc == null && metadata != null) {
-                    doc = new Document(
-                            id,
-                            (String) metadata.get("title"),
-                            (String) metadata.get("content"),
-                            (String) metadata.get("category"),
-                            java.time.LocalDateTime.now(),
-                            (String) metadata.get("createdBy"));
-                }
-
-                // FAISS returns L2 distance (lower is better).
-                // Convert to similarity score (0 to 1, higher is better).
-                // Formula: 1 / (1 + distance)
-                double distance = ((Number) result.get("score")).doubleValue();
-                double similarity = 1.0 / (1.0 + distance);
-
-                return new SearchResult(doc, similarity);
-            }).collect(Collectors.toList());
+            List<SearchResult> results = new ArrayList<>(hits.size());
+            for (VectorIndex.Hit hit : hits) {
+                localDocuments.get(hit.id())
+                        .ifPresent(doc -> results.add(new SearchResult(doc, toSimilarity(hit.score()))));
+            }
+            return results;
 
         } catch (Exception e) {
-            System.err.println("Error searching FAISS: " + e.getMessage());
+            System.err.println("Error searching index: " + e.getMessage());
             return Collections.emptyList();
         }
     }
 
+    private List<VectorIndex.Hit> searchIndex(float[] queryVector, int topK, SearchOptions options,
+            Set<String> filter) {
+        boolean binary = options.mode() == SearchOptions.Mode.BINARY && binaryIndex != null;
+        VectorIndex target = binary ? binaryIndex : index;
+
+        long start = System.nanoTime();
+        List<VectorIndex.Hit> hits = filter == null
+                ? target.search(queryVector, topK, options)
+                : target.search(queryVector, topK, options, filter);
+        searchMetrics.recordLatency(binary ? SearchOptions.Mode.BINARY : SearchOptions.Mode.STANDARD,
+                System.nanoTime() - start);
+
+        if (binary && ThreadLocalRandom.current().nextDouble() < recallSampleRate) {
+            sampleRecall(queryVector, topK, filter, hits);
+        }
+        return hits;
+    }
+
+    /**
+     * Records which share of the main index's top hits the binary tier found.
+     */
+    private void sampleRecall(float[] queryVector, int topK, Set<String> filter, List<VectorIndex.Hit> binaryHits) {
+        List<VectorIndex.Hit> expected = filter == null
+                ? index.search(queryVector, topK)
+                : index.search(queryVector, topK, SearchOptions.DEFAULT, filter);
+        if (expected.isEmpty()) {
+            return;
+        }
+        Set<String> found = new HashSet<>();
+        binaryHits.forEach(hit -> found.add(hit.id()));
+        long matched = expected.stream().filter(hit -> found.contains(hit.id())).count();
+        searchMetrics.recordRecall((double) matched / expected.size());
+    }
+
+    private void indexVector(String id, float[] vector) {
+        index.add(id, vector);
+        if (binaryIndex != null) {
+            binaryIndex.add(id, vector);
+        }
+    }
+
+    /**
+     * Converts cosine similarity to the 0..1 score the UI has always shown.
+     * 
+     * FAISS used to return the squared L2 distance, which for normalized
+     * vectors is 2 - 2 * cosine. The score stays 1 / (1 + distance).
+     */
+    private static double toSimilarity(float cosine) {
+        double distance = Math.max(0.0, 2.0 - 2.0 * cosine);
+        return 1.0 / (1.0 + distance);
+    }
+
+    /**
+     * Imports the documents the FAISS server persisted, if the store was new
+     * on startup. Retried on the next call if the server is down.
+     */
+    private void ensureIndexLoaded() {
+        // Fast path without locking once loaded
+        if (indexLoaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!indexLoaded) {
+                migrateFromExport();
+                indexLoaded = true;
+            }
+        }
+    }
+
+    /**
+     * One-time migration: stores and indexes every document (with its cached
+     * vector) exported by the FAISS server. Documents added here since
+     * startup take precedence.
+     */
+    @SuppressWarnings("unchecked")
+    private void migrateFromExport() {
+        List<Map<String, Object>> response = restTemplate.getForObject(
+                faissServerUrl + "/index/export",
+                List.class);
+        if (response == null) {
+            return;
+        }
+
+        List<Document> docs = new ArrayList<>(response.size());
+        List<float[]> vectors = new ArrayList<>(response.size());
+        for (Map<String, Object> docData : response) {
+            String id = (String) docData.get("id");
+            List<Number> embedding = (List<Number>) docData.get("embedding");
+            Map<String, Object> metadata = (Map<String, Object>) docData.get("metadata");
+            if (id == null || embedding == null || localDocuments.contains(id)) {
+                continue;
+            }
+            docs.add(fromMetadata(id, metadata != null ? metadata : Map.of()));
+            vectors.add(EmbeddingService.toFloatArray(embedding));
+        }
+
+        persistence.put(docs, vectors);
+        for (int i = 0; i < docs.size(); i++) {
+            indexVector(docs.get(i).getId(), vectors.get(i));
+            localDocuments.put(docs.get(i));
+        }
+        System.out.println("✓ Imported " + docs.size() + " documents from the FAISS server");
+    }
+
+    private static Document fromMetadata(String id, Map<String, Object> metadata) {
+        Object title = metadata.get("title");
+        Object content = metadata.get("content");
+        Object category = metadata.get("category");
+        return new Document(
+                id,
+                title != null ? title.toString() : "Untitled",
+                content != null ? content.toString() : "",
+                category != null ? category.toString() : "General",
+                parseCreatedAt(metadata.get("createdAt")),
+                (String) metadata.get("createdBy"));
+    }
+
+    private static LocalDateTime parseCreatedAt(Object value) {
+        if (value != null) {
+            try {
+                return LocalDateTime.parse(value.toString());
+            } catch (DateTimeParseException e) {
+                // Fall through to "now"
+            }
+        }
+        return LocalDateTime.now();
+    }
+
     /**
      * Gets a document by ID.
      */
     public Optional<Document> getDocument(String id) {
-        return Optional.ofNullable(localDocuments.get(id));
+        try {
+            ensureIndexLoaded();
+        } catch (Exception e) {
+            System.err.println("Error loading index: " + e.getMessage());
+        }
+        return localDocuments.get(id);
     }
 
     /**
-     * Gets all documents from FAISS server.
+     * Gets all documents.
      */
-    @SuppressWarnings("unchecked")
     public List<Document> getAllDocuments() {
         try {
-            // Fetch from FAISS server
-            List<Map<String, Object>> response = restTemplate.getForObject(
-                    faissServerUrl + "/index/documents",
-                    List.class);
-
-            if (response != null) {
-                List<Document> docs = new ArrayList<>();
-                for (Map<String, Object> docData : response) {
-                    String id = (String) docData.get("id");
-                    String title = (String) docData.get("title");
-                    String content = (String) docData.get("content");
-                    String category = (String) docData.get("category");
-
-                    // Use setter-based creation
-                    Document doc = new Document();
-                    doc.setId(id);
-                    doc.setTitle(title != null ? title : "Untitled");
-                    doc.setContent(content != null ? content : "");
-                    doc.setCategory(category != null ? category : "General");
-                    doc.setCreatedAt(java.time.LocalDateTime.now());
-                    doc.setCreatedBy((String) docData.get("createdBy"));
-
-                    docs.add(doc);
-                }
-                return docs;
-            }
+            ensureIndexLoaded();
         } catch (Exception e) {
-            System.err.println("Error fetching documents from FAISS: " + e.getMessage());
-            e.printStackTrace();
+            System.err.println("Error loading index: " + e.getMessage());
         }
-        // Fall back to local cache
-        return new ArrayList<>(localDocuments.values());
+        return localDocuments.snapshot();
     }
 
     /**
-     * Returns the total number of documents in the FAISS index.
+     * Returns up to limit documents in ID order, after the given ID (null = from the first).
      */
-    @SuppressWarnings("unchecked")
-    public int getDocumentCount() {
+    public List<Document> getDocumentPage(String afterId, int limit) {
         try {
-            Map<String, Object> response = restTemplate.getForObject(
-                    faissServerUrl + "/index/stats",
-                    Map.class);
-            if (response != null) {
-                return ((Number) response.get("total_documents")).intValue();
-            }
+            ensureIndexLoaded();
         } catch (Exception e) {
-            // Fall back to local count
+            System.err.println("Error loading index: " + e.getMessage());
         }
-        return localDocuments.size();
+        return localDocuments.page(afterId, limit);
     }
 
     /**
-     * Returns the embedding dimension (384 for multilingual-e5-small).
+     * Passes up to limit documents to the consumer in ID order, after the
+     * given ID (null = from the first), without copying them first.
      */
-    public int getEmbeddingDimension() {
-        return 384;
+    public void forEachDocument(String afterId, long limit, Consumer<Document> consumer) {
+        try {
+            ensureIndexLoaded();
+        } catch (Exception e) {
+            System.err.println("Error loading index: " + e.getMessage());
+        }
+        localDocuments.forEach(afterId, limit, consumer);
     }
 
     /**
-     * Gets FAISS index statistics.
+     * Returns the number of documents per category, kept up to date on every
+     * write (no pass over the documents).
      */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> getStats() {
+    public List<DocumentStore.Count> getCategoryCounts() {
         try {
-            return restTemplate.getForObject(
-                    faissServerUrl + "/index/stats",
-                    Map.class);
+            ensureIndexLoaded();
         } catch (Exception e) {
-            return Map.of("error", e.getMessage());
+            System.err.println("Error loading index: " + e.getMessage());
         }
+        return localDocuments.categoryCounts();
     }
 
     /**
-     * Clears the entire FAISS index.
+     * Returns the number of documents per creator, kept up to date on every write.
      */
-    public void clearIndex() {
+    public List<DocumentStore.Count> getCreatorCounts() {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+            ensureIndexLoaded();
+        } catch (Exception e) {
+            System.err.println("Error loading index: " + e.getMessage());
+        }
+        return localDocuments.creatorCounts();
+    }
 
-            restTemplate.postForObject(
-                    faissServerUrl + "/index/clear",
-                    new HttpEntity<>(Map.of(), headers),
-                    Map.class);
+    /**
+     * True once the documents the FAISS server persisted have been imported
+     * (or there was nothing to import). The import changes what reads return
+     * without being a mutation, so it is part of the content version.
+     */
+    public boolean isIndexLoaded() {
+        return indexLoaded;
+    }
 
+    /**
+     * Returns the total number of documents.
+     */
+    public int getDocumentCount() {
+        return localDocuments.size();
+    }
+
+    /**
+     * Returns the embedding dimension (384 for multilingual-e5-small).
+     */
+    public int getEmbeddingDimension() {
+        return index.dimension();
+    }
+
+    /**
+     * Returns search latency per mode and the sampled recall of BINARY mode.
+     */
+    public SearchMetrics.Stats getSearchStats() {
+        return searchMetrics.snapshot();
+    }
+
+    /**
+     * Returns the size and estimated memory footprint of the local document cache.
+     */
+    public DocumentStore.Stats getDocumentStoreStats() {
+        return localDocuments.stats();
+    }
+
+    /**
+     * Returns the vector index size and its tombstones awaiting compaction.
+     */
+    public VectorIndex.Stats getIndexStats() {
+        return index.stats();
+    }
+
+    /**
+     * Returns the binary tier's size and memory, or null when it is disabled.
+     */
+    public VectorIndex.Stats getBinaryIndexStats() {
+        return binaryIndex != null ? binaryIndex.stats() : null;
+    }
+
+    /**
+     * Clears the entire index.
+     */
+    public void clearIndex() {
+        try {
+            persistence.clear();
+            index.clear();
+            if (binaryIndex != null) {
+                binaryIndex.clear();
+            }
             localDocuments.clear();
-            System.out.println("✓ FAISS index cleared");
+            // Nothing left to import from the FAISS server either
+            indexLoaded = true;
+            System.out.println("✓ Index cleared");
         } catch (Exception e) {
             System.err.println("Error clearing index: " + e.getMessage());
+            throw new RuntimeException("Failed to clear index: " + e.getMessage(), e);
         }
     }
 }
@@ -0,0 +1,427 @@
+package com.demo.knowledgebase.service;
+
+import com.demo.knowledgebase.model.Document;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead log of document mutations, split into segment files.
+ *
+ * === RECORDS ===
+ * Each entry gets the next sequence number and is written as
+ * {@code [payload length][CRC32 of payload][payload]}, with the payload being
+ * the sequence number, the entry type and the body (document and vector for
+ * PUT, ID for DELETE, nothing for CLEAR). A record whose length or checksum
+ * does not add up marks the torn tail of an interrupted write: recovery
+ * truncates the last segment there.
+ *
+ * === SEGMENTS ===
+ * Segments are named wal-[first sequence].log. The active segment is sealed
+ * and a new one started once it exceeds segmentBytes, or when a snapshot
+ * needs the log up to now ({@link #seal}). Sealed segments are deleted once a
+ * snapshot covers them.
+ *
+ * === GROUP COMMIT ===
+ * {@link #append} returns once its entries are fsynced. Only one fsync runs
+ * at a time; writers arriving meanwhile wait for it and are then all covered
+ * by the next one, so concurrent writers share fsyncs instead of queueing one
+ * each. An entry batch (e.g. one import batch) is written with a single write
+ * call.
+ */
+final class WriteAheadLog implements AutoCloseable {
+
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_PAYLOAD_BYTES = 256 * 1024 * 1024;
+
+    enum Type {
+        PUT, DELETE, CLEAR
+    }
+
+    /**
+     * One mutation. sequence is 0 until the entry is appended.
+     */
+    record Entry(long sequence, Type type, Document document, float[] vector, String id) {
+
+        static Entry put(Document document, float[] vector) {
+            return new Entry(0, Type.PUT, document, vector, document.getId());
+        }
+
+        static Entry delete(String id) {
+            return new Entry(0, Type.DELETE, null, null, id);
+        }
+
+        static Entry clear() {
+            return new Entry(0, Type.CLEAR, null, null, null);
+        }
+    }
+
+    /**
+     * Segments that no longer receive writes, holding every entry up to lastSequence.
+     */
+    record Sealed(List<Path> segments, long lastSequence) {
+    }
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+
+    // Guarded by this
+    private FileChannel active;
+    private Path activePath;
+    private long activeSize;
+    private long lastSequence;
+    private final List<Path> sealedSegments = new ArrayList<>();
+    private long sealedBytes;
+
+    // Guarded by syncLock
+    private final Object syncLock = new Object();
+    private boolean syncing;
+    private long durableSequence;
+
+    private WriteAheadLog(Path directory, long segmentBytes, boolean fsync) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Opens the log in {@code directory}, passing every entry with a sequence
+     * above {@code afterSequence} to {@code replay}, in order.
+     */
+    static WriteAheadLog open(Path directory, long segmentBytes, boolean fsync, long afterSequence,
+            Consumer<Entry> replay) {
+        WriteAheadLog log = new WriteAheadLog(directory, Math.max(1, segmentBytes), fsync);
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = segments(directory);
+            long last = afterSequence;
+            for (int i = 0; i < segments.size(); i++) {
+                boolean tail = i == segments.size() - 1;
+                long[] lastInSegment = { last };
+                long validBytes = read(segments.get(i), entry -> {
+                    lastInSegment[0] = Math.max(lastInSegment[0], entry.sequence());
+                    if (entry.sequence() > afterSequence) {
+                        replay.accept(entry);
+                    }
+                }, tail);
+                last = lastInSegment[0];
+                if (tail) {
+                    log.openActive(segments.get(i), validBytes);
+                } else {
+                    log.sealedSegments.add(segments.get(i));
+                    log.sealedBytes += Files.size(segments.get(i));
+                }
+            }
+            log.lastSequence = last;
+            log.durableSequence = last;
+            if (log.active == null) {
+                log.openActive(segmentPath(directory, last + 1), 0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open write-ahead log in " + directory, e);
+        }
+        return log;
+    }
+
+    /**
+     * Reads the entries of a sealed segment.
+     */
+    static void readSealed(Path segment, Consumer<Entry> consumer) {
+        try {
+            read(segment, consumer, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read write-ahead log segment " + segment, e);
+        }
+    }
+
+    /**
+     * Appends the entries and waits until they are durable.
+     *
+     * @return the sequence number of the last entry
+     */
+    long append(List<Entry> entries) {
+        long last;
+        synchronized (this) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try {
+                DataOutputStream out = new DataOutputStream(bytes);
+                long sequence = lastSequence;
+                for (Entry entry : entries) {
+                    writeRecord(out, ++sequence, entry);
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                long position = activeSize;
+                while (buffer.hasRemaining()) {
+                    position += active.write(buffer, position);
+                }
+                activeSize = position;
+                lastSequence = sequence;
+                last = sequence;
+                if (activeSize >= segmentBytes) {
+                    rotate();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot append to write-ahead log in " + directory, e);
+            }
+        }
+        if (fsync) {
+            awaitDurable(last);
+        }
+        return last;
+    }
+
+    /**
+     * Seals the active segment (if it holds anything) and returns all sealed segments.
+     */
+    synchronized Sealed seal() {
+        if (activeSize > 0) {
+            try {
+                rotate();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot seal write-ahead log segment in " + directory, e);
+            }
+        }
+        return new Sealed(List.copyOf(sealedSegments), lastSequence);
+    }
+
+    /**
+     * Deletes sealed segments once a snapshot covers them.
+     */
+    synchronized void deleteSealed(List<Path> segments) {
+        for (Path segment : segments) {
+            try {
+                long size = Files.size(segment);
+                Files.deleteIfExists(segment);
+                if (sealedSegments.remove(segment)) {
+                    sealedBytes -= size;
+                }
+            } catch (IOException e) {
+                System.err.println("Cannot delete write-ahead log segment " + segment + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Bytes in all segments, sealed and active.
+     */
+    synchronized long sizeInBytes() {
+        return sealedBytes + activeSize;
+    }
+
+    synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        active.force(false);
+        active.close();
+    }
+
+    // =====================
+    // Group commit
+    // =====================
+
+    private void awaitDurable(long sequence) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                synchronized (syncLock) {
+                    while (syncing && durableSequence < sequence) {
+                        try {
+                            syncLock.wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                    if (durableSequence >= sequence) {
+                        return;
+                    }
+                    syncing = true;
+                }
+
+                // Leader: one fsync covers everything written so far
+                long target;
+                FileChannel channel;
+                synchronized (this) {
+                    target = lastSequence;
+                    channel = active;
+                }
+                boolean synced = false;
+                try {
+                    channel.force(false);
+                    synced = true;
+                } catch (ClosedChannelException e) {
+                    // Rotated meanwhile: rotate() forced the segment before closing it
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot sync write-ahead log in " + directory, e);
+                } finally {
+                    synchronized (syncLock) {
+                        syncing = false;
+                        if (synced) {
+                            durableSequence = Math.max(durableSequence, target);
+                        }
+                        syncLock.notifyAll();
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // =====================
+    // Segments
+    // =====================
+
+    private void rotate() throws IOException {
+        active.force(false);
+        active.close();
+        synchronized (syncLock) {
+            durableSequence = Math.max(durableSequence, lastSequence);
+            syncLock.notifyAll();
+        }
+        Path sealed = activePath;
+        sealedSegments.add(sealed);
+        sealedBytes += activeSize;
+        openActive(segmentPath(directory, lastSequence + 1), 0);
+    }
+
+    private void openActive(Path path, long validBytes) throws IOException {
+        active = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (active.size() > validBytes) {
+            System.err.println("Truncating torn write-ahead log tail in " + path + " at byte " + validBytes);
+            active.truncate(validBytes);
+        }
+        activePath = path;
+        activeSize = validBytes;
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> {
+                String name = p.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    private static Path segmentPath(Path directory, long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+    }
+
+    // =====================
+    // Record format
+    // =====================
+
+    private static void writeRecord(DataOutputStream out, long sequence, Entry entry) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeLong(sequence);
+        payload.writeByte(entry.type().ordinal());
+        switch (entry.type()) {
+            case PUT:
+                DocumentCodec.writeDocument(payload, entry.document());
+                DocumentCodec.writeVector(payload, entry.vector());
+                break;
+            case DELETE:
+                DocumentCodec.writeString(payload, entry.id());
+                break;
+            case CLEAR:
+                break;
+        }
+        byte[] body = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        out.writeInt(body.length);
+        out.writeInt((int) crc.getValue());
+        out.write(body);
+    }
+
+    /**
+     * Reads a segment's records.
+     *
+     * @param tolerateTornTail stop quietly at an incomplete or corrupt record
+     *                         (the tail of the last segment) instead of failing
+     * @return the number of bytes holding valid records
+     */
+    private static long read(Path segment, Consumer<Entry> consumer, boolean tolerateTornTail) throws IOException {
+        long valid = 0;
+        try (InputStream file = Files.newInputStream(segment);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(file, 1 << 16))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return valid; // Clean end
+                }
+                Entry entry = null;
+                try {
+                    int checksum = in.readInt();
+                    if (length >= 0 && length <= MAX_PAYLOAD_BYTES) {
+                        byte[] body = new byte[length];
+                        in.readFully(body);
+                        CRC32 crc = new CRC32();
+                        crc.update(body);
+                        if ((int) crc.getValue() == checksum) {
+                            entry = parse(body);
+                        }
+                    }
+                } catch (EOFException e) {
+                    // Incomplete record
+                }
+                if (entry == null) {
+                    if (tolerateTornTail) {
+                        return valid;
+                    }
+                    throw new IOException("Corrupt record at byte " + valid + " of " + segment);
+                }
+                consumer.accept(entry);
+                valid += HEADER_BYTES + length;
+            }
+        }
+    }
+
+    private static Entry parse(byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        long sequence = in.readLong();
+        int type = in.readUnsignedByte();
+        if (type >= Type.values().length) {
+            return null;
+        }
+        switch (Type.values()[type]) {
+            case PUT:
+                Document document = DocumentCodec.readDocument(in);
+                return new Entry(sequence, Type.PUT, document, DocumentCodec.readVector(in), document.getId());
+            case DELETE:
+                return new Entry(sequence, Type.DELETE, null, null, DocumentCodec.readString(in));
+            default:
+                return new Entry(sequence, Type.CLEAR, null, null, null);
+        }
+    }
+}
@@ -7,4 +7,4 @@ ${n.map((r,o)=>`${o+1}) ${r.toString()}`).join(`
   `)}`}var Lv=Nf(wf("Optional"),8);var Vv=Nf(wf("SkipSelf"),4);function tn(e,t){let n=e.hasOwnProperty(Ti);return n?e[Ti]:null}function tl(e,t){e.forEach(n=>Array.isArray(n)?tl(n,t):t(n))}function Af(e,t,n){t>=e.length?e.push(n):e.splice(t,0,n)}function Ai(e,t){return t>=e.length-1?e.pop():e.splice(t,1)[0]}function jv(e,t,n,r){let o=e.length;if(o==t)e.push(n,r);else if(o===1)e.push(r,e[0]),e[0]=n;else{for(o--,e.push(e[o-1],e[o]);o>t;){let i=o-2;e[o]=e[i],o--}e[t]=n,e[t+1]=r}}function Bv(e,t,n){let r=Jr(e,t);return r>=0?e[r|1]=n:(r=~r,jv(e,r,t,n)),r}function Ja(e,t){let n=Jr(e,t);if(n>=0)return e[n|1]}function Jr(e,t){return Uv(e,t,1)}function Uv(e,t,n){let r=0,o=e.length>>n;for(;o!==r;){let i=r+(o-r>>1),s=e[i<<n];if(t===s)return i<<n;s>t?o=i:r=i+1}return~(o<<n)}var nn={},Fe=[],zr=new b(""),Rf=new b("",-1),Of=new b(""),Ri=class{get(t,n=Jt){if(n===Jt){let r=new Error(`NullInjectorError: No provider for ${we(t)}!`);throw r.name="NullInjectorError",r}return n}};function Pf(e,t){let n=e[Sv]||null;if(!n&&t===!0)throw new Error(`Type ${we(e)} does not have '\u0275mod' property.`);return n}function Un(e){return e[Ev]||null}function $v(e){return e[Iv]||null}function Hv(e){return e[Mv]||null}function eo(e){return{\u0275providers:e}}function zv(...e){return{\u0275providers:kf(!0,e),\u0275fromNgModule:!0}}function kf(e,...t){let n=[],r=new Set,o,i=s=>{n.push(s)};return tl(t,s=>{let a=s;vc(a,i,[],r)&&(o||=[],o.push(a))}),o!==void 0&&Ff(o,i),n}function Ff(e,t){for(let n=0;n<e.length;n++){let{ngModule:r,providers:o}=e[n];nl(o,i=>{t(i,r)})}}function vc(e,t,n,r){if(e=fe(e),!e)return!1;let o=null,i=Ad(e),s=!i&&Un(e);if(!i&&!s){let c=e.ngModule;if(i=Ad(c),i)o=c;else return!1}else{if(s&&!s.standalone)return!1;o=e}let a=r.has(o);if(s){if(a)return!1;if(r.add(o),s.dependencies){let c=typeof s.dependencies=="function"?s.dependencies():s.dependencies;for(let l of c)vc(l,t,n,r)}}else if(i){if(i.imports!=null&&!a){r.add(o);let l;try{tl(i.imports,u=>{vc(u,t,n,r)&&(l||=[],l.push(u))})}finally{}l!==void 0&&Ff(l,t)}if(!a){let l=tn(o)||(()=>new o);t({provide:o,useFactory:l,deps:Fe},o),t({provide:Of,useValue:o,multi:!0},o),t({provide:zr,useValue:()=>M(o),multi:!0},o)}let c=i.providers;if(c!=null&&!a){let l=e;nl(c,u=>{t(u,l)})}}else return!1;return o!==e&&e.providers!==void 0}function nl(e,t){for(let n of e)Mf(n)&&(n=n.\u0275providers),Array.isArray(n)?nl(n,t):t(n)}var Gv=z({provide:String,useValue:z});function Lf(e){return e!==null&&typeof e=="object"&&Gv in e}function qv(e){return!!(e&&e.useExisting)}function Wv(e){return!!(e&&e.useFactory)}function $n(e){return typeof e=="function"}function Zv(e){return!!e.useClass}var os=new b(""),_i={},kd={},ec;function rl(){return ec===void 0&&(ec=new Ri),ec}var he=class{},Gr=class extends he{parent;source;scopes;records=new Map;_ngOnDestroyHooks=new Set;_onDestroyHooks=[];get destroyed(){return this._destroyed}_destroyed=!1;injectorDefTypes;constructor(t,n,r,o){super(),this.parent=n,this.source=r,this.scopes=o,Dc(t,s=>this.processProvider(s)),this.records.set(Rf,Ln(void 0,this)),o.has("environment")&&this.records.set(he,Ln(void 0,this));let i=this.records.get(os);i!=null&&typeof i.value=="string"&&this.scopes.add(i.value),this.injectorDefTypes=new Set(this.get(Of,Fe,O.Self))}retrieve(t,n){let r=n;return this.get(t,r.optional?Yo:Jt,r)}destroy(){Ur(this),this._destroyed=!0;let t=F(null);try{for(let r of this._ngOnDestroyHooks)r.ngOnDestroy();let n=this._onDestroyHooks;this._onDestroyHooks=[];for(let r of n)r()}finally{this.records.clear(),this._ngOnDestroyHooks.clear(),this.injectorDefTypes.clear(),F(t)}}onDestroy(t){return Ur(this),this._onDestroyHooks.push(t),()=>this.removeOnDestroy(t)}runInContext(t){Ur(this);let n=ht(this),r=Ce(void 0),o;try{return t()}finally{ht(n),Ce(r)}}get(t,n=Jt,r=O.Default){if(Ur(this),t.hasOwnProperty(Od))return t[Od](this);r=rs(r);let o,i=ht(this),s=Ce(void 0);try{if(!(r&O.SkipSelf)){let c=this.records.get(t);if(c===void 0){let l=Jv(t)&&ts(t);l&&this.injectableDefInScope(l)?c=Ln(yc(t),_i):c=null,this.records.set(t,c)}if(c!=null)return this.hydrate(t,c,r)}let a=r&O.Self?rl():this.parent;return n=r&O.Optional&&n===Jt?null:n,a.get(t,n)}catch(a){if(a.name==="NullInjectorError"){if((a[Ni]=a[Ni]||[]).unshift(we(t)),i)throw a;return kv(a,t,"R3InjectorError",this.source)}else throw a}finally{Ce(s),ht(i)}}resolveInjectorInitializers(){let t=F(null),n=ht(this),r=Ce(void 0),o;try{let i=this.get(zr,Fe,O.Self);for(let s of i)s()}finally{ht(n),Ce(r),F(t)}}toString(){let t=[],n=this.records;for(let r of n.keys())t.push(we(r));return`R3Injector[${t.join(", ")}]`}processProvider(t){t=fe(t);let n=$n(t)?t:fe(t&&t.provide),r=Qv(t);if(!$n(t)&&t.multi===!0){let o=this.records.get(n);o||(o=Ln(void 0,_i,!0),o.factory=()=>mc(o.multi),this.records.set(n,o)),n=t,o.multi.push(t)}this.records.set(n,r)}hydrate(t,n,r){let o=F(null);try{return n.value===kd?Sf(we(t)):n.value===_i&&(n.value=kd,n.value=n.factory(void 0,r)),typeof n.value=="object"&&n.value&&Xv(n.value)&&this._ngOnDestroyHooks.add(n.value),n.value}finally{F(o)}}injectableDefInScope(t){if(!t.providedIn)return!1;let n=fe(t.providedIn);return typeof n=="string"?n==="any"||this.scopes.has(n):this.injectorDefTypes.has(n)}removeOnDestroy(t){let n=this._onDestroyHooks.indexOf(t);n!==-1&&this._onDestroyHooks.splice(n,1)}};function yc(e){let t=ts(e),n=t!==null?t.factory:tn(e);if(n!==null)return n;if(e instanceof b)throw new C(204,!1);if(e instanceof Function)return Yv(e);throw new C(204,!1)}function Yv(e){if(e.length>0)throw new C(204,!1);let n=bv(e);return n!==null?()=>n.factory(e):()=>new e}function Qv(e){if(Lf(e))return Ln(void 0,e.useValue);{let t=Vf(e);return Ln(t,_i)}}function Vf(e,t,n){let r;if($n(e)){let o=fe(e);return tn(o)||yc(o)}else if(Lf(e))r=()=>fe(e.useValue);else if(Wv(e))r=()=>e.useFactory(...mc(e.deps||[]));else if(qv(e))r=(o,i)=>M(fe(e.useExisting),i!==void 0&&i&O.Optional?O.Optional:void 0);else{let o=fe(e&&(e.useClass||e.provide));if(Kv(e))r=()=>new o(...mc(e.deps));else return tn(o)||yc(o)}return r}function Ur(e){if(e.destroyed)throw new C(205,!1)}function Ln(e,t,n=!1){return{factory:e,value:t,multi:n?[]:void 0}}function Kv(e){return!!e.deps}function Xv(e){return e!==null&&typeof e=="object"&&typeof e.ngOnDestroy=="function"}function Jv(e){return typeof e=="function"||typeof e=="object"&&e instanceof b}function Dc(e,t){for(let n of e)Array.isArray(n)?Dc(n,t):n&&Mf(n)?Dc(n.\u0275providers,t):t(n)}function xe(e,t){let n;e instanceof Gr?(Ur(e),n=e):n=new xi(e);let r,o=ht(n),i=Ce(void 0);try{return t()}finally{ht(o),Ce(i)}}function ey(){return Tf()!==void 0||Lr()!=null}function ty(e){return typeof e=="function"}var wt=0,j=1,A=2,pe=3,We=4,Ze=5,Oi=6,Pi=7,be=8,Hn=9,mt=10,ae=11,qr=12,Fd=13,Yn=14,Je=15,zn=16,Vn=17,Gn=18,is=19,jf=20,kt=21,tc=22,ki=23,Le=24,nc=25,je=26,Bf=1;var rn=7,Fi=8,Li=9,Ve=10;function Ft(e){return Array.isArray(e)&&typeof e[Bf]=="object"}function bt(e){return Array.isArray(e)&&e[Bf]===!0}function Uf(e){return(e.flags&4)!==0}function Qn(e){return e.componentOffset>-1}function ol(e){return(e.flags&1)===1}function et(e){return!!e.template}function Vi(e){return(e[A]&512)!==0}function Kn(e){return(e[A]&256)===256}var Cc=class{previousValue;currentValue;firstChange;constructor(t,n,r){this.previousValue=t,this.currentValue=n,this.firstChange=r}isFirstChange(){return this.firstChange}};function $f(e,t,n,r){t!==null?t.applyValueToInputSignal(t,r):e[n]=r}var Lt=(()=>{let e=()=>Hf;return e.ngInherit=!0,e})();function Hf(e){return e.type.prototype.ngOnChanges&&(e.setInput=ry),ny}function ny(){let e=Gf(this),t=e?.current;if(t){let n=e.previous;if(n===nn)e.previous=t;else for(let r in t)n[r]=t[r];e.current=null,this.ngOnChanges(t)}}function ry(e,t,n,r,o){let i=this.declaredInputs[r],s=Gf(e)||oy(e,{previous:nn,current:null}),a=s.current||(s.current={}),c=s.previous,l=c[i];a[i]=new Cc(l&&l.currentValue,n,c===nn),$f(e,t,o,n)}var zf="__ngSimpleChanges__";function Gf(e){return e[zf]||null}function oy(e,t){return e[zf]=t}var Ld=null;var G=function(e,t=null,n){Ld?.(e,t,n)},iy="svg",sy="math";function tt(e){for(;Array.isArray(e);)e=e[wt];return e}function qf(e,t){return tt(t[e])}function it(e,t){return tt(t[e.index])}function Wf(e,t){return e.data[t]}function Zf(e,t){return e[t]}function ay(e,t,n,r){n>=e.data.length&&(e.data[n]=null,e.blueprint[n]=null),t[n]=r}function nt(e,t){let n=t[e];return Ft(n)?n:n[wt]}function il(e){return(e[A]&128)===128}function cy(e){return bt(e[pe])}function ji(e,t){return t==null?null:e[t]}function Yf(e){e[Vn]=0}function Qf(e){e[A]&1024||(e[A]|=1024,il(e)&&as(e))}function ly(e,t){for(;e>0;)t=t[Yn],e--;return t}function ss(e){return!!(e[A]&9216||e[Le]?.dirty)}function wc(e){e[mt].changeDetectionScheduler?.notify(8),e[A]&64&&(e[A]|=1024),ss(e)&&as(e)}function as(e){e[mt].changeDetectionScheduler?.notify(0);let t=on(e);for(;t!==null&&!(t[A]&8192||(t[A]|=8192,!il(t)));)t=on(t)}function Kf(e,t){if(Kn(e))throw new C(911,!1);e[kt]===null&&(e[kt]=[]),e[kt].push(t)}function uy(e,t){if(e[kt]===null)return;let n=e[kt].indexOf(t);n!==-1&&e[kt].splice(n,1)}function on(e){let t=e[pe];return bt(t)?t[pe]:t}function Xf(e){return e[Pi]??=[]}function Jf(e){return e.cleanup??=[]}var P={lFrame:ah(null),bindingsEnabled:!0,skipHydrationRootTNode:null};var bc=!1;function dy(){return P.lFrame.elementDepthCount}function fy(){P.lFrame.elementDepthCount++}function hy(){P.lFrame.elementDepthCount--}function eh(){return P.bindingsEnabled}function py(){return P.skipHydrationRootTNode!==null}function gy(e){return P.skipHydrationRootTNode===e}function my(){P.skipHydrationRootTNode=null}function q(){return P.lFrame.lView}function _e(){return P.lFrame.tView}function _t(e){return P.lFrame.contextLView=e,e[be]}function Et(e){return P.lFrame.contextLView=null,e}function Ne(){let e=th();for(;e!==null&&e.type===64;)e=e.parent;return e}function th(){return P.lFrame.currentTNode}function vy(){let e=P.lFrame,t=e.currentTNode;return e.isParent?t:t.parent}function to(e,t){let n=P.lFrame;n.currentTNode=e,n.isParent=t}function nh(){return P.lFrame.isParent}function yy(){P.lFrame.isParent=!1}function Dy(){return P.lFrame.contextLView}function rh(){return bc}function Vd(e){let t=bc;return bc=e,t}function Cy(){let e=P.lFrame,t=e.bindingRootIndex;return t===-1&&(t=e.bindingRootIndex=e.tView.bindingStartIndex),t}function wy(e){return P.lFrame.bindingIndex=e}function cs(){return P.lFrame.bindingIndex++}function by(e){let t=P.lFrame,n=t.bindingIndex;return t.bindingIndex=t.bindingIndex+e,n}function _y(){return P.lFrame.inI18n}function Ey(e,t){let n=P.lFrame;n.bindingIndex=n.bindingRootIndex=e,_c(t)}function Iy(){return P.lFrame.currentDirectiveIndex}function _c(e){P.lFrame.currentDirectiveIndex=e}function My(e){let t=P.lFrame.currentDirectiveIndex;return t===-1?null:e[t]}function oh(e){P.lFrame.currentQueryIndex=e}function Sy(e){let t=e[j];return t.type===2?t.declTNode:t.type===1?e[Ze]:null}function ih(e,t,n){if(n&O.SkipSelf){let o=t,i=e;for(;o=o.parent,o===null&&!(n&O.Host);)if(o=Sy(i),o===null||(i=i[Yn],o.type&10))break;if(o===null)return!1;t=o,e=i}let r=P.lFrame=sh();return r.currentTNode=t,r.lView=e,!0}function sl(e){let t=sh(),n=e[j];P.lFrame=t,t.currentTNode=n.firstChild,t.lView=e,t.tView=n,t.contextLView=e,t.bindingIndex=n.bindingStartIndex,t.inI18n=!1}function sh(){let e=P.lFrame,t=e===null?null:e.child;return t===null?ah(e):t}function ah(e){let t={currentTNode:null,isParent:!0,lView:null,tView:null,selectedIndex:-1,contextLView:null,elementDepthCount:0,currentNamespace:null,currentDirectiveIndex:-1,bindingRootIndex:-1,bindingIndex:-1,currentQueryIndex:0,parent:e,child:null,inI18n:!1};return e!==null&&(e.child=t),t}function ch(){let e=P.lFrame;return P.lFrame=e.parent,e.currentTNode=null,e.lView=null,e}var lh=ch;function al(){let e=ch();e.isParent=!0,e.tView=null,e.selectedIndex=-1,e.contextLView=null,e.elementDepthCount=0,e.currentDirectiveIndex=-1,e.currentNamespace=null,e.bindingRootIndex=-1,e.bindingIndex=-1,e.currentQueryIndex=0}function Ty(e){return(P.lFrame.contextLView=ly(e,P.lFrame.contextLView))[be]}function Xn(){return P.lFrame.selectedIndex}function sn(e){P.lFrame.selectedIndex=e}function cl(){let e=P.lFrame;return Wf(e.tView,e.selectedIndex)}function xy(){return P.lFrame.currentNamespace}var uh=!0;function ll(){return uh}function ul(e){uh=e}function Ny(e,t,n){let{ngOnChanges:r,ngOnInit:o,ngDoCheck:i}=t.type.prototype;if(r){let s=Hf(t);(n.preOrderHooks??=[]).push(e,s),(n.preOrderCheckHooks??=[]).push(e,s)}o&&(n.preOrderHooks??=[]).push(0-e,o),i&&((n.preOrderHooks??=[]).push(e,i),(n.preOrderCheckHooks??=[]).push(e,i))}function dh(e,t){for(let n=t.directiveStart,r=t.directiveEnd;n<r;n++){let i=e.data[n].type.prototype,{ngAfterContentInit:s,ngAfterContentChecked:a,ngAfterViewInit:c,ngAfterViewChecked:l,ngOnDestroy:u}=i;s&&(e.contentHooks??=[]).push(-n,s),a&&((e.contentHooks??=[]).push(n,a),(e.contentCheckHooks??=[]).push(n,a)),c&&(e.viewHooks??=[]).push(-n,c),l&&((e.viewHooks??=[]).push(n,l),(e.viewCheckHooks??=[]).push(n,l)),u!=null&&(e.destroyHooks??=[]).push(n,u)}}function Ei(e,t,n){fh(e,t,3,n)}function Ii(e,t,n,r){(e[A]&3)===n&&fh(e,t,n,r)}function rc(e,t){let n=e[A];(n&3)===t&&(n&=16383,n+=1,e[A]=n)}function fh(e,t,n,r){let o=r!==void 0?e[Vn]&65535:0,i=r??-1,s=t.length-1,a=0;for(let c=o;c<s;c++)if(typeof t[c+1]=="number"){if(a=t[c],r!=null&&a>=r)break}else t[c]<0&&(e[Vn]+=65536),(a<i||i==-1)&&(Ay(e,n,t,c),e[Vn]=(e[Vn]&4294901760)+c+2),c++}function jd(e,t){G(4,e,t);let n=F(null);try{t.call(e)}finally{F(n),G(5,e,t)}}function Ay(e,t,n,r){let o=n[r]<0,i=n[r+1],s=o?-n[r]:n[r],a=e[s];o?e[A]>>14<e[Vn]>>16&&(e[A]&3)===t&&(e[A]+=16384,jd(a,i)):jd(a,i)}var Bn=-1,an=class{factory;injectImpl;resolving=!1;canSeeViewProviders;multi;componentProviders;index;providerFactory;constructor(t,n,r){this.factory=t,this.canSeeViewProviders=n,this.injectImpl=r}};function Ry(e){return(e.flags&8)!==0}function Oy(e){return(e.flags&16)!==0}function Py(e,t,n){let r=0;for(;r<n.length;){let o=n[r];if(typeof o=="number"){if(o!==0)break;r++;let i=n[r++],s=n[r++],a=n[r++];e.setAttribute(t,s,a,i)}else{let i=o,s=n[++r];ky(i)?e.setProperty(t,i,s):e.setAttribute(t,i,s),r++}}return r}function hh(e){return e===3||e===4||e===6}function ky(e){return e.charCodeAt(0)===64}function Wr(e,t){if(!(t===null||t.length===0))if(e===null||e.length===0)e=t.slice();else{let n=-1;for(let r=0;r<t.length;r++){let o=t[r];typeof o=="number"?n=o:n===0||(n===-1||n===2?Bd(e,n,o,null,t[++r]):Bd(e,n,o,null,null))}}return e}function Bd(e,t,n,r,o){let i=0,s=e.length;if(t===-1)s=-1;else for(;i<e.length;){let a=e[i++];if(typeof a=="number"){if(a===t){s=-1;break}else if(a>t){s=i-1;break}}}for(;i<e.length;){let a=e[i];if(typeof a=="number")break;if(a===n){o!==null&&(e[i+1]=o);return}i++,o!==null&&i++}s!==-1&&(e.splice(s,0,t),i=s+1),e.splice(i++,0,n),o!==null&&e.splice(i++,0,o)}function ph(e){return e!==Bn}function Bi(e){return e&32767}function Fy(e){return e>>16}function Ui(e,t){let n=Fy(e),r=t;for(;n>0;)r=r[Yn],n--;return r}var Ec=!0;function $i(e){let t=Ec;return Ec=e,t}var Ly=256,gh=Ly-1,mh=5,Vy=0,Xe={};function jy(e,t,n){let r;typeof n=="string"?r=n.charCodeAt(0)||0:n.hasOwnProperty(Hr)&&(r=n[Hr]),r==null&&(r=n[Hr]=Vy++);let o=r&gh,i=1<<o;t.data[e+(o>>mh)]|=i}function Hi(e,t){let n=vh(e,t);if(n!==-1)return n;let r=t[j];r.firstCreatePass&&(e.injectorIndex=t.length,oc(r.data,e),oc(t,null),oc(r.blueprint,null));let o=dl(e,t),i=e.injectorIndex;if(ph(o)){let s=Bi(o),a=Ui(o,t),c=a[j].data;for(let l=0;l<8;l++)t[i+l]=a[s+l]|c[s+l]}return t[i+8]=o,i}function oc(e,t){e.push(0,0,0,0,0,0,0,0,t)}function vh(e,t){return e.injectorIndex===-1||e.parent&&e.parent.injectorIndex===e.injectorIndex||t[e.injectorIndex+8]===null?-1:e.injectorIndex}function dl(e,t){if(e.parent&&e.parent.injectorIndex!==-1)return e.parent.injectorIndex;let n=0,r=null,o=t;for(;o!==null;){if(r=bh(o),r===null)return Bn;if(n++,o=o[Yn],r.injectorIndex!==-1)return r.injectorIndex|n<<16}return Bn}function Ic(e,t,n){jy(e,t,n)}function By(e,t){if(t==="class")return e.classes;if(t==="style")return e.styles;let n=e.attrs;if(n){let r=n.length,o=0;for(;o<r;){let i=n[o];if(hh(i))break;if(i===0)o=o+2;else if(typeof i=="number")for(o++;o<r&&typeof n[o]=="string";)o++;else{if(i===t)return n[o+1];o=o+2}}}return null}function yh(e,t,n){if(n&O.Optional||e!==void 0)return e;el(t,"NodeInjector")}function Dh(e,t,n,r){if(n&O.Optional&&r===void 0&&(r=null),(n&(O.Self|O.Host))===0){let o=e[Hn],i=Ce(void 0);try{return o?o.get(t,r,n&O.Optional):xf(t,r,n&O.Optional)}finally{Ce(i)}}return yh(r,t,n)}function Ch(e,t,n,r=O.Default,o){if(e!==null){if(t[A]&2048&&!(r&O.Self)){let s=Gy(e,t,n,r,Xe);if(s!==Xe)return s}let i=wh(e,t,n,r,Xe);if(i!==Xe)return i}return Dh(t,n,r,o)}function wh(e,t,n,r,o){let i=Hy(n);if(typeof i=="function"){if(!ih(t,e,r))return r&O.Host?yh(o,n,r):Dh(t,n,r,o);try{let s;if(s=i(r),s==null&&!(r&O.Optional))el(n);else return s}finally{lh()}}else if(typeof i=="number"){let s=null,a=vh(e,t),c=Bn,l=r&O.Host?t[Je][Ze]:null;for((a===-1||r&O.SkipSelf)&&(c=a===-1?dl(e,t):t[a+8],c===Bn||!$d(r,!1)?a=-1:(s=t[j],a=Bi(c),t=Ui(c,t)));a!==-1;){let u=t[j];if(Ud(i,a,u.data)){let f=Uy(a,t,n,s,r,l);if(f!==Xe)return f}c=t[a+8],c!==Bn&&$d(r,t[j].data[a+8]===l)&&Ud(i,a,t)?(s=u,a=Bi(c),t=Ui(c,t)):a=-1}}return o}function Uy(e,t,n,r,o,i){let s=t[j],a=s.data[e+8],c=r==null?Qn(a)&&Ec:r!=s&&(a.type&3)!==0,l=o&O.Host&&i===a,u=$y(a,s,n,c,l);return u!==null?zi(t,s,u,a,o):Xe}function $y(e,t,n,r,o){let i=e.providerIndexes,s=t.data,a=i&1048575,c=e.directiveStart,l=e.directiveEnd,u=i>>20,f=r?a:a+u,h=o?a+u:l;for(let d=f;d<h;d++){let m=s[d];if(d<c&&n===m||d>=c&&m.type===n)return d}if(o){let d=s[c];if(d&&et(d)&&d.type===n)return c}return null}function zi(e,t,n,r,o){let i=e[n],s=t.data;if(i instanceof an){let a=i;a.resolving&&Sf(Tv(s[n]));let c=$i(a.canSeeViewProviders);a.resolving=!0;let l,u=a.injectImpl?Ce(a.injectImpl):null,f=ih(e,r,O.Default);try{i=e[n]=a.factory(void 0,o,s,e,r),t.firstCreatePass&&n>=r.directiveStart&&Ny(n,s[n],t)}finally{u!==null&&Ce(u),$i(c),a.resolving=!1,lh()}}return i}function Hy(e){if(typeof e=="string")return e.charCodeAt(0)||0;let t=e.hasOwnProperty(Hr)?e[Hr]:void 0;return typeof t=="number"?t>=0?t&gh:zy:t}function Ud(e,t,n){let r=1<<e;return!!(n[t+(e>>mh)]&r)}function $d(e,t){return!(e&O.Self)&&!(e&O.Host&&t)}var en=class{_tNode;_lView;constructor(t,n){this._tNode=t,this._lView=n}get(t,n,r){return Ch(this._tNode,this._lView,t,rs(r),n)}};function zy(){return new en(Ne(),q())}function It(e){return Xr(()=>{let t=e.prototype.constructor,n=t[Ti]||Mc(t),r=Object.prototype,o=Object.getPrototypeOf(e.prototype).constructor;for(;o&&o!==r;){let i=o[Ti]||Mc(o);if(i&&i!==n)return i;o=Object.getPrototypeOf(o)}return i=>new i})}function Mc(e){return bf(e)?()=>{let t=Mc(fe(e));return t&&t()}:tn(e)}function Gy(e,t,n,r,o){let i=e,s=t;for(;i!==null&&s!==null&&s[A]&2048&&!Vi(s);){let a=wh(i,s,n,r|O.Self,Xe);if(a!==Xe)return a;let c=i.parent;if(!c){let l=s[jf];if(l){let u=l.get(n,Xe,r);if(u!==Xe)return u}c=bh(s),s=s[Yn]}i=c}return o}function bh(e){let t=e[j],n=t.type;return n===2?t.declTNode:n===1?e[Ze]:null}function fl(e){return By(Ne(),e)}function Hd(e,t=null,n=null,r){let o=_h(e,t,n,r);return o.resolveInjectorInitializers(),o}function _h(e,t=null,n=null,r,o=new Set){let i=[n||Fe,zv(e)];return r=r||(typeof e=="object"?void 0:we(e)),new Gr(i,t||rl(),r||null,o)}var vt=class e{static THROW_IF_NOT_FOUND=Jt;static NULL=new Ri;static create(t,n){if(Array.isArray(t))return Hd({name:""},n,t,"");{let r=t.name??"";return Hd({name:r},t.parent,t.providers,r)}}static \u0275prov=_({token:e,providedIn:"any",factory:()=>M(Rf)});static __NG_ELEMENT_ID__=-1};var qy=new b("");qy.__NG_ELEMENT_ID__=e=>{let t=Ne();if(t===null)throw new C(204,!1);if(t.type&2)return t.value;if(e&O.Optional)return null;throw new C(204,!1)};var Eh=!1,Jn=(()=>{class e{static __NG_ELEMENT_ID__=Wy;static __NG_ENV_ID__=n=>n}return e})(),Sc=class extends Jn{_lView;constructor(t){super(),this._lView=t}onDestroy(t){let n=this._lView;return Kn(n)?(t(),()=>{}):(Kf(n,t),()=>uy(n,t))}};function Wy(){return new Sc(q())}var Zr=class{},hl=new b("",{providedIn:"root",factory:()=>!1});var Ih=new b(""),Mh=new b(""),Vt=(()=>{class e{taskId=0;pendingTasks=new Set;get _hasPendingTasks(){return this.hasPendingTasks.value}hasPendingTasks=new Y(!1);add(){this._hasPendingTasks||this.hasPendingTasks.next(!0);let n=this.taskId++;return this.pendingTasks.add(n),n}has(n){return this.pendingTasks.has(n)}remove(n){this.pendingTasks.delete(n),this.pendingTasks.size===0&&this._hasPendingTasks&&this.hasPendingTasks.next(!1)}ngOnDestroy(){this.pendingTasks.clear(),this._hasPendingTasks&&this.hasPendingTasks.next(!1)}static \u0275prov=_({token:e,providedIn:"root",factory:()=>new e})}return e})();var Tc=class extends ee{__isAsync;destroyRef=void 0;pendingTasks=void 0;constructor(t=!1){super(),this.__isAsync=t,ey()&&(this.destroyRef=v(Jn,{optional:!0})??void 0,this.pendingTasks=v(Vt,{optional:!0})??void 0)}emit(t){let n=F(null);try{super.next(t)}finally{F(n)}}subscribe(t,n,r){let o=t,i=n||(()=>null),s=r;if(t&&typeof t=="object"){let c=t;o=c.next?.bind(c),i=c.error?.bind(c),s=c.complete?.bind(c)}this.__isAsync&&(i=this.wrapInTimeout(i),o&&(o=this.wrapInTimeout(o)),s&&(s=this.wrapInTimeout(s)));let a=super.subscribe({next:o,error:i,complete:s});return t instanceof J&&t.add(a),a}wrapInTimeout(t){return n=>{let r=this.pendingTasks?.add();setTimeout(()=>{try{t(n)}finally{r!==void 0&&this.pendingTasks?.remove(r)}})}}},se=Tc;function Gi(...e){}function Sh(e){let t,n;function r(){e=Gi;try{n!==void 0&&typeof cancelAnimationFrame=="function"&&cancelAnimationFrame(n),t!==void 0&&clearTimeout(t)}catch{}}return t=setTimeout(()=>{e(),r()}),typeof requestAnimationFrame=="function"&&(n=requestAnimationFrame(()=>{e(),r()})),()=>r()}function zd(e){return queueMicrotask(()=>e()),()=>{e=Gi}}var pl="isAngularZone",qi=pl+"_ID",Zy=0,ne=class e{hasPendingMacrotasks=!1;hasPendingMicrotasks=!1;isStable=!0;onUnstable=new se(!1);onMicrotaskEmpty=new se(!1);onStable=new se(!1);onError=new se(!1);constructor(t){let{enableLongStackTrace:n=!1,shouldCoalesceEventChangeDetection:r=!1,shouldCoalesceRunChangeDetection:o=!1,scheduleInRootZone:i=Eh}=t;if(typeof Zone>"u")throw new C(908,!1);Zone.assertZonePatched();let s=this;s._nesting=0,s._outer=s._inner=Zone.current,Zone.TaskTrackingZoneSpec&&(s._inner=s._inner.fork(new Zone.TaskTrackingZoneSpec)),n&&Zone.longStackTraceZoneSpec&&(s._inner=s._inner.fork(Zone.longStackTraceZoneSpec)),s.shouldCoalesceEventChangeDetection=!o&&r,s.shouldCoalesceRunChangeDetection=o,s.callbackScheduled=!1,s.scheduleInRootZone=i,Ky(s)}static isInAngularZone(){return typeof Zone<"u"&&Zone.current.get(pl)===!0}static assertInAngularZone(){if(!e.isInAngularZone())throw new C(909,!1)}static assertNotInAngularZone(){if(e.isInAngularZone())throw new C(909,!1)}run(t,n,r){return this._inner.run(t,n,r)}runTask(t,n,r,o){let i=this._inner,s=i.scheduleEventTask("NgZoneEvent: "+o,t,Yy,Gi,Gi);try{return i.runTask(s,n,r)}finally{i.cancelTask(s)}}runGuarded(t,n,r){return this._inner.runGuarded(t,n,r)}runOutsideAngular(t){return this._outer.run(t)}},Yy={};function gl(e){if(e._nesting==0&&!e.hasPendingMicrotasks&&!e.isStable)try{e._nesting++,e.onMicrotaskEmpty.emit(null)}finally{if(e._nesting--,!e.hasPendingMicrotasks)try{e.runOutsideAngular(()=>e.onStable.emit(null))}finally{e.isStable=!0}}}function Qy(e){if(e.isCheckStableRunning||e.callbackScheduled)return;e.callbackScheduled=!0;function t(){Sh(()=>{e.callbackScheduled=!1,xc(e),e.isCheckStableRunning=!0,gl(e),e.isCheckStableRunning=!1})}e.scheduleInRootZone?Zone.root.run(()=>{t()}):e._outer.run(()=>{t()}),xc(e)}function Ky(e){let t=()=>{Qy(e)},n=Zy++;e._inner=e._inner.fork({name:"angular",properties:{[pl]:!0,[qi]:n,[qi+n]:!0},onInvokeTask:(r,o,i,s,a,c)=>{if(Xy(c))return r.invokeTask(i,s,a,c);try{return Gd(e),r.invokeTask(i,s,a,c)}finally{(e.shouldCoalesceEventChangeDetection&&s.type==="eventTask"||e.shouldCoalesceRunChangeDetection)&&t(),qd(e)}},onInvoke:(r,o,i,s,a,c,l)=>{try{return Gd(e),r.invoke(i,s,a,c,l)}finally{e.shouldCoalesceRunChangeDetection&&!e.callbackScheduled&&!Jy(c)&&t(),qd(e)}},onHasTask:(r,o,i,s)=>{r.hasTask(i,s),o===i&&(s.change=="microTask"?(e._hasPendingMicrotasks=s.microTask,xc(e),gl(e)):s.change=="macroTask"&&(e.hasPendingMacrotasks=s.macroTask))},onHandleError:(r,o,i,s)=>(r.handleError(i,s),e.runOutsideAngular(()=>e.onError.emit(s)),!1)})}function xc(e){e._hasPendingMicrotasks||(e.shouldCoalesceEventChangeDetection||e.shouldCoalesceRunChangeDetection)&&e.callbackScheduled===!0?e.hasPendingMicrotasks=!0:e.hasPendingMicrotasks=!1}function Gd(e){e._nesting++,e.isStable&&(e.isStable=!1,e.onUnstable.emit(null))}function qd(e){e._nesting--,gl(e)}var Nc=class{hasPendingMicrotasks=!1;hasPendingMacrotasks=!1;isStable=!0;onUnstable=new se;onMicrotaskEmpty=new se;onStable=new se;onError=new se;run(t,n,r){return t.apply(n,r)}runGuarded(t,n,r){return t.apply(n,r)}runOutsideAngular(t){return t()}runTask(t,n,r,o){return t.apply(n,r)}};function Xy(e){return Th(e,"__ignore_ng_zone__")}function Jy(e){return Th(e,"__scheduler_tick__")}function Th(e,t){return!Array.isArray(e)||e.length!==1?!1:e[0]?.data?.[t]===!0}var yt=class{_console=console;handleError(t){this._console.error("ERROR",t)}},eD=new b("",{providedIn:"root",factory:()=>{let e=v(ne),t=v(yt);return n=>e.runOutsideAngular(()=>t.handleError(n))}});function Wd(e,t){return Cf(e,t)}function tD(e){return Cf(Df,e)}var xh=(Wd.required=tD,Wd);function nD(){return ls(Ne(),q())}function ls(e,t){return new un(it(e,t))}var un=(()=>{class e{nativeElement;constructor(n){this.nativeElement=n}static __NG_ELEMENT_ID__=nD}return e})();function rD(e){return typeof e=="function"&&e[Pe]!==void 0}function no(e,t){let n=Pa(e,t?.equal),r=n[Pe];return n.set=o=>Fr(r,o),n.update=o=>ka(r,o),n.asReadonly=oD.bind(n),n}function oD(){let e=this[Pe];if(e.readonlyFn===void 0){let t=()=>this();t[Pe]=e,e.readonlyFn=t}return e.readonlyFn}function Nh(e){return rD(e)&&typeof e.set=="function"}function Ah(e){return(e.flags&128)===128}var Rh=function(e){return e[e.OnPush=0]="OnPush",e[e.Default=1]="Default",e}(Rh||{}),Oh=new Map,iD=0;function sD(){return iD++}function aD(e){Oh.set(e[is],e)}function Ac(e){Oh.delete(e[is])}var Zd="__ngContext__";function ro(e,t){Ft(t)?(e[Zd]=t[is],aD(t)):e[Zd]=t}function Ph(e){return Fh(e[qr])}function kh(e){return Fh(e[We])}function Fh(e){for(;e!==null&&!bt(e);)e=e[We];return e}var Rc;function Lh(e){Rc=e}function cD(){if(Rc!==void 0)return Rc;if(typeof document<"u")return document;throw new C(210,!1)}var ml=new b("",{providedIn:"root",factory:()=>lD}),lD="ng",vl=new b(""),oo=new b("",{providedIn:"platform",factory:()=>"unknown"});var yl=new b("",{providedIn:"root",factory:()=>cD().body?.querySelector("[ngCspNonce]")?.getAttribute("ngCspNonce")||null});var uD="h",dD="b";var Vh=!1,fD=new b("",{providedIn:"root",factory:()=>Vh});var jh=function(e){return e[e.CHANGE_DETECTION=0]="CHANGE_DETECTION",e[e.AFTER_NEXT_RENDER=1]="AFTER_NEXT_RENDER",e}(jh||{}),us=new b(""),Yd=new Set;function Dl(e){Yd.has(e)||(Yd.add(e),performance?.mark?.("mark_feature_usage",{detail:{feature:e}}))}var hD=(()=>{class e{impl=null;execute(){this.impl?.execute()}static \u0275prov=_({token:e,providedIn:"root",factory:()=>new e})}return e})();var pD=(e,t,n,r)=>{};function gD(e,t,n,r){pD(e,t,n,r)}var mD=()=>null;function Bh(e,t,n=!1){return mD(e,t,n)}function Uh(e,t){let n=e.contentQueries;if(n!==null){let r=F(null);try{for(let o=0;o<n.length;o+=2){let i=n[o],s=n[o+1];if(s!==-1){let a=e.data[s];oh(i),a.contentQueries(2,t[s],s)}}}finally{F(r)}}}function Oc(e,t,n){oh(0);let r=F(null);try{t(e,n)}finally{F(r)}}function $h(e,t,n){if(Uf(t)){let r=F(null);try{let o=t.directiveStart,i=t.directiveEnd;for(let s=o;s<i;s++){let a=e.data[s];if(a.contentQueries){let c=n[s];a.contentQueries(1,c,s)}}}finally{F(r)}}}var rt=function(e){return e[e.Emulated=0]="Emulated",e[e.None=2]="None",e[e.ShadowDom=3]="ShadowDom",e}(rt||{});var wi;function vD(){if(wi===void 0&&(wi=null,hc.trustedTypes))try{wi=hc.trustedTypes.createPolicy("angular#unsafe-bypass",{createHTML:e=>e,createScript:e=>e,createScriptURL:e=>e})}catch{}return wi}function Qd(e){return vD()?.createScriptURL(e)||e}var Wi=class{changingThisBreaksApplicationSecurity;constructor(t){this.changingThisBreaksApplicationSecurity=t}toString(){return`SafeValue must use [property]=binding: ${this.changingThisBreaksApplicationSecurity} (see ${yf})`}};function Cl(e){return e instanceof Wi?e.changingThisBreaksApplicationSecurity:e}function Hh(e,t){let n=yD(e);if(n!=null&&n!==t){if(n==="ResourceURL"&&t==="URL")return!0;throw new Error(`Required a safe ${t}, got a ${n} (see ${yf})`)}return n===t}function yD(e){return e instanceof Wi&&e.getTypeName()||null}var DD=/^(?!javascript:)(?:[a-z0-9+.-]+:|[^&:\/?#]*(?:[\/?#]|$))/i;function CD(e){return e=String(e),e.match(DD)?e:"unsafe:"+e}function wD(e,t){return e.createText(t)}function bD(e,t,n){e.setValue(t,n)}function zh(e,t,n){return e.createElement(t,n)}function Zi(e,t,n,r,o){e.insertBefore(t,n,r,o)}function Gh(e,t,n){e.appendChild(t,n)}function Kd(e,t,n,r,o){r!==null?Zi(e,t,n,r,o):Gh(e,t,n)}function _D(e,t,n){e.removeChild(null,t,n)}function ED(e,t,n){e.setAttribute(t,"style",n)}function ID(e,t,n){n===""?e.removeAttribute(t,"class"):e.setAttribute(t,"class",n)}function qh(e,t,n){let{mergedAttrs:r,classes:o,styles:i}=n;r!==null&&Py(e,t,r),o!==null&&ID(e,t,o),i!==null&&ED(e,t,i)}var wl=function(e){return e[e.NONE=0]="NONE",e[e.HTML=1]="HTML",e[e.STYLE=2]="STYLE",e[e.SCRIPT=3]="SCRIPT",e[e.URL=4]="URL",e[e.RESOURCE_URL=5]="RESOURCE_URL",e}(wl||{});function MD(e){let t=Zh();return t?t.sanitize(wl.URL,e)||"":Hh(e,"URL")?Cl(e):CD(ns(e))}function SD(e){let t=Zh();if(t)return Qd(t.sanitize(wl.RESOURCE_URL,e)||"");if(Hh(e,"ResourceURL"))return Qd(Cl(e));throw new C(904,!1)}var TD=new Set(["embed","frame","iframe","media","script"]),xD=new Set(["base","link","script"]);function ND(e,t){return t==="src"&&TD.has(e)||t==="href"&&xD.has(e)||t==="xlink:href"&&e==="script"?SD:MD}function Wh(e,t,n){return ND(t,n)(e)}function Zh(){let e=q();return e&&e[mt].sanitizer}function Yh(e){return e.ownerDocument.defaultView}function Qh(e){return e.ownerDocument}function Kh(e){return e instanceof Function?e():e}function AD(e,t,n){let r=e.length;for(;;){let o=e.indexOf(t,n);if(o===-1)return o;if(o===0||e.charCodeAt(o-1)<=32){let i=t.length;if(o+i===r||e.charCodeAt(o+i)<=32)return o}n=o+1}}var Xh="ng-template";function RD(e,t,n,r){let o=0;if(r){for(;o<t.length&&typeof t[o]=="string";o+=2)if(t[o]==="class"&&AD(t[o+1].toLowerCase(),n,0)!==-1)return!0}else if(bl(e))return!1;if(o=t.indexOf(1,o),o>-1){let i;for(;++o<t.length&&typeof(i=t[o])=="string";)if(i.toLowerCase()===n)return!0}return!1}function bl(e){return e.type===4&&e.value!==Xh}function OD(e,t,n){let r=e.type===4&&!n?Xh:e.value;return t===r}function PD(e,t,n){let r=4,o=e.attrs,i=o!==null?LD(o):0,s=!1;for(let a=0;a<t.length;a++){let c=t[a];if(typeof c=="number"){if(!s&&!qe(r)&&!qe(c))return!1;if(s&&qe(c))continue;s=!1,r=c|r&1;continue}if(!s)if(r&4){if(r=2|r&1,c!==""&&!OD(e,c,n)||c===""&&t.length===1){if(qe(r))return!1;s=!0}}else if(r&8){if(o===null||!RD(e,o,c,n)){if(qe(r))return!1;s=!0}}else{let l=t[++a],u=kD(c,o,bl(e),n);if(u===-1){if(qe(r))return!1;s=!0;continue}if(l!==""){let f;if(u>i?f="":f=o[u+1].toLowerCase(),r&2&&l!==f){if(qe(r))return!1;s=!0}}}}return qe(r)||s}function qe(e){return(e&1)===0}function kD(e,t,n,r){if(t===null)return-1;let o=0;if(r||!n){let i=!1;for(;o<t.length;){let s=t[o];if(s===e)return o;if(s===3||s===6)i=!0;else if(s===1||s===2){let a=t[++o];for(;typeof a=="string";)a=t[++o];continue}else{if(s===4)break;if(s===0){o+=4;continue}}o+=i?1:2}return-1}else return VD(t,e)}function FD(e,t,n=!1){for(let r=0;r<t.length;r++)if(PD(e,t[r],n))return!0;return!1}function LD(e){for(let t=0;t<e.length;t++){let n=e[t];if(hh(n))return t}return e.length}function VD(e,t){let n=e.indexOf(4);if(n>-1)for(n++;n<e.length;){let r=e[n];if(typeof r=="number")return-1;if(r===t)return n;n++}return-1}function Xd(e,t){return e?":not("+t.trim()+")":t}function jD(e){let t=e[0],n=1,r=2,o="",i=!1;for(;n<e.length;){let s=e[n];if(typeof s=="string")if(r&2){let a=e[++n];o+="["+s+(a.length>0?'="'+a+'"':"")+"]"}else r&8?o+="."+s:r&4&&(o+=" "+s);else o!==""&&!qe(s)&&(t+=Xd(i,o),o=""),r=s,i=i||!qe(r);n++}return o!==""&&(t+=Xd(i,o)),t}function BD(e){return e.map(jD).join(",")}function UD(e){let t=[],n=[],r=1,o=2;for(;r<e.length;){let i=e[r];if(typeof i=="string")o===2?i!==""&&t.push(i,e[++r]):o===8&&n.push(i);else{if(!qe(o))break;o=i}r++}return n.length&&t.push(1,...n),t}var dn={};function _l(e,t,n,r,o,i,s,a,c,l,u){let f=je+r,h=f+o,d=$D(f,h),m=typeof l=="function"?l():l;return d[j]={type:e,blueprint:d,template:n,queries:null,viewQuery:a,declTNode:t,data:d.slice().fill(null,f),bindingStartIndex:f,expandoStartIndex:h,hostBindingOpCodes:null,firstCreatePass:!0,firstUpdatePass:!0,staticViewQueries:!1,staticContentQueries:!1,preOrderHooks:null,preOrderCheckHooks:null,contentHooks:null,contentCheckHooks:null,viewHooks:null,viewCheckHooks:null,destroyHooks:null,cleanup:null,contentQueries:null,components:null,directiveRegistry:typeof i=="function"?i():i,pipeRegistry:typeof s=="function"?s():s,firstChild:null,schemas:c,consts:m,incompleteFirstPass:!1,ssrId:u}}function $D(e,t){let n=[];for(let r=0;r<t;r++)n.push(r<e?null:dn);return n}function HD(e){let t=e.tView;return t===null||t.incompleteFirstPass?e.tView=_l(1,null,e.template,e.decls,e.vars,e.directiveDefs,e.pipeDefs,e.viewQuery,e.schemas,e.consts,e.id):t}function El(e,t,n,r,o,i,s,a,c,l,u){let f=t.blueprint.slice();return f[wt]=o,f[A]=r|4|128|8|64|1024,(l!==null||e&&e[A]&2048)&&(f[A]|=2048),Yf(f),f[pe]=f[Yn]=e,f[be]=n,f[mt]=s||e&&e[mt],f[ae]=a||e&&e[ae],f[Hn]=c||e&&e[Hn]||null,f[Ze]=i,f[is]=sD(),f[Oi]=u,f[jf]=l,f[Je]=t.type==2?e[Je]:f,f}function zD(e,t,n){let r=it(t,e),o=HD(n),i=e[mt].rendererFactory,s=Il(e,El(e,o,null,Jh(n),r,t,null,i.createRenderer(r,n),null,null,null));return e[t.index]=s}function Jh(e){let t=16;return e.signals?t=4096:e.onPush&&(t=64),t}function ep(e,t,n,r){if(n===0)return-1;let o=t.length;for(let i=0;i<n;i++)t.push(r),e.blueprint.push(r),e.data.push(null);return o}function Il(e,t){return e[qr]?e[Fd][We]=t:e[qr]=t,e[Fd]=t,t}function E(e=1){tp(_e(),q(),Xn()+e,!1)}function tp(e,t,n,r){if(!r)if((t[A]&3)===3){let i=e.preOrderCheckHooks;i!==null&&Ei(t,i,n)}else{let i=e.preOrderHooks;i!==null&&Ii(t,i,0,n)}sn(n)}var ds=function(e){return e[e.None=0]="None",e[e.SignalBased=1]="SignalBased",e[e.HasDecoratorInputTransform=2]="HasDecoratorInputTransform",e}(ds||{});function Pc(e,t,n,r){let o=F(null);try{let[i,s,a]=e.inputs[n],c=null;(s&ds.SignalBased)!==0&&(c=t[i][Pe]),c!==null&&c.transformFn!==void 0?r=c.transformFn(r):a!==null&&(r=a.call(t,r)),e.setInput!==null?e.setInput(t,c,r,n,i):$f(t,c,i,r)}finally{F(o)}}function np(e,t,n,r,o){let i=Xn(),s=r&2;try{sn(-1),s&&t.length>je&&tp(e,t,je,!1),G(s?2:0,o),n(r,o)}finally{sn(i),G(s?3:1,o)}}function Ml(e,t,n){QD(e,t,n),(n.flags&64)===64&&KD(e,t,n)}function rp(e,t,n=it){let r=t.localNames;if(r!==null){let o=t.index+1;for(let i=0;i<r.length;i+=2){let s=r[i+1],a=s===-1?n(t,e):e[s];e[o++]=a}}}function GD(e,t,n,r){let i=r.get(fD,Vh)||n===rt.ShadowDom,s=e.selectRootElement(t,i);return qD(s),s}function qD(e){WD(e)}var WD=()=>null;function ZD(e){return e==="class"?"className":e==="for"?"htmlFor":e==="formaction"?"formAction":e==="innerHtml"?"innerHTML":e==="readonly"?"readOnly":e==="tabindex"?"tabIndex":e}function op(e,t,n,r,o,i,s,a){if(!a&&Sl(t,e,n,r,o)){Qn(t)&&YD(n,t.index);return}if(t.type&3){let c=it(t,n);r=ZD(r),o=s!=null?s(o,t.value||"",r):o,i.setProperty(c,r,o)}else t.type&12}function YD(e,t){let n=nt(t,e);n[A]&16||(n[A]|=64)}function QD(e,t,n){let r=n.directiveStart,o=n.directiveEnd;Qn(n)&&zD(t,n,e.data[r+n.componentOffset]),e.firstCreatePass||Hi(n,t);let i=n.initialInputs;for(let s=r;s<o;s++){let a=e.data[s],c=zi(t,e,s,n);if(ro(c,t),i!==null&&tC(t,s-r,c,a,n,i),et(a)){let l=nt(n.index,t);l[be]=zi(t,e,s,n)}}}function KD(e,t,n){let r=n.directiveStart,o=n.directiveEnd,i=n.index,s=Iy();try{sn(i);for(let a=r;a<o;a++){let c=e.data[a],l=t[a];_c(a),(c.hostBindings!==null||c.hostVars!==0||c.hostAttrs!==null)&&XD(c,l)}}finally{sn(-1),_c(s)}}function XD(e,t){e.hostBindings!==null&&e.hostBindings(1,t)}function ip(e,t){let n=e.directiveRegistry,r=null;if(n)for(let o=0;o<n.length;o++){let i=n[o];FD(t,i.selectors,!1)&&(r??=[],et(i)?r.unshift(i):r.push(i))}return r}function JD(e,t,n,r,o,i){let s=it(e,t);eC(t[ae],s,i,e.value,n,r,o)}function eC(e,t,n,r,o,i,s){if(i==null)e.removeAttribute(t,o,n);else{let a=s==null?ns(i):s(i,r||"",o);e.setAttribute(t,o,a,n)}}function tC(e,t,n,r,o,i){let s=i[t];if(s!==null)for(let a=0;a<s.length;a+=2){let c=s[a],l=s[a+1];Pc(r,n,c,l)}}function nC(e,t){let n=e[Hn],r=n?n.get(yt,null):null;r&&r.handleError(t)}function Sl(e,t,n,r,o){let i=e.inputs?.[r],s=e.hostDirectiveInputs?.[r],a=!1;if(s)for(let c=0;c<s.length;c+=2){let l=s[c],u=s[c+1],f=t.data[l];Pc(f,n[l],u,o),a=!0}if(i)for(let c of i){let l=n[c],u=t.data[c];Pc(u,l,r,o),a=!0}return a}function rC(e,t){let n=nt(t,e),r=n[j];oC(r,n);let o=n[wt];o!==null&&n[Oi]===null&&(n[Oi]=Bh(o,n[Hn])),G(18),Tl(r,n,n[be]),G(19,n[be])}function oC(e,t){for(let n=t.length;n<e.blueprint.length;n++)t.push(e.blueprint[n])}function Tl(e,t,n){sl(t);try{let r=e.viewQuery;r!==null&&Oc(1,r,n);let o=e.template;o!==null&&np(e,t,o,1,n),e.firstCreatePass&&(e.firstCreatePass=!1),t[Gn]?.finishViewCreation(e),e.staticContentQueries&&Uh(e,t),e.staticViewQueries&&Oc(2,e.viewQuery,n);let i=e.components;i!==null&&iC(t,i)}catch(r){throw e.firstCreatePass&&(e.incompleteFirstPass=!0,e.firstCreatePass=!1),r}finally{t[A]&=-5,al()}}function iC(e,t){for(let n=0;n<t.length;n++)rC(e,t[n])}function sC(e,t,n,r){let o=F(null);try{let i=t.tView,a=e[A]&4096?4096:16,c=El(e,i,n,a,null,t,null,null,r?.injector??null,r?.embeddedViewInjector??null,r?.dehydratedView??null),l=e[t.index];c[zn]=l;let u=e[Gn];return u!==null&&(c[Gn]=u.createEmbeddedView(i)),Tl(i,c,n),c}finally{F(o)}}function Jd(e,t){return!t||t.firstChild===null||Ah(e)}var aC;function xl(e,t){return aC(e,t)}var Dt=function(e){return e[e.Important=1]="Important",e[e.DashCase=2]="DashCase",e}(Dt||{});function sp(e){return(e.flags&32)===32}function jn(e,t,n,r,o){if(r!=null){let i,s=!1;bt(r)?i=r:Ft(r)&&(s=!0,r=r[wt]);let a=tt(r);e===0&&n!==null?o==null?Gh(t,n,a):Zi(t,n,a,o||null,!0):e===1&&n!==null?Zi(t,n,a,o||null,!0):e===2?_D(t,a,s):e===3&&t.destroyNode(a),i!=null&&DC(t,e,i,n,o)}}function cC(e,t){ap(e,t),t[wt]=null,t[Ze]=null}function lC(e,t,n,r,o,i){r[wt]=o,r[Ze]=t,fs(e,r,n,1,o,i)}function ap(e,t){t[mt].changeDetectionScheduler?.notify(9),fs(e,t,t[ae],2,null,null)}function uC(e){let t=e[qr];if(!t)return ic(e[j],e);for(;t;){let n=null;if(Ft(t))n=t[qr];else{let r=t[Ve];r&&(n=r)}if(!n){for(;t&&!t[We]&&t!==e;)Ft(t)&&ic(t[j],t),t=t[pe];t===null&&(t=e),Ft(t)&&ic(t[j],t),n=t&&t[We]}t=n}}function Nl(e,t){let n=e[Li],r=n.indexOf(t);n.splice(r,1)}function cp(e,t){if(Kn(t))return;let n=t[ae];n.destroyNode&&fs(e,t,n,3,null,null),uC(t)}function ic(e,t){if(Kn(t))return;let n=F(null);try{t[A]&=-129,t[A]|=256,t[Le]&&Aa(t[Le]),fC(e,t),dC(e,t),t[j].type===1&&t[ae].destroy();let r=t[zn];if(r!==null&&bt(t[pe])){r!==t[pe]&&Nl(r,t);let o=t[Gn];o!==null&&o.detachView(e)}Ac(t)}finally{F(n)}}function dC(e,t){let n=e.cleanup,r=t[Pi];if(n!==null)for(let s=0;s<n.length-1;s+=2)if(typeof n[s]=="string"){let a=n[s+3];a>=0?r[a]():r[-a].unsubscribe(),s+=2}else{let a=r[n[s+1]];n[s].call(a)}r!==null&&(t[Pi]=null);let o=t[kt];if(o!==null){t[kt]=null;for(let s=0;s<o.length;s++){let a=o[s];a()}}let i=t[ki];if(i!==null){t[ki]=null;for(let s of i)s.destroy()}}function fC(e,t){let n;if(e!=null&&(n=e.destroyHooks)!=null)for(let r=0;r<n.length;r+=2){let o=t[n[r]];if(!(o instanceof an)){let i=n[r+1];if(Array.isArray(i))for(let s=0;s<i.length;s+=2){let a=o[i[s]],c=i[s+1];G(4,a,c);try{c.call(a)}finally{G(5,a,c)}}else{G(4,o,i);try{i.call(o)}finally{G(5,o,i)}}}}}function hC(e,t,n){return pC(e,t.parent,n)}function pC(e,t,n){let r=t;for(;r!==null&&r.type&168;)t=r,r=t.parent;if(r===null)return n[wt];if(Qn(r)){let{encapsulation:o}=e.data[r.directiveStart+r.componentOffset];if(o===rt.None||o===rt.Emulated)return null}return it(r,n)}function gC(e,t,n){return vC(e,t,n)}function mC(e,t,n){return e.type&40?it(e,n):null}var vC=mC,ef;function Al(e,t,n,r){let o=hC(e,r,t),i=t[ae],s=r.parent||t[Ze],a=gC(s,r,t);if(o!=null)if(Array.isArray(n))for(let c=0;c<n.length;c++)Kd(i,o,n[c],a,!1);else Kd(i,o,n,a,!1);ef!==void 0&&ef(i,r,t,n,o)}function $r(e,t){if(t!==null){let n=t.type;if(n&3)return it(t,e);if(n&4)return kc(-1,e[t.index]);if(n&8){let r=t.child;if(r!==null)return $r(e,r);{let o=e[t.index];return bt(o)?kc(-1,o):tt(o)}}else{if(n&128)return $r(e,t.next);if(n&32)return xl(t,e)()||tt(e[t.index]);{let r=lp(e,t);if(r!==null){if(Array.isArray(r))return r[0];let o=on(e[Je]);return $r(o,r)}else return $r(e,t.next)}}}return null}function lp(e,t){if(t!==null){let r=e[Je][Ze],o=t.projection;return r.projection[o]}return null}function kc(e,t){let n=Ve+e+1;if(n<t.length){let r=t[n],o=r[j].firstChild;if(o!==null)return $r(r,o)}return t[rn]}function Rl(e,t,n,r,o,i,s){for(;n!=null;){if(n.type===128){n=n.next;continue}let a=r[n.index],c=n.type;if(s&&t===0&&(a&&ro(tt(a),r),n.flags|=2),!sp(n))if(c&8)Rl(e,t,n.child,r,o,i,!1),jn(t,e,o,a,i);else if(c&32){let l=xl(n,r),u;for(;u=l();)jn(t,e,o,u,i);jn(t,e,o,a,i)}else c&16?yC(e,t,r,n,o,i):jn(t,e,o,a,i);n=s?n.projectionNext:n.next}}function fs(e,t,n,r,o,i){Rl(n,r,e.firstChild,t,o,i,!1)}function yC(e,t,n,r,o,i){let s=n[Je],c=s[Ze].projection[r.projection];if(Array.isArray(c))for(let l=0;l<c.length;l++){let u=c[l];jn(t,e,o,u,i)}else{let l=c,u=s[pe];Ah(r)&&(l.flags|=128),Rl(e,t,l,u,o,i,!0)}}function DC(e,t,n,r,o){let i=n[rn],s=tt(n);i!==s&&jn(t,e,r,i,o);for(let a=Ve;a<n.length;a++){let c=n[a];fs(c[j],c,e,t,r,i)}}function CC(e,t,n,r,o){if(t)o?e.addClass(n,r):e.removeClass(n,r);else{let i=r.indexOf("-")===-1?void 0:Dt.DashCase;o==null?e.removeStyle(n,r,i):(typeof o=="string"&&o.endsWith("!important")&&(o=o.slice(0,-10),i|=Dt.Important),e.setStyle(n,r,o,i))}}function Yi(e,t,n,r,o=!1){for(;n!==null;){if(n.type===128){n=o?n.projectionNext:n.next;continue}let i=t[n.index];i!==null&&r.push(tt(i)),bt(i)&&wC(i,r);let s=n.type;if(s&8)Yi(e,t,n.child,r);else if(s&32){let a=xl(n,t),c;for(;c=a();)r.push(c)}else if(s&16){let a=lp(t,n);if(Array.isArray(a))r.push(...a);else{let c=on(t[Je]);Yi(c[j],c,a,r,!0)}}n=o?n.projectionNext:n.next}return r}function wC(e,t){for(let n=Ve;n<e.length;n++){let r=e[n],o=r[j].firstChild;o!==null&&Yi(r[j],r,o,t)}e[rn]!==e[wt]&&t.push(e[rn])}function up(e){if(e[nc]!==null){for(let t of e[nc])t.impl.addSequence(t);e[nc].length=0}}var dp=[];function bC(e){return e[Le]??_C(e)}function _C(e){let t=dp.pop()??Object.create(IC);return t.lView=e,t}function EC(e){e.lView[Le]!==e&&(e.lView=null,dp.push(e))}var IC=k(y({},Pr),{consumerIsAlwaysLive:!0,kind:"template",consumerMarkedDirty:e=>{as(e.lView)},consumerOnSignalRead(){this.lView[Le]=this}});function MC(e){let t=e[Le]??Object.create(SC);return t.lView=e,t}var SC=k(y({},Pr),{consumerIsAlwaysLive:!0,kind:"template",consumerMarkedDirty:e=>{let t=on(e.lView);for(;t&&!fp(t[j]);)t=on(t);t&&Qf(t)},consumerOnSignalRead(){this.lView[Le]=this}});function fp(e){return e.type!==2}function hp(e){if(e[ki]===null)return;let t=!0;for(;t;){let n=!1;for(let r of e[ki])r.dirty&&(n=!0,r.zone===null||Zone.current===r.zone?r.run():r.zone.run(()=>r.run()));t=n&&!!(e[A]&8192)}}var TC=100;function pp(e,t=!0,n=0){let o=e[mt].rendererFactory,i=!1;i||o.begin?.();try{xC(e,n)}catch(s){throw t&&nC(e,s),s}finally{i||o.end?.()}}function xC(e,t){let n=rh();try{Vd(!0),Fc(e,t);let r=0;for(;ss(e);){if(r===TC)throw new C(103,!1);r++,Fc(e,1)}}finally{Vd(n)}}function NC(e,t,n,r){if(Kn(t))return;let o=t[A],i=!1,s=!1;sl(t);let a=!0,c=null,l=null;i||(fp(e)?(l=bC(t),c=Go(l)):Ia()===null?(a=!1,l=MC(t),c=Go(l)):t[Le]&&(Aa(t[Le]),t[Le]=null));try{Yf(t),wy(e.bindingStartIndex),n!==null&&np(e,t,n,2,r);let u=(o&3)===3;if(!i)if(u){let d=e.preOrderCheckHooks;d!==null&&Ei(t,d,null)}else{let d=e.preOrderHooks;d!==null&&Ii(t,d,0,null),rc(t,0)}if(s||AC(t),hp(t),gp(t,0),e.contentQueries!==null&&Uh(e,t),!i)if(u){let d=e.contentCheckHooks;d!==null&&Ei(t,d)}else{let d=e.contentHooks;d!==null&&Ii(t,d,1),rc(t,1)}OC(e,t);let f=e.components;f!==null&&vp(t,f,0);let h=e.viewQuery;if(h!==null&&Oc(2,h,r),!i)if(u){let d=e.viewCheckHooks;d!==null&&Ei(t,d)}else{let d=e.viewHooks;d!==null&&Ii(t,d,2),rc(t,2)}if(e.firstUpdatePass===!0&&(e.firstUpdatePass=!1),t[tc]){for(let d of t[tc])d();t[tc]=null}i||(up(t),t[A]&=-73)}catch(u){throw i||as(t),u}finally{l!==null&&(xa(l,c),a&&EC(l)),al()}}function gp(e,t){for(let n=Ph(e);n!==null;n=kh(n))for(let r=Ve;r<n.length;r++){let o=n[r];mp(o,t)}}function AC(e){for(let t=Ph(e);t!==null;t=kh(t)){if(!(t[A]&2))continue;let n=t[Li];for(let r=0;r<n.length;r++){let o=n[r];Qf(o)}}}function RC(e,t,n){G(18);let r=nt(t,e);mp(r,n),G(19,r[be])}function mp(e,t){il(e)&&Fc(e,t)}function Fc(e,t){let r=e[j],o=e[A],i=e[Le],s=!!(t===0&&o&16);if(s||=!!(o&64&&t===0),s||=!!(o&1024),s||=!!(i?.dirty&&Na(i)),s||=!1,i&&(i.dirty=!1),e[A]&=-9217,s)NC(r,e,r.template,e[be]);else if(o&8192){hp(e),gp(e,1);let a=r.components;a!==null&&vp(e,a,1),up(e)}}function vp(e,t,n){for(let r=0;r<t.length;r++)RC(e,t[r],n)}function OC(e,t){let n=e.hostBindingOpCodes;if(n!==null)try{for(let r=0;r<n.length;r++){let o=n[r];if(o<0)sn(~o);else{let i=o,s=n[++r],a=n[++r];Ey(s,i);let c=t[i];G(24,c),a(2,c),G(25,c)}}}finally{sn(-1)}}function Ol(e,t){let n=rh()?64:1088;for(e[mt].changeDetectionScheduler?.notify(t);e;){e[A]|=n;let r=on(e);if(Vi(e)&&!r)return e;e=r}return null}function yp(e,t,n,r){return[e,!0,0,t,null,r,null,n,null,null]}function PC(e,t,n,r=!0){let o=t[j];if(kC(o,t,e,n),r){let s=kc(n,e),a=t[ae],c=a.parentNode(e[rn]);c!==null&&lC(o,e[Ze],a,t,c,s)}let i=t[Oi];i!==null&&i.firstChild!==null&&(i.firstChild=null)}function Lc(e,t){if(e.length<=Ve)return;let n=Ve+t,r=e[n];if(r){let o=r[zn];o!==null&&o!==e&&Nl(o,r),t>0&&(e[n-1][We]=r[We]);let i=Ai(e,Ve+t);cC(r[j],r);let s=i[Gn];s!==null&&s.detachView(i[j]),r[pe]=null,r[We]=null,r[A]&=-129}return r}function kC(e,t,n,r){let o=Ve+r,i=n.length;r>0&&(n[o-1][We]=t),r<i-Ve?(t[We]=n[o],Af(n,Ve+r,t)):(n.push(t),t[We]=null),t[pe]=n;let s=t[zn];s!==null&&n!==s&&Dp(s,t);let a=t[Gn];a!==null&&a.insertView(e),wc(t),t[A]|=128}function Dp(e,t){let n=e[Li],r=t[pe];if(Ft(r))e[A]|=2;else{let o=r[pe][Je];t[Je]!==o&&(e[A]|=2)}n===null?e[Li]=[t]:n.push(t)}var Yr=class{_lView;_cdRefInjectingView;notifyErrorHandler;_appRef=null;_attachedToViewContainer=!1;get rootNodes(){let t=this._lView,n=t[j];return Yi(n,t,n.firstChild,[])}constructor(t,n,r=!0){this._lView=t,this._cdRefInjectingView=n,this.notifyErrorHandler=r}get context(){return this._lView[be]}set context(t){this._lView[be]=t}get destroyed(){return Kn(this._lView)}destroy(){if(this._appRef)this._appRef.detachView(this);else if(this._attachedToViewContainer){let t=this._lView[pe];if(bt(t)){let n=t[Fi],r=n?n.indexOf(this):-1;r>-1&&(Lc(t,r),Ai(n,r))}this._attachedToViewContainer=!1}cp(this._lView[j],this._lView)}onDestroy(t){Kf(this._lView,t)}markForCheck(){Ol(this._cdRefInjectingView||this._lView,4)}detach(){this._lView[A]&=-129}reattach(){wc(this._lView),this._lView[A]|=128}detectChanges(){this._lView[A]|=1024,pp(this._lView,this.notifyErrorHandler)}checkNoChanges(){}attachToViewContainerRef(){if(this._appRef)throw new C(902,!1);this._attachedToViewContainer=!0}detachFromAppRef(){this._appRef=null;let t=Vi(this._lView),n=this._lView[zn];n!==null&&!t&&Nl(n,this._lView),ap(this._lView[j],this._lView)}attachToAppRef(t){if(this._attachedToViewContainer)throw new C(902,!1);this._appRef=t;let n=Vi(this._lView),r=this._lView[zn];r!==null&&!n&&Dp(r,this._lView),wc(this._lView)}};var hs=(()=>{class e{static __NG_ELEMENT_ID__=VC}return e})(),FC=hs,LC=class extends FC{_declarationLView;_declarationTContainer;elementRef;constructor(t,n,r){super(),this._declarationLView=t,this._declarationTContainer=n,this.elementRef=r}get ssrId(){return this._declarationTContainer.tView?.ssrId||null}createEmbeddedView(t,n){return this.createEmbeddedViewImpl(t,n)}createEmbeddedViewImpl(t,n,r){let o=sC(this._declarationLView,this._declarationTContainer,t,{embeddedViewInjector:n,dehydratedView:r});return new Yr(o)}};function VC(){return jC(Ne(),q())}function jC(e,t){return e.type&4?new LC(t,e,ls(e,t)):null}function Pl(e,t,n,r,o){let i=e.data[t];if(i===null)i=BC(e,t,n,r,o),_y()&&(i.flags|=32);else if(i.type&64){i.type=n,i.value=r,i.attrs=o;let s=vy();i.injectorIndex=s===null?-1:s.injectorIndex}return to(i,!0),i}function BC(e,t,n,r,o){let i=th(),s=nh(),a=s?i:i&&i.parent,c=e.data[t]=$C(e,a,n,t,r,o);return UC(e,c,i,s),c}function UC(e,t,n,r){e.firstChild===null&&(e.firstChild=t),n!==null&&(r?n.child==null&&t.parent!==null&&(n.child=t):n.next===null&&(n.next=t,t.prev=n))}function $C(e,t,n,r,o,i){let s=t?t.injectorIndex:-1,a=0;return py()&&(a|=128),{type:n,index:r,insertBeforeIndex:null,injectorIndex:s,directiveStart:-1,directiveEnd:-1,directiveStylingLast:-1,componentOffset:-1,propertyBindings:null,flags:a,providerIndexes:0,value:o,attrs:i,mergedAttrs:null,localNames:null,initialInputs:null,inputs:null,hostDirectiveInputs:null,outputs:null,hostDirectiveOutputs:null,directiveToIndex:null,tView:null,next:null,prev:null,projectionNext:null,child:null,parent:t,projection:null,styles:null,stylesWithoutHost:null,residualStyles:void 0,classes:null,classesWithoutHost:null,residualClasses:void 0,classBindings:0,styleBindings:0}}var cA=new RegExp(`^(\\d+)*(${dD}|${uD})*(.*)`);var HC=()=>null;function tf(e,t){return HC(e,t)}var zC=class{},Cp=class{},Vc=class{resolveComponentFactory(t){throw Error(`No component factory found for ${we(t)}.`)}},ps=class{static NULL=new Vc},qn=class{},er=(()=>{class e{destroyNode=null;static __NG_ELEMENT_ID__=()=>GC()}return e})();function GC(){let e=q(),t=Ne(),n=nt(t.index,e);return(Ft(n)?n:e)[ae]}var qC=(()=>{class e{static \u0275prov=_({token:e,providedIn:"root",factory:()=>null})}return e})();var sc={},jc=class{injector;parentInjector;constructor(t,n){this.injector=t,this.parentInjector=n}get(t,n,r){r=rs(r);let o=this.injector.get(t,sc,r);return o!==sc||n===sc?o:this.parentInjector.get(t,n,r)}};function nf(e,t,n){let r=n?e.styles:null,o=n?e.classes:null,i=0;if(t!==null)for(let s=0;s<t.length;s++){let a=t[s];if(typeof a=="number")i=a;else if(i==1)o=xd(o,a);else if(i==2){let c=a,l=t[++s];r=xd(r,c+": "+l+";")}}n?e.styles=r:e.stylesWithoutHost=r,n?e.classes=o:e.classesWithoutHost=o}function T(e,t=O.Default){let n=q();if(n===null)return M(e,t);let r=Ne();return Ch(r,n,fe(e),t)}function wp(e,t,n,r,o){let i=r===null?null:{"":-1},s=o(e,n);if(s!==null){let a,c=null,l=null,u=ZC(s);u===null?a=s:[a,c,l]=u,KC(e,t,n,a,i,c,l)}i!==null&&r!==null&&WC(n,r,i)}function WC(e,t,n){let r=e.localNames=[];for(let o=0;o<t.length;o+=2){let i=n[t[o+1]];if(i==null)throw new C(-301,!1);r.push(t[o],i)}}function ZC(e){let t=null,n=!1;for(let s=0;s<e.length;s++){let a=e[s];if(s===0&&et(a)&&(t=a),a.findHostDirectiveDefs!==null){n=!0;break}}if(!n)return null;let r=null,o=null,i=null;for(let s of e)s.findHostDirectiveDefs!==null&&(r??=[],o??=new Map,i??=new Map,YC(s,r,i,o)),s===t&&(r??=[],r.push(s));return r!==null?(r.push(...t===null?e:e.slice(1)),[r,o,i]):null}function YC(e,t,n,r){let o=t.length;e.findHostDirectiveDefs(e,t,r),n.set(e,[o,t.length-1])}function QC(e,t,n){t.componentOffset=n,(e.components??=[]).push(t.index)}function KC(e,t,n,r,o,i,s){let a=r.length,c=!1;for(let h=0;h<a;h++){let d=r[h];!c&&et(d)&&(c=!0,QC(e,n,h)),Ic(Hi(n,t),e,d.type)}rw(n,e.data.length,a);for(let h=0;h<a;h++){let d=r[h];d.providersResolver&&d.providersResolver(d)}let l=!1,u=!1,f=ep(e,t,a,null);a>0&&(n.directiveToIndex=new Map);for(let h=0;h<a;h++){let d=r[h];if(n.mergedAttrs=Wr(n.mergedAttrs,d.hostAttrs),JC(e,n,t,f,d),nw(f,d,o),s!==null&&s.has(d)){let[w,I]=s.get(d);n.directiveToIndex.set(d.type,[f,w+n.directiveStart,I+n.directiveStart])}else(i===null||!i.has(d))&&n.directiveToIndex.set(d.type,f);d.contentQueries!==null&&(n.flags|=4),(d.hostBindings!==null||d.hostAttrs!==null||d.hostVars!==0)&&(n.flags|=64);let m=d.type.prototype;!l&&(m.ngOnChanges||m.ngOnInit||m.ngDoCheck)&&((e.preOrderHooks??=[]).push(n.index),l=!0),!u&&(m.ngOnChanges||m.ngDoCheck)&&((e.preOrderCheckHooks??=[]).push(n.index),u=!0),f++}XC(e,n,i)}function XC(e,t,n){for(let r=t.directiveStart;r<t.directiveEnd;r++){let o=e.data[r];if(n===null||!n.has(o))rf(0,t,o,r),rf(1,t,o,r),sf(t,r,!1);else{let i=n.get(o);of(0,t,i,r),of(1,t,i,r),sf(t,r,!0)}}}function rf(e,t,n,r){let o=e===0?n.inputs:n.outputs;for(let i in o)if(o.hasOwnProperty(i)){let s;e===0?s=t.inputs??={}:s=t.outputs??={},s[i]??=[],s[i].push(r),bp(t,i)}}function of(e,t,n,r){let o=e===0?n.inputs:n.outputs;for(let i in o)if(o.hasOwnProperty(i)){let s=o[i],a;e===0?a=t.hostDirectiveInputs??={}:a=t.hostDirectiveOutputs??={},a[s]??=[],a[s].push(r,i),bp(t,s)}}function bp(e,t){t==="class"?e.flags|=8:t==="style"&&(e.flags|=16)}function sf(e,t,n){let{attrs:r,inputs:o,hostDirectiveInputs:i}=e;if(r===null||!n&&o===null||n&&i===null||bl(e)){e.initialInputs??=[],e.initialInputs.push(null);return}let s=null,a=0;for(;a<r.length;){let c=r[a];if(c===0){a+=4;continue}else if(c===5){a+=2;continue}else if(typeof c=="number")break;if(!n&&o.hasOwnProperty(c)){let l=o[c];for(let u of l)if(u===t){s??=[],s.push(c,r[a+1]);break}}else if(n&&i.hasOwnProperty(c)){let l=i[c];for(let u=0;u<l.length;u+=2)if(l[u]===t){s??=[],s.push(l[u+1],r[a+1]);break}}a+=2}e.initialInputs??=[],e.initialInputs.push(s)}function JC(e,t,n,r,o){e.data[r]=o;let i=o.factory||(o.factory=tn(o.type,!0)),s=new an(i,et(o),T);e.blueprint[r]=s,n[r]=s,ew(e,t,r,ep(e,n,o.hostVars,dn),o)}function ew(e,t,n,r,o){let i=o.hostBindings;if(i){let s=e.hostBindingOpCodes;s===null&&(s=e.hostBindingOpCodes=[]);let a=~t.index;tw(s)!=a&&s.push(a),s.push(n,r,i)}}function tw(e){let t=e.length;for(;t>0;){let n=e[--t];if(typeof n=="number"&&n<0)return n}return 0}function nw(e,t,n){if(n){if(t.exportAs)for(let r=0;r<t.exportAs.length;r++)n[t.exportAs[r]]=e;et(t)&&(n[""]=e)}}function rw(e,t,n){e.flags|=1,e.directiveStart=t,e.directiveEnd=t+n,e.providerIndexes=t}function _p(e,t,n,r,o,i,s,a){let c=t.consts,l=ji(c,s),u=Pl(t,e,2,r,l);return i&&wp(t,n,u,ji(c,a),o),u.mergedAttrs=Wr(u.mergedAttrs,u.attrs),u.attrs!==null&&nf(u,u.attrs,!1),u.mergedAttrs!==null&&nf(u,u.mergedAttrs,!0),t.queries!==null&&t.queries.elementStart(t,u),u}function Ep(e,t){dh(e,t),Uf(t)&&e.queries.elementEnd(t)}var Qi=class extends ps{ngModule;constructor(t){super(),this.ngModule=t}resolveComponentFactory(t){let n=Un(t);return new Qr(n,this.ngModule)}};function ow(e){return Object.keys(e).map(t=>{let[n,r,o]=e[t],i={propName:n,templateName:t,isSignal:(r&ds.SignalBased)!==0};return o&&(i.transform=o),i})}function iw(e){return Object.keys(e).map(t=>({propName:e[t],templateName:t}))}function sw(e,t,n){let r=t instanceof he?t:t?.injector;return r&&e.getStandaloneInjector!==null&&(r=e.getStandaloneInjector(r)||r),r?new jc(n,r):n}function aw(e){let t=e.get(qn,null);if(t===null)throw new C(407,!1);let n=e.get(qC,null),r=e.get(Zr,null);return{rendererFactory:t,sanitizer:n,changeDetectionScheduler:r}}function cw(e,t){let n=(e.selectors[0][0]||"div").toLowerCase();return zh(t,n,n==="svg"?iy:n==="math"?sy:null)}var Qr=class extends Cp{componentDef;ngModule;selector;componentType;ngContentSelectors;isBoundToModule;cachedInputs=null;cachedOutputs=null;get inputs(){return this.cachedInputs??=ow(this.componentDef.inputs),this.cachedInputs}get outputs(){return this.cachedOutputs??=iw(this.componentDef.outputs),this.cachedOutputs}constructor(t,n){super(),this.componentDef=t,this.ngModule=n,this.componentType=t.type,this.selector=BD(t.selectors),this.ngContentSelectors=t.ngContentSelectors??[],this.isBoundToModule=!!n}create(t,n,r,o){G(22);let i=F(null);try{let s=this.componentDef,a=r?["ng-version","19.2.18"]:UD(this.componentDef.selectors[0]),c=_l(0,null,null,1,0,null,null,null,null,[a],null),l=sw(s,o||this.ngModule,t),u=aw(l),f=u.rendererFactory.createRenderer(null,s),h=r?GD(f,r,s.encapsulation,l):cw(s,f),d=El(null,c,null,512|Jh(s),null,null,u,f,l,null,Bh(h,l,!0));d[je]=h,sl(d);let m=null;try{let w=_p(je,c,d,"#host",()=>[this.componentDef],!0,0);h&&(qh(f,h,w),ro(h,d)),Ml(c,d,w),$h(c,w,d),Ep(c,w),n!==void 0&&lw(w,this.ngContentSelectors,n),m=nt(w.index,d),d[be]=m[be],Tl(c,d,null)}catch(w){throw m!==null&&Ac(m),Ac(d),w}finally{G(23),al()}return new Bc(this.componentType,d)}finally{F(i)}}},Bc=class extends zC{_rootLView;instance;hostView;changeDetectorRef;componentType;location;previousInputValues=null;_tNode;constructor(t,n){super(),this._rootLView=n,this._tNode=Wf(n[j],je),this.location=ls(this._tNode,n),this.instance=nt(this._tNode.index,n)[be],this.hostView=this.changeDetectorRef=new Yr(n,void 0,!1),this.componentType=t}setInput(t,n){let r=this._tNode;if(this.previousInputValues??=new Map,this.previousInputValues.has(t)&&Object.is(this.previousInputValues.get(t),n))return;let o=this._rootLView,i=Sl(r,o[j],o,t,n);this.previousInputValues.set(t,n);let s=nt(r.index,o);Ol(s,1)}get injector(){return new en(this._tNode,this._rootLView)}destroy(){this.hostView.destroy()}onDestroy(t){this.hostView.onDestroy(t)}};function lw(e,t,n){let r=e.projection=[];for(let o=0;o<t.length;o++){let i=n[o];r.push(i!=null&&i.length?Array.from(i):null)}}var tr=(()=>{class e{static __NG_ELEMENT_ID__=uw}return e})();function uw(){let e=Ne();return fw(e,q())}var dw=tr,Ip=class extends dw{_lContainer;_hostTNode;_hostLView;constructor(t,n,r){super(),this._lContainer=t,this._hostTNode=n,this._hostLView=r}get element(){return ls(this._hostTNode,this._hostLView)}get injector(){return new en(this._hostTNode,this._hostLView)}get parentInjector(){let t=dl(this._hostTNode,this._hostLView);if(ph(t)){let n=Ui(t,this._hostLView),r=Bi(t),o=n[j].data[r+8];return new en(o,n)}else return new en(null,this._hostLView)}clear(){for(;this.length>0;)this.remove(this.length-1)}get(t){let n=af(this._lContainer);return n!==null&&n[t]||null}get length(){return this._lContainer.length-Ve}createEmbeddedView(t,n,r){let o,i;typeof r=="number"?o=r:r!=null&&(o=r.index,i=r.injector);let s=tf(this._lContainer,t.ssrId),a=t.createEmbeddedViewImpl(n||{},i,s);return this.insertImpl(a,o,Jd(this._hostTNode,s)),a}createComponent(t,n,r,o,i){let s=t&&!ty(t),a;if(s)a=n;else{let m=n||{};a=m.index,r=m.injector,o=m.projectableNodes,i=m.environmentInjector||m.ngModuleRef}let c=s?t:new Qr(Un(t)),l=r||this.parentInjector;if(!i&&c.ngModule==null){let w=(s?l:this.parentInjector).get(he,null);w&&(i=w)}let u=Un(c.componentType??{}),f=tf(this._lContainer,u?.id??null),h=f?.firstChild??null,d=c.create(l,o,h,i);return this.insertImpl(d.hostView,a,Jd(this._hostTNode,f)),d}insert(t,n){return this.insertImpl(t,n,!0)}insertImpl(t,n,r){let o=t._lView;if(cy(o)){let a=this.indexOf(t);if(a!==-1)this.detach(a);else{let c=o[pe],l=new Ip(c,c[Ze],c[pe]);l.detach(l.indexOf(t))}}let i=this._adjustIndex(n),s=this._lContainer;return PC(s,o,i,r),t.attachToViewContainerRef(),Af(ac(s),i,t),t}move(t,n){return this.insert(t,n)}indexOf(t){let n=af(this._lContainer);return n!==null?n.indexOf(t):-1}remove(t){let n=this._adjustIndex(t,-1),r=Lc(this._lContainer,n);r&&(Ai(ac(this._lContainer),n),cp(r[j],r))}detach(t){let n=this._adjustIndex(t,-1),r=Lc(this._lContainer,n);return r&&Ai(ac(this._lContainer),n)!=null?new Yr(r):null}_adjustIndex(t,n=0){return t??this.length+n}};function af(e){return e[Fi]}function ac(e){return e[Fi]||(e[Fi]=[])}function fw(e,t){let n,r=t[e.index];return bt(r)?n=r:(n=yp(r,t,null,e),t[e.index]=n,Il(t,n)),pw(n,t,e,r),new Ip(n,e,t)}function hw(e,t){let n=e[ae],r=n.createComment(""),o=it(t,e),i=n.parentNode(o);return Zi(n,i,r,n.nextSibling(o),!1),r}var pw=vw,gw=()=>!1;function mw(e,t,n){return gw(e,t,n)}function vw(e,t,n,r){if(e[rn])return;let o;n.type&8?o=tt(r):o=hw(t,n),e[rn]=o}var Wn=class{},kl=class{};var Uc=class extends Wn{ngModuleType;_parent;_bootstrapComponents=[];_r3Injector;instance;destroyCbs=[];componentFactoryResolver=new Qi(this);constructor(t,n,r,o=!0){super(),this.ngModuleType=t,this._parent=n;let i=Pf(t);this._bootstrapComponents=Kh(i.bootstrap),this._r3Injector=_h(t,n,[{provide:Wn,useValue:this},{provide:ps,useValue:this.componentFactoryResolver},...r],we(t),new Set(["environment"])),o&&this.resolveInjectorInitializers()}resolveInjectorInitializers(){this._r3Injector.resolveInjectorInitializers(),this.instance=this._r3Injector.get(this.ngModuleType)}get injector(){return this._r3Injector}destroy(){let t=this._r3Injector;!t.destroyed&&t.destroy(),this.destroyCbs.forEach(n=>n()),this.destroyCbs=null}onDestroy(t){this.destroyCbs.push(t)}},$c=class extends kl{moduleType;constructor(t){super(),this.moduleType=t}create(t){return new Uc(this.moduleType,t,[])}};var Ki=class extends Wn{injector;componentFactoryResolver=new Qi(this);instance=null;constructor(t){super();let n=new Gr([...t.providers,{provide:Wn,useValue:this},{provide:ps,useValue:this.componentFactoryResolver}],t.parent||rl(),t.debugName,new Set(["environment"]));this.injector=n,t.runEnvironmentInitializers&&n.resolveInjectorInitializers()}destroy(){this.injector.destroy()}onDestroy(t){this.injector.onDestroy(t)}};function gs(e,t,n=null){return new Ki({providers:e,parent:t,debugName:n,runEnvironmentInitializers:!0}).injector}var yw=(()=>{class e{_injector;cachedInjectors=new Map;constructor(n){this._injector=n}getOrCreateStandaloneInjector(n){if(!n.standalone)return null;if(!this.cachedInjectors.has(n)){let r=kf(!1,n.type),o=r.length>0?gs([r],this._injector,`Standalone[${n.type.name}]`):null;this.cachedInjectors.set(n,o)}return this.cachedInjectors.get(n)}ngOnDestroy(){try{for(let n of this.cachedInjectors.values())n!==null&&n.destroy()}finally{this.cachedInjectors.clear()}}static \u0275prov=_({token:e,providedIn:"environment",factory:()=>new e(M(he))})}return e})();function st(e){return Xr(()=>{let t=Sp(e),n=k(y({},t),{decls:e.decls,vars:e.vars,template:e.template,consts:e.consts||null,ngContentSelectors:e.ngContentSelectors,onPush:e.changeDetection===Rh.OnPush,directiveDefs:null,pipeDefs:null,dependencies:t.standalone&&e.dependencies||null,getStandaloneInjector:t.standalone?o=>o.get(yw).getOrCreateStandaloneInjector(n):null,getExternalStyles:null,signals:e.signals??!1,data:e.data||{},encapsulation:e.encapsulation||rt.Emulated,styles:e.styles||Fe,_:null,schemas:e.schemas||null,tView:null,id:""});t.standalone&&Dl("NgStandalone"),Tp(n);let r=e.dependencies;return n.directiveDefs=cf(r,!1),n.pipeDefs=cf(r,!0),n.id=_w(n),n})}function Dw(e){return Un(e)||$v(e)}function Cw(e){return e!==null}function Mt(e){return Xr(()=>({type:e.type,bootstrap:e.bootstrap||Fe,declarations:e.declarations||Fe,imports:e.imports||Fe,exports:e.exports||Fe,transitiveCompileScopes:null,schemas:e.schemas||null,id:e.id||null}))}function ww(e,t){if(e==null)return nn;let n={};for(let r in e)if(e.hasOwnProperty(r)){let o=e[r],i,s,a,c;Array.isArray(o)?(a=o[0],i=o[1],s=o[2]??i,c=o[3]||null):(i=o,s=o,a=ds.None,c=null),n[i]=[r,a,c],t[i]=s}return n}function bw(e){if(e==null)return nn;let t={};for(let n in e)e.hasOwnProperty(n)&&(t[e[n]]=n);return t}function K(e){return Xr(()=>{let t=Sp(e);return Tp(t),t})}function Mp(e){return{type:e.type,name:e.name,factory:null,pure:e.pure!==!1,standalone:e.standalone??!0,onDestroy:e.type.prototype.ngOnDestroy||null}}function Sp(e){let t={};return{type:e.type,providersResolver:null,factory:null,hostBindings:e.hostBindings||null,hostVars:e.hostVars||0,hostAttrs:e.hostAttrs||null,contentQueries:e.contentQueries||null,declaredInputs:t,inputConfig:e.inputs||nn,exportAs:e.exportAs||null,standalone:e.standalone??!0,signals:e.signals===!0,selectors:e.selectors||Fe,viewQuery:e.viewQuery||null,features:e.features||null,setInput:null,findHostDirectiveDefs:null,hostDirectives:null,inputs:ww(e.inputs,t),outputs:bw(e.outputs),debugInfo:null}}function Tp(e){e.features?.forEach(t=>t(e))}function cf(e,t){if(!e)return null;let n=t?Hv:Dw;return()=>(typeof e=="function"?e():e).map(r=>n(r)).filter(Cw)}function _w(e){let t=0,n=typeof e.consts=="function"?"":e.consts,r=[e.selectors,e.ngContentSelectors,e.hostVars,e.hostAttrs,n,e.vars,e.decls,e.encapsulation,e.standalone,e.signals,e.exportAs,JSON.stringify(e.inputs),JSON.stringify(e.outputs),Object.getOwnPropertyNames(e.type.prototype),!!e.contentQueries,!!e.viewQuery];for(let i of r.join("|"))t=Math.imul(31,t)+i.charCodeAt(0)<<0;return t+=2147483648,"c"+t}function Ew(e){return Object.getPrototypeOf(e.prototype).constructor}function Be(e){let t=Ew(e.type),n=!0,r=[e];for(;t;){let o;if(et(e))o=t.\u0275cmp||t.\u0275dir;else{if(t.\u0275cmp)throw new C(903,!1);o=t.\u0275dir}if(o){if(n){r.push(o);let s=e;s.inputs=cc(e.inputs),s.declaredInputs=cc(e.declaredInputs),s.outputs=cc(e.outputs);let a=o.hostBindings;a&&xw(e,a);let c=o.viewQuery,l=o.contentQueries;if(c&&Sw(e,c),l&&Tw(e,l),Iw(e,o),Cv(e.outputs,o.outputs),et(o)&&o.data.animation){let u=e.data;u.animation=(u.animation||[]).concat(o.data.animation)}}let i=o.features;if(i)for(let s=0;s<i.length;s++){let a=i[s];a&&a.ngInherit&&a(e),a===Be&&(n=!1)}}t=Object.getPrototypeOf(t)}Mw(r)}function Iw(e,t){for(let n in t.inputs){if(!t.inputs.hasOwnProperty(n)||e.inputs.hasOwnProperty(n))continue;let r=t.inputs[n];r!==void 0&&(e.inputs[n]=r,e.declaredInputs[n]=t.declaredInputs[n])}}function Mw(e){let t=0,n=null;for(let r=e.length-1;r>=0;r--){let o=e[r];o.hostVars=t+=o.hostVars,o.hostAttrs=Wr(o.hostAttrs,n=Wr(n,o.hostAttrs))}}function cc(e){return e===nn?{}:e===Fe?[]:e}function Sw(e,t){let n=e.viewQuery;n?e.viewQuery=(r,o)=>{t(r,o),n(r,o)}:e.viewQuery=t}function Tw(e,t){let n=e.contentQueries;n?e.contentQueries=(r,o,i)=>{t(r,o,i),n(r,o,i)}:e.contentQueries=t}function xw(e,t){let n=e.hostBindings;n?e.hostBindings=(r,o)=>{t(r,o),n(r,o)}:e.hostBindings=t}function xp(e){return Aw(e)?Array.isArray(e)||!(e instanceof Map)&&Symbol.iterator in e:!1}function Nw(e,t){if(Array.isArray(e))for(let n=0;n<e.length;n++)t(e[n]);else{let n=e[Symbol.iterator](),r;for(;!(r=n.next()).done;)t(r.value)}}function Aw(e){return e!==null&&(typeof e=="function"||typeof e=="object")}function Rw(e,t,n){return e[t]=n}function nr(e,t,n){let r=e[t];return Object.is(r,n)?!1:(e[t]=n,!0)}function Ow(e,t,n,r,o,i,s,a,c){let l=t.consts,u=Pl(t,e,4,s||null,a||null);eh()&&wp(t,n,u,ji(l,c),ip),u.mergedAttrs=Wr(u.mergedAttrs,u.attrs),dh(t,u);let f=u.tView=_l(2,u,r,o,i,t.directiveRegistry,t.pipeRegistry,null,t.schemas,l,null);return t.queries!==null&&(t.queries.template(t,u),f.queries=t.queries.embeddedTView(u)),u}function Pw(e,t,n,r,o,i,s,a,c,l){let u=n+je,f=t.firstCreatePass?Ow(u,t,e,r,o,i,s,a,c):t.data[u];to(f,!1);let h=kw(t,e,f,n);ll()&&Al(t,e,h,f),ro(h,e);let d=yp(h,e,h,f);return e[u]=d,Il(e,d),mw(d,f,e),ol(f)&&Ml(t,e,f),c!=null&&rp(e,f,l),f}function ge(e,t,n,r,o,i,s,a){let c=q(),l=_e(),u=ji(l.consts,i);return Pw(c,l,e,t,n,r,o,u,s,a),ge}var kw=Fw;function Fw(e,t,n,r){return ul(!0),t[ae].createComment("")}var Np=(()=>{class e{log(n){console.log(n)}warn(n){console.warn(n)}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"platform"})}return e})();var Ap=new b("");var Lw=(()=>{class e{static \u0275prov=_({token:e,providedIn:"root",factory:()=>new Hc})}return e})(),Hc=class{queuedEffectCount=0;queues=new Map;schedule(t){this.enqueue(t)}remove(t){let n=t.zone,r=this.queues.get(n);r.has(t)&&(r.delete(t),this.queuedEffectCount--)}enqueue(t){let n=t.zone;this.queues.has(n)||this.queues.set(n,new Set);let r=this.queues.get(n);r.has(t)||(this.queuedEffectCount++,r.add(t))}flush(){for(;this.queuedEffectCount>0;)for(let[t,n]of this.queues)t===null?this.flushQueue(n):t.run(()=>this.flushQueue(n))}flushQueue(t){for(let n of t)t.delete(n),this.queuedEffectCount--,n.run()}};function jt(e){return!!e&&typeof e.then=="function"}function Fl(e){return!!e&&typeof e.subscribe=="function"}var Vw=new b("");var Rp=(()=>{class e{resolve;reject;initialized=!1;done=!1;donePromise=new Promise((n,r)=>{this.resolve=n,this.reject=r});appInits=v(Vw,{optional:!0})??[];injector=v(vt);constructor(){}runInitializers(){if(this.initialized)return;let n=[];for(let o of this.appInits){let i=xe(this.injector,o);if(jt(i))n.push(i);else if(Fl(i)){let s=new Promise((a,c)=>{i.subscribe({complete:a,error:c})});n.push(s)}}let r=()=>{this.done=!0,this.resolve()};Promise.all(n).then(()=>{r()}).catch(o=>{this.reject(o)}),n.length===0&&r(),this.initialized=!0}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})(),Ll=new b("");function jw(){Oa(()=>{throw new C(600,!1)})}function Bw(e){return e.isBoundToModule}var Uw=10;var cn=(()=>{class e{_runningTick=!1;_destroyed=!1;_destroyListeners=[];_views=[];internalErrorHandler=v(eD);afterRenderManager=v(hD);zonelessEnabled=v(hl);rootEffectScheduler=v(Lw);dirtyFlags=0;tracingSnapshot=null;externalTestViews=new Set;afterTick=new ee;get allViews(){return[...this.externalTestViews.keys(),...this._views]}get destroyed(){return this._destroyed}componentTypes=[];components=[];isStable=v(Vt).hasPendingTasks.pipe(N(n=>!n));constructor(){v(us,{optional:!0})}whenStable(){let n;return new Promise(r=>{n=this.isStable.subscribe({next:o=>{o&&r()}})}).finally(()=>{n.unsubscribe()})}_injector=v(he);_rendererFactory=null;get injector(){return this._injector}bootstrap(n,r){return this.bootstrapImpl(n,r)}bootstrapImpl(n,r,o=vt.NULL){G(10);let i=n instanceof Cp;if(!this._injector.get(Rp).done){let d="";throw new C(405,d)}let a;i?a=n:a=this._injector.get(ps).resolveComponentFactory(n),this.componentTypes.push(a.componentType);let c=Bw(a)?void 0:this._injector.get(Wn),l=r||a.selector,u=a.create(o,[],l,c),f=u.location.nativeElement,h=u.injector.get(Ap,null);return h?.registerApplication(f),u.onDestroy(()=>{this.detachView(u.hostView),Mi(this.components,u),h?.unregisterApplication(f)}),this._loadComponent(u),G(11,u),u}tick(){this.zonelessEnabled||(this.dirtyFlags|=1),this._tick()}_tick(){G(12),this.tracingSnapshot!==null?this.tracingSnapshot.run(jh.CHANGE_DETECTION,this.tickImpl):this.tickImpl()}tickImpl=()=>{if(this._runningTick)throw new C(101,!1);let n=F(null);try{this._runningTick=!0,this.synchronize()}catch(r){this.internalErrorHandler(r)}finally{this._runningTick=!1,this.tracingSnapshot?.dispose(),this.tracingSnapshot=null,F(n),this.afterTick.next(),G(13)}};synchronize(){this._rendererFactory===null&&!this._injector.destroyed&&(this._rendererFactory=this._injector.get(qn,null,{optional:!0}));let n=0;for(;this.dirtyFlags!==0&&n++<Uw;)G(14),this.synchronizeOnce(),G(15)}synchronizeOnce(){if(this.dirtyFlags&16&&(this.dirtyFlags&=-17,this.rootEffectScheduler.flush()),this.dirtyFlags&7){let n=!!(this.dirtyFlags&1);this.dirtyFlags&=-8,this.dirtyFlags|=8;for(let{_lView:r,notifyErrorHandler:o}of this.allViews)$w(r,o,n,this.zonelessEnabled);if(this.dirtyFlags&=-5,this.syncDirtyFlagsWithViews(),this.dirtyFlags&23)return}else this._rendererFactory?.begin?.(),this._rendererFactory?.end?.();this.dirtyFlags&8&&(this.dirtyFlags&=-9,this.afterRenderManager.execute()),this.syncDirtyFlagsWithViews()}syncDirtyFlagsWithViews(){if(this.allViews.some(({_lView:n})=>ss(n))){this.dirtyFlags|=2;return}else this.dirtyFlags&=-8}attachView(n){let r=n;this._views.push(r),r.attachToAppRef(this)}detachView(n){let r=n;Mi(this._views,r),r.detachFromAppRef()}_loadComponent(n){this.attachView(n.hostView),this.tick(),this.components.push(n),this._injector.get(Ll,[]).forEach(o=>o(n))}ngOnDestroy(){if(!this._destroyed)try{this._destroyListeners.forEach(n=>n()),this._views.slice().forEach(n=>n.destroy())}finally{this._destroyed=!0,this._views=[],this._destroyListeners=[]}}onDestroy(n){return this._destroyListeners.push(n),()=>Mi(this._destroyListeners,n)}destroy(){if(this._destroyed)throw new C(406,!1);let n=this._injector;n.destroy&&!n.destroyed&&n.destroy()}get viewCount(){return this._views.length}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})();function Mi(e,t){let n=e.indexOf(t);n>-1&&e.splice(n,1)}function $w(e,t,n,r){if(!n&&!ss(e))return;pp(e,t,n&&!r?0:1)}function fn(e,t,n,r){let o=q(),i=cs();if(nr(o,i,t)){let s=_e(),a=cl();JD(a,o,e,t,n,r)}return fn}function Hw(e,t,n,r){return nr(e,cs(),n)?t+ns(n)+r:dn}function bi(e,t){return e<<17|t<<2}function ln(e){return e>>17&32767}function zw(e){return(e&2)==2}function Gw(e,t){return e&131071|t<<17}function zc(e){return e|2}function Zn(e){return(e&131068)>>2}function lc(e,t){return e&-131069|t<<2}function qw(e){return(e&1)===1}function Gc(e){return e|1}function Ww(e,t,n,r,o,i){let s=i?t.classBindings:t.styleBindings,a=ln(s),c=Zn(s);e[r]=n;let l=!1,u;if(Array.isArray(n)){let f=n;u=f[1],(u===null||Jr(f,u)>0)&&(l=!0)}else u=n;if(o)if(c!==0){let h=ln(e[a+1]);e[r+1]=bi(h,a),h!==0&&(e[h+1]=lc(e[h+1],r)),e[a+1]=Gw(e[a+1],r)}else e[r+1]=bi(a,0),a!==0&&(e[a+1]=lc(e[a+1],r)),a=r;else e[r+1]=bi(c,0),a===0?a=r:e[c+1]=lc(e[c+1],r),c=r;l&&(e[r+1]=zc(e[r+1])),lf(e,u,r,!0),lf(e,u,r,!1),Zw(t,u,e,r,i),s=bi(a,c),i?t.classBindings=s:t.styleBindings=s}function Zw(e,t,n,r,o){let i=o?e.residualClasses:e.residualStyles;i!=null&&typeof t=="string"&&Jr(i,t)>=0&&(n[r+1]=Gc(n[r+1]))}function lf(e,t,n,r){let o=e[n+1],i=t===null,s=r?ln(o):Zn(o),a=!1;for(;s!==0&&(a===!1||i);){let c=e[s],l=e[s+1];Yw(c,t)&&(a=!0,e[s+1]=r?Gc(l):zc(l)),s=r?ln(l):Zn(l)}a&&(e[n+1]=r?zc(o):Gc(o))}function Yw(e,t){return e===null||t==null||(Array.isArray(e)?e[1]:e)===t?!0:Array.isArray(e)&&typeof t=="string"?Jr(e,t)>=0:!1}function X(e,t,n){let r=q(),o=cs();if(nr(r,o,t)){let i=_e(),s=cl();op(i,s,r,e,t,r[ae],n,!1)}return X}function uf(e,t,n,r,o){Sl(t,e,n,o?"class":"style",r)}function at(e,t){return Qw(e,t,null,!0),at}function Qw(e,t,n,r){let o=q(),i=_e(),s=by(2);if(i.firstUpdatePass&&Xw(i,e,s,r),t!==dn&&nr(o,s,t)){let a=i.data[Xn()];rb(i,a,o,o[ae],e,o[s+1]=ob(t,n),r,s)}}function Kw(e,t){return t>=e.expandoStartIndex}function Xw(e,t,n,r){let o=e.data;if(o[n+1]===null){let i=o[Xn()],s=Kw(e,n);ib(i,r)&&t===null&&!s&&(t=!1),t=Jw(o,i,t,r),Ww(o,i,t,n,s,r)}}function Jw(e,t,n,r){let o=My(e),i=r?t.residualClasses:t.residualStyles;if(o===null)(r?t.classBindings:t.styleBindings)===0&&(n=uc(null,e,t,n,r),n=Kr(n,t.attrs,r),i=null);else{let s=t.directiveStylingLast;if(s===-1||e[s]!==o)if(n=uc(o,e,t,n,r),i===null){let c=eb(e,t,r);c!==void 0&&Array.isArray(c)&&(c=uc(null,e,t,c[1],r),c=Kr(c,t.attrs,r),tb(e,t,r,c))}else i=nb(e,t,r)}return i!==void 0&&(r?t.residualClasses=i:t.residualStyles=i),n}function eb(e,t,n){let r=n?t.classBindings:t.styleBindings;if(Zn(r)!==0)return e[ln(r)]}function tb(e,t,n,r){let o=n?t.classBindings:t.styleBindings;e[ln(o)]=r}function nb(e,t,n){let r,o=t.directiveEnd;for(let i=1+t.directiveStylingLast;i<o;i++){let s=e[i].hostAttrs;r=Kr(r,s,n)}return Kr(r,t.attrs,n)}function uc(e,t,n,r,o){let i=null,s=n.directiveEnd,a=n.directiveStylingLast;for(a===-1?a=n.directiveStart:a++;a<s&&(i=t[a],r=Kr(r,i.hostAttrs,o),i!==e);)a++;return e!==null&&(n.directiveStylingLast=a),r}function Kr(e,t,n){let r=n?1:2,o=-1;if(t!==null)for(let i=0;i<t.length;i++){let s=t[i];typeof s=="number"?o=s:o===r&&(Array.isArray(e)||(e=e===void 0?[]:["",e]),Bv(e,s,n?!0:t[++i]))}return e===void 0?null:e}function rb(e,t,n,r,o,i,s,a){if(!(t.type&3))return;let c=e.data,l=c[a+1],u=qw(l)?df(c,t,n,o,Zn(l),s):void 0;if(!Xi(u)){Xi(i)||zw(l)&&(i=df(c,null,n,o,a,s));let f=qf(Xn(),n);CC(r,s,f,o,i)}}function df(e,t,n,r,o,i){let s=t===null,a;for(;o>0;){let c=e[o],l=Array.isArray(c),u=l?c[1]:c,f=u===null,h=n[o+1];h===dn&&(h=f?Fe:void 0);let d=f?Ja(h,r):u===r?h:void 0;if(l&&!Xi(d)&&(d=Ja(c,r)),Xi(d)&&(a=d,s))return a;let m=e[o+1];o=s?ln(m):Zn(m)}if(t!==null){let c=i?t.residualClasses:t.residualStyles;c!=null&&(a=Ja(c,r))}return a}function Xi(e){return e!==void 0}function ob(e,t){return e==null||e===""||(typeof t=="string"?e=e+t:typeof e=="object"&&(e=we(Cl(e)))),e}function ib(e,t){return(e.flags&(t?8:16))!==0}function p(e,t,n,r){let o=q(),i=_e(),s=je+e,a=o[ae],c=i.firstCreatePass?_p(s,i,o,t,ip,eh(),n,r):i.data[s],l=sb(i,o,c,a,t,e);o[s]=l;let u=ol(c);return to(c,!0),qh(a,l,c),!sp(c)&&ll()&&Al(i,o,l,c),(dy()===0||u)&&ro(l,o),fy(),u&&(Ml(i,o,c),$h(i,c,o)),r!==null&&rp(o,c),p}function g(){let e=Ne();nh()?yy():(e=e.parent,to(e,!1));let t=e;gy(t)&&my(),hy();let n=_e();return n.firstCreatePass&&Ep(n,t),t.classesWithoutHost!=null&&Ry(t)&&uf(n,t,q(),t.classesWithoutHost,!0),t.stylesWithoutHost!=null&&Oy(t)&&uf(n,t,q(),t.stylesWithoutHost,!1),g}function hn(e,t,n,r){return p(e,t,n,r),g(),hn}var sb=(e,t,n,r,o,i)=>(ul(!0),zh(r,o,xy()));function rr(){return q()}var Ji="en-US";var ab=Ji;function cb(e){typeof e=="string"&&(ab=e.toLowerCase().replace(/_/g,"-"))}function ff(e,t,n){return function r(o){if(o===Function)return n;let i=Qn(e)?nt(e.index,t):t;Ol(i,5);let s=t[be],a=hf(t,s,n,o),c=r.__ngNextListenerFn__;for(;c;)a=hf(t,s,c,o)&&a,c=c.__ngNextListenerFn__;return a}}function hf(e,t,n,r){let o=F(null);try{return G(6,t,n),n(r)!==!1}catch(i){return lb(e,i),!1}finally{G(7,t,n),F(o)}}function lb(e,t){let n=e[Hn],r=n?n.get(yt,null):null;r&&r.handleError(t)}function pf(e,t,n,r,o,i){let s=t[n],a=t[j],l=a.data[n].outputs[r],u=s[l],f=a.firstCreatePass?Jf(a):null,h=Xf(t),d=u.subscribe(i),m=h.length;h.push(i,d),f&&f.push(o,e.index,m,-(m+1))}function H(e,t,n,r){let o=q(),i=_e(),s=Ne();return Op(i,o,o[ae],s,e,t,r),H}function ub(e,t,n,r){let o=e.cleanup;if(o!=null)for(let i=0;i<o.length-1;i+=2){let s=o[i];if(s===n&&o[i+1]===r){let a=t[Pi],c=o[i+2];return a.length>c?a[c]:null}typeof s=="string"&&(i+=2)}return null}function Op(e,t,n,r,o,i,s){let a=ol(r),l=e.firstCreatePass?Jf(e):null,u=Xf(t),f=!0;if(r.type&3||s){let h=it(r,t),d=s?s(h):h,m=u.length,w=s?V=>s(tt(V[r.index])):r.index,I=null;if(!s&&a&&(I=ub(e,t,o,r.index)),I!==null){let V=I.__ngLastListenerFn__||I;V.__ngNextListenerFn__=i,I.__ngLastListenerFn__=i,f=!1}else{i=ff(r,t,i),gD(t,d,o,i);let V=n.listen(d,o,i);u.push(i,V),l&&l.push(o,w,m,m+1)}}else i=ff(r,t,i);if(f){let h=r.outputs?.[o],d=r.hostDirectiveOutputs?.[o];if(d&&d.length)for(let m=0;m<d.length;m+=2){let w=d[m],I=d[m+1];pf(r,t,w,I,o,i)}if(h&&h.length)for(let m of h)pf(r,t,m,o,o,i)}}function ce(e=1){return Ty(e)}function Pp(e){let t=Dy();return Zf(t,je+e)}function D(e,t=""){let n=q(),r=_e(),o=e+je,i=r.firstCreatePass?Pl(r,o,1,t,null):r.data[o],s=db(r,n,i,t,e);n[o]=s,ll()&&Al(r,n,s,i),to(i,!1)}var db=(e,t,n,r,o)=>(ul(!0),wD(t[ae],r));function re(e){return Ue("",e,""),re}function Ue(e,t,n){let r=q(),o=Hw(r,e,t,n);return o!==dn&&fb(r,Xn(),o),Ue}function fb(e,t,n){let r=qf(t,e);bD(e[ae],r,n)}function me(e,t,n){Nh(t)&&(t=t());let r=q(),o=cs();if(nr(r,o,t)){let i=_e(),s=cl();op(i,s,r,e,t,r[ae],n,!1)}return me}function Ee(e,t){let n=Nh(e);return n&&e.set(t),n}function ve(e,t){let n=q(),r=_e(),o=Ne();return Op(r,n,n[ae],o,e,t),ve}function hb(e,t,n){let r=_e();if(r.firstCreatePass){let o=et(e);qc(n,r.data,r.blueprint,o,!0),qc(t,r.data,r.blueprint,o,!1)}}function qc(e,t,n,r,o){if(e=fe(e),Array.isArray(e))for(let i=0;i<e.length;i++)qc(e[i],t,n,r,o);else{let i=_e(),s=q(),a=Ne(),c=$n(e)?e:fe(e.provide),l=Vf(e),u=a.providerIndexes&1048575,f=a.directiveStart,h=a.providerIndexes>>20;if($n(e)||!e.multi){let d=new an(l,o,T),m=fc(c,t,o?u:u+h,f);m===-1?(Ic(Hi(a,s),i,c),dc(i,e,t.length),t.push(c),a.directiveStart++,a.directiveEnd++,o&&(a.providerIndexes+=1048576),n.push(d),s.push(d)):(n[m]=d,s[m]=d)}else{let d=fc(c,t,u+h,f),m=fc(c,t,u,u+h),w=d>=0&&n[d],I=m>=0&&n[m];if(o&&!I||!o&&!w){Ic(Hi(a,s),i,c);let V=mb(o?gb:pb,n.length,o,r,l);!o&&I&&(n[m].providerFactory=V),dc(i,e,t.length,0),t.push(c),a.directiveStart++,a.directiveEnd++,o&&(a.providerIndexes+=1048576),n.push(V),s.push(V)}else{let V=kp(n[o?m:d],l,!o&&r);dc(i,e,d>-1?d:m,V)}!o&&r&&I&&n[m].componentProviders++}}}function dc(e,t,n,r){let o=$n(t),i=Zv(t);if(o||i){let c=(i?fe(t.useClass):t).prototype.ngOnDestroy;if(c){let l=e.destroyHooks||(e.destroyHooks=[]);if(!o&&t.multi){let u=l.indexOf(n);u===-1?l.push(n,[r,c]):l[u+1].push(r,c)}else l.push(n,c)}}}function kp(e,t,n){return n&&e.componentProviders++,e.multi.push(t)-1}function fc(e,t,n,r){for(let o=n;o<r;o++)if(t[o]===e)return o;return-1}function pb(e,t,n,r,o){return Wc(this.multi,[])}function gb(e,t,n,r,o){let i=this.multi,s;if(this.providerFactory){let a=this.providerFactory.componentProviders,c=zi(r,r[j],this.providerFactory.index,o);s=c.slice(0,a),Wc(i,s);for(let l=a;l<c.length;l++)s.push(c[l])}else s=[],Wc(i,s);return s}function Wc(e,t){for(let n=0;n<e.length;n++){let r=e[n];t.push(r())}return t}function mb(e,t,n,r,o){let i=new an(e,n,T);return i.multi=[],i.index=t,i.componentProviders=0,kp(i,o,r&&!n),i}function Bt(e,t=[]){return n=>{n.providersResolver=(r,o)=>hb(r,o?o(e):e,t)}}function vb(e,t){let n=e[t];return n===dn?void 0:n}function yb(e,t,n,r,o,i){let s=t+n;return nr(e,s,o)?Rw(e,s+1,i?r.call(i,o):r(o)):vb(e,s+1)}function or(e,t){let n=_e(),r,o=e+je;n.firstCreatePass?(r=Db(t,n.pipeRegistry),n.data[o]=r,r.onDestroy&&(n.destroyHooks??=[]).push(o,r.onDestroy)):r=n.data[o];let i=r.factory||(r.factory=tn(r.type,!0)),s,a=Ce(T);try{let c=$i(!1),l=i();return $i(c),ay(n,q(),o,l),l}finally{Ce(a)}}function Db(e,t){if(t)for(let n=t.length-1;n>=0;n--){let r=t[n];if(e===r.name)return r}}function ir(e,t,n){let r=e+je,o=q(),i=Zf(o,r);return Cb(o,r)?yb(o,Cy(),t,i.transform,n,i):i.transform(n)}function Cb(e,t){return e[j].data[t].pure}var Zc=class{ngModuleFactory;componentFactories;constructor(t,n){this.ngModuleFactory=t,this.componentFactories=n}},Fp=(()=>{class e{compileModuleSync(n){return new $c(n)}compileModuleAsync(n){return Promise.resolve(this.compileModuleSync(n))}compileModuleAndAllComponentsSync(n){let r=this.compileModuleSync(n),o=Pf(n),i=Kh(o.declarations).reduce((s,a)=>{let c=Un(a);return c&&s.push(new Qr(c)),s},[]);return new Zc(r,i)}compileModuleAndAllComponentsAsync(n){return Promise.resolve(this.compileModuleAndAllComponentsSync(n))}clearCache(){}clearCacheFor(n){}getModuleId(n){}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})();var wb=(()=>{class e{zone=v(ne);changeDetectionScheduler=v(Zr);applicationRef=v(cn);_onMicrotaskEmptySubscription;initialize(){this._onMicrotaskEmptySubscription||(this._onMicrotaskEmptySubscription=this.zone.onMicrotaskEmpty.subscribe({next:()=>{this.changeDetectionScheduler.runningTick||this.zone.run(()=>{this.applicationRef.tick()})}}))}ngOnDestroy(){this._onMicrotaskEmptySubscription?.unsubscribe()}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})(),bb=new b("",{factory:()=>!1});function Lp({ngZoneFactory:e,ignoreChangesOutsideZone:t,scheduleInRootZone:n}){return e??=()=>new ne(k(y({},jp()),{scheduleInRootZone:n})),[{provide:ne,useFactory:e},{provide:zr,multi:!0,useFactory:()=>{let r=v(wb,{optional:!0});return()=>r.initialize()}},{provide:zr,multi:!0,useFactory:()=>{let r=v(_b);return()=>{r.initialize()}}},t===!0?{provide:Ih,useValue:!0}:[],{provide:Mh,useValue:n??Eh}]}function Vp(e){let t=e?.ignoreChangesOutsideZone,n=e?.scheduleInRootZone,r=Lp({ngZoneFactory:()=>{let o=jp(e);return o.scheduleInRootZone=n,o.shouldCoalesceEventChangeDetection&&Dl("NgZone_CoalesceEvent"),new ne(o)},ignoreChangesOutsideZone:t,scheduleInRootZone:n});return eo([{provide:bb,useValue:!0},{provide:hl,useValue:!1},r])}function jp(e){return{enableLongStackTrace:!1,shouldCoalesceEventChangeDetection:e?.eventCoalescing??!1,shouldCoalesceRunChangeDetection:e?.runCoalescing??!1}}var _b=(()=>{class e{subscription=new J;initialized=!1;zone=v(ne);pendingTasks=v(Vt);initialize(){if(this.initialized)return;this.initialized=!0;let n=null;!this.zone.isStable&&!this.zone.hasPendingMacrotasks&&!this.zone.hasPendingMicrotasks&&(n=this.pendingTasks.add()),this.zone.runOutsideAngular(()=>{this.subscription.add(this.zone.onStable.subscribe(()=>{ne.assertNotInAngularZone(),queueMicrotask(()=>{n!==null&&!this.zone.hasPendingMacrotasks&&!this.zone.hasPendingMicrotasks&&(this.pendingTasks.remove(n),n=null)})}))}),this.subscription.add(this.zone.onUnstable.subscribe(()=>{ne.assertInAngularZone(),n??=this.pendingTasks.add()}))}ngOnDestroy(){this.subscription.unsubscribe()}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})();var Eb=(()=>{class e{appRef=v(cn);taskService=v(Vt);ngZone=v(ne);zonelessEnabled=v(hl);tracing=v(us,{optional:!0});disableScheduling=v(Ih,{optional:!0})??!1;zoneIsDefined=typeof Zone<"u"&&!!Zone.root.run;schedulerTickApplyArgs=[{data:{__scheduler_tick__:!0}}];subscriptions=new J;angularZoneId=this.zoneIsDefined?this.ngZone._inner?.get(qi):null;scheduleInRootZone=!this.zonelessEnabled&&this.zoneIsDefined&&(v(Mh,{optional:!0})??!1);cancelScheduledCallback=null;useMicrotaskScheduler=!1;runningTick=!1;pendingRenderTaskId=null;constructor(){this.subscriptions.add(this.appRef.afterTick.subscribe(()=>{this.runningTick||this.cleanup()})),this.subscriptions.add(this.ngZone.onUnstable.subscribe(()=>{this.runningTick||this.cleanup()})),this.disableScheduling||=!this.zonelessEnabled&&(this.ngZone instanceof Nc||!this.zoneIsDefined)}notify(n){if(!this.zonelessEnabled&&n===5)return;let r=!1;switch(n){case 0:{this.appRef.dirtyFlags|=2;break}case 3:case 2:case 4:case 5:case 1:{this.appRef.dirtyFlags|=4;break}case 6:{this.appRef.dirtyFlags|=2,r=!0;break}case 12:{this.appRef.dirtyFlags|=16,r=!0;break}case 13:{this.appRef.dirtyFlags|=2,r=!0;break}case 11:{r=!0;break}case 9:case 8:case 7:case 10:default:this.appRef.dirtyFlags|=8}if(this.appRef.tracingSnapshot=this.tracing?.snapshot(this.appRef.tracingSnapshot)??null,!this.shouldScheduleTick(r))return;let o=this.useMicrotaskScheduler?zd:Sh;this.pendingRenderTaskId=this.taskService.add(),this.scheduleInRootZone?this.cancelScheduledCallback=Zone.root.run(()=>o(()=>this.tick())):this.cancelScheduledCallback=this.ngZone.runOutsideAngular(()=>o(()=>this.tick()))}shouldScheduleTick(n){return!(this.disableScheduling&&!n||this.appRef.destroyed||this.pendingRenderTaskId!==null||this.runningTick||this.appRef._runningTick||!this.zonelessEnabled&&this.zoneIsDefined&&Zone.current.get(qi+this.angularZoneId))}tick(){if(this.runningTick||this.appRef.destroyed)return;if(this.appRef.dirtyFlags===0){this.cleanup();return}!this.zonelessEnabled&&this.appRef.dirtyFlags&7&&(this.appRef.dirtyFlags|=1);let n=this.taskService.add();try{this.ngZone.run(()=>{this.runningTick=!0,this.appRef._tick()},void 0,this.schedulerTickApplyArgs)}catch(r){throw this.taskService.remove(n),r}finally{this.cleanup()}this.useMicrotaskScheduler=!0,zd(()=>{this.useMicrotaskScheduler=!1,this.taskService.remove(n)})}ngOnDestroy(){this.subscriptions.unsubscribe(),this.cleanup()}cleanup(){if(this.runningTick=!1,this.cancelScheduledCallback?.(),this.cancelScheduledCallback=null,this.pendingRenderTaskId!==null){let n=this.pendingRenderTaskId;this.pendingRenderTaskId=null,this.taskService.remove(n)}}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})();function Ib(){return typeof $localize<"u"&&$localize.locale||Ji}var Vl=new b("",{providedIn:"root",factory:()=>v(Vl,O.Optional|O.SkipSelf)||Ib()});var Yc=new b(""),Mb=new b("");function Br(e){return!e.moduleRef}function Sb(e){let t=Br(e)?e.r3Injector:e.moduleRef.injector,n=t.get(ne);return n.run(()=>{Br(e)?e.r3Injector.resolveInjectorInitializers():e.moduleRef.resolveInjectorInitializers();let r=t.get(yt,null),o;if(n.runOutsideAngular(()=>{o=n.onError.subscribe({next:i=>{r.handleError(i)}})}),Br(e)){let i=()=>t.destroy(),s=e.platformInjector.get(Yc);s.add(i),t.onDestroy(()=>{o.unsubscribe(),s.delete(i)})}else{let i=()=>e.moduleRef.destroy(),s=e.platformInjector.get(Yc);s.add(i),e.moduleRef.onDestroy(()=>{Mi(e.allPlatformModules,e.moduleRef),o.unsubscribe(),s.delete(i)})}return xb(r,n,()=>{let i=t.get(Rp);return i.runInitializers(),i.donePromise.then(()=>{let s=t.get(Vl,Ji);if(cb(s||Ji),!t.get(Mb,!0))return Br(e)?t.get(cn):(e.allPlatformModules.push(e.moduleRef),e.moduleRef);if(Br(e)){let c=t.get(cn);return e.rootComponent!==void 0&&c.bootstrap(e.rootComponent),c}else return Tb(e.moduleRef,e.allPlatformModules),e.moduleRef})})})}function Tb(e,t){let n=e.injector.get(cn);if(e._bootstrapComponents.length>0)e._bootstrapComponents.forEach(r=>n.bootstrap(r));else if(e.instance.ngDoBootstrap)e.instance.ngDoBootstrap(n);else throw new C(-403,!1);t.push(e)}function xb(e,t,n){try{let r=n();return jt(r)?r.catch(o=>{throw t.runOutsideAngular(()=>e.handleError(o)),o}):r}catch(r){throw t.runOutsideAngular(()=>e.handleError(r)),r}}var Si=null;function Nb(e=[],t){return vt.create({name:t,providers:[{provide:os,useValue:"platform"},{provide:Yc,useValue:new Set([()=>Si=null])},...e]})}function Ab(e=[]){if(Si)return Si;let t=Nb(e);return Si=t,jw(),Rb(t),t}function Rb(e){let t=e.get(vl,null);xe(e,()=>{t?.forEach(n=>n())})}var pn=(()=>{class e{static __NG_ELEMENT_ID__=Ob}return e})();function Ob(e){return Pb(Ne(),q(),(e&16)===16)}function Pb(e,t,n){if(Qn(e)&&!n){let r=nt(e.index,t);return new Yr(r,r)}else if(e.type&175){let r=t[Je];return new Yr(r,t)}return null}var Qc=class{constructor(){}supports(t){return xp(t)}create(t){return new Kc(t)}},kb=(e,t)=>t,Kc=class{length=0;collection;_linkedRecords=null;_unlinkedRecords=null;_previousItHead=null;_itHead=null;_itTail=null;_additionsHead=null;_additionsTail=null;_movesHead=null;_movesTail=null;_removalsHead=null;_removalsTail=null;_identityChangesHead=null;_identityChangesTail=null;_trackByFn;constructor(t){this._trackByFn=t||kb}forEachItem(t){let n;for(n=this._itHead;n!==null;n=n._next)t(n)}forEachOperation(t){let n=this._itHead,r=this._removalsHead,o=0,i=null;for(;n||r;){let s=!r||n&&n.currentIndex<gf(r,o,i)?n:r,a=gf(s,o,i),c=s.currentIndex;if(s===r)o--,r=r._nextRemoved;else if(n=n._next,s.previousIndex==null)o++;else{i||(i=[]);let l=a-o,u=c-o;if(l!=u){for(let h=0;h<l;h++){let d=h<i.length?i[h]:i[h]=0,m=d+h;u<=m&&m<l&&(i[h]=d+1)}let f=s.previousIndex;i[f]=u-l}}a!==c&&t(s,a,c)}}forEachPreviousItem(t){let n;for(n=this._previousItHead;n!==null;n=n._nextPrevious)t(n)}forEachAddedItem(t){let n;for(n=this._additionsHead;n!==null;n=n._nextAdded)t(n)}forEachMovedItem(t){let n;for(n=this._movesHead;n!==null;n=n._nextMoved)t(n)}forEachRemovedItem(t){let n;for(n=this._removalsHead;n!==null;n=n._nextRemoved)t(n)}forEachIdentityChange(t){let n;for(n=this._identityChangesHead;n!==null;n=n._nextIdentityChange)t(n)}diff(t){if(t==null&&(t=[]),!xp(t))throw new C(900,!1);return this.check(t)?this:null}onDestroy(){}check(t){this._reset();let n=this._itHead,r=!1,o,i,s;if(Array.isArray(t)){this.length=t.length;for(let a=0;a<this.length;a++)i=t[a],s=this._trackByFn(a,i),n===null||!Object.is(n.trackById,s)?(n=this._mismatch(n,i,s,a),r=!0):(r&&(n=this._verifyReinsertion(n,i,s,a)),Object.is(n.item,i)||this._addIdentityChange(n,i)),n=n._next}else o=0,Nw(t,a=>{s=this._trackByFn(o,a),n===null||!Object.is(n.trackById,s)?(n=this._mismatch(n,a,s,o),r=!0):(r&&(n=this._verifyReinsertion(n,a,s,o)),Object.is(n.item,a)||this._addIdentityChange(n,a)),n=n._next,o++}),this.length=o;return this._truncate(n),this.collection=t,this.isDirty}get isDirty(){return this._additionsHead!==null||this._movesHead!==null||this._removalsHead!==null||this._identityChangesHead!==null}_reset(){if(this.isDirty){let t;for(t=this._previousItHead=this._itHead;t!==null;t=t._next)t._nextPrevious=t._next;for(t=this._additionsHead;t!==null;t=t._nextAdded)t.previousIndex=t.currentIndex;for(this._additionsHead=this._additionsTail=null,t=this._movesHead;t!==null;t=t._nextMoved)t.previousIndex=t.currentIndex;this._movesHead=this._movesTail=null,this._removalsHead=this._removalsTail=null,this._identityChangesHead=this._identityChangesTail=null}}_mismatch(t,n,r,o){let i;return t===null?i=this._itTail:(i=t._prev,this._remove(t)),t=this._unlinkedRecords===null?null:this._unlinkedRecords.get(r,null),t!==null?(Object.is(t.item,n)||this._addIdentityChange(t,n),this._reinsertAfter(t,i,o)):(t=this._linkedRecords===null?null:this._linkedRecords.get(r,o),t!==null?(Object.is(t.item,n)||this._addIdentityChange(t,n),this._moveAfter(t,i,o)):t=this._addAfter(new Xc(n,r),i,o)),t}_verifyReinsertion(t,n,r,o){let i=this._unlinkedRecords===null?null:this._unlinkedRecords.get(r,null);return i!==null?t=this._reinsertAfter(i,t._prev,o):t.currentIndex!=o&&(t.currentIndex=o,this._addToMoves(t,o)),t}_truncate(t){for(;t!==null;){let n=t._next;this._addToRemovals(this._unlink(t)),t=n}this._unlinkedRecords!==null&&this._unlinkedRecords.clear(),this._additionsTail!==null&&(this._additionsTail._nextAdded=null),this._movesTail!==null&&(this._movesTail._nextMoved=null),this._itTail!==null&&(this._itTail._next=null),this._removalsTail!==null&&(this._removalsTail._nextRemoved=null),this._identityChangesTail!==null&&(this._identityChangesTail._nextIdentityChange=null)}_reinsertAfter(t,n,r){this._unlinkedRecords!==null&&this._unlinkedRecords.remove(t);let o=t._prevRemoved,i=t._nextRemoved;return o===null?this._removalsHead=i:o._nextRemoved=i,i===null?this._removalsTail=o:i._prevRemoved=o,this._insertAfter(t,n,r),this._addToMoves(t,r),t}_moveAfter(t,n,r){return this._unlink(t),this._insertAfter(t,n,r),this._addToMoves(t,r),t}_addAfter(t,n,r){return this._insertAfter(t,n,r),this._additionsTail===null?this._additionsTail=this._additionsHead=t:this._additionsTail=this._additionsTail._nextAdded=t,t}_insertAfter(t,n,r){let o=n===null?this._itHead:n._next;return t._next=o,t._prev=n,o===null?this._itTail=t:o._prev=t,n===null?this._itHead=t:n._next=t,this._linkedRecords===null&&(this._linkedRecords=new es),this._linkedRecords.put(t),t.currentIndex=r,t}_remove(t){return this._addToRemovals(this._unlink(t))}_unlink(t){this._linkedRecords!==null&&this._linkedRecords.remove(t);let n=t._prev,r=t._next;return n===null?this._itHead=r:n._next=r,r===null?this._itTail=n:r._prev=n,t}_addToMoves(t,n){return t.previousIndex===n||(this._movesTail===null?this._movesTail=this._movesHead=t:this._movesTail=this._movesTail._nextMoved=t),t}_addToRemovals(t){return this._unlinkedRecords===null&&(this._unlinkedRecords=new es),this._unlinkedRecords.put(t),t.currentIndex=null,t._nextRemoved=null,this._removalsTail===null?(this._removalsTail=this._removalsHead=t,t._prevRemoved=null):(t._prevRemoved=this._removalsTail,this._removalsTail=this._removalsTail._nextRemoved=t),t}_addIdentityChange(t,n){return t.item=n,this._identityChangesTail===null?this._identityChangesTail=this._identityChangesHead=t:this._identityChangesTail=this._identityChangesTail._nextIdentityChange=t,t}},Xc=class{item;trackById;currentIndex=null;previousIndex=null;_nextPrevious=null;_prev=null;_next=null;_prevDup=null;_nextDup=null;_prevRemoved=null;_nextRemoved=null;_nextAdded=null;_nextMoved=null;_nextIdentityChange=null;constructor(t,n){this.item=t,this.trackById=n}},Jc=class{_head=null;_tail=null;add(t){this._head===null?(this._head=this._tail=t,t._nextDup=null,t._prevDup=null):(this._tail._nextDup=t,t._prevDup=this._tail,t._nextDup=null,this._tail=t)}get(t,n){let r;for(r=this._head;r!==null;r=r._nextDup)if((n===null||n<=r.currentIndex)&&Object.is(r.trackById,t))return r;return null}remove(t){let n=t._prevDup,r=t._nextDup;return n===null?this._head=r:n._nextDup=r,r===null?this._tail=n:r._prevDup=n,this._head===null}},es=class{map=new Map;put(t){let n=t.trackById,r=this.map.get(n);r||(r=new Jc,this.map.set(n,r)),r.add(t)}get(t,n){let r=t,o=this.map.get(r);return o?o.get(t,n):null}remove(t){let n=t.trackById;return this.map.get(n).remove(t)&&this.map.delete(n),t}get isEmpty(){return this.map.size===0}clear(){this.map.clear()}};function gf(e,t,n){let r=e.previousIndex;if(r===null)return r;let o=0;return n&&r<n.length&&(o=n[r]),r+t+o}function mf(){return new jl([new Qc])}var jl=(()=>{class e{factories;static \u0275prov=_({token:e,providedIn:"root",factory:mf});constructor(n){this.factories=n}static create(n,r){if(r!=null){let o=r.factories.slice();n=n.concat(o)}return new e(n)}static extend(n){return{provide:e,useFactory:r=>e.create(n,r||mf()),deps:[[e,new Vv,new Lv]]}}find(n){let r=this.factories.find(o=>o.supports(n));if(r!=null)return r;throw new C(901,!1)}}return e})();function Bp(e){let{rootComponent:t,appProviders:n,platformProviders:r,platformRef:o}=e;G(8);try{let i=o?.injector??Ab(r),s=[Lp({}),{provide:Zr,useExisting:Eb},...n||[]],a=new Ki({providers:s,parent:i,debugName:"",runEnvironmentInitializers:!1});return Sb({r3Injector:a.injector,platformInjector:i,rootComponent:t})}catch(i){return Promise.reject(i)}finally{G(9)}}function gn(e){return typeof e=="boolean"?e:e!=null&&e!=="false"}function Ye(e){return Fa(e)}function io(e,t){return Ra(e,t?.equal)}var vf=class{[Pe];constructor(t){this[Pe]=t}destroy(){this[Pe].destroy()}};var le=new b("");var Hp=null;function $e(){return Hp}function Bl(e){Hp??=e}var so=class{},Ul=(()=>{class e{historyGo(n){throw new Error("")}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:()=>v(zp),providedIn:"platform"})}return e})();var zp=(()=>{class e extends Ul{_location;_history;_doc=v(le);constructor(){super(),this._location=window.location,this._history=window.history}getBaseHrefFromDOM(){return $e().getBaseHref(this._doc)}onPopState(n){let r=$e().getGlobalEventTarget(this._doc,"window");return r.addEventListener("popstate",n,!1),()=>r.removeEventListener("popstate",n)}onHashChange(n){let r=$e().getGlobalEventTarget(this._doc,"window");return r.addEventListener("hashchange",n,!1),()=>r.removeEventListener("hashchange",n)}get href(){return this._location.href}get protocol(){return this._location.protocol}get hostname(){return this._location.hostname}get port(){return this._location.port}get pathname(){return this._location.pathname}get search(){return this._location.search}get hash(){return this._location.hash}set pathname(n){this._location.pathname=n}pushState(n,r,o){this._history.pushState(n,r,o)}replaceState(n,r,o){this._history.replaceState(n,r,o)}forward(){this._history.forward()}back(){this._history.back()}historyGo(n=0){this._history.go(n)}getState(){return this._history.state}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:()=>new e,providedIn:"platform"})}return e})();function Gp(e,t){return e?t?e.endsWith("/")?t.startsWith("/")?e+t.slice(1):e+t:t.startsWith("/")?e+t:`${e}/${t}`:e:t}function Up(e){let t=e.search(/#|\?|$/);return e[t-1]==="/"?e.slice(0,t-1)+e.slice(t):e}function Ut(e){return e&&e[0]!=="?"?`?${e}`:e}var sr=(()=>{class e{historyGo(n){throw new Error("")}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:()=>v(Wp),providedIn:"root"})}return e})(),qp=new b(""),Wp=(()=>{class e extends sr{_platformLocation;_baseHref;_removeListenerFns=[];constructor(n,r){super(),this._platformLocation=n,this._baseHref=r??this._platformLocation.getBaseHrefFromDOM()??v(le).location?.origin??""}ngOnDestroy(){for(;this._removeListenerFns.length;)this._removeListenerFns.pop()()}onPopState(n){this._removeListenerFns.push(this._platformLocation.onPopState(n),this._platformLocation.onHashChange(n))}getBaseHref(){return this._baseHref}prepareExternalUrl(n){return Gp(this._baseHref,n)}path(n=!1){let r=this._platformLocation.pathname+Ut(this._platformLocation.search),o=this._platformLocation.hash;return o&&n?`${r}${o}`:r}pushState(n,r,o,i){let s=this.prepareExternalUrl(o+Ut(i));this._platformLocation.pushState(n,r,s)}replaceState(n,r,o,i){let s=this.prepareExternalUrl(o+Ut(i));this._platformLocation.replaceState(n,r,s)}forward(){this._platformLocation.forward()}back(){this._platformLocation.back()}getState(){return this._platformLocation.getState()}historyGo(n=0){this._platformLocation.historyGo?.(n)}static \u0275fac=function(r){return new(r||e)(M(Ul),M(qp,8))};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})(),ar=(()=>{class e{_subject=new ee;_basePath;_locationStrategy;_urlChangeListeners=[];_urlChangeSubscription=null;constructor(n){this._locationStrategy=n;let r=this._locationStrategy.getBaseHref();this._basePath=Vb(Up($p(r))),this._locationStrategy.onPopState(o=>{this._subject.next({url:this.path(!0),pop:!0,state:o.state,type:o.type})})}ngOnDestroy(){this._urlChangeSubscription?.unsubscribe(),this._urlChangeListeners=[]}path(n=!1){return this.normalize(this._locationStrategy.path(n))}getState(){return this._locationStrategy.getState()}isCurrentPathEqualTo(n,r=""){return this.path()==this.normalize(n+Ut(r))}normalize(n){return e.stripTrailingSlash(Lb(this._basePath,$p(n)))}prepareExternalUrl(n){return n&&n[0]!=="/"&&(n="/"+n),this._locationStrategy.prepareExternalUrl(n)}go(n,r="",o=null){this._locationStrategy.pushState(o,"",n,r),this._notifyUrlChangeListeners(this.prepareExternalUrl(n+Ut(r)),o)}replaceState(n,r="",o=null){this._locationStrategy.replaceState(o,"",n,r),this._notifyUrlChangeListeners(this.prepareExternalUrl(n+Ut(r)),o)}forward(){this._locationStrategy.forward()}back(){this._locationStrategy.back()}historyGo(n=0){this._locationStrategy.historyGo?.(n)}onUrlChange(n){return this._urlChangeListeners.push(n),this._urlChangeSubscription??=this.subscribe(r=>{this._notifyUrlChangeListeners(r.url,r.state)}),()=>{let r=this._urlChangeListeners.indexOf(n);this._urlChangeListeners.splice(r,1),this._urlChangeListeners.length===0&&(this._urlChangeSubscription?.unsubscribe(),this._urlChangeSubscription=null)}}_notifyUrlChangeListeners(n="",r){this._urlChangeListeners.forEach(o=>o(n,r))}subscribe(n,r,o){return this._subject.subscribe({next:n,error:r??void 0,complete:o??void 0})}static normalizeQueryParams=Ut;static joinWithSlash=Gp;static stripTrailingSlash=Up;static \u0275fac=function(r){return new(r||e)(M(sr))};static \u0275prov=_({token:e,factory:()=>Fb(),providedIn:"root"})}return e})();function Fb(){return new ar(M(sr))}function Lb(e,t){if(!e||!t.startsWith(e))return t;let n=t.substring(e.length);return n===""||["/",";","?","#"].includes(n[0])?n:t}function $p(e){return e.replace(/\/index.html$/,"")}function Vb(e){if(new RegExp("^(https?:)?//").test(e)){let[,n]=e.split(/\/\/[^\/]+/);return n}return e}var ms=class{$implicit;ngForOf;index;count;constructor(t,n,r,o){this.$implicit=t,this.ngForOf=n,this.index=r,this.count=o}get first(){return this.index===0}get last(){return this.index===this.count-1}get even(){return this.index%2===0}get odd(){return!this.even}},ys=(()=>{class e{_viewContainer;_template;_differs;set ngForOf(n){this._ngForOf=n,this._ngForOfDirty=!0}set ngForTrackBy(n){this._trackByFn=n}get ngForTrackBy(){return this._trackByFn}_ngForOf=null;_ngForOfDirty=!0;_differ=null;_trackByFn;constructor(n,r,o){this._viewContainer=n,this._template=r,this._differs=o}set ngForTemplate(n){n&&(this._template=n)}ngDoCheck(){if(this._ngForOfDirty){this._ngForOfDirty=!1;let n=this._ngForOf;!this._differ&&n&&(this._differ=this._differs.find(n).create(this.ngForTrackBy))}if(this._differ){let n=this._differ.diff(this._ngForOf);n&&this._applyChanges(n)}}_applyChanges(n){let r=this._viewContainer;n.forEachOperation((o,i,s)=>{if(o.previousIndex==null)r.createEmbeddedView(this._template,new ms(o.item,this._ngForOf,-1,-1),s===null?void 0:s);else if(s==null)r.remove(i===null?void 0:i);else if(i!==null){let a=r.get(i);r.move(a,s),Zp(a,o)}});for(let o=0,i=r.length;o<i;o++){let a=r.get(o).context;a.index=o,a.count=i,a.ngForOf=this._ngForOf}n.forEachIdentityChange(o=>{let i=r.get(o.currentIndex);Zp(i,o)})}static ngTemplateContextGuard(n,r){return!0}static \u0275fac=function(r){return new(r||e)(T(tr),T(hs),T(jl))};static \u0275dir=K({type:e,selectors:[["","ngFor","","ngForOf",""]],inputs:{ngForOf:"ngForOf",ngForTrackBy:"ngForTrackBy",ngForTemplate:"ngForTemplate"}})}return e})();function Zp(e,t){e.context.$implicit=t.item}var mn=(()=>{class e{_viewContainer;_context=new vs;_thenTemplateRef=null;_elseTemplateRef=null;_thenViewRef=null;_elseViewRef=null;constructor(n,r){this._viewContainer=n,this._thenTemplateRef=r}set ngIf(n){this._context.$implicit=this._context.ngIf=n,this._updateView()}set ngIfThen(n){Yp(n,!1),this._thenTemplateRef=n,this._thenViewRef=null,this._updateView()}set ngIfElse(n){Yp(n,!1),this._elseTemplateRef=n,this._elseViewRef=null,this._updateView()}_updateView(){this._context.$implicit?this._thenViewRef||(this._viewContainer.clear(),this._elseViewRef=null,this._thenTemplateRef&&(this._thenViewRef=this._viewContainer.createEmbeddedView(this._thenTemplateRef,this._context))):this._elseViewRef||(this._viewContainer.clear(),this._thenViewRef=null,this._elseTemplateRef&&(this._elseViewRef=this._viewContainer.createEmbeddedView(this._elseTemplateRef,this._context)))}static ngIfUseIfTypeGuard;static ngTemplateGuard_ngIf;static ngTemplateContextGuard(n,r){return!0}static \u0275fac=function(r){return new(r||e)(T(tr),T(hs))};static \u0275dir=K({type:e,selectors:[["","ngIf",""]],inputs:{ngIf:"ngIf",ngIfThen:"ngIfThen",ngIfElse:"ngIfElse"}})}return e})(),vs=class{$implicit=null;ngIf=null};function Yp(e,t){if(e&&!e.createEmbeddedView)throw new C(2020,!1)}function jb(e,t){return new C(2100,!1)}var $l=class{createSubscription(t,n){return Ye(()=>t.subscribe({next:n,error:r=>{throw r}}))}dispose(t){Ye(()=>t.unsubscribe())}},Hl=class{createSubscription(t,n){return t.then(r=>n?.(r),r=>{throw r}),{unsubscribe:()=>{n=null}}}dispose(t){t.unsubscribe()}},Bb=new Hl,Ub=new $l,zl=(()=>{class e{_ref;_latestValue=null;markForCheckOnValueUpdate=!0;_subscription=null;_obj=null;_strategy=null;constructor(n){this._ref=n}ngOnDestroy(){this._subscription&&this._dispose(),this._ref=null}transform(n){if(!this._obj){if(n)try{this.markForCheckOnValueUpdate=!1,this._subscribe(n)}finally{this.markForCheckOnValueUpdate=!0}return this._latestValue}return n!==this._obj?(this._dispose(),this.transform(n)):this._latestValue}_subscribe(n){this._obj=n,this._strategy=this._selectStrategy(n),this._subscription=this._strategy.createSubscription(n,r=>this._updateLatestValue(n,r))}_selectStrategy(n){if(jt(n))return Bb;if(Fl(n))return Ub;throw jb(e,n)}_dispose(){this._strategy.dispose(this._subscription),this._latestValue=null,this._subscription=null,this._obj=null}_updateLatestValue(n,r){n===this._obj&&(this._latestValue=r,this.markForCheckOnValueUpdate&&this._ref?.markForCheck())}static \u0275fac=function(r){return new(r||e)(T(pn,16))};static \u0275pipe=Mp({name:"async",type:e,pure:!1})}return e})();var $t=(()=>{class e{static \u0275fac=function(r){return new(r||e)};static \u0275mod=Mt({type:e});static \u0275inj=Ct({})}return e})();function ao(e,t){t=encodeURIComponent(t);for(let n of e.split(";")){let r=n.indexOf("="),[o,i]=r==-1?[n,""]:[n.slice(0,r),n.slice(r+1)];if(o.trim()===t)return decodeURIComponent(i)}return null}var Gl="browser",Qp="server";function Ds(e){return e===Qp}var vn=class{};var _s=new b(""),Yl=(()=>{class e{_zone;_plugins;_eventNameToPlugin=new Map;constructor(n,r){this._zone=r,n.forEach(o=>{o.manager=this}),this._plugins=n.slice().reverse()}addEventListener(n,r,o,i){return this._findPluginFor(r).addEventListener(n,r,o,i)}getZone(){return this._zone}_findPluginFor(n){let r=this._eventNameToPlugin.get(n);if(r)return r;if(r=this._plugins.find(i=>i.supports(n)),!r)throw new C(5101,!1);return this._eventNameToPlugin.set(n,r),r}static \u0275fac=function(r){return new(r||e)(M(_s),M(ne))};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})(),co=class{_doc;constructor(t){this._doc=t}manager},ws="ng-app-id";function Kp(e){for(let t of e)t.remove()}function Xp(e,t){let n=t.createElement("style");return n.textContent=e,n}function $b(e,t,n,r){let o=e.head?.querySelectorAll(`style[${ws}="${t}"],link[${ws}="${t}"]`);if(o)for(let i of o)i.removeAttribute(ws),i instanceof HTMLLinkElement?r.set(i.href.slice(i.href.lastIndexOf("/")+1),{usage:0,elements:[i]}):i.textContent&&n.set(i.textContent,{usage:0,elements:[i]})}function Wl(e,t){let n=t.createElement("link");return n.setAttribute("rel","stylesheet"),n.setAttribute("href",e),n}var Ql=(()=>{class e{doc;appId;nonce;inline=new Map;external=new Map;hosts=new Set;isServer;constructor(n,r,o,i={}){this.doc=n,this.appId=r,this.nonce=o,this.isServer=Ds(i),$b(n,r,this.inline,this.external),this.hosts.add(n.head)}addStyles(n,r){for(let o of n)this.addUsage(o,this.inline,Xp);r?.forEach(o=>this.addUsage(o,this.external,Wl))}removeStyles(n,r){for(let o of n)this.removeUsage(o,this.inline);r?.forEach(o=>this.removeUsage(o,this.external))}addUsage(n,r,o){let i=r.get(n);i?i.usage++:r.set(n,{usage:1,elements:[...this.hosts].map(s=>this.addElement(s,o(n,this.doc)))})}removeUsage(n,r){let o=r.get(n);o&&(o.usage--,o.usage<=0&&(Kp(o.elements),r.delete(n)))}ngOnDestroy(){for(let[,{elements:n}]of[...this.inline,...this.external])Kp(n);this.hosts.clear()}addHost(n){this.hosts.add(n);for(let[r,{elements:o}]of this.inline)o.push(this.addElement(n,Xp(r,this.doc)));for(let[r,{elements:o}]of this.external)o.push(this.addElement(n,Wl(r,this.doc)))}removeHost(n){this.hosts.delete(n)}addElement(n,r){return this.nonce&&r.setAttribute("nonce",this.nonce),this.isServer&&r.setAttribute(ws,this.appId),n.appendChild(r)}static \u0275fac=function(r){return new(r||e)(M(le),M(ml),M(yl,8),M(oo))};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})(),ql={svg:"http://www.w3.org/2000/svg",xhtml:"http://www.w3.org/1999/xhtml",xlink:"http://www.w3.org/1999/xlink",xml:"http://www.w3.org/XML/1998/namespace",xmlns:"http://www.w3.org/2000/xmlns/",math:"http://www.w3.org/1998/Math/MathML"},Kl=/%COMP%/g;var eg="%COMP%",Hb=`_nghost-${eg}`,zb=`_ngcontent-${eg}`,Gb=!0,qb=new b("",{providedIn:"root",factory:()=>Gb});function Wb(e){return zb.replace(Kl,e)}function Zb(e){return Hb.replace(Kl,e)}function tg(e,t){return t.map(n=>n.replace(Kl,e))}var Xl=(()=>{class e{eventManager;sharedStylesHost;appId;removeStylesOnCompDestroy;doc;platformId;ngZone;nonce;tracingService;rendererByCompId=new Map;defaultRenderer;platformIsServer;constructor(n,r,o,i,s,a,c,l=null,u=null){this.eventManager=n,this.sharedStylesHost=r,this.appId=o,this.removeStylesOnCompDestroy=i,this.doc=s,this.platformId=a,this.ngZone=c,this.nonce=l,this.tracingService=u,this.platformIsServer=Ds(a),this.defaultRenderer=new lo(n,s,c,this.platformIsServer,this.tracingService)}createRenderer(n,r){if(!n||!r)return this.defaultRenderer;this.platformIsServer&&r.encapsulation===rt.ShadowDom&&(r=k(y({},r),{encapsulation:rt.Emulated}));let o=this.getOrCreateRenderer(n,r);return o instanceof bs?o.applyToHost(n):o instanceof uo&&o.applyStyles(),o}getOrCreateRenderer(n,r){let o=this.rendererByCompId,i=o.get(r.id);if(!i){let s=this.doc,a=this.ngZone,c=this.eventManager,l=this.sharedStylesHost,u=this.removeStylesOnCompDestroy,f=this.platformIsServer,h=this.tracingService;switch(r.encapsulation){case rt.Emulated:i=new bs(c,l,r,this.appId,u,s,a,f,h);break;case rt.ShadowDom:return new Zl(c,l,n,r,s,a,this.nonce,f,h);default:i=new uo(c,l,r,u,s,a,f,h);break}o.set(r.id,i)}return i}ngOnDestroy(){this.rendererByCompId.clear()}componentReplaced(n){this.rendererByCompId.delete(n)}static \u0275fac=function(r){return new(r||e)(M(Yl),M(Ql),M(ml),M(qb),M(le),M(oo),M(ne),M(yl),M(us,8))};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})(),lo=class{eventManager;doc;ngZone;platformIsServer;tracingService;data=Object.create(null);throwOnSyntheticProps=!0;constructor(t,n,r,o,i){this.eventManager=t,this.doc=n,this.ngZone=r,this.platformIsServer=o,this.tracingService=i}destroy(){}destroyNode=null;createElement(t,n){return n?this.doc.createElementNS(ql[n]||n,t):this.doc.createElement(t)}createComment(t){return this.doc.createComment(t)}createText(t){return this.doc.createTextNode(t)}appendChild(t,n){(Jp(t)?t.content:t).appendChild(n)}insertBefore(t,n,r){t&&(Jp(t)?t.content:t).insertBefore(n,r)}removeChild(t,n){n.remove()}selectRootElement(t,n){let r=typeof t=="string"?this.doc.querySelector(t):t;if(!r)throw new C(-5104,!1);return n||(r.textContent=""),r}parentNode(t){return t.parentNode}nextSibling(t){return t.nextSibling}setAttribute(t,n,r,o){if(o){n=o+":"+n;let i=ql[o];i?t.setAttributeNS(i,n,r):t.setAttribute(n,r)}else t.setAttribute(n,r)}removeAttribute(t,n,r){if(r){let o=ql[r];o?t.removeAttributeNS(o,n):t.removeAttribute(`${r}:${n}`)}else t.removeAttribute(n)}addClass(t,n){t.classList.add(n)}removeClass(t,n){t.classList.remove(n)}setStyle(t,n,r,o){o&(Dt.DashCase|Dt.Important)?t.style.setProperty(n,r,o&Dt.Important?"important":""):t.style[n]=r}removeStyle(t,n,r){r&Dt.DashCase?t.style.removeProperty(n):t.style[n]=""}setProperty(t,n,r){t!=null&&(t[n]=r)}setValue(t,n){t.nodeValue=n}listen(t,n,r,o){if(typeof t=="string"&&(t=$e().getGlobalEventTarget(this.doc,t),!t))throw new C(5102,!1);let i=this.decoratePreventDefault(r);return this.tracingService?.wrapEventListener&&(i=this.tracingService.wrapEventListener(t,n,i)),this.eventManager.addEventListener(t,n,i,o)}decoratePreventDefault(t){return n=>{if(n==="__ngUnwrap__")return t;(this.platformIsServer?this.ngZone.runGuarded(()=>t(n)):t(n))===!1&&n.preventDefault()}}};function Jp(e){return e.tagName==="TEMPLATE"&&e.content!==void 0}var Zl=class extends lo{sharedStylesHost;hostEl;shadowRoot;constructor(t,n,r,o,i,s,a,c,l){super(t,i,s,c,l),this.sharedStylesHost=n,this.hostEl=r,this.shadowRoot=r.attachShadow({mode:"open"}),this.sharedStylesHost.addHost(this.shadowRoot);let u=o.styles;u=tg(o.id,u);for(let h of u){let d=document.createElement("style");a&&d.setAttribute("nonce",a),d.textContent=h,this.shadowRoot.appendChild(d)}let f=o.getExternalStyles?.();if(f)for(let h of f){let d=Wl(h,i);a&&d.setAttribute("nonce",a),this.shadowRoot.appendChild(d)}}nodeOrShadowRoot(t){return t===this.hostEl?this.shadowRoot:t}appendChild(t,n){return super.appendChild(this.nodeOrShadowRoot(t),n)}insertBefore(t,n,r){return super.insertBefore(this.nodeOrShadowRoot(t),n,r)}removeChild(t,n){return super.removeChild(null,n)}parentNode(t){return this.nodeOrShadowRoot(super.parentNode(this.nodeOrShadowRoot(t)))}destroy(){this.sharedStylesHost.removeHost(this.shadowRoot)}},uo=class extends lo{sharedStylesHost;removeStylesOnCompDestroy;styles;styleUrls;constructor(t,n,r,o,i,s,a,c,l){super(t,i,s,a,c),this.sharedStylesHost=n,this.removeStylesOnCompDestroy=o;let u=r.styles;this.styles=l?tg(l,u):u,this.styleUrls=r.getExternalStyles?.(l)}applyStyles(){this.sharedStylesHost.addStyles(this.styles,this.styleUrls)}destroy(){this.removeStylesOnCompDestroy&&this.sharedStylesHost.removeStyles(this.styles,this.styleUrls)}},bs=class extends uo{contentAttr;hostAttr;constructor(t,n,r,o,i,s,a,c,l){let u=o+"-"+r.id;super(t,n,r,i,s,a,c,l,u),this.contentAttr=Wb(u),this.hostAttr=Zb(u)}applyToHost(t){this.applyStyles(),this.setAttribute(t,this.hostAttr,"")}createElement(t,n){let r=super.createElement(t,n);return super.setAttribute(r,this.contentAttr,""),r}};var Es=class e extends so{supportsDOMEvents=!0;static makeCurrent(){Bl(new e)}onAndCancel(t,n,r,o){return t.addEventListener(n,r,o),()=>{t.removeEventListener(n,r,o)}}dispatchEvent(t,n){t.dispatchEvent(n)}remove(t){t.remove()}createElement(t,n){return n=n||this.getDefaultDocument(),n.createElement(t)}createHtmlDocument(){return document.implementation.createHTMLDocument("fakeTitle")}getDefaultDocument(){return document}isElementNode(t){return t.nodeType===Node.ELEMENT_NODE}isShadowRoot(t){return t instanceof DocumentFragment}getGlobalEventTarget(t,n){return n==="window"?window:n==="document"?t:n==="body"?t.body:null}getBaseHref(t){let n=Yb();return n==null?null:Qb(n)}resetBaseElement(){fo=null}getUserAgent(){return window.navigator.userAgent}getCookie(t){return ao(document.cookie,t)}},fo=null;function Yb(){return fo=fo||document.head.querySelector("base"),fo?fo.getAttribute("href"):null}function Qb(e){return new URL(e,document.baseURI).pathname}var Kb=(()=>{class e{build(){return new XMLHttpRequest}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})(),rg=(()=>{class e extends co{constructor(n){super(n)}supports(n){return!0}addEventListener(n,r,o,i){return n.addEventListener(r,o,i),()=>this.removeEventListener(n,r,o,i)}removeEventListener(n,r,o,i){return n.removeEventListener(r,o,i)}static \u0275fac=function(r){return new(r||e)(M(le))};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})(),ng=["alt","control","meta","shift"],Xb={"\b":"Backspace","	":"Tab","\x7F":"Delete","\x1B":"Escape",Del:"Delete",Esc:"Escape",Left:"ArrowLeft",Right:"ArrowRight",Up:"ArrowUp",Down:"ArrowDown",Menu:"ContextMenu",Scroll:"ScrollLock",Win:"OS"},Jb={alt:e=>e.altKey,control:e=>e.ctrlKey,meta:e=>e.metaKey,shift:e=>e.shiftKey},og=(()=>{class e extends co{constructor(n){super(n)}supports(n){return e.parseEventName(n)!=null}addEventListener(n,r,o,i){let s=e.parseEventName(r),a=e.eventCallback(s.fullKey,o,this.manager.getZone());return this.manager.getZone().runOutsideAngular(()=>$e().onAndCancel(n,s.domEventName,a,i))}static parseEventName(n){let r=n.toLowerCase().split("."),o=r.shift();if(r.length===0||!(o==="keydown"||o==="keyup"))return null;let i=e._normalizeKey(r.pop()),s="",a=r.indexOf("code");if(a>-1&&(r.splice(a,1),s="code."),ng.forEach(l=>{let u=r.indexOf(l);u>-1&&(r.splice(u,1),s+=l+".")}),s+=i,r.length!=0||i.length===0)return null;let c={};return c.domEventName=o,c.fullKey=s,c}static matchEventFullKeyCode(n,r){let o=Xb[n.key]||n.key,i="";return r.indexOf("code.")>-1&&(o=n.code,i="code."),o==null||!o?!1:(o=o.toLowerCase(),o===" "?o="space":o==="."&&(o="dot"),ng.forEach(s=>{if(s!==o){let a=Jb[s];a(n)&&(i+=s+".")}}),i+=o,i===r)}static eventCallback(n,r,o){return i=>{e.matchEventFullKeyCode(i,n)&&o.runGuarded(()=>r(i))}}static _normalizeKey(n){return n==="esc"?"escape":n}static \u0275fac=function(r){return new(r||e)(M(le))};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})();function Jl(e,t,n){return Bp(y({rootComponent:e,platformRef:n?.platformRef},e_(t)))}function e_(e){return{appProviders:[...i_,...e?.providers??[]],platformProviders:o_}}function t_(){Es.makeCurrent()}function n_(){return new yt}function r_(){return Lh(document),document}var o_=[{provide:oo,useValue:Gl},{provide:vl,useValue:t_,multi:!0},{provide:le,useFactory:r_}];var i_=[{provide:os,useValue:"root"},{provide:yt,useFactory:n_},{provide:_s,useClass:rg,multi:!0,deps:[le]},{provide:_s,useClass:og,multi:!0,deps:[le]},Xl,Ql,Yl,{provide:qn,useExisting:Xl},{provide:vn,useClass:Kb},[]];var lr=class{},ur=class{},He=class e{headers;normalizedNames=new Map;lazyInit;lazyUpdate=null;constructor(t){t?typeof t=="string"?this.lazyInit=()=>{this.headers=new Map,t.split(`
 `).forEach(n=>{let r=n.indexOf(":");if(r>0){let o=n.slice(0,r),i=n.slice(r+1).trim();this.addHeaderEntry(o,i)}})}:typeof Headers<"u"&&t instanceof Headers?(this.headers=new Map,t.forEach((n,r)=>{this.addHeaderEntry(r,n)})):this.lazyInit=()=>{this.headers=new Map,Object.entries(t).forEach(([n,r])=>{this.setHeaderEntries(n,r)})}:this.headers=new Map}has(t){return this.init(),this.headers.has(t.toLowerCase())}get(t){this.init();let n=this.headers.get(t.toLowerCase());return n&&n.length>0?n[0]:null}keys(){return this.init(),Array.from(this.normalizedNames.values())}getAll(t){return this.init(),this.headers.get(t.toLowerCase())||null}append(t,n){return this.clone({name:t,value:n,op:"a"})}set(t,n){return this.clone({name:t,value:n,op:"s"})}delete(t,n){return this.clone({name:t,value:n,op:"d"})}maybeSetNormalizedName(t,n){this.normalizedNames.has(n)||this.normalizedNames.set(n,t)}init(){this.lazyInit&&(this.lazyInit instanceof e?this.copyFrom(this.lazyInit):this.lazyInit(),this.lazyInit=null,this.lazyUpdate&&(this.lazyUpdate.forEach(t=>this.applyUpdate(t)),this.lazyUpdate=null))}copyFrom(t){t.init(),Array.from(t.headers.keys()).forEach(n=>{this.headers.set(n,t.headers.get(n)),this.normalizedNames.set(n,t.normalizedNames.get(n))})}clone(t){let n=new e;return n.lazyInit=this.lazyInit&&this.lazyInit instanceof e?this.lazyInit:this,n.lazyUpdate=(this.lazyUpdate||[]).concat([t]),n}applyUpdate(t){let n=t.name.toLowerCase();switch(t.op){case"a":case"s":let r=t.value;if(typeof r=="string"&&(r=[r]),r.length===0)return;this.maybeSetNormalizedName(t.name,n);let o=(t.op==="a"?this.headers.get(n):void 0)||[];o.push(...r),this.headers.set(n,o);break;case"d":let i=t.value;if(!i)this.headers.delete(n),this.normalizedNames.delete(n);else{let s=this.headers.get(n);if(!s)return;s=s.filter(a=>i.indexOf(a)===-1),s.length===0?(this.headers.delete(n),this.normalizedNames.delete(n)):this.headers.set(n,s)}break}}addHeaderEntry(t,n){let r=t.toLowerCase();this.maybeSetNormalizedName(t,r),this.headers.has(r)?this.headers.get(r).push(n):this.headers.set(r,[n])}setHeaderEntries(t,n){let r=(Array.isArray(n)?n:[n]).map(i=>i.toString()),o=t.toLowerCase();this.headers.set(o,r),this.maybeSetNormalizedName(t,o)}forEach(t){this.init(),Array.from(this.normalizedNames.keys()).forEach(n=>t(this.normalizedNames.get(n),this.headers.get(n)))}};var Ss=class{encodeKey(t){return ig(t)}encodeValue(t){return ig(t)}decodeKey(t){return decodeURIComponent(t)}decodeValue(t){return decodeURIComponent(t)}};function s_(e,t){let n=new Map;return e.length>0&&e.replace(/^\?/,"").split("&").forEach(o=>{let i=o.indexOf("="),[s,a]=i==-1?[t.decodeKey(o),""]:[t.decodeKey(o.slice(0,i)),t.decodeValue(o.slice(i+1))],c=n.get(s)||[];c.push(a),n.set(s,c)}),n}var a_=/%(\d[a-f0-9])/gi,c_={40:"@","3A":":",24:"$","2C":",","3B":";","3D":"=","3F":"?","2F":"/"};function ig(e){return encodeURIComponent(e).replace(a_,(t,n)=>c_[n]??t)}function Is(e){return`${e}`}var Qe=class e{map;encoder;updates=null;cloneFrom=null;constructor(t={}){if(this.encoder=t.encoder||new Ss,t.fromString){if(t.fromObject)throw new C(2805,!1);this.map=s_(t.fromString,this.encoder)}else t.fromObject?(this.map=new Map,Object.keys(t.fromObject).forEach(n=>{let r=t.fromObject[n],o=Array.isArray(r)?r.map(Is):[Is(r)];this.map.set(n,o)})):this.map=null}has(t){return this.init(),this.map.has(t)}get(t){this.init();let n=this.map.get(t);return n?n[0]:null}getAll(t){return this.init(),this.map.get(t)||null}keys(){return this.init(),Array.from(this.map.keys())}append(t,n){return this.clone({param:t,value:n,op:"a"})}appendAll(t){let n=[];return Object.keys(t).forEach(r=>{let o=t[r];Array.isArray(o)?o.forEach(i=>{n.push({param:r,value:i,op:"a"})}):n.push({param:r,value:o,op:"a"})}),this.clone(n)}set(t,n){return this.clone({param:t,value:n,op:"s"})}delete(t,n){return this.clone({param:t,value:n,op:"d"})}toString(){return this.init(),this.keys().map(t=>{let n=this.encoder.encodeKey(t);return this.map.get(t).map(r=>n+"="+this.encoder.encodeValue(r)).join("&")}).filter(t=>t!=="").join("&")}clone(t){let n=new e({encoder:this.encoder});return n.cloneFrom=this.cloneFrom||this,n.updates=(this.updates||[]).concat(t),n}init(){this.map===null&&(this.map=new Map),this.cloneFrom!==null&&(this.cloneFrom.init(),this.cloneFrom.keys().forEach(t=>this.map.set(t,this.cloneFrom.map.get(t))),this.updates.forEach(t=>{switch(t.op){case"a":case"s":let n=(t.op==="a"?this.map.get(t.param):void 0)||[];n.push(Is(t.value)),this.map.set(t.param,n);break;case"d":if(t.value!==void 0){let r=this.map.get(t.param)||[],o=r.indexOf(Is(t.value));o!==-1&&r.splice(o,1),r.length>0?this.map.set(t.param,r):this.map.delete(t.param)}else{this.map.delete(t.param);break}}}),this.cloneFrom=this.updates=null)}};var Ts=class{map=new Map;set(t,n){return this.map.set(t,n),this}get(t){return this.map.has(t)||this.map.set(t,t.defaultValue()),this.map.get(t)}delete(t){return this.map.delete(t),this}has(t){return this.map.has(t)}keys(){return this.map.keys()}};function l_(e){switch(e){case"DELETE":case"GET":case"HEAD":case"OPTIONS":case"JSONP":return!1;default:return!0}}function sg(e){return typeof ArrayBuffer<"u"&&e instanceof ArrayBuffer}function ag(e){return typeof Blob<"u"&&e instanceof Blob}function cg(e){return typeof FormData<"u"&&e instanceof FormData}function u_(e){return typeof URLSearchParams<"u"&&e instanceof URLSearchParams}var ho="Content-Type",xs="Accept",ou="X-Request-URL",ug="text/plain",dg="application/json",fg=`${dg}, ${ug}, */*`,cr=class e{url;body=null;headers;context;reportProgress=!1;withCredentials=!1;responseType="json";method;params;urlWithParams;transferCache;constructor(t,n,r,o){this.url=n,this.method=t.toUpperCase();let i;if(l_(this.method)||o?(this.body=r!==void 0?r:null,i=o):i=r,i&&(this.reportProgress=!!i.reportProgress,this.withCredentials=!!i.withCredentials,i.responseType&&(this.responseType=i.responseType),i.headers&&(this.headers=i.headers),i.context&&(this.context=i.context),i.params&&(this.params=i.params),this.transferCache=i.transferCache),this.headers??=new He,this.context??=new Ts,!this.params)this.params=new Qe,this.urlWithParams=n;else{let s=this.params.toString();if(s.length===0)this.urlWithParams=n;else{let a=n.indexOf("?"),c=a===-1?"?":a<n.length-1?"&":"";this.urlWithParams=n+c+s}}}serializeBody(){return this.body===null?null:typeof this.body=="string"||sg(this.body)||ag(this.body)||cg(this.body)||u_(this.body)?this.body:this.body instanceof Qe?this.body.toString():typeof this.body=="object"||typeof this.body=="boolean"||Array.isArray(this.body)?JSON.stringify(this.body):this.body.toString()}detectContentTypeHeader(){return this.body===null||cg(this.body)?null:ag(this.body)?this.body.type||null:sg(this.body)?null:typeof this.body=="string"?ug:this.body instanceof Qe?"application/x-www-form-urlencoded;charset=UTF-8":typeof this.body=="object"||typeof this.body=="number"||typeof this.body=="boolean"?dg:null}clone(t={}){let n=t.method||this.method,r=t.url||this.url,o=t.responseType||this.responseType,i=t.transferCache??this.transferCache,s=t.body!==void 0?t.body:this.body,a=t.withCredentials??this.withCredentials,c=t.reportProgress??this.reportProgress,l=t.headers||this.headers,u=t.params||this.params,f=t.context??this.context;return t.setHeaders!==void 0&&(l=Object.keys(t.setHeaders).reduce((h,d)=>h.set(d,t.setHeaders[d]),l)),t.setParams&&(u=Object.keys(t.setParams).reduce((h,d)=>h.set(d,t.setParams[d]),u)),new e(n,r,s,{params:u,headers:l,context:f,reportProgress:c,responseType:o,withCredentials:a,transferCache:i})}},Tt=function(e){return e[e.Sent=0]="Sent",e[e.UploadProgress=1]="UploadProgress",e[e.ResponseHeader=2]="ResponseHeader",e[e.DownloadProgress=3]="DownloadProgress",e[e.Response=4]="Response",e[e.User=5]="User",e}(Tt||{}),dr=class{headers;status;statusText;url;ok;type;constructor(t,n=200,r="OK"){this.headers=t.headers||new He,this.status=t.status!==void 0?t.status:n,this.statusText=t.statusText||r,this.url=t.url||null,this.ok=this.status>=200&&this.status<300}},po=class e extends dr{constructor(t={}){super(t)}type=Tt.ResponseHeader;clone(t={}){return new e({headers:t.headers||this.headers,status:t.status!==void 0?t.status:this.status,statusText:t.statusText||this.statusText,url:t.url||this.url||void 0})}},fr=class e extends dr{body;constructor(t={}){super(t),this.body=t.body!==void 0?t.body:null}type=Tt.Response;clone(t={}){return new e({body:t.body!==void 0?t.body:this.body,headers:t.headers||this.headers,status:t.status!==void 0?t.status:this.status,statusText:t.statusText||this.statusText,url:t.url||this.url||void 0})}},St=class extends dr{name="HttpErrorResponse";message;error;ok=!1;constructor(t){super(t,0,"Unknown Error"),this.status>=200&&this.status<300?this.message=`Http failure during parsing for ${t.url||"(unknown url)"}`:this.message=`Http failure response for ${t.url||"(unknown url)"}: ${t.status} ${t.statusText}`,this.error=t.error||null}},hg=200,d_=204;function eu(e,t){return{body:t,headers:e.headers,context:e.context,observe:e.observe,params:e.params,reportProgress:e.reportProgress,responseType:e.responseType,withCredentials:e.withCredentials,transferCache:e.transferCache}}var hr=(()=>{class e{handler;constructor(n){this.handler=n}request(n,r,o={}){let i;if(n instanceof cr)i=n;else{let c;o.headers instanceof He?c=o.headers:c=new He(o.headers);let l;o.params&&(o.params instanceof Qe?l=o.params:l=new Qe({fromObject:o.params})),i=new cr(n,r,o.body!==void 0?o.body:null,{headers:c,context:o.context,params:l,reportProgress:o.reportProgress,responseType:o.responseType||"json",withCredentials:o.withCredentials,transferCache:o.transferCache})}let s=S(i).pipe(Ot(c=>this.handler.handle(c)));if(n instanceof cr||o.observe==="events")return s;let a=s.pipe(Se(c=>c instanceof fr));switch(o.observe||"body"){case"body":switch(i.responseType){case"arraybuffer":return a.pipe(N(c=>{if(c.body!==null&&!(c.body instanceof ArrayBuffer))throw new C(2806,!1);return c.body}));case"blob":return a.pipe(N(c=>{if(c.body!==null&&!(c.body instanceof Blob))throw new C(2807,!1);return c.body}));case"text":return a.pipe(N(c=>{if(c.body!==null&&typeof c.body!="string")throw new C(2808,!1);return c.body}));case"json":default:return a.pipe(N(c=>c.body))}case"response":return a;default:throw new C(2809,!1)}}delete(n,r={}){return this.request("DELETE",n,r)}get(n,r={}){return this.request("GET",n,r)}head(n,r={}){return this.request("HEAD",n,r)}jsonp(n,r){return this.request("JSONP",n,{params:new Qe().append(r,"JSONP_CALLBACK"),observe:"body",responseType:"json"})}options(n,r={}){return this.request("OPTIONS",n,r)}patch(n,r,o={}){return this.request("PATCH",n,eu(o,r))}post(n,r,o={}){return this.request("POST",n,eu(o,r))}put(n,r,o={}){return this.request("PUT",n,eu(o,r))}static \u0275fac=function(r){return new(r||e)(M(lr))};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})(),f_=/^\)\]\}',?\n/;function lg(e){if(e.url)return e.url;let t=ou.toLocaleLowerCase();return e.headers.get(t)}var pg=new b(""),Ms=(()=>{class e{fetchImpl=v(tu,{optional:!0})?.fetch??((...n)=>globalThis.fetch(...n));ngZone=v(ne);destroyRef=v(Jn);destroyed=!1;constructor(){this.destroyRef.onDestroy(()=>{this.destroyed=!0})}handle(n){return new B(r=>{let o=new AbortController;return this.doRequest(n,o.signal,r).then(nu,i=>r.error(new St({error:i}))),()=>o.abort()})}doRequest(n,r,o){return Rr(this,null,function*(){let i=this.createRequestInit(n),s;try{let d=this.ngZone.runOutsideAngular(()=>this.fetchImpl(n.urlWithParams,y({signal:r},i)));h_(d),o.next({type:Tt.Sent}),s=yield d}catch(d){o.error(new St({error:d,status:d.status??0,statusText:d.statusText,url:n.urlWithParams,headers:d.headers}));return}let a=new He(s.headers),c=s.statusText,l=lg(s)??n.urlWithParams,u=s.status,f=null;if(n.reportProgress&&o.next(new po({headers:a,status:u,statusText:c,url:l})),s.body){let d=s.headers.get("content-length"),m=[],w=s.body.getReader(),I=0,V,At,Z=typeof Zone<"u"&&Zone.current,Mn=!1;if(yield this.ngZone.runOutsideAngular(()=>Rr(this,null,function*(){for(;;){if(this.destroyed){yield w.cancel(),Mn=!0;break}let{done:Zt,value:Da}=yield w.read();if(Zt)break;if(m.push(Da),I+=Da.length,n.reportProgress){At=n.responseType==="text"?(At??"")+(V??=new TextDecoder).decode(Da,{stream:!0}):void 0;let Yu=()=>o.next({type:Tt.DownloadProgress,total:d?+d:void 0,loaded:I,partialText:At});Z?Z.run(Yu):Yu()}}})),Mn){o.complete();return}let ya=this.concatChunks(m,I);try{let Zt=s.headers.get(ho)??"";f=this.parseBody(n,ya,Zt)}catch(Zt){o.error(new St({error:Zt,headers:new He(s.headers),status:s.status,statusText:s.statusText,url:lg(s)??n.urlWithParams}));return}}u===0&&(u=f?hg:0),u>=200&&u<300?(o.next(new fr({body:f,headers:a,status:u,statusText:c,url:l})),o.complete()):o.error(new St({error:f,headers:a,status:u,statusText:c,url:l}))})}parseBody(n,r,o){switch(n.responseType){case"json":let i=new TextDecoder().decode(r).replace(f_,"");return i===""?null:JSON.parse(i);case"text":return new TextDecoder().decode(r);case"blob":return new Blob([r],{type:o});case"arraybuffer":return r.buffer}}createRequestInit(n){let r={},o=n.withCredentials?"include":void 0;if(n.headers.forEach((i,s)=>r[i]=s.join(",")),n.headers.has(xs)||(r[xs]=fg),!n.headers.has(ho)){let i=n.detectContentTypeHeader();i!==null&&(r[ho]=i)}return{body:n.serializeBody(),method:n.method,headers:r,credentials:o}}concatChunks(n,r){let o=new Uint8Array(r),i=0;for(let s of n)o.set(s,i),i+=s.length;return o}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})(),tu=class{};function nu(){}function h_(e){e.then(nu,nu)}function p_(e,t){return t(e)}function g_(e,t,n){return(r,o)=>xe(n,()=>t(r,i=>e(i,o)))}var gg=new b(""),mg=new b(""),vg=new b("",{providedIn:"root",factory:()=>!0});var Ns=(()=>{class e extends lr{backend;injector;chain=null;pendingTasks=v(Vt);contributeToStability=v(vg);constructor(n,r){super(),this.backend=n,this.injector=r}handle(n){if(this.chain===null){let r=Array.from(new Set([...this.injector.get(gg),...this.injector.get(mg,[])]));this.chain=r.reduceRight((o,i)=>g_(o,i,this.injector),p_)}if(this.contributeToStability){let r=this.pendingTasks.add();return this.chain(n,o=>this.backend.handle(o)).pipe(Xt(()=>this.pendingTasks.remove(r)))}else return this.chain(n,r=>this.backend.handle(r))}static \u0275fac=function(r){return new(r||e)(M(ur),M(he))};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})();var m_=/^\)\]\}',?\n/,v_=RegExp(`^${ou}:`,"m");function y_(e){return"responseURL"in e&&e.responseURL?e.responseURL:v_.test(e.getAllResponseHeaders())?e.getResponseHeader(ou):null}var ru=(()=>{class e{xhrFactory;constructor(n){this.xhrFactory=n}handle(n){if(n.method==="JSONP")throw new C(-2800,!1);let r=this.xhrFactory;return(r.\u0275loadImpl?W(r.\u0275loadImpl()):S(null)).pipe(Te(()=>new B(i=>{let s=r.build();if(s.open(n.method,n.urlWithParams),n.withCredentials&&(s.withCredentials=!0),n.headers.forEach((w,I)=>s.setRequestHeader(w,I.join(","))),n.headers.has(xs)||s.setRequestHeader(xs,fg),!n.headers.has(ho)){let w=n.detectContentTypeHeader();w!==null&&s.setRequestHeader(ho,w)}if(n.responseType){let w=n.responseType.toLowerCase();s.responseType=w!=="json"?w:"text"}let a=n.serializeBody(),c=null,l=()=>{if(c!==null)return c;let w=s.statusText||"OK",I=new He(s.getAllResponseHeaders()),V=y_(s)||n.url;return c=new po({headers:I,status:s.status,statusText:w,url:V}),c},u=()=>{let{headers:w,status:I,statusText:V,url:At}=l(),Z=null;I!==d_&&(Z=typeof s.response>"u"?s.responseText:s.response),I===0&&(I=Z?hg:0);let Mn=I>=200&&I<300;if(n.responseType==="json"&&typeof Z=="string"){let ya=Z;Z=Z.replace(m_,"");try{Z=Z!==""?JSON.parse(Z):null}catch(Zt){Z=ya,Mn&&(Mn=!1,Z={error:Zt,text:Z})}}Mn?(i.next(new fr({body:Z,headers:w,status:I,statusText:V,url:At||void 0})),i.complete()):i.error(new St({error:Z,headers:w,status:I,statusText:V,url:At||void 0}))},f=w=>{let{url:I}=l(),V=new St({error:w,status:s.status||0,statusText:s.statusText||"Unknown Error",url:I||void 0});i.error(V)},h=!1,d=w=>{h||(i.next(l()),h=!0);let I={type:Tt.DownloadProgress,loaded:w.loaded};w.lengthComputable&&(I.total=w.total),n.responseType==="text"&&s.responseText&&(I.partialText=s.responseText),i.next(I)},m=w=>{let I={type:Tt.UploadProgress,loaded:w.loaded};w.lengthComputable&&(I.total=w.total),i.next(I)};return s.addEventListener("load",u),s.addEventListener("error",f),s.addEventListener("timeout",f),s.addEventListener("abort",f),n.reportProgress&&(s.addEventListener("progress",d),a!==null&&s.upload&&s.upload.addEventListener("progress",m)),s.send(a),i.next({type:Tt.Sent}),()=>{s.removeEventListener("error",f),s.removeEventListener("abort",f),s.removeEventListener("load",u),s.removeEventListener("timeout",f),n.reportProgress&&(s.removeEventListener("progress",d),a!==null&&s.upload&&s.upload.removeEventListener("progress",m)),s.readyState!==s.DONE&&s.abort()}})))}static \u0275fac=function(r){return new(r||e)(M(vn))};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})(),yg=new b(""),D_="XSRF-TOKEN",C_=new b("",{providedIn:"root",factory:()=>D_}),w_="X-XSRF-TOKEN",b_=new b("",{providedIn:"root",factory:()=>w_}),go=class{},__=(()=>{class e{doc;cookieName;lastCookieString="";lastToken=null;parseCount=0;constructor(n,r){this.doc=n,this.cookieName=r}getToken(){let n=this.doc.cookie||"";return n!==this.lastCookieString&&(this.parseCount++,this.lastToken=ao(n,this.cookieName),this.lastCookieString=n),this.lastToken}static \u0275fac=function(r){return new(r||e)(M(le),M(C_))};static \u0275prov=_({token:e,factory:e.\u0275fac})}return e})(),E_=/^(?:https?:)?\/\//i;function I_(e,t){if(!v(yg)||e.method==="GET"||e.method==="HEAD"||E_.test(e.url))return t(e);let n=v(go).getToken(),r=v(b_);return n!=null&&!e.headers.has(r)&&(e=e.clone({headers:e.headers.set(r,n)})),t(e)}var iu=function(e){return e[e.Interceptors=0]="Interceptors",e[e.LegacyInterceptors=1]="LegacyInterceptors",e[e.CustomXsrfConfiguration=2]="CustomXsrfConfiguration",e[e.NoXsrfProtection=3]="NoXsrfProtection",e[e.JsonpSupport=4]="JsonpSupport",e[e.RequestsMadeViaParent=5]="RequestsMadeViaParent",e[e.Fetch=6]="Fetch",e}(iu||{});function M_(e,t){return{\u0275kind:e,\u0275providers:t}}function su(...e){let t=[hr,ru,Ns,{provide:lr,useExisting:Ns},{provide:ur,useFactory:()=>v(pg,{optional:!0})??v(ru)},{provide:gg,useValue:I_,multi:!0},{provide:yg,useValue:!0},{provide:go,useClass:__}];for(let n of e)t.push(...n.\u0275providers);return eo(t)}function au(){return M_(iu.Fetch,[Ms,{provide:pg,useExisting:Ms},{provide:ur,useExisting:Ms}])}var Cg=(()=>{class e{_doc;constructor(n){this._doc=n}getTitle(){return this._doc.title}setTitle(n){this._doc.title=n||""}static \u0275fac=function(r){return new(r||e)(M(le))};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})();var R="primary",xo=Symbol("RouteTitle"),fu=class{params;constructor(t){this.params=t||{}}has(t){return Object.prototype.hasOwnProperty.call(this.params,t)}get(t){if(this.has(t)){let n=this.params[t];return Array.isArray(n)?n[0]:n}return null}getAll(t){if(this.has(t)){let n=this.params[t];return Array.isArray(n)?n:[n]}return[]}get keys(){return Object.keys(this.params)}};function Cn(e){return new fu(e)}function Tg(e,t,n){let r=n.path.split("/");if(r.length>e.length||n.pathMatch==="full"&&(t.hasChildren()||r.length<e.length))return null;let o={};for(let i=0;i<r.length;i++){let s=r[i],a=e[i];if(s[0]===":")o[s.substring(1)]=a;else if(s!==a.path)return null}return{consumed:e.slice(0,r.length),posParams:o}}function T_(e,t){if(e.length!==t.length)return!1;for(let n=0;n<e.length;++n)if(!ct(e[n],t[n]))return!1;return!0}function ct(e,t){let n=e?hu(e):void 0,r=t?hu(t):void 0;if(!n||!r||n.length!=r.length)return!1;let o;for(let i=0;i<n.length;i++)if(o=n[i],!xg(e[o],t[o]))return!1;return!0}function hu(e){return[...Object.keys(e),...Object.getOwnPropertySymbols(e)]}function xg(e,t){if(Array.isArray(e)&&Array.isArray(t)){if(e.length!==t.length)return!1;let n=[...e].sort(),r=[...t].sort();return n.every((o,i)=>r[i]===o)}else return e===t}function Ng(e){return e.length>0?e[e.length-1]:null}function Gt(e){return Wa(e)?e:jt(e)?W(Promise.resolve(e)):S(e)}var x_={exact:Rg,subset:Og},Ag={exact:N_,subset:A_,ignored:()=>!0};function wg(e,t,n){return x_[n.paths](e.root,t.root,n.matrixParams)&&Ag[n.queryParams](e.queryParams,t.queryParams)&&!(n.fragment==="exact"&&e.fragment!==t.fragment)}function N_(e,t){return ct(e,t)}function Rg(e,t,n){if(!yn(e.segments,t.segments)||!Os(e.segments,t.segments,n)||e.numberOfChildren!==t.numberOfChildren)return!1;for(let r in t.children)if(!e.children[r]||!Rg(e.children[r],t.children[r],n))return!1;return!0}function A_(e,t){return Object.keys(t).length<=Object.keys(e).length&&Object.keys(t).every(n=>xg(e[n],t[n]))}function Og(e,t,n){return Pg(e,t,t.segments,n)}function Pg(e,t,n,r){if(e.segments.length>n.length){let o=e.segments.slice(0,n.length);return!(!yn(o,n)||t.hasChildren()||!Os(o,n,r))}else if(e.segments.length===n.length){if(!yn(e.segments,n)||!Os(e.segments,n,r))return!1;for(let o in t.children)if(!e.children[o]||!Og(e.children[o],t.children[o],r))return!1;return!0}else{let o=n.slice(0,e.segments.length),i=n.slice(e.segments.length);return!yn(e.segments,o)||!Os(e.segments,o,r)||!e.children[R]?!1:Pg(e.children[R],t,i,r)}}function Os(e,t,n){return t.every((r,o)=>Ag[n](e[o].parameters,r.parameters))}var ut=class{root;queryParams;fragment;_queryParamMap;constructor(t=new $([],{}),n={},r=null){this.root=t,this.queryParams=n,this.fragment=r}get queryParamMap(){return this._queryParamMap??=Cn(this.queryParams),this._queryParamMap}toString(){return P_.serialize(this)}},$=class{segments;children;parent=null;constructor(t,n){this.segments=t,this.children=n,Object.values(n).forEach(r=>r.parent=this)}hasChildren(){return this.numberOfChildren>0}get numberOfChildren(){return Object.keys(this.children).length}toString(){return Ps(this)}},Ht=class{path;parameters;_parameterMap;constructor(t,n){this.path=t,this.parameters=n}get parameterMap(){return this._parameterMap??=Cn(this.parameters),this._parameterMap}toString(){return Fg(this)}};function R_(e,t){return yn(e,t)&&e.every((n,r)=>ct(n.parameters,t[r].parameters))}function yn(e,t){return e.length!==t.length?!1:e.every((n,r)=>n.path===t[r].path)}function O_(e,t){let n=[];return Object.entries(e.children).forEach(([r,o])=>{r===R&&(n=n.concat(t(o,r)))}),Object.entries(e.children).forEach(([r,o])=>{r!==R&&(n=n.concat(t(o,r)))}),n}var No=(()=>{class e{static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:()=>new wn,providedIn:"root"})}return e})(),wn=class{parse(t){let n=new gu(t);return new ut(n.parseRootSegment(),n.parseQueryParams(),n.parseFragment())}serialize(t){let n=`/${mo(t.root,!0)}`,r=L_(t.queryParams),o=typeof t.fragment=="string"?`#${k_(t.fragment)}`:"";return`${n}${r}${o}`}},P_=new wn;function Ps(e){return e.segments.map(t=>Fg(t)).join("/")}function mo(e,t){if(!e.hasChildren())return Ps(e);if(t){let n=e.children[R]?mo(e.children[R],!1):"",r=[];return Object.entries(e.children).forEach(([o,i])=>{o!==R&&r.push(`${o}:${mo(i,!1)}`)}),r.length>0?`${n}(${r.join("//")})`:n}else{let n=O_(e,(r,o)=>o===R?[mo(e.children[R],!1)]:[`${o}:${mo(r,!1)}`]);return Object.keys(e.children).length===1&&e.children[R]!=null?`${Ps(e)}/${n[0]}`:`${Ps(e)}/(${n.join("//")})`}}function kg(e){return encodeURIComponent(e).replace(/%40/g,"@").replace(/%3A/gi,":").replace(/%24/g,"$").replace(/%2C/gi,",")}function As(e){return kg(e).replace(/%3B/gi,";")}function k_(e){return encodeURI(e)}function pu(e){return kg(e).replace(/\(/g,"%28").replace(/\)/g,"%29").replace(/%26/gi,"&")}function ks(e){return decodeURIComponent(e)}function bg(e){return ks(e.replace(/\+/g,"%20"))}function Fg(e){return`${pu(e.path)}${F_(e.parameters)}`}function F_(e){return Object.entries(e).map(([t,n])=>`;${pu(t)}=${pu(n)}`).join("")}function L_(e){let t=Object.entries(e).map(([n,r])=>Array.isArray(r)?r.map(o=>`${As(n)}=${As(o)}`).join("&"):`${As(n)}=${As(r)}`).filter(n=>n);return t.length?`?${t.join("&")}`:""}var V_=/^[^\/()?;#]+/;function cu(e){let t=e.match(V_);return t?t[0]:""}var j_=/^[^\/()?;=#]+/;function B_(e){let t=e.match(j_);return t?t[0]:""}var U_=/^[^=?&#]+/;function $_(e){let t=e.match(U_);return t?t[0]:""}var H_=/^[^&#]+/;function z_(e){let t=e.match(H_);return t?t[0]:""}var gu=class{url;remaining;constructor(t){this.url=t,this.remaining=t}parseRootSegment(){return this.consumeOptional("/"),this.remaining===""||this.peekStartsWith("?")||this.peekStartsWith("#")?new $([],{}):new $([],this.parseChildren())}parseQueryParams(){let t={};if(this.consumeOptional("?"))do this.parseQueryParam(t);while(this.consumeOptional("&"));return t}parseFragment(){return this.consumeOptional("#")?decodeURIComponent(this.remaining):null}parseChildren(){if(this.remaining==="")return{};this.consumeOptional("/");let t=[];for(this.peekStartsWith("(")||t.push(this.parseSegment());this.peekStartsWith("/")&&!this.peekStartsWith("//")&&!this.peekStartsWith("/(");)this.capture("/"),t.push(this.parseSegment());let n={};this.peekStartsWith("/(")&&(this.capture("/"),n=this.parseParens(!0));let r={};return this.peekStartsWith("(")&&(r=this.parseParens(!1)),(t.length>0||Object.keys(n).length>0)&&(r[R]=new $(t,n)),r}parseSegment(){let t=cu(this.remaining);if(t===""&&this.peekStartsWith(";"))throw new C(4009,!1);return this.capture(t),new Ht(ks(t),this.parseMatrixParams())}parseMatrixParams(){let t={};for(;this.consumeOptional(";");)this.parseParam(t);return t}parseParam(t){let n=B_(this.remaining);if(!n)return;this.capture(n);let r="";if(this.consumeOptional("=")){let o=cu(this.remaining);o&&(r=o,this.capture(r))}t[ks(n)]=ks(r)}parseQueryParam(t){let n=$_(this.remaining);if(!n)return;this.capture(n);let r="";if(this.consumeOptional("=")){let s=z_(this.remaining);s&&(r=s,this.capture(r))}let o=bg(n),i=bg(r);if(t.hasOwnProperty(o)){let s=t[o];Array.isArray(s)||(s=[s],t[o]=s),s.push(i)}else t[o]=i}parseParens(t){let n={};for(this.capture("(");!this.consumeOptional(")")&&this.remaining.length>0;){let r=cu(this.remaining),o=this.remaining[r.length];if(o!=="/"&&o!==")"&&o!==";")throw new C(4010,!1);let i;r.indexOf(":")>-1?(i=r.slice(0,r.indexOf(":")),this.capture(i),this.capture(":")):t&&(i=R);let s=this.parseChildren();n[i]=Object.keys(s).length===1?s[R]:new $([],s),this.consumeOptional("//")}return n}peekStartsWith(t){return this.remaining.startsWith(t)}consumeOptional(t){return this.peekStartsWith(t)?(this.remaining=this.remaining.substring(t.length),!0):!1}capture(t){if(!this.consumeOptional(t))throw new C(4011,!1)}};function Lg(e){return e.segments.length>0?new $([],{[R]:e}):e}function Vg(e){let t={};for(let[r,o]of Object.entries(e.children)){let i=Vg(o);if(r===R&&i.segments.length===0&&i.hasChildren())for(let[s,a]of Object.entries(i.children))t[s]=a;else(i.segments.length>0||i.hasChildren())&&(t[r]=i)}let n=new $(e.segments,t);return G_(n)}function G_(e){if(e.numberOfChildren===1&&e.children[R]){let t=e.children[R];return new $(e.segments.concat(t.segments),t.children)}return e}function zt(e){return e instanceof ut}function jg(e,t,n=null,r=null){let o=Bg(e);return Ug(o,t,n,r)}function Bg(e){let t;function n(i){let s={};for(let c of i.children){let l=n(c);s[c.outlet]=l}let a=new $(i.url,s);return i===e&&(t=a),a}let r=n(e.root),o=Lg(r);return t??o}function Ug(e,t,n,r){let o=e;for(;o.parent;)o=o.parent;if(t.length===0)return lu(o,o,o,n,r);let i=q_(t);if(i.toRoot())return lu(o,o,new $([],{}),n,r);let s=W_(i,o,e),a=s.processChildren?yo(s.segmentGroup,s.index,i.commands):Hg(s.segmentGroup,s.index,i.commands);return lu(o,s.segmentGroup,a,n,r)}function Ls(e){return typeof e=="object"&&e!=null&&!e.outlets&&!e.segmentPath}function Co(e){return typeof e=="object"&&e!=null&&e.outlets}function lu(e,t,n,r,o){let i={};r&&Object.entries(r).forEach(([c,l])=>{i[c]=Array.isArray(l)?l.map(u=>`${u}`):`${l}`});let s;e===t?s=n:s=$g(e,t,n);let a=Lg(Vg(s));return new ut(a,i,o)}function $g(e,t,n){let r={};return Object.entries(e.children).forEach(([o,i])=>{i===t?r[o]=n:r[o]=$g(i,t,n)}),new $(e.segments,r)}var Vs=class{isAbsolute;numberOfDoubleDots;commands;constructor(t,n,r){if(this.isAbsolute=t,this.numberOfDoubleDots=n,this.commands=r,t&&r.length>0&&Ls(r[0]))throw new C(4003,!1);let o=r.find(Co);if(o&&o!==Ng(r))throw new C(4004,!1)}toRoot(){return this.isAbsolute&&this.commands.length===1&&this.commands[0]=="/"}};function q_(e){if(typeof e[0]=="string"&&e.length===1&&e[0]==="/")return new Vs(!0,0,e);let t=0,n=!1,r=e.reduce((o,i,s)=>{if(typeof i=="object"&&i!=null){if(i.outlets){let a={};return Object.entries(i.outlets).forEach(([c,l])=>{a[c]=typeof l=="string"?l.split("/"):l}),[...o,{outlets:a}]}if(i.segmentPath)return[...o,i.segmentPath]}return typeof i!="string"?[...o,i]:s===0?(i.split("/").forEach((a,c)=>{c==0&&a==="."||(c==0&&a===""?n=!0:a===".."?t++:a!=""&&o.push(a))}),o):[...o,i]},[]);return new Vs(n,t,r)}var mr=class{segmentGroup;processChildren;index;constructor(t,n,r){this.segmentGroup=t,this.processChildren=n,this.index=r}};function W_(e,t,n){if(e.isAbsolute)return new mr(t,!0,0);if(!n)return new mr(t,!1,NaN);if(n.parent===null)return new mr(n,!0,0);let r=Ls(e.commands[0])?0:1,o=n.segments.length-1+r;return Z_(n,o,e.numberOfDoubleDots)}function Z_(e,t,n){let r=e,o=t,i=n;for(;i>o;){if(i-=o,r=r.parent,!r)throw new C(4005,!1);o=r.segments.length}return new mr(r,!1,o-i)}function Y_(e){return Co(e[0])?e[0].outlets:{[R]:e}}function Hg(e,t,n){if(e??=new $([],{}),e.segments.length===0&&e.hasChildren())return yo(e,t,n);let r=Q_(e,t,n),o=n.slice(r.commandIndex);if(r.match&&r.pathIndex<e.segments.length){let i=new $(e.segments.slice(0,r.pathIndex),{});return i.children[R]=new $(e.segments.slice(r.pathIndex),e.children),yo(i,0,o)}else return r.match&&o.length===0?new $(e.segments,{}):r.match&&!e.hasChildren()?mu(e,t,n):r.match?yo(e,0,o):mu(e,t,n)}function yo(e,t,n){if(n.length===0)return new $(e.segments,{});{let r=Y_(n),o={};if(Object.keys(r).some(i=>i!==R)&&e.children[R]&&e.numberOfChildren===1&&e.children[R].segments.length===0){let i=yo(e.children[R],t,n);return new $(e.segments,i.children)}return Object.entries(r).forEach(([i,s])=>{typeof s=="string"&&(s=[s]),s!==null&&(o[i]=Hg(e.children[i],t,s))}),Object.entries(e.children).forEach(([i,s])=>{r[i]===void 0&&(o[i]=s)}),new $(e.segments,o)}}function Q_(e,t,n){let r=0,o=t,i={match:!1,pathIndex:0,commandIndex:0};for(;o<e.segments.length;){if(r>=n.length)return i;let s=e.segments[o],a=n[r];if(Co(a))break;let c=`${a}`,l=r<n.length-1?n[r+1]:null;if(o>0&&c===void 0)break;if(c&&l&&typeof l=="object"&&l.outlets===void 0){if(!Eg(c,l,s))return i;r+=2}else{if(!Eg(c,{},s))return i;r++}o++}return{match:!0,pathIndex:o,commandIndex:r}}function mu(e,t,n){let r=e.segments.slice(0,t),o=0;for(;o<n.length;){let i=n[o];if(Co(i)){let c=K_(i.outlets);return new $(r,c)}if(o===0&&Ls(n[0])){let c=e.segments[t];r.push(new Ht(c.path,_g(n[0]))),o++;continue}let s=Co(i)?i.outlets[R]:`${i}`,a=o<n.length-1?n[o+1]:null;s&&a&&Ls(a)?(r.push(new Ht(s,_g(a))),o+=2):(r.push(new Ht(s,{})),o++)}return new $(r,{})}function K_(e){let t={};return Object.entries(e).forEach(([n,r])=>{typeof r=="string"&&(r=[r]),r!==null&&(t[n]=mu(new $([],{}),0,r))}),t}function _g(e){let t={};return Object.entries(e).forEach(([n,r])=>t[n]=`${r}`),t}function Eg(e,t,n){return e==n.path&&ct(t,n.parameters)}var Fs="imperative",ue=function(e){return e[e.NavigationStart=0]="NavigationStart",e[e.NavigationEnd=1]="NavigationEnd",e[e.NavigationCancel=2]="NavigationCancel",e[e.NavigationError=3]="NavigationError",e[e.RoutesRecognized=4]="RoutesRecognized",e[e.ResolveStart=5]="ResolveStart",e[e.ResolveEnd=6]="ResolveEnd",e[e.GuardsCheckStart=7]="GuardsCheckStart",e[e.GuardsCheckEnd=8]="GuardsCheckEnd",e[e.RouteConfigLoadStart=9]="RouteConfigLoadStart",e[e.RouteConfigLoadEnd=10]="RouteConfigLoadEnd",e[e.ChildActivationStart=11]="ChildActivationStart",e[e.ChildActivationEnd=12]="ChildActivationEnd",e[e.ActivationStart=13]="ActivationStart",e[e.ActivationEnd=14]="ActivationEnd",e[e.Scroll=15]="Scroll",e[e.NavigationSkipped=16]="NavigationSkipped",e}(ue||{}),Re=class{id;url;constructor(t,n){this.id=t,this.url=n}},bn=class extends Re{type=ue.NavigationStart;navigationTrigger;restoredState;constructor(t,n,r="imperative",o=null){super(t,n),this.navigationTrigger=r,this.restoredState=o}toString(){return`NavigationStart(id: ${this.id}, url: '${this.url}')`}},dt=class extends Re{urlAfterRedirects;type=ue.NavigationEnd;constructor(t,n,r){super(t,n),this.urlAfterRedirects=r}toString(){return`NavigationEnd(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}')`}},Ie=function(e){return e[e.Redirect=0]="Redirect",e[e.SupersededByNewNavigation=1]="SupersededByNewNavigation",e[e.NoDataFromResolver=2]="NoDataFromResolver",e[e.GuardRejected=3]="GuardRejected",e}(Ie||{}),wo=function(e){return e[e.IgnoredSameUrlNavigation=0]="IgnoredSameUrlNavigation",e[e.IgnoredByUrlHandlingStrategy=1]="IgnoredByUrlHandlingStrategy",e}(wo||{}),lt=class extends Re{reason;code;type=ue.NavigationCancel;constructor(t,n,r,o){super(t,n),this.reason=r,this.code=o}toString(){return`NavigationCancel(id: ${this.id}, url: '${this.url}')`}},xt=class extends Re{reason;code;type=ue.NavigationSkipped;constructor(t,n,r,o){super(t,n),this.reason=r,this.code=o}},yr=class extends Re{error;target;type=ue.NavigationError;constructor(t,n,r,o){super(t,n),this.error=r,this.target=o}toString(){return`NavigationError(id: ${this.id}, url: '${this.url}', error: ${this.error})`}},bo=class extends Re{urlAfterRedirects;state;type=ue.RoutesRecognized;constructor(t,n,r,o){super(t,n),this.urlAfterRedirects=r,this.state=o}toString(){return`RoutesRecognized(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},js=class extends Re{urlAfterRedirects;state;type=ue.GuardsCheckStart;constructor(t,n,r,o){super(t,n),this.urlAfterRedirects=r,this.state=o}toString(){return`GuardsCheckStart(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},Bs=class extends Re{urlAfterRedirects;state;shouldActivate;type=ue.GuardsCheckEnd;constructor(t,n,r,o,i){super(t,n),this.urlAfterRedirects=r,this.state=o,this.shouldActivate=i}toString(){return`GuardsCheckEnd(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state}, shouldActivate: ${this.shouldActivate})`}},Us=class extends Re{urlAfterRedirects;state;type=ue.ResolveStart;constructor(t,n,r,o){super(t,n),this.urlAfterRedirects=r,this.state=o}toString(){return`ResolveStart(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},$s=class extends Re{urlAfterRedirects;state;type=ue.ResolveEnd;constructor(t,n,r,o){super(t,n),this.urlAfterRedirects=r,this.state=o}toString(){return`ResolveEnd(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},Hs=class{route;type=ue.RouteConfigLoadStart;constructor(t){this.route=t}toString(){return`RouteConfigLoadStart(path: ${this.route.path})`}},zs=class{route;type=ue.RouteConfigLoadEnd;constructor(t){this.route=t}toString(){return`RouteConfigLoadEnd(path: ${this.route.path})`}},Gs=class{snapshot;type=ue.ChildActivationStart;constructor(t){this.snapshot=t}toString(){return`ChildActivationStart(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},qs=class{snapshot;type=ue.ChildActivationEnd;constructor(t){this.snapshot=t}toString(){return`ChildActivationEnd(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},Ws=class{snapshot;type=ue.ActivationStart;constructor(t){this.snapshot=t}toString(){return`ActivationStart(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},Zs=class{snapshot;type=ue.ActivationEnd;constructor(t){this.snapshot=t}toString(){return`ActivationEnd(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}};var _o=class{},Dr=class{url;navigationBehaviorOptions;constructor(t,n){this.url=t,this.navigationBehaviorOptions=n}};function X_(e,t){return e.providers&&!e._injector&&(e._injector=gs(e.providers,t,`Route: ${e.path}`)),e._injector??t}function Ke(e){return e.outlet||R}function J_(e,t){let n=e.filter(r=>Ke(r)===t);return n.push(...e.filter(r=>Ke(r)!==t)),n}function Ao(e){if(!e)return null;if(e.routeConfig?._injector)return e.routeConfig._injector;for(let t=e.parent;t;t=t.parent){let n=t.routeConfig;if(n?._loadedInjector)return n._loadedInjector;if(n?._injector)return n._injector}return null}var Ys=class{rootInjector;outlet=null;route=null;children;attachRef=null;get injector(){return Ao(this.route?.snapshot)??this.rootInjector}constructor(t){this.rootInjector=t,this.children=new br(this.rootInjector)}},br=(()=>{class e{rootInjector;contexts=new Map;constructor(n){this.rootInjector=n}onChildOutletCreated(n,r){let o=this.getOrCreateContext(n);o.outlet=r,this.contexts.set(n,o)}onChildOutletDestroyed(n){let r=this.getContext(n);r&&(r.outlet=null,r.attachRef=null)}onOutletDeactivated(){let n=this.contexts;return this.contexts=new Map,n}onOutletReAttached(n){this.contexts=n}getOrCreateContext(n){let r=this.getContext(n);return r||(r=new Ys(this.rootInjector),this.contexts.set(n,r)),r}getContext(n){return this.contexts.get(n)||null}static \u0275fac=function(r){return new(r||e)(M(he))};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})(),Qs=class{_root;constructor(t){this._root=t}get root(){return this._root.value}parent(t){let n=this.pathFromRoot(t);return n.length>1?n[n.length-2]:null}children(t){let n=vu(t,this._root);return n?n.children.map(r=>r.value):[]}firstChild(t){let n=vu(t,this._root);return n&&n.children.length>0?n.children[0].value:null}siblings(t){let n=yu(t,this._root);return n.length<2?[]:n[n.length-2].children.map(o=>o.value).filter(o=>o!==t)}pathFromRoot(t){return yu(t,this._root).map(n=>n.value)}};function vu(e,t){if(e===t.value)return t;for(let n of t.children){let r=vu(e,n);if(r)return r}return null}function yu(e,t){if(e===t.value)return[t];for(let n of t.children){let r=yu(e,n);if(r.length)return r.unshift(t),r}return[]}var Ae=class{value;children;constructor(t,n){this.value=t,this.children=n}toString(){return`TreeNode(${this.value})`}};function gr(e){let t={};return e&&e.children.forEach(n=>t[n.value.outlet]=n),t}var Eo=class extends Qs{snapshot;constructor(t,n){super(t),this.snapshot=n,Mu(this,t)}toString(){return this.snapshot.toString()}};function zg(e){let t=eE(e),n=new Y([new Ht("",{})]),r=new Y({}),o=new Y({}),i=new Y({}),s=new Y(""),a=new Nt(n,r,i,s,o,R,e,t.root);return a.snapshot=t.root,new Eo(new Ae(a,[]),t)}function eE(e){let t={},n={},r={},o="",i=new Dn([],t,r,o,n,R,e,null,{});return new Io("",new Ae(i,[]))}var Nt=class{urlSubject;paramsSubject;queryParamsSubject;fragmentSubject;dataSubject;outlet;component;snapshot;_futureSnapshot;_routerState;_paramMap;_queryParamMap;title;url;params;queryParams;fragment;data;constructor(t,n,r,o,i,s,a,c){this.urlSubject=t,this.paramsSubject=n,this.queryParamsSubject=r,this.fragmentSubject=o,this.dataSubject=i,this.outlet=s,this.component=a,this._futureSnapshot=c,this.title=this.dataSubject?.pipe(N(l=>l[xo]))??S(void 0),this.url=t,this.params=n,this.queryParams=r,this.fragment=o,this.data=i}get routeConfig(){return this._futureSnapshot.routeConfig}get root(){return this._routerState.root}get parent(){return this._routerState.parent(this)}get firstChild(){return this._routerState.firstChild(this)}get children(){return this._routerState.children(this)}get pathFromRoot(){return this._routerState.pathFromRoot(this)}get paramMap(){return this._paramMap??=this.params.pipe(N(t=>Cn(t))),this._paramMap}get queryParamMap(){return this._queryParamMap??=this.queryParams.pipe(N(t=>Cn(t))),this._queryParamMap}toString(){return this.snapshot?this.snapshot.toString():`Future(${this._futureSnapshot})`}};function Ks(e,t,n="emptyOnly"){let r,{routeConfig:o}=e;return t!==null&&(n==="always"||o?.path===""||!t.component&&!t.routeConfig?.loadComponent)?r={params:y(y({},t.params),e.params),data:y(y({},t.data),e.data),resolve:y(y(y(y({},e.data),t.data),o?.data),e._resolvedData)}:r={params:y({},e.params),data:y({},e.data),resolve:y(y({},e.data),e._resolvedData??{})},o&&qg(o)&&(r.resolve[xo]=o.title),r}var Dn=class{url;params;queryParams;fragment;data;outlet;component;routeConfig;_resolve;_resolvedData;_routerState;_paramMap;_queryParamMap;get title(){return this.data?.[xo]}constructor(t,n,r,o,i,s,a,c,l){this.url=t,this.params=n,this.queryParams=r,this.fragment=o,this.data=i,this.outlet=s,this.component=a,this.routeConfig=c,this._resolve=l}get root(){return this._routerState.root}get parent(){return this._routerState.parent(this)}get firstChild(){return this._routerState.firstChild(this)}get children(){return this._routerState.children(this)}get pathFromRoot(){return this._routerState.pathFromRoot(this)}get paramMap(){return this._paramMap??=Cn(this.params),this._paramMap}get queryParamMap(){return this._queryParamMap??=Cn(this.queryParams),this._queryParamMap}toString(){let t=this.url.map(r=>r.toString()).join("/"),n=this.routeConfig?this.routeConfig.path:"";return`Route(url:'${t}', path:'${n}')`}},Io=class extends Qs{url;constructor(t,n){super(n),this.url=t,Mu(this,n)}toString(){return Gg(this._root)}};function Mu(e,t){t.value._routerState=e,t.children.forEach(n=>Mu(e,n))}function Gg(e){let t=e.children.length>0?` { ${e.children.map(Gg).join(", ")} } `:"";return`${e.value}${t}`}function uu(e){if(e.snapshot){let t=e.snapshot,n=e._futureSnapshot;e.snapshot=n,ct(t.queryParams,n.queryParams)||e.queryParamsSubject.next(n.queryParams),t.fragment!==n.fragment&&e.fragmentSubject.next(n.fragment),ct(t.params,n.params)||e.paramsSubject.next(n.params),T_(t.url,n.url)||e.urlSubject.next(n.url),ct(t.data,n.data)||e.dataSubject.next(n.data)}else e.snapshot=e._futureSnapshot,e.dataSubject.next(e._futureSnapshot.data)}function Du(e,t){let n=ct(e.params,t.params)&&R_(e.url,t.url),r=!e.parent!=!t.parent;return n&&!r&&(!e.parent||Du(e.parent,t.parent))}function qg(e){return typeof e.title=="string"||e.title===null}var Wg=new b(""),Ro=(()=>{class e{activated=null;get activatedComponentRef(){return this.activated}_activatedRoute=null;name=R;activateEvents=new se;deactivateEvents=new se;attachEvents=new se;detachEvents=new se;routerOutletData=xh(void 0);parentContexts=v(br);location=v(tr);changeDetector=v(pn);inputBinder=v(ta,{optional:!0});supportsBindingToComponentInputs=!0;ngOnChanges(n){if(n.name){let{firstChange:r,previousValue:o}=n.name;if(r)return;this.isTrackedInParentContexts(o)&&(this.deactivate(),this.parentContexts.onChildOutletDestroyed(o)),this.initializeOutletWithName()}}ngOnDestroy(){this.isTrackedInParentContexts(this.name)&&this.parentContexts.onChildOutletDestroyed(this.name),this.inputBinder?.unsubscribeFromRouteData(this)}isTrackedInParentContexts(n){return this.parentContexts.getContext(n)?.outlet===this}ngOnInit(){this.initializeOutletWithName()}initializeOutletWithName(){if(this.parentContexts.onChildOutletCreated(this.name,this),this.activated)return;let n=this.parentContexts.getContext(this.name);n?.route&&(n.attachRef?this.attach(n.attachRef,n.route):this.activateWith(n.route,n.injector))}get isActivated(){return!!this.activated}get component(){if(!this.activated)throw new C(4012,!1);return this.activated.instance}get activatedRoute(){if(!this.activated)throw new C(4012,!1);return this._activatedRoute}get activatedRouteData(){return this._activatedRoute?this._activatedRoute.snapshot.data:{}}detach(){if(!this.activated)throw new C(4012,!1);this.location.detach();let n=this.activated;return this.activated=null,this._activatedRoute=null,this.detachEvents.emit(n.instance),n}attach(n,r){this.activated=n,this._activatedRoute=r,this.location.insert(n.hostView),this.inputBinder?.bindActivatedRouteToOutletComponent(this),this.attachEvents.emit(n.instance)}deactivate(){if(this.activated){let n=this.component;this.activated.destroy(),this.activated=null,this._activatedRoute=null,this.deactivateEvents.emit(n)}}activateWith(n,r){if(this.isActivated)throw new C(4013,!1);this._activatedRoute=n;let o=this.location,s=n.snapshot.component,a=this.parentContexts.getOrCreateContext(this.name).children,c=new Cu(n,a,o.injector,this.routerOutletData);this.activated=o.createComponent(s,{index:o.length,injector:c,environmentInjector:r}),this.changeDetector.markForCheck(),this.inputBinder?.bindActivatedRouteToOutletComponent(this),this.activateEvents.emit(this.activated.instance)}static \u0275fac=function(r){return new(r||e)};static \u0275dir=K({type:e,selectors:[["router-outlet"]],inputs:{name:"name",routerOutletData:[1,"routerOutletData"]},outputs:{activateEvents:"activate",deactivateEvents:"deactivate",attachEvents:"attach",detachEvents:"detach"},exportAs:["outlet"],features:[Lt]})}return e})(),Cu=class{route;childContexts;parent;outletData;constructor(t,n,r,o){this.route=t,this.childContexts=n,this.parent=r,this.outletData=o}get(t,n){return t===Nt?this.route:t===br?this.childContexts:t===Wg?this.outletData:this.parent.get(t,n)}},ta=new b("");var Su=(()=>{class e{static \u0275fac=function(r){return new(r||e)};static \u0275cmp=st({type:e,selectors:[["ng-component"]],exportAs:["emptyRouterOutlet"],decls:1,vars:0,template:function(r,o){r&1&&hn(0,"router-outlet")},dependencies:[Ro],encapsulation:2})}return e})();function Tu(e){let t=e.children&&e.children.map(Tu),n=t?k(y({},e),{children:t}):y({},e);return!n.component&&!n.loadComponent&&(t||n.loadChildren)&&n.outlet&&n.outlet!==R&&(n.component=Su),n}function tE(e,t,n){let r=Mo(e,t._root,n?n._root:void 0);return new Eo(r,t)}function Mo(e,t,n){if(n&&e.shouldReuseRoute(t.value,n.value.snapshot)){let r=n.value;r._futureSnapshot=t.value;let o=nE(e,t,n);return new Ae(r,o)}else{if(e.shouldAttach(t.value)){let i=e.retrieve(t.value);if(i!==null){let s=i.route;return s.value._futureSnapshot=t.value,s.children=t.children.map(a=>Mo(e,a)),s}}let r=rE(t.value),o=t.children.map(i=>Mo(e,i));return new Ae(r,o)}}function nE(e,t,n){return t.children.map(r=>{for(let o of n.children)if(e.shouldReuseRoute(r.value,o.value.snapshot))return Mo(e,r,o);return Mo(e,r)})}function rE(e){return new Nt(new Y(e.url),new Y(e.params),new Y(e.queryParams),new Y(e.fragment),new Y(e.data),e.outlet,e.component,e)}var Cr=class{redirectTo;navigationBehaviorOptions;constructor(t,n){this.redirectTo=t,this.navigationBehaviorOptions=n}},Zg="ngNavigationCancelingError";function Xs(e,t){let{redirectTo:n,navigationBehaviorOptions:r}=zt(t)?{redirectTo:t,navigationBehaviorOptions:void 0}:t,o=Yg(!1,Ie.Redirect);return o.url=n,o.navigationBehaviorOptions=r,o}function Yg(e,t){let n=new Error(`NavigationCancelingError: ${e||""}`);return n[Zg]=!0,n.cancellationCode=t,n}function oE(e){return Qg(e)&&zt(e.url)}function Qg(e){return!!e&&e[Zg]}var iE=(e,t,n,r)=>N(o=>(new wu(t,o.targetRouterState,o.currentRouterState,n,r).activate(e),o)),wu=class{routeReuseStrategy;futureState;currState;forwardEvent;inputBindingEnabled;constructor(t,n,r,o,i){this.routeReuseStrategy=t,this.futureState=n,this.currState=r,this.forwardEvent=o,this.inputBindingEnabled=i}activate(t){let n=this.futureState._root,r=this.currState?this.currState._root:null;this.deactivateChildRoutes(n,r,t),uu(this.futureState.root),this.activateChildRoutes(n,r,t)}deactivateChildRoutes(t,n,r){let o=gr(n);t.children.forEach(i=>{let s=i.value.outlet;this.deactivateRoutes(i,o[s],r),delete o[s]}),Object.values(o).forEach(i=>{this.deactivateRouteAndItsChildren(i,r)})}deactivateRoutes(t,n,r){let o=t.value,i=n?n.value:null;if(o===i)if(o.component){let s=r.getContext(o.outlet);s&&this.deactivateChildRoutes(t,n,s.children)}else this.deactivateChildRoutes(t,n,r);else i&&this.deactivateRouteAndItsChildren(n,r)}deactivateRouteAndItsChildren(t,n){t.value.component&&this.routeReuseStrategy.shouldDetach(t.value.snapshot)?this.detachAndStoreRouteSubtree(t,n):this.deactivateRouteAndOutlet(t,n)}detachAndStoreRouteSubtree(t,n){let r=n.getContext(t.value.outlet),o=r&&t.value.component?r.children:n,i=gr(t);for(let s of Object.values(i))this.deactivateRouteAndItsChildren(s,o);if(r&&r.outlet){let s=r.outlet.detach(),a=r.children.onOutletDeactivated();this.routeReuseStrategy.store(t.value.snapshot,{componentRef:s,route:t,contexts:a})}}deactivateRouteAndOutlet(t,n){let r=n.getContext(t.value.outlet),o=r&&t.value.component?r.children:n,i=gr(t);for(let s of Object.values(i))this.deactivateRouteAndItsChildren(s,o);r&&(r.outlet&&(r.outlet.deactivate(),r.children.onOutletDeactivated()),r.attachRef=null,r.route=null)}activateChildRoutes(t,n,r){let o=gr(n);t.children.forEach(i=>{this.activateRoutes(i,o[i.value.outlet],r),this.forwardEvent(new Zs(i.value.snapshot))}),t.children.length&&this.forwardEvent(new qs(t.value.snapshot))}activateRoutes(t,n,r){let o=t.value,i=n?n.value:null;if(uu(o),o===i)if(o.component){let s=r.getOrCreateContext(o.outlet);this.activateChildRoutes(t,n,s.children)}else this.activateChildRoutes(t,n,r);else if(o.component){let s=r.getOrCreateContext(o.outlet);if(this.routeReuseStrategy.shouldAttach(o.snapshot)){let a=this.routeReuseStrategy.retrieve(o.snapshot);this.routeReuseStrategy.store(o.snapshot,null),s.children.onOutletReAttached(a.contexts),s.attachRef=a.componentRef,s.route=a.route.value,s.outlet&&s.outlet.attach(a.componentRef,a.route.value),uu(a.route.value),this.activateChildRoutes(t,null,s.children)}else s.attachRef=null,s.route=o,s.outlet&&s.outlet.activateWith(o,s.injector),this.activateChildRoutes(t,null,s.children)}else this.activateChildRoutes(t,null,r)}},Js=class{path;route;constructor(t){this.path=t,this.route=this.path[this.path.length-1]}},vr=class{component;route;constructor(t,n){this.component=t,this.route=n}};function sE(e,t,n){let r=e._root,o=t?t._root:null;return vo(r,o,n,[r.value])}function aE(e){let t=e.routeConfig?e.routeConfig.canActivateChild:null;return!t||t.length===0?null:{node:e,guards:t}}function _r(e,t){let n=Symbol(),r=t.get(e,n);return r===n?typeof e=="function"&&!_f(e)?e:t.get(e):r}function vo(e,t,n,r,o={canDeactivateChecks:[],canActivateChecks:[]}){let i=gr(t);return e.children.forEach(s=>{cE(s,i[s.value.outlet],n,r.concat([s.value]),o),delete i[s.value.outlet]}),Object.entries(i).forEach(([s,a])=>Do(a,n.getContext(s),o)),o}function cE(e,t,n,r,o={canDeactivateChecks:[],canActivateChecks:[]}){let i=e.value,s=t?t.value:null,a=n?n.getContext(e.value.outlet):null;if(s&&i.routeConfig===s.routeConfig){let c=lE(s,i,i.routeConfig.runGuardsAndResolvers);c?o.canActivateChecks.push(new Js(r)):(i.data=s.data,i._resolvedData=s._resolvedData),i.component?vo(e,t,a?a.children:null,r,o):vo(e,t,n,r,o),c&&a&&a.outlet&&a.outlet.isActivated&&o.canDeactivateChecks.push(new vr(a.outlet.component,s))}else s&&Do(t,a,o),o.canActivateChecks.push(new Js(r)),i.component?vo(e,null,a?a.children:null,r,o):vo(e,null,n,r,o);return o}function lE(e,t,n){if(typeof n=="function")return n(e,t);switch(n){case"pathParamsChange":return!yn(e.url,t.url);case"pathParamsOrQueryParamsChange":return!yn(e.url,t.url)||!ct(e.queryParams,t.queryParams);case"always":return!0;case"paramsOrQueryParamsChange":return!Du(e,t)||!ct(e.queryParams,t.queryParams);case"paramsChange":default:return!Du(e,t)}}function Do(e,t,n){let r=gr(e),o=e.value;Object.entries(r).forEach(([i,s])=>{o.component?t?Do(s,t.children.getContext(i),n):Do(s,null,n):Do(s,t,n)}),o.component?t&&t.outlet&&t.outlet.isActivated?n.canDeactivateChecks.push(new vr(t.outlet.component,o)):n.canDeactivateChecks.push(new vr(null,o)):n.canDeactivateChecks.push(new vr(null,o))}function Oo(e){return typeof e=="function"}function uE(e){return typeof e=="boolean"}function dE(e){return e&&Oo(e.canLoad)}function fE(e){return e&&Oo(e.canActivate)}function hE(e){return e&&Oo(e.canActivateChild)}function pE(e){return e&&Oo(e.canDeactivate)}function gE(e){return e&&Oo(e.canMatch)}function Kg(e){return e instanceof pt||e?.name==="EmptyError"}var Rs=Symbol("INITIAL_VALUE");function wr(){return Te(e=>vi(e.map(t=>t.pipe(ke(1),Ka(Rs)))).pipe(N(t=>{for(let n of t)if(n!==!0){if(n===Rs)return Rs;if(n===!1||mE(n))return n}return!0}),Se(t=>t!==Rs),ke(1)))}function mE(e){return zt(e)||e instanceof Cr}function vE(e,t){return ie(n=>{let{targetSnapshot:r,currentSnapshot:o,guards:{canActivateChecks:i,canDeactivateChecks:s}}=n;return s.length===0&&i.length===0?S(k(y({},n),{guardsResult:!0})):yE(s,r,o,e).pipe(ie(a=>a&&uE(a)?DE(r,i,e,t):S(a)),N(a=>k(y({},n),{guardsResult:a})))})}function yE(e,t,n,r){return W(e).pipe(ie(o=>EE(o.component,o.route,n,t,r)),gt(o=>o!==!0,!0))}function DE(e,t,n,r){return W(t).pipe(Ot(o=>kn(wE(o.route.parent,r),CE(o.route,r),_E(e,o.path,n),bE(e,o.route,n))),gt(o=>o!==!0,!0))}function CE(e,t){return e!==null&&t&&t(new Ws(e)),S(!0)}function wE(e,t){return e!==null&&t&&t(new Gs(e)),S(!0)}function bE(e,t,n){let r=t.routeConfig?t.routeConfig.canActivate:null;if(!r||r.length===0)return S(!0);let o=r.map(i=>yi(()=>{let s=Ao(t)??n,a=_r(i,s),c=fE(a)?a.canActivate(t,e):xe(s,()=>a(t,e));return Gt(c).pipe(gt())}));return S(o).pipe(wr())}function _E(e,t,n){let r=t[t.length-1],i=t.slice(0,t.length-1).reverse().map(s=>aE(s)).filter(s=>s!==null).map(s=>yi(()=>{let a=s.guards.map(c=>{let l=Ao(s.node)??n,u=_r(c,l),f=hE(u)?u.canActivateChild(r,e):xe(l,()=>u(r,e));return Gt(f).pipe(gt())});return S(a).pipe(wr())}));return S(i).pipe(wr())}function EE(e,t,n,r,o){let i=t&&t.routeConfig?t.routeConfig.canDeactivate:null;if(!i||i.length===0)return S(!0);let s=i.map(a=>{let c=Ao(t)??o,l=_r(a,c),u=pE(l)?l.canDeactivate(e,t,n,r):xe(c,()=>l(e,t,n,r));return Gt(u).pipe(gt())});return S(s).pipe(wr())}function IE(e,t,n,r){let o=t.canLoad;if(o===void 0||o.length===0)return S(!0);let i=o.map(s=>{let a=_r(s,e),c=dE(a)?a.canLoad(t,n):xe(e,()=>a(t,n));return Gt(c)});return S(i).pipe(wr(),Xg(r))}function Xg(e){return Ha(Q(t=>{if(typeof t!="boolean")throw Xs(e,t)}),N(t=>t===!0))}function ME(e,t,n,r){let o=t.canMatch;if(!o||o.length===0)return S(!0);let i=o.map(s=>{let a=_r(s,e),c=gE(a)?a.canMatch(t,n):xe(e,()=>a(t,n));return Gt(c)});return S(i).pipe(wr(),Xg(r))}var So=class{segmentGroup;constructor(t){this.segmentGroup=t||null}},To=class extends Error{urlTree;constructor(t){super(),this.urlTree=t}};function pr(e){return Pn(new So(e))}function SE(e){return Pn(new C(4e3,!1))}function TE(e){return Pn(Yg(!1,Ie.GuardRejected))}var bu=class{urlSerializer;urlTree;constructor(t,n){this.urlSerializer=t,this.urlTree=n}lineralizeSegments(t,n){let r=[],o=n.root;for(;;){if(r=r.concat(o.segments),o.numberOfChildren===0)return S(r);if(o.numberOfChildren>1||!o.children[R])return SE(`${t.redirectTo}`);o=o.children[R]}}applyRedirectCommands(t,n,r,o,i){if(typeof n!="string"){let a=n,{queryParams:c,fragment:l,routeConfig:u,url:f,outlet:h,params:d,data:m,title:w}=o,I=xe(i,()=>a({params:d,data:m,queryParams:c,fragment:l,routeConfig:u,url:f,outlet:h,title:w}));if(I instanceof ut)throw new To(I);n=I}let s=this.applyRedirectCreateUrlTree(n,this.urlSerializer.parse(n),t,r);if(n[0]==="/")throw new To(s);return s}applyRedirectCreateUrlTree(t,n,r,o){let i=this.createSegmentGroup(t,n.root,r,o);return new ut(i,this.createQueryParams(n.queryParams,this.urlTree.queryParams),n.fragment)}createQueryParams(t,n){let r={};return Object.entries(t).forEach(([o,i])=>{if(typeof i=="string"&&i[0]===":"){let a=i.substring(1);r[o]=n[a]}else r[o]=i}),r}createSegmentGroup(t,n,r,o){let i=this.createSegments(t,n.segments,r,o),s={};return Object.entries(n.children).forEach(([a,c])=>{s[a]=this.createSegmentGroup(t,c,r,o)}),new $(i,s)}createSegments(t,n,r,o){return n.map(i=>i.path[0]===":"?this.findPosParam(t,i,o):this.findOrReturn(i,r))}findPosParam(t,n,r){let o=r[n.path.substring(1)];if(!o)throw new C(4001,!1);return o}findOrReturn(t,n){let r=0;for(let o of n){if(o.path===t.path)return n.splice(r),o;r++}return t}},_u={matched:!1,consumedSegments:[],remainingSegments:[],parameters:{},positionalParamSegments:{}};function xE(e,t,n,r,o){let i=Jg(e,t,n);return i.matched?(r=X_(t,r),ME(r,t,n,o).pipe(N(s=>s===!0?i:y({},_u)))):S(i)}function Jg(e,t,n){if(t.path==="**")return NE(n);if(t.path==="")return t.pathMatch==="full"&&(e.hasChildren()||n.length>0)?y({},_u):{matched:!0,consumedSegments:[],remainingSegments:n,parameters:{},positionalParamSegments:{}};let o=(t.matcher||Tg)(n,e,t);if(!o)return y({},_u);let i={};Object.entries(o.posParams??{}).forEach(([a,c])=>{i[a]=c.path});let s=o.consumed.length>0?y(y({},i),o.consumed[o.consumed.length-1].parameters):i;return{matched:!0,consumedSegments:o.consumed,remainingSegments:n.slice(o.consumed.length),parameters:s,positionalParamSegments:o.posParams??{}}}function NE(e){return{matched:!0,parameters:e.length>0?Ng(e).parameters:{},consumedSegments:e,remainingSegments:[],positionalParamSegments:{}}}function Ig(e,t,n,r){return n.length>0&&OE(e,n,r)?{segmentGroup:new $(t,RE(r,new $(n,e.children))),slicedSegments:[]}:n.length===0&&PE(e,n,r)?{segmentGroup:new $(e.segments,AE(e,n,r,e.children)),slicedSegments:n}:{segmentGroup:new $(e.segments,e.children),slicedSegments:n}}function AE(e,t,n,r){let o={};for(let i of n)if(na(e,t,i)&&!r[Ke(i)]){let s=new $([],{});o[Ke(i)]=s}return y(y({},r),o)}function RE(e,t){let n={};n[R]=t;for(let r of e)if(r.path===""&&Ke(r)!==R){let o=new $([],{});n[Ke(r)]=o}return n}function OE(e,t,n){return n.some(r=>na(e,t,r)&&Ke(r)!==R)}function PE(e,t,n){return n.some(r=>na(e,t,r))}function na(e,t,n){return(e.hasChildren()||t.length>0)&&n.pathMatch==="full"?!1:n.path===""}function kE(e,t,n){return t.length===0&&!e.children[n]}var Eu=class{};function FE(e,t,n,r,o,i,s="emptyOnly"){return new Iu(e,t,n,r,o,s,i).recognize()}var LE=31,Iu=class{injector;configLoader;rootComponentType;config;urlTree;paramsInheritanceStrategy;urlSerializer;applyRedirects;absoluteRedirectCount=0;allowRedirects=!0;constructor(t,n,r,o,i,s,a){this.injector=t,this.configLoader=n,this.rootComponentType=r,this.config=o,this.urlTree=i,this.paramsInheritanceStrategy=s,this.urlSerializer=a,this.applyRedirects=new bu(this.urlSerializer,this.urlTree)}noMatchError(t){return new C(4002,`'${t.segmentGroup}'`)}recognize(){let t=Ig(this.urlTree.root,[],[],this.config).segmentGroup;return this.match(t).pipe(N(({children:n,rootSnapshot:r})=>{let o=new Ae(r,n),i=new Io("",o),s=jg(r,[],this.urlTree.queryParams,this.urlTree.fragment);return s.queryParams=this.urlTree.queryParams,i.url=this.urlSerializer.serialize(s),{state:i,tree:s}}))}match(t){let n=new Dn([],Object.freeze({}),Object.freeze(y({},this.urlTree.queryParams)),this.urlTree.fragment,Object.freeze({}),R,this.rootComponentType,null,{});return this.processSegmentGroup(this.injector,this.config,t,R,n).pipe(N(r=>({children:r,rootSnapshot:n})),Ge(r=>{if(r instanceof To)return this.urlTree=r.urlTree,this.match(r.urlTree.root);throw r instanceof So?this.noMatchError(r):r}))}processSegmentGroup(t,n,r,o,i){return r.segments.length===0&&r.hasChildren()?this.processChildren(t,n,r,i):this.processSegment(t,n,r,r.segments,o,!0,i).pipe(N(s=>s instanceof Ae?[s]:[]))}processChildren(t,n,r,o){let i=[];for(let s of Object.keys(r.children))s==="primary"?i.unshift(s):i.push(s);return W(i).pipe(Ot(s=>{let a=r.children[s],c=J_(n,s);return this.processSegmentGroup(t,c,a,s,o)}),Qa((s,a)=>(s.push(...a),s)),Pt(null),Ya(),ie(s=>{if(s===null)return pr(r);let a=em(s);return VE(a),S(a)}))}processSegment(t,n,r,o,i,s,a){return W(n).pipe(Ot(c=>this.processSegmentAgainstRoute(c._injector??t,n,c,r,o,i,s,a).pipe(Ge(l=>{if(l instanceof So)return S(null);throw l}))),gt(c=>!!c),Ge(c=>{if(Kg(c))return kE(r,o,i)?S(new Eu):pr(r);throw c}))}processSegmentAgainstRoute(t,n,r,o,i,s,a,c){return Ke(r)!==s&&(s===R||!na(o,i,r))?pr(o):r.redirectTo===void 0?this.matchSegmentAgainstRoute(t,o,r,i,s,c):this.allowRedirects&&a?this.expandSegmentAgainstRouteUsingRedirect(t,o,n,r,i,s,c):pr(o)}expandSegmentAgainstRouteUsingRedirect(t,n,r,o,i,s,a){let{matched:c,parameters:l,consumedSegments:u,positionalParamSegments:f,remainingSegments:h}=Jg(n,o,i);if(!c)return pr(n);typeof o.redirectTo=="string"&&o.redirectTo[0]==="/"&&(this.absoluteRedirectCount++,this.absoluteRedirectCount>LE&&(this.allowRedirects=!1));let d=new Dn(i,l,Object.freeze(y({},this.urlTree.queryParams)),this.urlTree.fragment,Mg(o),Ke(o),o.component??o._loadedComponent??null,o,Sg(o)),m=Ks(d,a,this.paramsInheritanceStrategy);d.params=Object.freeze(m.params),d.data=Object.freeze(m.data);let w=this.applyRedirects.applyRedirectCommands(u,o.redirectTo,f,d,t);return this.applyRedirects.lineralizeSegments(o,w).pipe(ie(I=>this.processSegment(t,r,n,I.concat(h),s,!1,a)))}matchSegmentAgainstRoute(t,n,r,o,i,s){let a=xE(n,r,o,t,this.urlSerializer);return r.path==="**"&&(n.children={}),a.pipe(Te(c=>c.matched?(t=r._injector??t,this.getChildConfig(t,r,o).pipe(Te(({routes:l})=>{let u=r._loadedInjector??t,{parameters:f,consumedSegments:h,remainingSegments:d}=c,m=new Dn(h,f,Object.freeze(y({},this.urlTree.queryParams)),this.urlTree.fragment,Mg(r),Ke(r),r.component??r._loadedComponent??null,r,Sg(r)),w=Ks(m,s,this.paramsInheritanceStrategy);m.params=Object.freeze(w.params),m.data=Object.freeze(w.data);let{segmentGroup:I,slicedSegments:V}=Ig(n,h,d,l);if(V.length===0&&I.hasChildren())return this.processChildren(u,l,I,m).pipe(N(Z=>new Ae(m,Z)));if(l.length===0&&V.length===0)return S(new Ae(m,[]));let At=Ke(r)===i;return this.processSegment(u,l,I,V,At?R:i,!0,m).pipe(N(Z=>new Ae(m,Z instanceof Ae?[Z]:[])))}))):pr(n)))}getChildConfig(t,n,r){return n.children?S({routes:n.children,injector:t}):n.loadChildren?n._loadedRoutes!==void 0?S({routes:n._loadedRoutes,injector:n._loadedInjector}):IE(t,n,r,this.urlSerializer).pipe(ie(o=>o?this.configLoader.loadChildren(t,n).pipe(Q(i=>{n._loadedRoutes=i.routes,n._loadedInjector=i.injector})):TE(n))):S({routes:[],injector:t})}};function VE(e){e.sort((t,n)=>t.value.outlet===R?-1:n.value.outlet===R?1:t.value.outlet.localeCompare(n.value.outlet))}function jE(e){let t=e.value.routeConfig;return t&&t.path===""}function em(e){let t=[],n=new Set;for(let r of e){if(!jE(r)){t.push(r);continue}let o=t.find(i=>r.value.routeConfig===i.value.routeConfig);o!==void 0?(o.children.push(...r.children),n.add(o)):t.push(r)}for(let r of n){let o=em(r.children);t.push(new Ae(r.value,o))}return t.filter(r=>!n.has(r))}function Mg(e){return e.data||{}}function Sg(e){return e.resolve||{}}function BE(e,t,n,r,o,i){return ie(s=>FE(e,t,n,r,s.extractedUrl,o,i).pipe(N(({state:a,tree:c})=>k(y({},s),{targetSnapshot:a,urlAfterRedirects:c}))))}function UE(e,t){return ie(n=>{let{targetSnapshot:r,guards:{canActivateChecks:o}}=n;if(!o.length)return S(n);let i=new Set(o.map(c=>c.route)),s=new Set;for(let c of i)if(!s.has(c))for(let l of tm(c))s.add(l);let a=0;return W(s).pipe(Ot(c=>i.has(c)?$E(c,r,e,t):(c.data=Ks(c,c.parent,e).resolve,S(void 0))),Q(()=>a++),Fn(1),ie(c=>a===s.size?S(n):ye))})}function tm(e){let t=e.children.map(n=>tm(n)).flat();return[e,...t]}function $E(e,t,n,r){let o=e.routeConfig,i=e._resolve;return o?.title!==void 0&&!qg(o)&&(i[xo]=o.title),HE(i,e,t,r).pipe(N(s=>(e._resolvedData=s,e.data=Ks(e,e.parent,n).resolve,null)))}function HE(e,t,n,r){let o=hu(e);if(o.length===0)return S({});let i={};return W(o).pipe(ie(s=>zE(e[s],t,n,r).pipe(gt(),Q(a=>{if(a instanceof Cr)throw Xs(new wn,a);i[s]=a}))),Fn(1),N(()=>i),Ge(s=>Kg(s)?ye:Pn(s)))}function zE(e,t,n,r){let o=Ao(t)??r,i=_r(e,o),s=i.resolve?i.resolve(t,n):xe(o,()=>i(t,n));return Gt(s)}function du(e){return Te(t=>{let n=e(t);return n?W(n).pipe(N(()=>t)):S(t)})}var xu=(()=>{class e{buildTitle(n){let r,o=n.root;for(;o!==void 0;)r=this.getResolvedTitleForRoute(o)??r,o=o.children.find(i=>i.outlet===R);return r}getResolvedTitleForRoute(n){return n.data[xo]}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:()=>v(nm),providedIn:"root"})}return e})(),nm=(()=>{class e extends xu{title;constructor(n){super(),this.title=n}updateTitle(n){let r=this.buildTitle(n);r!==void 0&&this.title.setTitle(r)}static \u0275fac=function(r){return new(r||e)(M(Cg))};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})(),Po=new b("",{providedIn:"root",factory:()=>({})}),ko=new b(""),rm=(()=>{class e{componentLoaders=new WeakMap;childrenLoaders=new WeakMap;onLoadStartListener;onLoadEndListener;compiler=v(Fp);loadComponent(n){if(this.componentLoaders.get(n))return this.componentLoaders.get(n);if(n._loadedComponent)return S(n._loadedComponent);this.onLoadStartListener&&this.onLoadStartListener(n);let r=Gt(n.loadComponent()).pipe(N(im),Q(i=>{this.onLoadEndListener&&this.onLoadEndListener(n),n._loadedComponent=i}),Xt(()=>{this.componentLoaders.delete(n)})),o=new On(r,()=>new ee).pipe(Rn());return this.componentLoaders.set(n,o),o}loadChildren(n,r){if(this.childrenLoaders.get(r))return this.childrenLoaders.get(r);if(r._loadedRoutes)return S({routes:r._loadedRoutes,injector:r._loadedInjector});this.onLoadStartListener&&this.onLoadStartListener(r);let i=om(r,this.compiler,n,this.onLoadEndListener).pipe(Xt(()=>{this.childrenLoaders.delete(r)})),s=new On(i,()=>new ee).pipe(Rn());return this.childrenLoaders.set(r,s),s}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})();function om(e,t,n,r){return Gt(e.loadChildren()).pipe(N(im),ie(o=>o instanceof kl||Array.isArray(o)?S(o):W(t.compileModuleAsync(o))),N(o=>{r&&r(e);let i,s,a=!1;return Array.isArray(o)?(s=o,a=!0):(i=o.create(n).injector,s=i.get(ko,[],{optional:!0,self:!0}).flat()),{routes:s.map(Tu),injector:i}}))}function GE(e){return e&&typeof e=="object"&&"default"in e}function im(e){return GE(e)?e.default:e}var ra=(()=>{class e{static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:()=>v(qE),providedIn:"root"})}return e})(),qE=(()=>{class e{shouldProcessUrl(n){return!0}extract(n){return n}merge(n,r){return n}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})(),sm=new b("");var am=new b(""),cm=(()=>{class e{currentNavigation=null;currentTransition=null;lastSuccessfulNavigation=null;events=new ee;transitionAbortSubject=new ee;configLoader=v(rm);environmentInjector=v(he);destroyRef=v(Jn);urlSerializer=v(No);rootContexts=v(br);location=v(ar);inputBindingEnabled=v(ta,{optional:!0})!==null;titleStrategy=v(xu);options=v(Po,{optional:!0})||{};paramsInheritanceStrategy=this.options.paramsInheritanceStrategy||"emptyOnly";urlHandlingStrategy=v(ra);createViewTransition=v(sm,{optional:!0});navigationErrorHandler=v(am,{optional:!0});navigationId=0;get hasRequestedNavigation(){return this.navigationId!==0}transitions;afterPreactivation=()=>S(void 0);rootComponentType=null;destroyed=!1;constructor(){let n=o=>this.events.next(new Hs(o)),r=o=>this.events.next(new zs(o));this.configLoader.onLoadEndListener=r,this.configLoader.onLoadStartListener=n,this.destroyRef.onDestroy(()=>{this.destroyed=!0})}complete(){this.transitions?.complete()}handleNavigationRequest(n){let r=++this.navigationId;this.transitions?.next(k(y({},n),{extractedUrl:this.urlHandlingStrategy.extract(n.rawUrl),targetSnapshot:null,targetRouterState:null,guards:{canActivateChecks:[],canDeactivateChecks:[]},guardsResult:null,id:r}))}setupNavigations(n){return this.transitions=new Y(null),this.transitions.pipe(Se(r=>r!==null),Te(r=>{let o=!1,i=!1;return S(r).pipe(Te(s=>{if(this.navigationId>r.id)return this.cancelNavigationTransition(r,"",Ie.SupersededByNewNavigation),ye;this.currentTransition=r,this.currentNavigation={id:s.id,initialUrl:s.rawUrl,extractedUrl:s.extractedUrl,targetBrowserUrl:typeof s.extras.browserUrl=="string"?this.urlSerializer.parse(s.extras.browserUrl):s.extras.browserUrl,trigger:s.source,extras:s.extras,previousNavigation:this.lastSuccessfulNavigation?k(y({},this.lastSuccessfulNavigation),{previousNavigation:null}):null};let a=!n.navigated||this.isUpdatingInternalState()||this.isUpdatedBrowserUrl(),c=s.extras.onSameUrlNavigation??n.onSameUrlNavigation;if(!a&&c!=="reload"){let l="";return this.events.next(new xt(s.id,this.urlSerializer.serialize(s.rawUrl),l,wo.IgnoredSameUrlNavigation)),s.resolve(!1),ye}if(this.urlHandlingStrategy.shouldProcessUrl(s.rawUrl))return S(s).pipe(Te(l=>(this.events.next(new bn(l.id,this.urlSerializer.serialize(l.extractedUrl),l.source,l.restoredState)),l.id!==this.navigationId?ye:Promise.resolve(l))),BE(this.environmentInjector,this.configLoader,this.rootComponentType,n.config,this.urlSerializer,this.paramsInheritanceStrategy),Q(l=>{r.targetSnapshot=l.targetSnapshot,r.urlAfterRedirects=l.urlAfterRedirects,this.currentNavigation=k(y({},this.currentNavigation),{finalUrl:l.urlAfterRedirects});let u=new bo(l.id,this.urlSerializer.serialize(l.extractedUrl),this.urlSerializer.serialize(l.urlAfterRedirects),l.targetSnapshot);this.events.next(u)}));if(a&&this.urlHandlingStrategy.shouldProcessUrl(s.currentRawUrl)){let{id:l,extractedUrl:u,source:f,restoredState:h,extras:d}=s,m=new bn(l,this.urlSerializer.serialize(u),f,h);this.events.next(m);let w=zg(this.rootComponentType).snapshot;return this.currentTransition=r=k(y({},s),{targetSnapshot:w,urlAfterRedirects:u,extras:k(y({},d),{skipLocationChange:!1,replaceUrl:!1})}),this.currentNavigation.finalUrl=u,S(r)}else{let l="";return this.events.next(new xt(s.id,this.urlSerializer.serialize(s.extractedUrl),l,wo.IgnoredByUrlHandlingStrategy)),s.resolve(!1),ye}}),Q(s=>{let a=new js(s.id,this.urlSerializer.serialize(s.extractedUrl),this.urlSerializer.serialize(s.urlAfterRedirects),s.targetSnapshot);this.events.next(a)}),N(s=>(this.currentTransition=r=k(y({},s),{guards:sE(s.targetSnapshot,s.currentSnapshot,this.rootContexts)}),r)),vE(this.environmentInjector,s=>this.events.next(s)),Q(s=>{if(r.guardsResult=s.guardsResult,s.guardsResult&&typeof s.guardsResult!="boolean")throw Xs(this.urlSerializer,s.guardsResult);let a=new Bs(s.id,this.urlSerializer.serialize(s.extractedUrl),this.urlSerializer.serialize(s.urlAfterRedirects),s.targetSnapshot,!!s.guardsResult);this.events.next(a)}),Se(s=>s.guardsResult?!0:(this.cancelNavigationTransition(s,"",Ie.GuardRejected),!1)),du(s=>{if(s.guards.canActivateChecks.length!==0)return S(s).pipe(Q(a=>{let c=new Us(a.id,this.urlSerializer.serialize(a.extractedUrl),this.urlSerializer.serialize(a.urlAfterRedirects),a.targetSnapshot);this.events.next(c)}),Te(a=>{let c=!1;return S(a).pipe(UE(this.paramsInheritanceStrategy,this.environmentInjector),Q({next:()=>c=!0,complete:()=>{c||this.cancelNavigationTransition(a,"",Ie.NoDataFromResolver)}}))}),Q(a=>{let c=new $s(a.id,this.urlSerializer.serialize(a.extractedUrl),this.urlSerializer.serialize(a.urlAfterRedirects),a.targetSnapshot);this.events.next(c)}))}),du(s=>{let a=c=>{let l=[];c.routeConfig?.loadComponent&&!c.routeConfig._loadedComponent&&l.push(this.configLoader.loadComponent(c.routeConfig).pipe(Q(u=>{c.component=u}),N(()=>{})));for(let u of c.children)l.push(...a(u));return l};return vi(a(s.targetSnapshot.root)).pipe(Pt(null),ke(1))}),du(()=>this.afterPreactivation()),Te(()=>{let{currentSnapshot:s,targetSnapshot:a}=r,c=this.createViewTransition?.(this.environmentInjector,s.root,a.root);return c?W(c).pipe(N(()=>r)):S(r)}),N(s=>{let a=tE(n.routeReuseStrategy,s.targetSnapshot,s.currentRouterState);return this.currentTransition=r=k(y({},s),{targetRouterState:a}),this.currentNavigation.targetRouterState=a,r}),Q(()=>{this.events.next(new _o)}),iE(this.rootContexts,n.routeReuseStrategy,s=>this.events.next(s),this.inputBindingEnabled),ke(1),Q({next:s=>{o=!0,this.lastSuccessfulNavigation=this.currentNavigation,this.events.next(new dt(s.id,this.urlSerializer.serialize(s.extractedUrl),this.urlSerializer.serialize(s.urlAfterRedirects))),this.titleStrategy?.updateTitle(s.targetRouterState.snapshot),s.resolve(!0)},complete:()=>{o=!0}}),Xa(this.transitionAbortSubject.pipe(Q(s=>{throw s}))),Xt(()=>{!o&&!i&&this.cancelNavigationTransition(r,"",Ie.SupersededByNewNavigation),this.currentTransition?.id===r.id&&(this.currentNavigation=null,this.currentTransition=null)}),Ge(s=>{if(this.destroyed)return r.resolve(!1),ye;if(i=!0,Qg(s))this.events.next(new lt(r.id,this.urlSerializer.serialize(r.extractedUrl),s.message,s.cancellationCode)),oE(s)?this.events.next(new Dr(s.url,s.navigationBehaviorOptions)):r.resolve(!1);else{let a=new yr(r.id,this.urlSerializer.serialize(r.extractedUrl),s,r.targetSnapshot??void 0);try{let c=xe(this.environmentInjector,()=>this.navigationErrorHandler?.(a));if(c instanceof Cr){let{message:l,cancellationCode:u}=Xs(this.urlSerializer,c);this.events.next(new lt(r.id,this.urlSerializer.serialize(r.extractedUrl),l,u)),this.events.next(new Dr(c.redirectTo,c.navigationBehaviorOptions))}else throw this.events.next(a),s}catch(c){this.options.resolveNavigationPromiseOnError?r.resolve(!1):r.reject(c)}}return ye}))}))}cancelNavigationTransition(n,r,o){let i=new lt(n.id,this.urlSerializer.serialize(n.extractedUrl),r,o);this.events.next(i),n.resolve(!1)}isUpdatingInternalState(){return this.currentTransition?.extractedUrl.toString()!==this.currentTransition?.currentUrlTree.toString()}isUpdatedBrowserUrl(){let n=this.urlHandlingStrategy.extract(this.urlSerializer.parse(this.location.path(!0))),r=this.currentNavigation?.targetBrowserUrl??this.currentNavigation?.extractedUrl;return n.toString()!==r?.toString()&&!this.currentNavigation?.extras.skipLocationChange}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})();function WE(e){return e!==Fs}var lm=(()=>{class e{static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:()=>v(ZE),providedIn:"root"})}return e})(),ea=class{shouldDetach(t){return!1}store(t,n){}shouldAttach(t){return!1}retrieve(t){return null}shouldReuseRoute(t,n){return t.routeConfig===n.routeConfig}},ZE=(()=>{class e extends ea{static \u0275fac=(()=>{let n;return function(o){return(n||(n=It(e)))(o||e)}})();static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})(),um=(()=>{class e{urlSerializer=v(No);options=v(Po,{optional:!0})||{};canceledNavigationResolution=this.options.canceledNavigationResolution||"replace";location=v(ar);urlHandlingStrategy=v(ra);urlUpdateStrategy=this.options.urlUpdateStrategy||"deferred";currentUrlTree=new ut;getCurrentUrlTree(){return this.currentUrlTree}rawUrlTree=this.currentUrlTree;getRawUrlTree(){return this.rawUrlTree}createBrowserPath({finalUrl:n,initialUrl:r,targetBrowserUrl:o}){let i=n!==void 0?this.urlHandlingStrategy.merge(n,r):r,s=o??i;return s instanceof ut?this.urlSerializer.serialize(s):s}commitTransition({targetRouterState:n,finalUrl:r,initialUrl:o}){r&&n?(this.currentUrlTree=r,this.rawUrlTree=this.urlHandlingStrategy.merge(r,o),this.routerState=n):this.rawUrlTree=o}routerState=zg(null);getRouterState(){return this.routerState}stateMemento=this.createStateMemento();updateStateMemento(){this.stateMemento=this.createStateMemento()}createStateMemento(){return{rawUrlTree:this.rawUrlTree,currentUrlTree:this.currentUrlTree,routerState:this.routerState}}resetInternalState({finalUrl:n}){this.routerState=this.stateMemento.routerState,this.currentUrlTree=this.stateMemento.currentUrlTree,this.rawUrlTree=this.urlHandlingStrategy.merge(this.currentUrlTree,n??this.rawUrlTree)}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:()=>v(YE),providedIn:"root"})}return e})(),YE=(()=>{class e extends um{currentPageId=0;lastSuccessfulId=-1;restoredState(){return this.location.getState()}get browserPageId(){return this.canceledNavigationResolution!=="computed"?this.currentPageId:this.restoredState()?.\u0275routerPageId??this.currentPageId}registerNonRouterCurrentEntryChangeListener(n){return this.location.subscribe(r=>{r.type==="popstate"&&setTimeout(()=>{n(r.url,r.state,"popstate")})})}handleRouterEvent(n,r){n instanceof bn?this.updateStateMemento():n instanceof xt?this.commitTransition(r):n instanceof bo?this.urlUpdateStrategy==="eager"&&(r.extras.skipLocationChange||this.setBrowserUrl(this.createBrowserPath(r),r)):n instanceof _o?(this.commitTransition(r),this.urlUpdateStrategy==="deferred"&&!r.extras.skipLocationChange&&this.setBrowserUrl(this.createBrowserPath(r),r)):n instanceof lt&&(n.code===Ie.GuardRejected||n.code===Ie.NoDataFromResolver)?this.restoreHistory(r):n instanceof yr?this.restoreHistory(r,!0):n instanceof dt&&(this.lastSuccessfulId=n.id,this.currentPageId=this.browserPageId)}setBrowserUrl(n,{extras:r,id:o}){let{replaceUrl:i,state:s}=r;if(this.location.isCurrentPathEqualTo(n)||i){let a=this.browserPageId,c=y(y({},s),this.generateNgRouterState(o,a));this.location.replaceState(n,"",c)}else{let a=y(y({},s),this.generateNgRouterState(o,this.browserPageId+1));this.location.go(n,"",a)}}restoreHistory(n,r=!1){if(this.canceledNavigationResolution==="computed"){let o=this.browserPageId,i=this.currentPageId-o;i!==0?this.location.historyGo(i):this.getCurrentUrlTree()===n.finalUrl&&i===0&&(this.resetInternalState(n),this.resetUrlToCurrentUrlTree())}else this.canceledNavigationResolution==="replace"&&(r&&this.resetInternalState(n),this.resetUrlToCurrentUrlTree())}resetUrlToCurrentUrlTree(){this.location.replaceState(this.urlSerializer.serialize(this.getRawUrlTree()),"",this.generateNgRouterState(this.lastSuccessfulId,this.currentPageId))}generateNgRouterState(n,r){return this.canceledNavigationResolution==="computed"?{navigationId:n,\u0275routerPageId:r}:{navigationId:n}}static \u0275fac=(()=>{let n;return function(o){return(n||(n=It(e)))(o||e)}})();static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})();function Nu(e,t){e.events.pipe(Se(n=>n instanceof dt||n instanceof lt||n instanceof yr||n instanceof xt),N(n=>n instanceof dt||n instanceof xt?0:(n instanceof lt?n.code===Ie.Redirect||n.code===Ie.SupersededByNewNavigation:!1)?2:1),Se(n=>n!==2),ke(1)).subscribe(()=>{t()})}var QE={paths:"exact",fragment:"ignored",matrixParams:"ignored",queryParams:"exact"},KE={paths:"subset",fragment:"ignored",matrixParams:"ignored",queryParams:"subset"},Oe=(()=>{class e{get currentUrlTree(){return this.stateManager.getCurrentUrlTree()}get rawUrlTree(){return this.stateManager.getRawUrlTree()}disposed=!1;nonRouterCurrentEntryChangeSubscription;console=v(Np);stateManager=v(um);options=v(Po,{optional:!0})||{};pendingTasks=v(Vt);urlUpdateStrategy=this.options.urlUpdateStrategy||"deferred";navigationTransitions=v(cm);urlSerializer=v(No);location=v(ar);urlHandlingStrategy=v(ra);_events=new ee;get events(){return this._events}get routerState(){return this.stateManager.getRouterState()}navigated=!1;routeReuseStrategy=v(lm);onSameUrlNavigation=this.options.onSameUrlNavigation||"ignore";config=v(ko,{optional:!0})?.flat()??[];componentInputBindingEnabled=!!v(ta,{optional:!0});constructor(){this.resetConfig(this.config),this.navigationTransitions.setupNavigations(this).subscribe({error:n=>{this.console.warn(n)}}),this.subscribeToNavigationEvents()}eventsSubscription=new J;subscribeToNavigationEvents(){let n=this.navigationTransitions.events.subscribe(r=>{try{let o=this.navigationTransitions.currentTransition,i=this.navigationTransitions.currentNavigation;if(o!==null&&i!==null){if(this.stateManager.handleRouterEvent(r,i),r instanceof lt&&r.code!==Ie.Redirect&&r.code!==Ie.SupersededByNewNavigation)this.navigated=!0;else if(r instanceof dt)this.navigated=!0;else if(r instanceof Dr){let s=r.navigationBehaviorOptions,a=this.urlHandlingStrategy.merge(r.url,o.currentRawUrl),c=y({browserUrl:o.extras.browserUrl,info:o.extras.info,skipLocationChange:o.extras.skipLocationChange,replaceUrl:o.extras.replaceUrl||this.urlUpdateStrategy==="eager"||WE(o.source)},s);this.scheduleNavigation(a,Fs,null,c,{resolve:o.resolve,reject:o.reject,promise:o.promise})}}JE(r)&&this._events.next(r)}catch(o){this.navigationTransitions.transitionAbortSubject.next(o)}});this.eventsSubscription.add(n)}resetRootComponentType(n){this.routerState.root.component=n,this.navigationTransitions.rootComponentType=n}initialNavigation(){this.setUpLocationChangeListener(),this.navigationTransitions.hasRequestedNavigation||this.navigateToSyncWithBrowser(this.location.path(!0),Fs,this.stateManager.restoredState())}setUpLocationChangeListener(){this.nonRouterCurrentEntryChangeSubscription??=this.stateManager.registerNonRouterCurrentEntryChangeListener((n,r,o)=>{this.navigateToSyncWithBrowser(n,o,r)})}navigateToSyncWithBrowser(n,r,o){let i={replaceUrl:!0},s=o?.navigationId?o:null;if(o){let c=y({},o);delete c.navigationId,delete c.\u0275routerPageId,Object.keys(c).length!==0&&(i.state=c)}let a=this.parseUrl(n);this.scheduleNavigation(a,r,s,i)}get url(){return this.serializeUrl(this.currentUrlTree)}getCurrentNavigation(){return this.navigationTransitions.currentNavigation}get lastSuccessfulNavigation(){return this.navigationTransitions.lastSuccessfulNavigation}resetConfig(n){this.config=n.map(Tu),this.navigated=!1}ngOnDestroy(){this.dispose()}dispose(){this._events.unsubscribe(),this.navigationTransitions.complete(),this.nonRouterCurrentEntryChangeSubscription&&(this.nonRouterCurrentEntryChangeSubscription.unsubscribe(),this.nonRouterCurrentEntryChangeSubscription=void 0),this.disposed=!0,this.eventsSubscription.unsubscribe()}createUrlTree(n,r={}){let{relativeTo:o,queryParams:i,fragment:s,queryParamsHandling:a,preserveFragment:c}=r,l=c?this.currentUrlTree.fragment:s,u=null;switch(a??this.options.defaultQueryParamsHandling){case"merge":u=y(y({},this.currentUrlTree.queryParams),i);break;case"preserve":u=this.currentUrlTree.queryParams;break;default:u=i||null}u!==null&&(u=this.removeEmptyProps(u));let f;try{let h=o?o.snapshot:this.routerState.snapshot.root;f=Bg(h)}catch{(typeof n[0]!="string"||n[0][0]!=="/")&&(n=[]),f=this.currentUrlTree.root}return Ug(f,n,u,l??null)}navigateByUrl(n,r={skipLocationChange:!1}){let o=zt(n)?n:this.parseUrl(n),i=this.urlHandlingStrategy.merge(o,this.rawUrlTree);return this.scheduleNavigation(i,Fs,null,r)}navigate(n,r={skipLocationChange:!1}){return XE(n),this.navigateByUrl(this.createUrlTree(n,r),r)}serializeUrl(n){return this.urlSerializer.serialize(n)}parseUrl(n){try{return this.urlSerializer.parse(n)}catch{return this.urlSerializer.parse("/")}}isActive(n,r){let o;if(r===!0?o=y({},QE):r===!1?o=y({},KE):o=r,zt(n))return wg(this.currentUrlTree,n,o);let i=this.parseUrl(n);return wg(this.currentUrlTree,i,o)}removeEmptyProps(n){return Object.entries(n).reduce((r,[o,i])=>(i!=null&&(r[o]=i),r),{})}scheduleNavigation(n,r,o,i,s){if(this.disposed)return Promise.resolve(!1);let a,c,l;s?(a=s.resolve,c=s.reject,l=s.promise):l=new Promise((f,h)=>{a=f,c=h});let u=this.pendingTasks.add();return Nu(this,()=>{queueMicrotask(()=>this.pendingTasks.remove(u))}),this.navigationTransitions.handleNavigationRequest({source:r,restoredState:o,currentUrlTree:this.currentUrlTree,currentRawUrl:this.currentUrlTree,rawUrl:n,extras:i,resolve:a,reject:c,promise:l,currentSnapshot:this.routerState.snapshot,currentRouterState:this.routerState}),l.catch(f=>Promise.reject(f))}static \u0275fac=function(r){return new(r||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})}return e})();function XE(e){for(let t=0;t<e.length;t++)if(e[t]==null)throw new C(4008,!1)}function JE(e){return!(e instanceof _o)&&!(e instanceof Dr)}var Er=(()=>{class e{router;route;tabIndexAttribute;renderer;el;locationStrategy;href=null;target;queryParams;fragment;queryParamsHandling;state;info;relativeTo;isAnchorElement;subscription;onChanges=new ee;constructor(n,r,o,i,s,a){this.router=n,this.route=r,this.tabIndexAttribute=o,this.renderer=i,this.el=s,this.locationStrategy=a;let c=s.nativeElement.tagName?.toLowerCase();this.isAnchorElement=c==="a"||c==="area",this.isAnchorElement?this.subscription=n.events.subscribe(l=>{l instanceof dt&&this.updateHref()}):this.setTabIndexIfNotOnNativeEl("0")}preserveFragment=!1;skipLocationChange=!1;replaceUrl=!1;setTabIndexIfNotOnNativeEl(n){this.tabIndexAttribute!=null||this.isAnchorElement||this.applyAttributeValue("tabindex",n)}ngOnChanges(n){this.isAnchorElement&&this.updateHref(),this.onChanges.next(this)}routerLinkInput=null;set routerLink(n){n==null?(this.routerLinkInput=null,this.setTabIndexIfNotOnNativeEl(null)):(zt(n)?this.routerLinkInput=n:this.routerLinkInput=Array.isArray(n)?n:[n],this.setTabIndexIfNotOnNativeEl("0"))}onClick(n,r,o,i,s){let a=this.urlTree;if(a===null||this.isAnchorElement&&(n!==0||r||o||i||s||typeof this.target=="string"&&this.target!="_self"))return!0;let c={skipLocationChange:this.skipLocationChange,replaceUrl:this.replaceUrl,state:this.state,info:this.info};return this.router.navigateByUrl(a,c),!this.isAnchorElement}ngOnDestroy(){this.subscription?.unsubscribe()}updateHref(){let n=this.urlTree;this.href=n!==null&&this.locationStrategy?this.locationStrategy?.prepareExternalUrl(this.router.serializeUrl(n)):null;let r=this.href===null?null:Wh(this.href,this.el.nativeElement.tagName.toLowerCase(),"href");this.applyAttributeValue("href",r)}applyAttributeValue(n,r){let o=this.renderer,i=this.el.nativeElement;r!==null?o.setAttribute(i,n,r):o.removeAttribute(i,n)}get urlTree(){return this.routerLinkInput===null?null:zt(this.routerLinkInput)?this.routerLinkInput:this.router.createUrlTree(this.routerLinkInput,{relativeTo:this.relativeTo!==void 0?this.relativeTo:this.route,queryParams:this.queryParams,fragment:this.fragment,queryParamsHandling:this.queryParamsHandling,preserveFragment:this.preserveFragment})}static \u0275fac=function(r){return new(r||e)(T(Oe),T(Nt),fl("tabindex"),T(er),T(un),T(sr))};static \u0275dir=K({type:e,selectors:[["","routerLink",""]],hostVars:1,hostBindings:function(r,o){r&1&&H("click",function(s){return o.onClick(s.button,s.ctrlKey,s.shiftKey,s.altKey,s.metaKey)}),r&2&&fn("target",o.target)},inputs:{target:"target",queryParams:"queryParams",fragment:"fragment",queryParamsHandling:"queryParamsHandling",state:"state",info:"info",relativeTo:"relativeTo",preserveFragment:[2,"preserveFragment","preserveFragment",gn],skipLocationChange:[2,"skipLocationChange","skipLocationChange",gn],replaceUrl:[2,"replaceUrl","replaceUrl",gn],routerLink:"routerLink"},features:[Lt]})}return e})();var tI=new b("");function Au(e,...t){return eo([{provide:ko,multi:!0,useValue:e},[],{provide:Nt,useFactory:nI,deps:[Oe]},{provide:Ll,multi:!0,useFactory:rI},t.map(n=>n.\u0275providers)])}function nI(e){return e.routerState.root}function rI(){let e=v(vt);return t=>{let n=e.get(cn);if(t!==n.components[0])return;let r=e.get(Oe),o=e.get(oI);e.get(iI)===1&&r.initialNavigation(),e.get(sI,null,O.Optional)?.setUpPreloading(),e.get(tI,null,O.Optional)?.init(),r.resetRootComponentType(n.componentTypes[0]),o.closed||(o.next(),o.complete(),o.unsubscribe())}}var oI=new b("",{factory:()=>new ee}),iI=new b("",{providedIn:"root",factory:()=>1});var sI=new b("");var Dm=(()=>{class e{_renderer;_elementRef;onChange=n=>{};onTouched=()=>{};constructor(n,r){this._renderer=n,this._elementRef=r}setProperty(n,r){this._renderer.setProperty(this._elementRef.nativeElement,n,r)}registerOnTouched(n){this.onTouched=n}registerOnChange(n){this.onChange=n}setDisabledState(n){this.setProperty("disabled",n)}static \u0275fac=function(r){return new(r||e)(T(er),T(un))};static \u0275dir=K({type:e})}return e})(),Cm=(()=>{class e extends Dm{static \u0275fac=(()=>{let n;return function(o){return(n||(n=It(e)))(o||e)}})();static \u0275dir=K({type:e,features:[Be]})}return e})(),Fu=new b(""),aI={provide:Fu,useExisting:ot(()=>Lu),multi:!0},Lu=(()=>{class e extends Cm{writeValue(n){this.setProperty("checked",n)}static \u0275fac=(()=>{let n;return function(o){return(n||(n=It(e)))(o||e)}})();static \u0275dir=K({type:e,selectors:[["input","type","checkbox","formControlName",""],["input","type","checkbox","formControl",""],["input","type","checkbox","ngModel",""]],hostBindings:function(r,o){r&1&&H("change",function(s){return o.onChange(s.target.checked)})("blur",function(){return o.onTouched()})},standalone:!1,features:[Bt([aI]),Be]})}return e})(),cI={provide:Fu,useExisting:ot(()=>Wt),multi:!0};function lI(){let e=$e()?$e().getUserAgent():"";return/android (\d+)/.test(e.toLowerCase())}var uI=new b(""),Wt=(()=>{class e extends Dm{_compositionMode;_composing=!1;constructor(n,r,o){super(n,r),this._compositionMode=o,this._compositionMode==null&&(this._compositionMode=!lI())}writeValue(n){let r=n??"";this.setProperty("value",r)}_handleInput(n){(!this._compositionMode||this._compositionMode&&!this._composing)&&this.onChange(n)}_compositionStart(){this._composing=!0}_compositionEnd(n){this._composing=!1,this._compositionMode&&this.onChange(n)}static \u0275fac=function(r){return new(r||e)(T(er),T(un),T(uI,8))};static \u0275dir=K({type:e,selectors:[["input","formControlName","",3,"type","checkbox"],["textarea","formControlName",""],["input","formControl","",3,"type","checkbox"],["textarea","formControl",""],["input","ngModel","",3,"type","checkbox"],["textarea","ngModel",""],["","ngDefaultControl",""]],hostBindings:function(r,o){r&1&&H("input",function(s){return o._handleInput(s.target.value)})("blur",function(){return o.onTouched()})("compositionstart",function(){return o._compositionStart()})("compositionend",function(s){return o._compositionEnd(s.target.value)})},standalone:!1,features:[Bt([cI]),Be]})}return e})();function dI(e){return e==null||Vu(e)===0}function Vu(e){return e==null?null:Array.isArray(e)||typeof e=="string"?e.length:e instanceof Set?e.size:null}var $o=new b(""),wm=new b("");function fI(e){return dI(e.value)?{required:!0}:null}function hI(e){return t=>{let n=t.value?.length??Vu(t.value);return n===null||n===0?null:n<e?{minlength:{requiredLength:e,actualLength:n}}:null}}function pI(e){return t=>{let n=t.value?.length??Vu(t.value);return n!==null&&n>e?{maxlength:{requiredLength:e,actualLength:n}}:null}}function dm(e){return null}function bm(e){return e!=null}function _m(e){return jt(e)?W(e):e}function Em(e){let t={};return e.forEach(n=>{t=n!=null?y(y({},t),n):t}),Object.keys(t).length===0?null:t}function Im(e,t){return t.map(n=>n(e))}function gI(e){return!e.validate}function Mm(e){return e.map(t=>gI(t)?t:n=>t.validate(n))}function mI(e){if(!e)return null;let t=e.filter(bm);return t.length==0?null:function(n){return Em(Im(n,t))}}function ju(e){return e!=null?mI(Mm(e)):null}function vI(e){if(!e)return null;let t=e.filter(bm);return t.length==0?null:function(n){let r=Im(n,t).map(_m);return Za(r).pipe(N(Em))}}function Bu(e){return e!=null?vI(Mm(e)):null}function fm(e,t){return e===null?[t]:Array.isArray(e)?[...e,t]:[e,t]}function yI(e){return e._rawValidators}function DI(e){return e._rawAsyncValidators}function Ou(e){return e?Array.isArray(e)?e:[e]:[]}function ia(e,t){return Array.isArray(e)?e.includes(t):e===t}function hm(e,t){let n=Ou(t);return Ou(e).forEach(o=>{ia(n,o)||n.push(o)}),n}function pm(e,t){return Ou(t).filter(n=>!ia(e,n))}var sa=class{get value(){return this.control?this.control.value:null}get valid(){return this.control?this.control.valid:null}get invalid(){return this.control?this.control.invalid:null}get pending(){return this.control?this.control.pending:null}get disabled(){return this.control?this.control.disabled:null}get enabled(){return this.control?this.control.enabled:null}get errors(){return this.control?this.control.errors:null}get pristine(){return this.control?this.control.pristine:null}get dirty(){return this.control?this.control.dirty:null}get touched(){return this.control?this.control.touched:null}get status(){return this.control?this.control.status:null}get untouched(){return this.control?this.control.untouched:null}get statusChanges(){return this.control?this.control.statusChanges:null}get valueChanges(){return this.control?this.control.valueChanges:null}get path(){return null}_composedValidatorFn;_composedAsyncValidatorFn;_rawValidators=[];_rawAsyncValidators=[];_setValidators(t){this._rawValidators=t||[],this._composedValidatorFn=ju(this._rawValidators)}_setAsyncValidators(t){this._rawAsyncValidators=t||[],this._composedAsyncValidatorFn=Bu(this._rawAsyncValidators)}get validator(){return this._composedValidatorFn||null}get asyncValidator(){return this._composedAsyncValidatorFn||null}_onDestroyCallbacks=[];_registerOnDestroy(t){this._onDestroyCallbacks.push(t)}_invokeOnDestroyCallbacks(){this._onDestroyCallbacks.forEach(t=>t()),this._onDestroyCallbacks=[]}reset(t=void 0){this.control&&this.control.reset(t)}hasError(t,n){return this.control?this.control.hasError(t,n):!1}getError(t,n){return this.control?this.control.getError(t,n):null}},Sr=class extends sa{name;get formDirective(){return null}get path(){return null}},Uo=class extends sa{_parent=null;name=null;valueAccessor=null},aa=class{_cd;constructor(t){this._cd=t}get isTouched(){return this._cd?.control?._touched?.(),!!this._cd?.control?.touched}get isUntouched(){return!!this._cd?.control?.untouched}get isPristine(){return this._cd?.control?._pristine?.(),!!this._cd?.control?.pristine}get isDirty(){return!!this._cd?.control?.dirty}get isValid(){return this._cd?.control?._status?.(),!!this._cd?.control?.valid}get isInvalid(){return!!this._cd?.control?.invalid}get isPending(){return!!this._cd?.control?.pending}get isSubmitted(){return this._cd?._submitted?.(),!!this._cd?.submitted}},CI={"[class.ng-untouched]":"isUntouched","[class.ng-touched]":"isTouched","[class.ng-pristine]":"isPristine","[class.ng-dirty]":"isDirty","[class.ng-valid]":"isValid","[class.ng-invalid]":"isInvalid","[class.ng-pending]":"isPending"},Ak=k(y({},CI),{"[class.ng-submitted]":"isSubmitted"}),Tr=(()=>{class e extends aa{constructor(n){super(n)}static \u0275fac=function(r){return new(r||e)(T(Uo,2))};static \u0275dir=K({type:e,selectors:[["","formControlName",""],["","ngModel",""],["","formControl",""]],hostVars:14,hostBindings:function(r,o){r&2&&at("ng-untouched",o.isUntouched)("ng-touched",o.isTouched)("ng-pristine",o.isPristine)("ng-dirty",o.isDirty)("ng-valid",o.isValid)("ng-invalid",o.isInvalid)("ng-pending",o.isPending)},standalone:!1,features:[Be]})}return e})(),xr=(()=>{class e extends aa{constructor(n){super(n)}static \u0275fac=function(r){return new(r||e)(T(Sr,10))};static \u0275dir=K({type:e,selectors:[["","formGroupName",""],["","formArrayName",""],["","ngModelGroup",""],["","formGroup",""],["form",3,"ngNoForm",""],["","ngForm",""]],hostVars:16,hostBindings:function(r,o){r&2&&at("ng-untouched",o.isUntouched)("ng-touched",o.isTouched)("ng-pristine",o.isPristine)("ng-dirty",o.isDirty)("ng-valid",o.isValid)("ng-invalid",o.isInvalid)("ng-pending",o.isPending)("ng-submitted",o.isSubmitted)},standalone:!1,features:[Be]})}return e})();var Fo="VALID",oa="INVALID",Ir="PENDING",Lo="DISABLED",qt=class{},ca=class extends qt{value;source;constructor(t,n){super(),this.value=t,this.source=n}},jo=class extends qt{pristine;source;constructor(t,n){super(),this.pristine=t,this.source=n}},Bo=class extends qt{touched;source;constructor(t,n){super(),this.touched=t,this.source=n}},Mr=class extends qt{status;source;constructor(t,n){super(),this.status=t,this.source=n}},Pu=class extends qt{source;constructor(t){super(),this.source=t}},ku=class extends qt{source;constructor(t){super(),this.source=t}};function Sm(e){return(da(e)?e.validators:e)||null}function wI(e){return Array.isArray(e)?ju(e):e||null}function Tm(e,t){return(da(t)?t.asyncValidators:e)||null}function bI(e){return Array.isArray(e)?Bu(e):e||null}function da(e){return e!=null&&!Array.isArray(e)&&typeof e=="object"}function _I(e,t,n){let r=e.controls;if(!(t?Object.keys(r):r).length)throw new C(1e3,"");if(!r[n])throw new C(1001,"")}function EI(e,t,n){e._forEachChild((r,o)=>{if(n[o]===void 0)throw new C(1002,"")})}var la=class{_pendingDirty=!1;_hasOwnPendingAsyncValidator=null;_pendingTouched=!1;_onCollectionChange=()=>{};_updateOn;_parent=null;_asyncValidationSubscription;_composedValidatorFn;_composedAsyncValidatorFn;_rawValidators;_rawAsyncValidators;value;constructor(t,n){this._assignValidators(t),this._assignAsyncValidators(n)}get validator(){return this._composedValidatorFn}set validator(t){this._rawValidators=this._composedValidatorFn=t}get asyncValidator(){return this._composedAsyncValidatorFn}set asyncValidator(t){this._rawAsyncValidators=this._composedAsyncValidatorFn=t}get parent(){return this._parent}get status(){return Ye(this.statusReactive)}set status(t){Ye(()=>this.statusReactive.set(t))}_status=io(()=>this.statusReactive());statusReactive=no(void 0);get valid(){return this.status===Fo}get invalid(){return this.status===oa}get pending(){return this.status==Ir}get disabled(){return this.status===Lo}get enabled(){return this.status!==Lo}errors;get pristine(){return Ye(this.pristineReactive)}set pristine(t){Ye(()=>this.pristineReactive.set(t))}_pristine=io(()=>this.pristineReactive());pristineReactive=no(!0);get dirty(){return!this.pristine}get touched(){return Ye(this.touchedReactive)}set touched(t){Ye(()=>this.touchedReactive.set(t))}_touched=io(()=>this.touchedReactive());touchedReactive=no(!1);get untouched(){return!this.touched}_events=new ee;events=this._events.asObservable();valueChanges;statusChanges;get updateOn(){return this._updateOn?this._updateOn:this.parent?this.parent.updateOn:"change"}setValidators(t){this._assignValidators(t)}setAsyncValidators(t){this._assignAsyncValidators(t)}addValidators(t){this.setValidators(hm(t,this._rawValidators))}addAsyncValidators(t){this.setAsyncValidators(hm(t,this._rawAsyncValidators))}removeValidators(t){this.setValidators(pm(t,this._rawValidators))}removeAsyncValidators(t){this.setAsyncValidators(pm(t,this._rawAsyncValidators))}hasValidator(t){return ia(this._rawValidators,t)}hasAsyncValidator(t){return ia(this._rawAsyncValidators,t)}clearValidators(){this.validator=null}clearAsyncValidators(){this.asyncValidator=null}markAsTouched(t={}){let n=this.touched===!1;this.touched=!0;let r=t.sourceControl??this;this._parent&&!t.onlySelf&&this._parent.markAsTouched(k(y({},t),{sourceControl:r})),n&&t.emitEvent!==!1&&this._events.next(new Bo(!0,r))}markAllAsTouched(t={}){this.markAsTouched({onlySelf:!0,emitEvent:t.emitEvent,sourceControl:this}),this._forEachChild(n=>n.markAllAsTouched(t))}markAsUntouched(t={}){let n=this.touched===!0;this.touched=!1,this._pendingTouched=!1;let r=t.sourceControl??this;this._forEachChild(o=>{o.markAsUntouched({onlySelf:!0,emitEvent:t.emitEvent,sourceControl:r})}),this._parent&&!t.onlySelf&&this._parent._updateTouched(t,r),n&&t.emitEvent!==!1&&this._events.next(new Bo(!1,r))}markAsDirty(t={}){let n=this.pristine===!0;this.pristine=!1;let r=t.sourceControl??this;this._parent&&!t.onlySelf&&this._parent.markAsDirty(k(y({},t),{sourceControl:r})),n&&t.emitEvent!==!1&&this._events.next(new jo(!1,r))}markAsPristine(t={}){let n=this.pristine===!1;this.pristine=!0,this._pendingDirty=!1;let r=t.sourceControl??this;this._forEachChild(o=>{o.markAsPristine({onlySelf:!0,emitEvent:t.emitEvent})}),this._parent&&!t.onlySelf&&this._parent._updatePristine(t,r),n&&t.emitEvent!==!1&&this._events.next(new jo(!0,r))}markAsPending(t={}){this.status=Ir;let n=t.sourceControl??this;t.emitEvent!==!1&&(this._events.next(new Mr(this.status,n)),this.statusChanges.emit(this.status)),this._parent&&!t.onlySelf&&this._parent.markAsPending(k(y({},t),{sourceControl:n}))}disable(t={}){let n=this._parentMarkedDirty(t.onlySelf);this.status=Lo,this.errors=null,this._forEachChild(o=>{o.disable(k(y({},t),{onlySelf:!0}))}),this._updateValue();let r=t.sourceControl??this;t.emitEvent!==!1&&(this._events.next(new ca(this.value,r)),this._events.next(new Mr(this.status,r)),this.valueChanges.emit(this.value),this.statusChanges.emit(this.status)),this._updateAncestors(k(y({},t),{skipPristineCheck:n}),this),this._onDisabledChange.forEach(o=>o(!0))}enable(t={}){let n=this._parentMarkedDirty(t.onlySelf);this.status=Fo,this._forEachChild(r=>{r.enable(k(y({},t),{onlySelf:!0}))}),this.updateValueAndValidity({onlySelf:!0,emitEvent:t.emitEvent}),this._updateAncestors(k(y({},t),{skipPristineCheck:n}),this),this._onDisabledChange.forEach(r=>r(!1))}_updateAncestors(t,n){this._parent&&!t.onlySelf&&(this._parent.updateValueAndValidity(t),t.skipPristineCheck||this._parent._updatePristine({},n),this._parent._updateTouched({},n))}setParent(t){this._parent=t}getRawValue(){return this.value}updateValueAndValidity(t={}){if(this._setInitialStatus(),this._updateValue(),this.enabled){let r=this._cancelExistingSubscription();this.errors=this._runValidator(),this.status=this._calculateStatus(),(this.status===Fo||this.status===Ir)&&this._runAsyncValidator(r,t.emitEvent)}let n=t.sourceControl??this;t.emitEvent!==!1&&(this._events.next(new ca(this.value,n)),this._events.next(new Mr(this.status,n)),this.valueChanges.emit(this.value),this.statusChanges.emit(this.status)),this._parent&&!t.onlySelf&&this._parent.updateValueAndValidity(k(y({},t),{sourceControl:n}))}_updateTreeValidity(t={emitEvent:!0}){this._forEachChild(n=>n._updateTreeValidity(t)),this.updateValueAndValidity({onlySelf:!0,emitEvent:t.emitEvent})}_setInitialStatus(){this.status=this._allControlsDisabled()?Lo:Fo}_runValidator(){return this.validator?this.validator(this):null}_runAsyncValidator(t,n){if(this.asyncValidator){this.status=Ir,this._hasOwnPendingAsyncValidator={emitEvent:n!==!1};let r=_m(this.asyncValidator(this));this._asyncValidationSubscription=r.subscribe(o=>{this._hasOwnPendingAsyncValidator=null,this.setErrors(o,{emitEvent:n,shouldHaveEmitted:t})})}}_cancelExistingSubscription(){if(this._asyncValidationSubscription){this._asyncValidationSubscription.unsubscribe();let t=this._hasOwnPendingAsyncValidator?.emitEvent??!1;return this._hasOwnPendingAsyncValidator=null,t}return!1}setErrors(t,n={}){this.errors=t,this._updateControlsErrors(n.emitEvent!==!1,this,n.shouldHaveEmitted)}get(t){let n=t;return n==null||(Array.isArray(n)||(n=n.split(".")),n.length===0)?null:n.reduce((r,o)=>r&&r._find(o),this)}getError(t,n){let r=n?this.get(n):this;return r&&r.errors?r.errors[t]:null}hasError(t,n){return!!this.getError(t,n)}get root(){let t=this;for(;t._parent;)t=t._parent;return t}_updateControlsErrors(t,n,r){this.status=this._calculateStatus(),t&&this.statusChanges.emit(this.status),(t||r)&&this._events.next(new Mr(this.status,n)),this._parent&&this._parent._updateControlsErrors(t,n,r)}_initObservables(){this.valueChanges=new se,this.statusChanges=new se}_calculateStatus(){return this._allControlsDisabled()?Lo:this.errors?oa:this._hasOwnPendingAsyncValidator||this._anyControlsHaveStatus(Ir)?Ir:this._anyControlsHaveStatus(oa)?oa:Fo}_anyControlsHaveStatus(t){return this._anyControls(n=>n.status===t)}_anyControlsDirty(){return this._anyControls(t=>t.dirty)}_anyControlsTouched(){return this._anyControls(t=>t.touched)}_updatePristine(t,n){let r=!this._anyControlsDirty(),o=this.pristine!==r;this.pristine=r,this._parent&&!t.onlySelf&&this._parent._updatePristine(t,n),o&&this._events.next(new jo(this.pristine,n))}_updateTouched(t={},n){this.touched=this._anyControlsTouched(),this._events.next(new Bo(this.touched,n)),this._parent&&!t.onlySelf&&this._parent._updateTouched(t,n)}_onDisabledChange=[];_registerOnCollectionChange(t){this._onCollectionChange=t}_setUpdateStrategy(t){da(t)&&t.updateOn!=null&&(this._updateOn=t.updateOn)}_parentMarkedDirty(t){let n=this._parent&&this._parent.dirty;return!t&&!!n&&!this._parent._anyControlsDirty()}_find(t){return null}_assignValidators(t){this._rawValidators=Array.isArray(t)?t.slice():t,this._composedValidatorFn=wI(this._rawValidators)}_assignAsyncValidators(t){this._rawAsyncValidators=Array.isArray(t)?t.slice():t,this._composedAsyncValidatorFn=bI(this._rawAsyncValidators)}},ua=class extends la{constructor(t,n,r){super(Sm(n),Tm(r,n)),this.controls=t,this._initObservables(),this._setUpdateStrategy(n),this._setUpControls(),this.updateValueAndValidity({onlySelf:!0,emitEvent:!!this.asyncValidator})}controls;registerControl(t,n){return this.controls[t]?this.controls[t]:(this.controls[t]=n,n.setParent(this),n._registerOnCollectionChange(this._onCollectionChange),n)}addControl(t,n,r={}){this.registerControl(t,n),this.updateValueAndValidity({emitEvent:r.emitEvent}),this._onCollectionChange()}removeControl(t,n={}){this.controls[t]&&this.controls[t]._registerOnCollectionChange(()=>{}),delete this.controls[t],this.updateValueAndValidity({emitEvent:n.emitEvent}),this._onCollectionChange()}setControl(t,n,r={}){this.controls[t]&&this.controls[t]._registerOnCollectionChange(()=>{}),delete this.controls[t],n&&this.registerControl(t,n),this.updateValueAndValidity({emitEvent:r.emitEvent}),this._onCollectionChange()}contains(t){return this.controls.hasOwnProperty(t)&&this.controls[t].enabled}setValue(t,n={}){EI(this,!0,t),Object.keys(t).forEach(r=>{_I(this,!0,r),this.controls[r].setValue(t[r],{onlySelf:!0,emitEvent:n.emitEvent})}),this.updateValueAndValidity(n)}patchValue(t,n={}){t!=null&&(Object.keys(t).forEach(r=>{let o=this.controls[r];o&&o.patchValue(t[r],{onlySelf:!0,emitEvent:n.emitEvent})}),this.updateValueAndValidity(n))}reset(t={},n={}){this._forEachChild((r,o)=>{r.reset(t?t[o]:null,{onlySelf:!0,emitEvent:n.emitEvent})}),this._updatePristine(n,this),this._updateTouched(n,this),this.updateValueAndValidity(n)}getRawValue(){return this._reduceChildren({},(t,n,r)=>(t[r]=n.getRawValue(),t))}_syncPendingControls(){let t=this._reduceChildren(!1,(n,r)=>r._syncPendingControls()?!0:n);return t&&this.updateValueAndValidity({onlySelf:!0}),t}_forEachChild(t){Object.keys(this.controls).forEach(n=>{let r=this.controls[n];r&&t(r,n)})}_setUpControls(){this._forEachChild(t=>{t.setParent(this),t._registerOnCollectionChange(this._onCollectionChange)})}_updateValue(){this.value=this._reduceValue()}_anyControls(t){for(let[n,r]of Object.entries(this.controls))if(this.contains(n)&&t(r))return!0;return!1}_reduceValue(){let t={};return this._reduceChildren(t,(n,r,o)=>((r.enabled||this.disabled)&&(n[o]=r.value),n))}_reduceChildren(t,n){let r=t;return this._forEachChild((o,i)=>{r=n(r,o,i)}),r}_allControlsDisabled(){for(let t of Object.keys(this.controls))if(this.controls[t].enabled)return!1;return Object.keys(this.controls).length>0||this.disabled}_find(t){return this.controls.hasOwnProperty(t)?this.controls[t]:null}};var Uu=new b("",{providedIn:"root",factory:()=>$u}),$u="always";function II(e,t){return[...t.path,e]}function xm(e,t,n=$u){Nm(e,t),t.valueAccessor.writeValue(e.value),(e.disabled||n==="always")&&t.valueAccessor.setDisabledState?.(e.disabled),SI(e,t),xI(e,t),TI(e,t),MI(e,t)}function gm(e,t){e.forEach(n=>{n.registerOnValidatorChange&&n.registerOnValidatorChange(t)})}function MI(e,t){if(t.valueAccessor.setDisabledState){let n=r=>{t.valueAccessor.setDisabledState(r)};e.registerOnDisabledChange(n),t._registerOnDestroy(()=>{e._unregisterOnDisabledChange(n)})}}function Nm(e,t){let n=yI(e);t.validator!==null?e.setValidators(fm(n,t.validator)):typeof n=="function"&&e.setValidators([n]);let r=DI(e);t.asyncValidator!==null?e.setAsyncValidators(fm(r,t.asyncValidator)):typeof r=="function"&&e.setAsyncValidators([r]);let o=()=>e.updateValueAndValidity();gm(t._rawValidators,o),gm(t._rawAsyncValidators,o)}function SI(e,t){t.valueAccessor.registerOnChange(n=>{e._pendingValue=n,e._pendingChange=!0,e._pendingDirty=!0,e.updateOn==="change"&&Am(e,t)})}function TI(e,t){t.valueAccessor.registerOnTouched(()=>{e._pendingTouched=!0,e.updateOn==="blur"&&e._pendingChange&&Am(e,t),e.updateOn!=="submit"&&e.markAsTouched()})}function Am(e,t){e._pendingDirty&&e.markAsDirty(),e.setValue(e._pendingValue,{emitModelToViewChange:!1}),t.viewToModelUpdate(e._pendingValue),e._pendingChange=!1}function xI(e,t){let n=(r,o)=>{t.valueAccessor.writeValue(r),o&&t.viewToModelUpdate(r)};e.registerOnChange(n),t._registerOnDestroy(()=>{e._unregisterOnChange(n)})}function NI(e,t){e==null,Nm(e,t)}function AI(e,t){if(!e.hasOwnProperty("model"))return!1;let n=e.model;return n.isFirstChange()?!0:!Object.is(t,n.currentValue)}function RI(e){return Object.getPrototypeOf(e.constructor)===Cm}function OI(e,t){e._syncPendingControls(),t.forEach(n=>{let r=n.control;r.updateOn==="submit"&&r._pendingChange&&(n.viewToModelUpdate(r._pendingValue),r._pendingChange=!1)})}function PI(e,t){if(!t)return null;Array.isArray(t);let n,r,o;return t.forEach(i=>{i.constructor===Wt?n=i:RI(i)?r=i:o=i}),o||r||n||null}var kI={provide:Sr,useExisting:ot(()=>_n)},Vo=Promise.resolve(),_n=(()=>{class e extends Sr{callSetDisabledState;get submitted(){return Ye(this.submittedReactive)}_submitted=io(()=>this.submittedReactive());submittedReactive=no(!1);_directives=new Set;form;ngSubmit=new se;options;constructor(n,r,o){super(),this.callSetDisabledState=o,this.form=new ua({},ju(n),Bu(r))}ngAfterViewInit(){this._setUpdateStrategy()}get formDirective(){return this}get control(){return this.form}get path(){return[]}get controls(){return this.form.controls}addControl(n){Vo.then(()=>{let r=this._findContainer(n.path);n.control=r.registerControl(n.name,n.control),xm(n.control,n,this.callSetDisabledState),n.control.updateValueAndValidity({emitEvent:!1}),this._directives.add(n)})}getControl(n){return this.form.get(n.path)}removeControl(n){Vo.then(()=>{let r=this._findContainer(n.path);r&&r.removeControl(n.name),this._directives.delete(n)})}addFormGroup(n){Vo.then(()=>{let r=this._findContainer(n.path),o=new ua({});NI(o,n),r.registerControl(n.name,o),o.updateValueAndValidity({emitEvent:!1})})}removeFormGroup(n){Vo.then(()=>{let r=this._findContainer(n.path);r&&r.removeControl(n.name)})}getFormGroup(n){return this.form.get(n.path)}updateModel(n,r){Vo.then(()=>{this.form.get(n.path).setValue(r)})}setValue(n){this.control.setValue(n)}onSubmit(n){return this.submittedReactive.set(!0),OI(this.form,this._directives),this.ngSubmit.emit(n),this.form._events.next(new Pu(this.control)),n?.target?.method==="dialog"}onReset(){this.resetForm()}resetForm(n=void 0){this.form.reset(n),this.submittedReactive.set(!1),this.form._events.next(new ku(this.form))}_setUpdateStrategy(){this.options&&this.options.updateOn!=null&&(this.form._updateOn=this.options.updateOn)}_findContainer(n){return n.pop(),n.length?this.form.get(n):this.form}static \u0275fac=function(r){return new(r||e)(T($o,10),T(wm,10),T(Uu,8))};static \u0275dir=K({type:e,selectors:[["form",3,"ngNoForm","",3,"formGroup",""],["ng-form"],["","ngForm",""]],hostBindings:function(r,o){r&1&&H("submit",function(s){return o.onSubmit(s)})("reset",function(){return o.onReset()})},inputs:{options:[0,"ngFormOptions","options"]},outputs:{ngSubmit:"ngSubmit"},exportAs:["ngForm"],standalone:!1,features:[Bt([kI]),Be]})}return e})();function mm(e,t){let n=e.indexOf(t);n>-1&&e.splice(n,1)}function vm(e){return typeof e=="object"&&e!==null&&Object.keys(e).length===2&&"value"in e&&"disabled"in e}var FI=class extends la{defaultValue=null;_onChange=[];_pendingValue;_pendingChange=!1;constructor(t=null,n,r){super(Sm(n),Tm(r,n)),this._applyFormState(t),this._setUpdateStrategy(n),this._initObservables(),this.updateValueAndValidity({onlySelf:!0,emitEvent:!!this.asyncValidator}),da(n)&&(n.nonNullable||n.initialValueIsDefault)&&(vm(t)?this.defaultValue=t.value:this.defaultValue=t)}setValue(t,n={}){this.value=this._pendingValue=t,this._onChange.length&&n.emitModelToViewChange!==!1&&this._onChange.forEach(r=>r(this.value,n.emitViewToModelChange!==!1)),this.updateValueAndValidity(n)}patchValue(t,n={}){this.setValue(t,n)}reset(t=this.defaultValue,n={}){this._applyFormState(t),this.markAsPristine(n),this.markAsUntouched(n),this.setValue(this.value,n),this._pendingChange=!1}_updateValue(){}_anyControls(t){return!1}_allControlsDisabled(){return this.disabled}registerOnChange(t){this._onChange.push(t)}_unregisterOnChange(t){mm(this._onChange,t)}registerOnDisabledChange(t){this._onDisabledChange.push(t)}_unregisterOnDisabledChange(t){mm(this._onDisabledChange,t)}_forEachChild(t){}_syncPendingControls(){return this.updateOn==="submit"&&(this._pendingDirty&&this.markAsDirty(),this._pendingTouched&&this.markAsTouched(),this._pendingChange)?(this.setValue(this._pendingValue,{onlySelf:!0,emitModelToViewChange:!1}),!0):!1}_applyFormState(t){vm(t)?(this.value=this._pendingValue=t.value,t.disabled?this.disable({onlySelf:!0,emitEvent:!1}):this.enable({onlySelf:!0,emitEvent:!1})):this.value=this._pendingValue=t}};var LI={provide:Uo,useExisting:ot(()=>En)},ym=Promise.resolve(),En=(()=>{class e extends Uo{_changeDetectorRef;callSetDisabledState;control=new FI;static ngAcceptInputType_isDisabled;_registered=!1;viewModel;name="";isDisabled;model;options;update=new se;constructor(n,r,o,i,s,a){super(),this._changeDetectorRef=s,this.callSetDisabledState=a,this._parent=n,this._setValidators(r),this._setAsyncValidators(o),this.valueAccessor=PI(this,i)}ngOnChanges(n){if(this._checkForErrors(),!this._registered||"name"in n){if(this._registered&&(this._checkName(),this.formDirective)){let r=n.name.previousValue;this.formDirective.removeControl({name:r,path:this._getPath(r)})}this._setUpControl()}"isDisabled"in n&&this._updateDisabled(n),AI(n,this.viewModel)&&(this._updateValue(this.model),this.viewModel=this.model)}ngOnDestroy(){this.formDirective&&this.formDirective.removeControl(this)}get path(){return this._getPath(this.name)}get formDirective(){return this._parent?this._parent.formDirective:null}viewToModelUpdate(n){this.viewModel=n,this.update.emit(n)}_setUpControl(){this._setUpdateStrategy(),this._isStandalone()?this._setUpStandalone():this.formDirective.addControl(this),this._registered=!0}_setUpdateStrategy(){this.options&&this.options.updateOn!=null&&(this.control._updateOn=this.options.updateOn)}_isStandalone(){return!this._parent||!!(this.options&&this.options.standalone)}_setUpStandalone(){xm(this.control,this,this.callSetDisabledState),this.control.updateValueAndValidity({emitEvent:!1})}_checkForErrors(){this._checkName()}_checkName(){this.options&&this.options.name&&(this.name=this.options.name),!this._isStandalone()&&this.name}_updateValue(n){ym.then(()=>{this.control.setValue(n,{emitViewToModelChange:!1}),this._changeDetectorRef?.markForCheck()})}_updateDisabled(n){let r=n.isDisabled.currentValue,o=r!==0&&gn(r);ym.then(()=>{o&&!this.control.disabled?this.control.disable():!o&&this.control.disabled&&this.control.enable(),this._changeDetectorRef?.markForCheck()})}_getPath(n){return this._parent?II(n,this._parent):[n]}static \u0275fac=function(r){return new(r||e)(T(Sr,9),T($o,10),T(wm,10),T(Fu,10),T(pn,8),T(Uu,8))};static \u0275dir=K({type:e,selectors:[["","ngModel","",3,"formControlName","",3,"formControl",""]],inputs:{name:"name",isDisabled:[0,"disabled","isDisabled"],model:[0,"ngModel","model"],options:[0,"ngModelOptions","options"]},outputs:{update:"ngModelChange"},exportAs:["ngModel"],standalone:!1,features:[Bt([LI]),Be,Lt]})}return e})();var Nr=(()=>{class e{static \u0275fac=function(r){return new(r||e)};static \u0275dir=K({type:e,selectors:[["form",3,"ngNoForm","",3,"ngNativeValidate",""]],hostAttrs:["novalidate",""],standalone:!1})}return e})();function Rm(e){return typeof e=="number"?e:parseInt(e,10)}var Hu=(()=>{class e{_validator=dm;_onChange;_enabled;ngOnChanges(n){if(this.inputName in n){let r=this.normalizeInput(n[this.inputName].currentValue);this._enabled=this.enabled(r),this._validator=this._enabled?this.createValidator(r):dm,this._onChange&&this._onChange()}}validate(n){return this._validator(n)}registerOnValidatorChange(n){this._onChange=n}enabled(n){return n!=null}static \u0275fac=function(r){return new(r||e)};static \u0275dir=K({type:e,features:[Lt]})}return e})();var VI={provide:$o,useExisting:ot(()=>In),multi:!0};var In=(()=>{class e extends Hu{required;inputName="required";normalizeInput=gn;createValidator=n=>fI;enabled(n){return n}static \u0275fac=(()=>{let n;return function(o){return(n||(n=It(e)))(o||e)}})();static \u0275dir=K({type:e,selectors:[["","required","","formControlName","",3,"type","checkbox"],["","required","","formControl","",3,"type","checkbox"],["","required","","ngModel","",3,"type","checkbox"]],hostVars:1,hostBindings:function(r,o){r&2&&fn("required",o._enabled?"":null)},inputs:{required:"required"},standalone:!1,features:[Bt([VI]),Be]})}return e})();var jI={provide:$o,useExisting:ot(()=>zu),multi:!0},zu=(()=>{class e extends Hu{minlength;inputName="minlength";normalizeInput=n=>Rm(n);createValidator=n=>hI(n);static \u0275fac=(()=>{let n;return function(o){return(n||(n=It(e)))(o||e)}})();static \u0275dir=K({type:e,selectors:[["","minlength","","formControlName",""],["","minlength","","formControl",""],["","minlength","","ngModel",""]],hostVars:1,hostBindings:function(r,o){r&2&&fn("minlength",o._enabled?o.minlength:null)},inputs:{minlength:"minlength"},standalone:!1,features:[Bt([jI]),Be]})}return e})(),BI={provide:$o,useExisting:ot(()=>Gu),multi:!0},Gu=(()=>{class e extends Hu{maxlength;inputName="maxlength";normalizeInput=n=>Rm(n);createValidator=n=>pI(n);static \u0275fac=(()=>{let n;return function(o){return(n||(n=It(e)))(o||e)}})();static \u0275dir=K({type:e,selectors:[["","maxlength","","formControlName",""],["","maxlength","","formControl",""],["","maxlength","","ngModel",""]],hostVars:1,hostBindings:function(r,o){r&2&&fn("maxlength",o._enabled?o.maxlength:null)},inputs:{maxlength:"maxlength"},standalone:!1,features:[Bt([BI]),Be]})}return e})();var UI=(()=>{class e{static \u0275fac=function(r){return new(r||e)};static \u0275mod=Mt({type:e});static \u0275inj=Ct({})}return e})();var Ar=(()=>{class e{static withConfig(n){return{ngModule:e,providers:[{provide:Uu,useValue:n.callSetDisabledState??$u}]}}static \u0275fac=function(r){return new(r||e)};static \u0275mod=Mt({type:e});static \u0275inj=Ct({imports:[UI]})}return e})();var ft=class e{constructor(t){this.http=t}apiBase="/api/auth";currentUserSubject=new Y(null);currentUser$=this.currentUserSubject.asObservable();get currentUser(){return this.currentUserSubject.value}get isAdmin(){return this.currentUser?.isAdmin||this.currentUser?.role==="ADMIN"||!1}get isAuthenticated(){return this.currentUser!==null}fetchCurrentUser(){return this.http.get(`${this.apiBase}/me`).pipe(Q(t=>this.currentUserSubject.next(t)),Ge(()=>(this.currentUserSubject.next(null),S(null))))}login(t,n,r=!1){let o=new URLSearchParams;o.set("username",t),o.set("password",n),r&&o.set("remember-me","on");let i=new He({"Content-Type":"application/x-www-form-urlencoded"});return this.http.post(`${this.apiBase}/login`,o.toString(),{headers:i,responseType:"text",observe:"response"})}register(t,n,r){return this.http.post(`${this.apiBase}/register`,{username:t,email:n,password:r})}logout(){return this.http.post(`${this.apiBase}/logout`,null,{responseType:"text"}).pipe(Q(()=>this.currentUserSubject.next(null)))}checkAuth(){return this.http.get(`${this.apiBase}/check`)}static \u0275fac=function(n){return new(n||e)(M(hr))};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})};function $I(e,t){if(e&1&&(p(0,"div",19),D(1),g()),e&2){let n=ce();E(),re(n.errorMessage)}}function HI(e,t){if(e&1&&(p(0,"div",20),D(1),g()),e&2){let n=ce();E(),re(n.successMessage)}}var fa=class e{constructor(t,n){this.authService=t;this.router=n;new URLSearchParams(window.location.search).get("registered")==="true"&&(this.successMessage="Registration successful! Please sign in.")}username="";password="";rememberMe=!1;errorMessage="";successMessage="";loading=!1;onSubmit(){this.errorMessage="",this.loading=!0,this.authService.login(this.username,this.password,this.rememberMe).subscribe({next:t=>{this.authService.fetchCurrentUser().subscribe({next:()=>this.router.navigate(["/dashboard"]),error:()=>{this.loading=!1,this.router.navigate(["/dashboard"])}})},error:t=>{this.loading=!1,this.errorMessage="Invalid username or password. Please try again."}})}static \u0275fac=function(n){return new(n||e)(T(ft),T(Oe))};static \u0275cmp=st({type:e,selectors:[["app-login"]],decls:31,vars:7,consts:[[1,"auth-container"],[1,"auth-card"],[1,"auth-header"],[1,"logo"],[1,"logo-icon"],["class","alert alert-error",4,"ngIf"],["class","alert alert-success",4,"ngIf"],[1,"auth-form",3,"ngSubmit"],[1,"form-group"],["for","username"],["type","text","id","username","name","username","placeholder","Enter your username","required","","autofocus","",3,"ngModelChange","ngModel"],["for","password"],["type","password","id","password","name","password","placeholder","Enter your password","required","",3,"ngModelChange","ngModel"],[1,"remember-me"],["type","checkbox","id","remember-me","name","rememberMe",3,"ngModelChange","ngModel"],["for","remember-me"],["type","submit",1,"auth-btn",3,"disabled"],[1,"auth-footer"],["routerLink","/register"],[1,"alert","alert-error"],[1,"alert","alert-success"]],template:function(n,r){n&1&&(p(0,"div",0)(1,"div",1)(2,"div",2)(3,"div",3)(4,"span",4),D(5,"\u{1F9E0}"),g(),p(6,"h1"),D(7,"Knowledge Base"),g()(),p(8,"p"),D(9,"Sign in to your account"),g()(),ge(10,$I,2,1,"div",5)(11,HI,2,1,"div",6),p(12,"form",7),H("ngSubmit",function(){return r.onSubmit()}),p(13,"div",8)(14,"label",9),D(15,"Username"),g(),p(16,"input",10),ve("ngModelChange",function(i){return Ee(r.username,i)||(r.username=i),i}),g()(),p(17,"div",8)(18,"label",11),D(19,"Password"),g(),p(20,"input",12),ve("ngModelChange",function(i){return Ee(r.password,i)||(r.password=i),i}),g()(),p(21,"div",13)(22,"input",14),ve("ngModelChange",function(i){return Ee(r.rememberMe,i)||(r.rememberMe=i),i}),g(),p(23,"label",15),D(24,"Remember me for 7 days"),g()(),p(25,"button",16),D(26),g()(),p(27,"div",17),D(28," Don't have an account? "),p(29,"a",18),D(30,"Register here"),g()()()()),n&2&&(E(10),X("ngIf",r.errorMessage),E(),X("ngIf",r.successMessage),E(5),me("ngModel",r.username),E(4),me("ngModel",r.password),E(2),me("ngModel",r.rememberMe),E(3),X("disabled",r.loading),E(),Ue(" ",r.loading?"Signing in...":"Sign In"," "))},dependencies:[$t,mn,Ar,Nr,Wt,Lu,Tr,xr,In,En,_n,Er],styles:[".auth-container[_ngcontent-%COMP%]{min-height:100vh;display:flex;align-items:center;justify-content:center;padding:2rem}.auth-card[_ngcontent-%COMP%]{background:var(--bg-card);border-radius:var(--border-radius-lg);border:1px solid var(--border-color);padding:3rem;width:100%;max-width:420px;backdrop-filter:blur(10px);box-shadow:var(--shadow-lg)}.auth-header[_ngcontent-%COMP%]{text-align:center;margin-bottom:2rem}.auth-header[_ngcontent-%COMP%]   .logo[_ngcontent-%COMP%]{display:flex;align-items:center;justify-content:center;gap:.75rem;margin-bottom:1rem}.auth-header[_ngcontent-%COMP%]   .logo-icon[_ngcontent-%COMP%]{font-size:2.5rem}.auth-header[_ngcontent-%COMP%]   h1[_ngcontent-%COMP%]{font-size:1.8rem;font-weight:700;background:var(--accent-gradient);-webkit-background-clip:text;-webkit-text-fill-color:transparent;background-clip:text}.auth-header[_ngcontent-%COMP%]   p[_ngcontent-%COMP%]{color:var(--text-secondary);margin-top:.5rem}.alert[_ngcontent-%COMP%]{padding:1rem;border-radius:var(--border-radius);margin-bottom:1.5rem;font-size:.9rem}.alert-error[_ngcontent-%COMP%]{background:#ef444433;border:1px solid var(--error);color:var(--error)}.alert-success[_ngcontent-%COMP%]{background:#10b98133;border:1px solid var(--success);color:var(--success)}.auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]{margin-bottom:1.5rem}.auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   label[_ngcontent-%COMP%]{display:block;margin-bottom:.5rem;color:var(--text-secondary);font-weight:500}.auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=text][_ngcontent-%COMP%], .auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=password][_ngcontent-%COMP%], .auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=email][_ngcontent-%COMP%]{width:100%;background:var(--bg-glass);border:1px solid var(--border-color);border-radius:var(--border-radius);padding:1rem;color:var(--text-primary);font-size:1rem;transition:all .3s ease}.auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=text][_ngcontent-%COMP%]:focus, .auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=password][_ngcontent-%COMP%]:focus, .auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=email][_ngcontent-%COMP%]:focus{outline:none;border-color:var(--accent-primary);box-shadow:0 0 0 3px #6366f133}.remember-me[_ngcontent-%COMP%]{display:flex;align-items:center;gap:.5rem;margin-bottom:1.5rem}.remember-me[_ngcontent-%COMP%]   input[type=checkbox][_ngcontent-%COMP%]{width:18px;height:18px;accent-color:var(--accent-primary)}.remember-me[_ngcontent-%COMP%]   label[_ngcontent-%COMP%]{color:var(--text-secondary);margin:0;cursor:pointer}.auth-btn[_ngcontent-%COMP%]{width:100%;background:var(--accent-gradient);color:#fff;border:none;padding:1rem;border-radius:var(--border-radius);font-size:1.1rem;font-weight:600;cursor:pointer;transition:all .3s ease}.auth-btn[_ngcontent-%COMP%]:hover:not(:disabled){transform:translateY(-2px);box-shadow:var(--shadow-glow)}.auth-btn[_ngcontent-%COMP%]:disabled{opacity:.7;cursor:not-allowed}.auth-footer[_ngcontent-%COMP%]{text-align:center;margin-top:1.5rem;color:var(--text-secondary)}.auth-footer[_ngcontent-%COMP%]   a[_ngcontent-%COMP%]{color:var(--accent-primary);text-decoration:none;font-weight:500}.auth-footer[_ngcontent-%COMP%]   a[_ngcontent-%COMP%]:hover{text-decoration:underline}"]})};function zI(e,t){if(e&1&&(p(0,"div",20),D(1),g()),e&2){let n=ce();E(),re(n.errorMessage)}}var ha=class e{constructor(t,n){this.authService=t;this.router=n}username="";email="";password="";confirmPassword="";errorMessage="";loading=!1;onSubmit(){if(this.errorMessage="",this.password!==this.confirmPassword){this.errorMessage="Passwords do not match";return}this.loading=!0,this.authService.register(this.username,this.email,this.password).subscribe({next:()=>{this.router.navigate(["/login"],{queryParams:{registered:"true"}})},error:t=>{this.loading=!1,this.errorMessage=t.error?.error||"Registration failed. Please try again."}})}static \u0275fac=function(n){return new(n||e)(T(ft),T(Oe))};static \u0275cmp=st({type:e,selectors:[["app-register"]],decls:36,vars:7,consts:[[1,"auth-container"],[1,"auth-card"],[1,"auth-header"],[1,"logo"],[1,"logo-icon"],["class","alert alert-error",4,"ngIf"],[1,"auth-form",3,"ngSubmit"],[1,"form-group"],["for","username"],["type","text","id","username","name","username","placeholder","Choose a username","required","","minlength","3","maxlength","50","autofocus","",3,"ngModelChange","ngModel"],["for","email"],["type","email","id","email","name","email","placeholder","Enter your email","required","",3,"ngModelChange","ngModel"],["for","password"],["type","password","id","password","name","password","placeholder","Create a password","required","","minlength","6",3,"ngModelChange","ngModel"],[1,"password-hint"],["for","confirmPassword"],["type","password","id","confirmPassword","name","confirmPassword","placeholder","Confirm your password","required","",3,"ngModelChange","ngModel"],["type","submit",1,"auth-btn",3,"disabled"],[1,"auth-footer"],["routerLink","/login"],[1,"alert","alert-error"]],template:function(n,r){n&1&&(p(0,"div",0)(1,"div",1)(2,"div",2)(3,"div",3)(4,"span",4),D(5,"\u{1F9E0}"),g(),p(6,"h1"),D(7,"Knowledge Base"),g()(),p(8,"p"),D(9,"Create your account"),g()(),ge(10,zI,2,1,"div",5),p(11,"form",6),H("ngSubmit",function(){return r.onSubmit()}),p(12,"div",7)(13,"label",8),D(14,"Username"),g(),p(15,"input",9),ve("ngModelChange",function(i){return Ee(r.username,i)||(r.username=i),i}),g()(),p(16,"div",7)(17,"label",10),D(18,"Email"),g(),p(19,"input",11),ve("ngModelChange",function(i){return Ee(r.email,i)||(r.email=i),i}),g()(),p(20,"div",7)(21,"label",12),D(22,"Password"),g(),p(23,"input",13),ve("ngModelChange",function(i){return Ee(r.password,i)||(r.password=i),i}),g(),p(24,"p",14),D(25,"Minimum 6 characters"),g()(),p(26,"div",7)(27,"label",15),D(28,"Confirm Password"),g(),p(29,"input",16),ve("ngModelChange",function(i){return Ee(r.confirmPassword,i)||(r.confirmPassword=i),i}),g()(),p(30,"button",17),D(31),g()(),p(32,"div",18),D(33," Already have an account? "),p(34,"a",19),D(35,"Sign in"),g()()()()),n&2&&(E(10),X("ngIf",r.errorMessage),E(5),me("ngModel",r.username),E(4),me("ngModel",r.email),E(4),me("ngModel",r.password),E(6),me("ngModel",r.confirmPassword),E(),X("disabled",r.loading),E(),Ue(" ",r.loading?"Creating Account...":"Create Account"," "))},dependencies:[$t,mn,Ar,Nr,Wt,Tr,xr,In,zu,Gu,En,_n,Er],styles:[".auth-container[_ngcontent-%COMP%]{min-height:100vh;display:flex;align-items:center;justify-content:center;padding:2rem}.auth-card[_ngcontent-%COMP%]{background:var(--bg-card);border-radius:var(--border-radius-lg);border:1px solid var(--border-color);padding:3rem;width:100%;max-width:420px;backdrop-filter:blur(10px);box-shadow:var(--shadow-lg)}.auth-header[_ngcontent-%COMP%]{text-align:center;margin-bottom:2rem}.auth-header[_ngcontent-%COMP%]   .logo[_ngcontent-%COMP%]{display:flex;align-items:center;justify-content:center;gap:.75rem;margin-bottom:1rem}.auth-header[_ngcontent-%COMP%]   .logo-icon[_ngcontent-%COMP%]{font-size:2.5rem}.auth-header[_ngcontent-%COMP%]   h1[_ngcontent-%COMP%]{font-size:1.8rem;font-weight:700;background:var(--accent-gradient);-webkit-background-clip:text;-webkit-text-fill-color:transparent;background-clip:text}.auth-header[_ngcontent-%COMP%]   p[_ngcontent-%COMP%]{color:var(--text-secondary);margin-top:.5rem}.alert[_ngcontent-%COMP%]{padding:1rem;border-radius:var(--border-radius);margin-bottom:1.5rem;font-size:.9rem}.alert-error[_ngcontent-%COMP%]{background:#ef444433;border:1px solid var(--error);color:var(--error)}.auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]{margin-bottom:1.5rem}.auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   label[_ngcontent-%COMP%]{display:block;margin-bottom:.5rem;color:var(--text-secondary);font-weight:500}.auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=text][_ngcontent-%COMP%], .auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=password][_ngcontent-%COMP%], .auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=email][_ngcontent-%COMP%]{width:100%;background:var(--bg-glass);border:1px solid var(--border-color);border-radius:var(--border-radius);padding:1rem;color:var(--text-primary);font-size:1rem;transition:all .3s ease}.auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=text][_ngcontent-%COMP%]:focus, .auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=password][_ngcontent-%COMP%]:focus, .auth-form[_ngcontent-%COMP%]   .form-group[_ngcontent-%COMP%]   input[type=email][_ngcontent-%COMP%]:focus{outline:none;border-color:var(--accent-primary);box-shadow:0 0 0 3px #6366f133}.password-hint[_ngcontent-%COMP%]{font-size:.8rem;color:var(--text-muted);margin-top:.5rem}.auth-btn[_ngcontent-%COMP%]{width:100%;background:var(--accent-gradient);color:#fff;border:none;padding:1rem;border-radius:var(--border-radius);font-size:1.1rem;font-weight:600;cursor:pointer;transition:all .3s ease}.auth-btn[_ngcontent-%COMP%]:hover:not(:disabled){transform:translateY(-2px);box-shadow:var(--shadow-glow)}.auth-btn[_ngcontent-%COMP%]:disabled{opacity:.7;cursor:not-allowed}.auth-footer[_ngcontent-%COMP%]{text-align:center;margin-top:1.5rem;color:var(--text-secondary)}.auth-footer[_ngcontent-%COMP%]   a[_ngcontent-%COMP%]{color:var(--accent-primary);text-decoration:none;font-weight:500}.auth-footer[_ngcontent-%COMP%]   a[_ngcontent-%COMP%]:hover{text-decoration:underline}"]})};var pa=class e{constructor(t){this.http=t}apiBase="/api";getDocuments(){return this.http.get(`${this.apiBase}/documents`)}getDocument(t){return this.http.get(`${this.apiBase}/documents/${t}`)}addDocument(t,n,r){return this.http.post(`${this.apiBase}/documents`,{title:t,content:n,category:r})}deleteDocument(t){return this.http.delete(`${this.apiBase}/documents/${t}`)}deleteAllDocuments(){return this.http.delete(`${this.apiBase}/documents/all`)}search(t,n=10){let r=new Qe().set("query",t).set("maxResults",n.toString());return this.http.get(`${this.apiBase}/search`,{params:r})}getStats(){return this.http.get(`${this.apiBase}/stats`)}importFile(t){let n=new FormData;return n.append("file",t),this.http.post(`${this.apiBase}/import`,n)}static \u0275fac=function(n){return new(n||e)(M(hr))};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})};var ga=class e{toastSubject=new Y({message:"",type:"success",visible:!1});toast$=this.toastSubject.asObservable();timeout;show(t,n="success"){this.timeout&&clearTimeout(this.timeout),this.toastSubject.next({message:t,type:n,visible:!0}),this.timeout=setTimeout(()=>{this.toastSubject.next(k(y({},this.toastSubject.value),{visible:!1}))},3e3)}static \u0275fac=function(n){return new(n||e)};static \u0275prov=_({token:e,factory:e.\u0275fac,providedIn:"root"})};function WI(e,t){e&1&&(p(0,"div",52),D(1,"No matching documents found"),g())}function ZI(e,t){e&1&&(p(0,"div",59)(1,"span"),D(2,"\u2B50"),g(),D(3," Most Matched "),g())}function YI(e,t){if(e&1){let n=rr();p(0,"div",53),H("click",function(){let o=_t(n).$implicit,i=ce(2);return Et(i.showDocument(o.document))}),p(1,"div",54)(2,"h3",55),D(3),g(),ge(4,ZI,4,0,"div",56),g(),p(5,"p",57),D(6),g(),p(7,"span",58),D(8),g()()}if(e&2){let n=t.$implicit,r=t.index;at("best-match",r===0),E(3),re(n.document.title),E(),X("ngIf",r===0),E(2),re(n.document.content),E(2),re(n.document.category||"Uncategorized")}}function QI(e,t){if(e&1&&(p(0,"section",47)(1,"div",48)(2,"h2"),D(3,"Search Results"),g(),p(4,"span",49),D(5),g()(),p(6,"div",50),ge(7,WI,2,0,"div",27)(8,YI,9,6,"div",51),g()()),e&2){let n=ce();E(5),Ue("",n.searchResults.length," results"),E(2),X("ngIf",n.searchResults.length===0),E(),X("ngForOf",n.searchResults)}}function KI(e,t){if(e&1){let n=rr();p(0,"div",60)(1,"input",61,0),H("change",function(o){_t(n);let i=ce();return Et(i.onFileSelected(o))}),g(),p(3,"button",62),H("click",function(){_t(n);let o=Pp(2);return Et(o.click())}),D(4,"\u{1F4C1} Import File"),g(),p(5,"button",63),H("click",function(){_t(n);let o=ce();return Et(o.openAddModal())}),D(6,"+ Add Document"),g(),p(7,"button",64),H("click",function(){_t(n);let o=ce();return Et(o.deleteAllDocuments())}),D(8,"\u{1F5D1}\uFE0F Delete All"),g()()}}function XI(e,t){e&1&&(p(0,"div",52),D(1,"No documents found"),g())}function JI(e,t){if(e&1&&(p(0,"div",71)(1,"span"),D(2),g()()),e&2){let n=ce().$implicit;E(2),Ue("\u{1F464} ",n.createdBy||"System","")}}function e0(e,t){if(e&1){let n=rr();p(0,"div",72)(1,"button",73),H("click",function(o){_t(n);let i=ce().$implicit,s=ce();return Et(s.deleteDocument(o,i.id))}),D(2,"Delete"),g()()}}function t0(e,t){if(e&1){let n=rr();p(0,"div",65),H("click",function(){let o=_t(n).$implicit,i=ce();return Et(i.showDocument(o))}),p(1,"h3",66),D(2),g(),p(3,"span",67),D(4),g(),ge(5,JI,3,1,"div",68),p(6,"p",69),D(7),g(),ge(8,e0,3,0,"div",70),g()}if(e&2){let n=t.$implicit,r=ce();E(2),re(n.title),E(2),re(n.category||"Uncategorized"),E(),X("ngIf",r.isAdmin),E(2),re(n.content),E(),X("ngIf",r.isAdmin)}}function n0(e,t){e&1&&hn(0,"br")}function r0(e,t){if(e&1&&(p(0,"span"),D(1),g()),e&2){let n=ce(2);E(),Ue("\u{1F464} Created By: ",n.selectedDoc.createdBy||"System","")}}function o0(e,t){if(e&1){let n=rr();p(0,"div",74)(1,"div",31)(2,"h3"),D(3),g(),p(4,"button",32),H("click",function(){_t(n);let o=ce();return Et(o.closeDetailModal())}),D(5,"\xD7"),g()(),p(6,"div",75)(7,"span",76),D(8),g(),p(9,"p",77),D(10),g(),p(11,"div",78)(12,"span"),D(13),g(),ge(14,n0,1,0,"br",79)(15,r0,2,1,"span",79),g()()()}if(e&2){let n=ce();E(3),re(n.selectedDoc.title),E(5),re(n.selectedDoc.category||"Uncategorized"),E(2),re(n.selectedDoc.content),E(3),Ue("\u{1F4C5} Created: ",n.formatDate(n.selectedDoc.createdAt),""),E(),X("ngIf",n.isAdmin),E(),X("ngIf",n.isAdmin)}}var ma=class e{constructor(t,n,r,o){this.apiService=t;this.authService=n;this.toastService=r;this.router=o}documents=[];searchResults=[];stats={documentCount:0,embeddingDimension:768};searchQuery="";showResults=!1;showAddModal=!1;showDetailModal=!1;showScrollTop=!1;newDocTitle="";newDocCategory="";newDocContent="";selectedDoc=null;ngOnInit(){this.refreshData()}get isAdmin(){return this.authService.isAdmin}get currentUser(){return this.authService.currentUser}refreshData(){this.apiService.getDocuments().subscribe({next:t=>this.documents=t,error:()=>this.toastService.show("Failed to load documents","error")}),this.apiService.getStats().subscribe({next:t=>this.stats=t,error:()=>{}})}handleSearch(){let t=this.searchQuery.trim();if(!t){this.showResults=!1;return}this.showResults=!0,this.searchResults=[],this.apiService.search(t).subscribe({next:n=>this.searchResults=n.results,error:()=>this.toastService.show("Search failed","error")})}onSearchKeypress(t){t.key==="Enter"&&this.handleSearch()}openAddModal(){this.showAddModal=!0,this.newDocTitle="",this.newDocCategory="",this.newDocContent=""}closeAddModal(){this.showAddModal=!1}submitDocument(){if(!this.newDocTitle.trim()||!this.newDocContent.trim()){this.toastService.show("Please fill in all required fields","error");return}this.apiService.addDocument(this.newDocTitle.trim(),this.newDocContent.trim(),this.newDocCategory.trim()||"General").subscribe({next:()=>{this.toastService.show("Document added successfully!","success"),this.closeAddModal(),this.refreshData()},error:t=>this.toastService.show(t.error?.error||"Failed to add document","error")})}showDocument(t){this.selectedDoc=t,this.showDetailModal=!0}closeDetailModal(){this.showDetailModal=!1,this.selectedDoc=null}deleteDocument(t,n){t.stopPropagation(),confirm("Are you sure you want to delete this document?")&&this.apiService.deleteDocument(n).subscribe({next:()=>{this.toastService.show("Document deleted","success"),this.refreshData()},error:()=>this.toastService.show("Failed to delete document","error")})}deleteAllDocuments(){confirm(`\u26A0\uFE0F Are you sure you want to DELETE ALL documents?
 
-This action cannot be undone!`)&&this.apiService.deleteAllDocuments().subscribe({next:()=>{this.toastService.show("\u{1F5D1}\uFE0F All documents deleted successfully!","success"),this.refreshData()},error:()=>this.toastService.show("Failed to delete all documents","error")})}onFileSelected(t){let n=t.target,r=n.files?.[0];r&&(this.toastService.show("Importing documents... This may take a moment.","info"),this.apiService.importFile(r).subscribe({next:o=>{this.toastService.show(`\u2713 Imported ${o.imported} documents!`,"success"),this.refreshData()},error:o=>this.toastService.show("Failed to import: "+(o.error?.error||o.message),"error")}),n.value="")}handleLogout(){this.authService.logout().subscribe({next:()=>this.router.navigate(["/login"]),error:()=>this.router.navigate(["/login"])})}formatDate(t){return t?new Date(t).toLocaleDateString("en-US",{year:"numeric",month:"short",day:"numeric",hour:"2-digit",minute:"2-digit"}):"Unknown"}onScroll(){this.showScrollTop=window.scrollY>300}scrollToTop(){window.scrollTo({top:0,behavior:"smooth"})}onModalBackdropClick(t,n){t.target===t.currentTarget&&(n==="add"&&this.closeAddModal(),n==="detail"&&this.closeDetailModal())}onEscape(){this.closeAddModal(),this.closeDetailModal()}static \u0275fac=function(n){return new(n||e)(T(pa),T(ft),T(ga),T(Oe))};static \u0275cmp=st({type:e,selectors:[["app-dashboard"]],hostBindings:function(n,r){n&1&&H("scroll",function(){return r.onScroll()},!1,Yh)("keydown.escape",function(){return r.onEscape()},!1,Qh)},decls:88,vars:38,consts:[["fileInput",""],[1,"app-container"],[1,"header"],[1,"logo"],[1,"logo-icon"],[1,"subtitle"],[1,"user-menu"],[1,"user-info"],[1,"user-icon"],[1,"user-role"],[1,"logout-btn",3,"click"],[1,"stats-bar"],[1,"stat-item"],[1,"stat-value"],[1,"stat-label"],[1,"search-section"],[1,"search-container"],[1,"search-box"],[1,"search-icon"],["type","text","placeholder","Search by meaning","autocomplete","off",3,"ngModelChange","keypress","ngModel"],[1,"search-btn",3,"click"],[1,"search-hint"],["class","results-section",4,"ngIf"],[1,"documents-section"],[1,"section-header"],["class","header-actions",4,"ngIf"],[1,"documents-grid"],["class","loading",4,"ngIf"],["class","document-card",3,"click",4,"ngFor","ngForOf"],[1,"modal-overlay",3,"click"],[1,"modal"],[1,"modal-header"],[1,"close-btn",3,"click"],[3,"ngSubmit"],[1,"form-group"],["for","docTitle"],["type","text","id","docTitle","name","docTitle","placeholder","Document title","required","",3,"ngModelChange","ngModel"],["for","docCategory"],["type","text","id","docCategory","name","docCategory","placeholder","e.g., Programming, DevOps, AI/ML",3,"ngModelChange","ngModel"],["for","docContent"],["id","docContent","name","docContent","rows","5","placeholder","Document content...","required","",3,"ngModelChange","ngModel"],[1,"form-actions"],["type","button",1,"cancel-btn",3,"click"],["type","submit",1,"submit-btn"],["class","modal detail-modal",4,"ngIf"],["title","Go to top",1,"scroll-top-btn",3,"click"],[1,"toast"],[1,"results-section"],[1,"results-header"],[1,"results-count"],[1,"results-container"],["class","result-card",3,"best-match","click",4,"ngFor","ngForOf"],[1,"loading"],[1,"result-card",3,"click"],[1,"result-header"],[1,"result-title"],["class","similarity-badge most-matched",4,"ngIf"],[1,"result-content"],[1,"result-category"],[1,"similarity-badge","most-matched"],[1,"header-actions"],["type","file","accept",".csv, .xlsx, .xls",2,"display","none",3,"change"],[1,"import-btn",3,"click"],[1,"add-btn",3,"click"],[1,"delete-all-btn",3,"click"],[1,"document-card",3,"click"],[1,"document-title"],[1,"document-category"],["class","document-meta-small",4,"ngIf"],[1,"document-snippet"],["class","document-actions",4,"ngIf"],[1,"document-meta-small"],[1,"document-actions"],[1,"delete-btn",3,"click"],[1,"modal","detail-modal"],[1,"detail-content"],[1,"detail-category"],[1,"detail-text"],[1,"detail-meta"],[4,"ngIf"]],template:function(n,r){if(n&1&&(p(0,"div",1)(1,"header",2)(2,"div",3)(3,"span",4),D(4,"\u{1F9E0}"),g(),p(5,"h1"),D(6,"Knowledge Base"),g()(),p(7,"p",5),D(8,"Semantic Search Demo"),g(),p(9,"div",6)(10,"span",7)(11,"span",8),D(12,"\u{1F464}"),g(),p(13,"span"),D(14),g(),p(15,"span",9),D(16),g()(),p(17,"button",10),H("click",function(){return r.handleLogout()}),D(18,"Logout"),g()()(),p(19,"div",11)(20,"div",12)(21,"span",13),D(22),g(),p(23,"span",14),D(24,"Documents"),g()(),p(25,"div",12)(26,"span",13),D(27),g(),p(28,"span",14),D(29,"Embedding Dimensions"),g()()(),p(30,"section",15)(31,"div",16)(32,"div",17)(33,"span",18),D(34,"\u{1F50D}"),g(),p(35,"input",19),ve("ngModelChange",function(i){return Ee(r.searchQuery,i)||(r.searchQuery=i),i}),H("keypress",function(i){return r.onSearchKeypress(i)}),g(),p(36,"button",20),H("click",function(){return r.handleSearch()}),D(37,"Search"),g()(),p(38,"p",21),D(39," \u{1F4A1} "),p(40,"strong"),D(41,"Semantic Search"),g(),D(42," finds documents by meaning, not just keywords! "),g()()(),ge(43,QI,9,3,"section",22),p(44,"section",23)(45,"div",24)(46,"h2"),D(47,"All Documents"),g(),ge(48,KI,9,0,"div",25),g(),p(49,"div",26),ge(50,XI,2,0,"div",27)(51,t0,9,5,"div",28),g()(),p(52,"div",29),H("click",function(i){return r.onModalBackdropClick(i,"add")}),p(53,"div",30)(54,"div",31)(55,"h3"),D(56,"Add New Document"),g(),p(57,"button",32),H("click",function(){return r.closeAddModal()}),D(58,"\xD7"),g()(),p(59,"form",33),H("ngSubmit",function(){return r.submitDocument()}),p(60,"div",34)(61,"label",35),D(62,"Title"),g(),p(63,"input",36),ve("ngModelChange",function(i){return Ee(r.newDocTitle,i)||(r.newDocTitle=i),i}),g()(),p(64,"div",34)(65,"label",37),D(66,"Category"),g(),p(67,"input",38),ve("ngModelChange",function(i){return Ee(r.newDocCategory,i)||(r.newDocCategory=i),i}),g()(),p(68,"div",34)(69,"label",39),D(70,"Content"),g(),p(71,"textarea",40),ve("ngModelChange",function(i){return Ee(r.newDocContent,i)||(r.newDocContent=i),i}),g()(),p(72,"div",41)(73,"button",42),H("click",function(){return r.closeAddModal()}),D(74,"Cancel"),g(),p(75,"button",43),D(76,"Add Document"),g()()()()(),p(77,"div",29),H("click",function(i){return r.onModalBackdropClick(i,"detail")}),ge(78,o0,16,6,"div",44),g(),p(79,"button",45),H("click",function(){return r.scrollToTop()}),D(80,"\u2191"),g(),p(81,"div",46),or(82,"async"),or(83,"async"),or(84,"async"),or(85,"async"),D(86),or(87,"async"),g()()),n&2){let o,i,s,a,c;E(14),re((r.currentUser==null?null:r.currentUser.username)||"User"),E(2),re(r.currentUser==null?null:r.currentUser.role),E(6),re(r.stats.documentCount),E(5),re(r.stats.embeddingDimension||768),E(8),me("ngModel",r.searchQuery),E(8),X("ngIf",r.showResults),E(5),X("ngIf",r.isAdmin),E(2),X("ngIf",r.documents.length===0),E(),X("ngForOf",r.documents),E(),at("active",r.showAddModal),E(11),me("ngModel",r.newDocTitle),E(4),me("ngModel",r.newDocCategory),E(4),me("ngModel",r.newDocContent),E(6),at("active",r.showDetailModal),E(),X("ngIf",r.selectedDoc),E(),at("visible",r.showScrollTop),E(2),at("active",(o=ir(82,28,r.toastService.toast$))==null?null:o.visible)("success",((i=ir(83,30,r.toastService.toast$))==null?null:i.type)==="success")("error",((s=ir(84,32,r.toastService.toast$))==null?null:s.type)==="error")("info",((a=ir(85,34,r.toastService.toast$))==null?null:a.type)==="info"),E(5),Ue(" ",(c=ir(87,36,r.toastService.toast$))==null?null:c.message," ")}},dependencies:[$t,ys,mn,zl,Ar,Nr,Wt,Tr,xr,In,En,_n],styles:['.app-container[_ngcontent-%COMP%]{max-width:1200px;margin:0 auto;padding:2rem}.header[_ngcontent-%COMP%]{text-align:center;margin-bottom:2rem;animation:_ngcontent-%COMP%_fadeInDown .6s ease-out}.logo[_ngcontent-%COMP%]{display:flex;align-items:center;justify-content:center;gap:.75rem;margin-bottom:.5rem}.logo-icon[_ngcontent-%COMP%]{font-size:2.5rem;animation:_ngcontent-%COMP%_pulse 2s infinite}.logo[_ngcontent-%COMP%]   h1[_ngcontent-%COMP%]{font-size:2.5rem;font-weight:700;background:var(--accent-gradient);-webkit-background-clip:text;-webkit-text-fill-color:transparent;background-clip:text}.subtitle[_ngcontent-%COMP%]{color:var(--text-secondary);font-size:1.1rem;font-weight:300}.user-menu[_ngcontent-%COMP%]{position:absolute;top:2rem;right:2rem;display:flex;align-items:center;gap:1rem}.user-info[_ngcontent-%COMP%]{display:flex;align-items:center;gap:.5rem;color:var(--text-secondary);font-size:.95rem}.user-icon[_ngcontent-%COMP%]{font-size:1.2rem}.user-role[_ngcontent-%COMP%]{background:var(--accent-gradient);color:#fff;padding:.2rem .6rem;border-radius:20px;font-size:.75rem;font-weight:600;text-transform:uppercase}.logout-btn[_ngcontent-%COMP%]{background:var(--bg-glass);border:1px solid var(--border-color);color:var(--text-secondary);padding:.5rem 1rem;border-radius:var(--border-radius);cursor:pointer;font-size:.9rem;transition:all .3s ease}.logout-btn[_ngcontent-%COMP%]:hover{background:var(--error);border-color:var(--error);color:#fff}.stats-bar[_ngcontent-%COMP%]{display:flex;justify-content:center;gap:3rem;padding:1.5rem;background:var(--bg-glass);border-radius:var(--border-radius);border:1px solid var(--border-color);margin-bottom:2rem;backdrop-filter:blur(10px);animation:_ngcontent-%COMP%_fadeIn .6s ease-out .2s both}.stat-item[_ngcontent-%COMP%]{display:flex;flex-direction:column;align-items:center;gap:.25rem}.stat-value[_ngcontent-%COMP%]{font-size:2rem;font-weight:700;background:var(--accent-gradient);-webkit-background-clip:text;-webkit-text-fill-color:transparent;background-clip:text}.stat-label[_ngcontent-%COMP%]{font-size:.85rem;color:var(--text-muted);text-transform:uppercase;letter-spacing:.5px}.search-section[_ngcontent-%COMP%]{margin-bottom:2rem;animation:_ngcontent-%COMP%_fadeIn .6s ease-out .3s both}.search-container[_ngcontent-%COMP%]{max-width:800px;margin:0 auto}.search-box[_ngcontent-%COMP%]{display:flex;align-items:center;background:var(--bg-card);border-radius:var(--border-radius-lg);border:2px solid var(--border-color);padding:.5rem .5rem .5rem 1.5rem;box-shadow:var(--shadow-md);transition:all .3s ease}.search-box[_ngcontent-%COMP%]:focus-within{border-color:var(--accent-primary);box-shadow:var(--shadow-glow)}.search-icon[_ngcontent-%COMP%]{font-size:1.5rem;margin-right:1rem;opacity:.7}.search-box[_ngcontent-%COMP%]   input[_ngcontent-%COMP%]{flex:1;background:transparent;border:none;outline:none;color:var(--text-primary);font-size:1.1rem;padding:1rem 0}.search-box[_ngcontent-%COMP%]   input[_ngcontent-%COMP%]::placeholder{color:var(--text-muted)}.search-btn[_ngcontent-%COMP%]{background:var(--accent-gradient);color:#fff;border:none;padding:1rem 2rem;border-radius:12px;font-size:1rem;font-weight:600;cursor:pointer;transition:all .3s ease;white-space:nowrap}.search-btn[_ngcontent-%COMP%]:hover{transform:translateY(-2px);box-shadow:var(--shadow-glow)}.search-hint[_ngcontent-%COMP%]{text-align:center;margin-top:1rem;color:var(--text-secondary);font-size:.9rem}.results-section[_ngcontent-%COMP%]{margin-bottom:3rem;animation:_ngcontent-%COMP%_fadeIn .4s ease-out}.results-header[_ngcontent-%COMP%]{display:flex;align-items:center;gap:1rem;margin-bottom:1.5rem}.results-header[_ngcontent-%COMP%]   h2[_ngcontent-%COMP%]{font-size:1.5rem;font-weight:600}.results-count[_ngcontent-%COMP%]{background:var(--accent-primary);color:#fff;padding:.25rem .75rem;border-radius:20px;font-size:.85rem;font-weight:600}.results-container[_ngcontent-%COMP%]{display:flex;flex-direction:column;gap:1rem}.result-card[_ngcontent-%COMP%]{background:var(--bg-card);border-radius:var(--border-radius);border:1px solid var(--border-color);padding:1.5rem;transition:all .3s ease;cursor:pointer;backdrop-filter:blur(10px)}.result-card[_ngcontent-%COMP%]:hover{transform:translate(8px);border-color:var(--accent-primary);box-shadow:var(--shadow-md)}.result-card.best-match[_ngcontent-%COMP%]{border-color:#f59e0b66;box-shadow:0 0 20px #f59e0b1a}.result-header[_ngcontent-%COMP%]{display:flex;justify-content:space-between;align-items:flex-start;margin-bottom:.75rem}.result-title[_ngcontent-%COMP%]{font-size:1.2rem;font-weight:600;color:var(--text-primary)}.similarity-badge.most-matched[_ngcontent-%COMP%]{display:flex;align-items:center;gap:.5rem;background:#f59e0b33;color:#f59e0b;padding:.25rem .75rem;border-radius:20px;font-size:.85rem;font-weight:600;white-space:nowrap;border:1px solid rgba(245,158,11,.3);animation:_ngcontent-%COMP%_fadeIn .4s ease-out}.result-content[_ngcontent-%COMP%]{color:var(--text-secondary);font-size:.95rem;line-height:1.6;display:-webkit-box;-webkit-line-clamp:3;line-clamp:3;-webkit-box-orient:vertical;overflow:hidden}.result-category[_ngcontent-%COMP%]{display:inline-block;margin-top:.75rem;background:var(--bg-glass);color:var(--text-secondary);padding:.25rem .75rem;border-radius:6px;font-size:.8rem}.documents-section[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_fadeIn .6s ease-out .4s both}.section-header[_ngcontent-%COMP%]{display:flex;justify-content:space-between;align-items:center;margin-bottom:1.5rem}.section-header[_ngcontent-%COMP%]   h2[_ngcontent-%COMP%]{font-size:1.5rem;font-weight:600}.header-actions[_ngcontent-%COMP%]{display:flex;gap:1rem}.add-btn[_ngcontent-%COMP%]{background:var(--accent-gradient);color:#fff;border:none;padding:.75rem 1.5rem;border-radius:var(--border-radius);font-size:1rem;font-weight:600;cursor:pointer;transition:all .3s ease}.add-btn[_ngcontent-%COMP%]:hover{transform:translateY(-2px);box-shadow:var(--shadow-glow)}.import-btn[_ngcontent-%COMP%]{background:var(--bg-glass);color:var(--text-primary);border:1px solid var(--border-color);padding:.75rem 1.5rem;border-radius:var(--border-radius);font-size:1rem;font-weight:500;cursor:pointer;transition:all .3s ease}.import-btn[_ngcontent-%COMP%]:hover{background:var(--accent-primary);border-color:var(--accent-primary);transform:translateY(-2px)}.delete-all-btn[_ngcontent-%COMP%]{background:transparent;border:1px solid var(--error);color:var(--error);padding:.6rem 1.2rem;border-radius:var(--border-radius);font-size:.95rem;font-weight:500;cursor:pointer;transition:all .3s ease;display:flex;align-items:center;gap:.5rem}.delete-all-btn[_ngcontent-%COMP%]:hover{background:#ef44441a;transform:translateY(-2px);box-shadow:0 4px 12px #ef444433}.documents-grid[_ngcontent-%COMP%]{display:grid;grid-template-columns:repeat(auto-fill,minmax(300px,1fr));gap:1.5rem}.document-card[_ngcontent-%COMP%]{background:var(--bg-card);border-radius:var(--border-radius);border:1px solid var(--border-color);padding:1.5rem;transition:all .3s ease;cursor:pointer;backdrop-filter:blur(10px);position:relative;overflow:hidden}.document-card[_ngcontent-%COMP%]:before{content:"";position:absolute;top:0;left:0;right:0;height:3px;background:var(--accent-gradient);opacity:0;transition:opacity .3s ease}.document-card[_ngcontent-%COMP%]:hover{transform:translateY(-4px);border-color:var(--accent-primary);box-shadow:var(--shadow-md)}.document-card[_ngcontent-%COMP%]:hover:before{opacity:1}.document-title[_ngcontent-%COMP%]{font-size:1.1rem;font-weight:600;margin-bottom:.5rem;color:var(--text-primary)}.document-category[_ngcontent-%COMP%]{display:inline-block;background:var(--accent-primary);color:#fff;padding:.2rem .6rem;border-radius:4px;font-size:.75rem;font-weight:500;margin-bottom:.75rem}.document-meta-small[_ngcontent-%COMP%]{font-size:.8em;color:#666;margin-bottom:5px}.document-snippet[_ngcontent-%COMP%]{color:var(--text-secondary);font-size:.9rem;line-height:1.5;display:-webkit-box;-webkit-line-clamp:3;line-clamp:3;-webkit-box-orient:vertical;overflow:hidden}.document-actions[_ngcontent-%COMP%]{display:flex;justify-content:flex-end;gap:.5rem;margin-top:1rem;padding-top:1rem;border-top:1px solid var(--border-color)}.delete-btn[_ngcontent-%COMP%]{background:transparent;color:var(--error);border:1px solid var(--error);padding:.4rem .8rem;border-radius:6px;font-size:.8rem;cursor:pointer;transition:all .3s ease}.delete-btn[_ngcontent-%COMP%]:hover{background:var(--error);color:#fff}.modal-overlay[_ngcontent-%COMP%]{position:fixed;inset:0;background:#000c;display:flex;align-items:center;justify-content:center;opacity:0;visibility:hidden;transition:all .3s ease;z-index:1000;backdrop-filter:blur(5px)}.modal-overlay.active[_ngcontent-%COMP%]{opacity:1;visibility:visible}.modal-overlay.active[_ngcontent-%COMP%]   .modal[_ngcontent-%COMP%]{transform:scale(1)}.modal[_ngcontent-%COMP%]{background:var(--bg-secondary);border-radius:var(--border-radius-lg);border:1px solid var(--border-color);width:90%;max-width:500px;padding:2rem;transform:scale(.9);transition:transform .3s ease;box-shadow:var(--shadow-lg)}.detail-modal[_ngcontent-%COMP%]{max-width:700px}.modal-header[_ngcontent-%COMP%]{display:flex;justify-content:space-between;align-items:center;margin-bottom:1.5rem}.modal-header[_ngcontent-%COMP%]   h3[_ngcontent-%COMP%]{font-size:1.5rem;font-weight:600}.close-btn[_ngcontent-%COMP%]{background:transparent;border:none;color:var(--text-secondary);font-size:1.5rem;cursor:pointer;width:40px;height:40px;display:flex;align-items:center;justify-content:center;border-radius:50%;transition:all .3s ease}.close-btn[_ngcontent-%COMP%]:hover{background:var(--bg-glass);color:var(--text-primary)}.form-group[_ngcontent-%COMP%]{margin-bottom:1.5rem}.form-group[_ngcontent-%COMP%]   label[_ngcontent-%COMP%]{display:block;margin-bottom:.5rem;color:var(--text-secondary);font-weight:500}.form-group[_ngcontent-%COMP%]   input[_ngcontent-%COMP%], .form-group[_ngcontent-%COMP%]   textarea[_ngcontent-%COMP%]{width:100%;background:var(--bg-glass);border:1px solid var(--border-color);border-radius:var(--border-radius);padding:1rem;color:var(--text-primary);font-size:1rem;font-family:inherit;transition:all .3s ease;resize:vertical}.form-group[_ngcontent-%COMP%]   input[_ngcontent-%COMP%]:focus, .form-group[_ngcontent-%COMP%]   textarea[_ngcontent-%COMP%]:focus{outline:none;border-color:var(--accent-primary);box-shadow:0 0 0 3px #6366f133}.form-actions[_ngcontent-%COMP%]{display:flex;gap:1rem;justify-content:flex-end}.cancel-btn[_ngcontent-%COMP%]{background:transparent;color:var(--text-secondary);border:1px solid var(--border-color);padding:.75rem 1.5rem;border-radius:var(--border-radius);font-size:1rem;cursor:pointer;transition:all .3s ease}.cancel-btn[_ngcontent-%COMP%]:hover{background:var(--bg-glass)}.submit-btn[_ngcontent-%COMP%]{background:var(--accent-gradient);color:#fff;border:none;padding:.75rem 1.5rem;border-radius:var(--border-radius);font-size:1rem;font-weight:600;cursor:pointer;transition:all .3s ease}.submit-btn[_ngcontent-%COMP%]:hover{transform:translateY(-2px);box-shadow:var(--shadow-glow)}.detail-content[_ngcontent-%COMP%]{padding-top:1rem}.detail-category[_ngcontent-%COMP%]{display:inline-block;background:var(--accent-primary);color:#fff;padding:.3rem 1rem;border-radius:20px;font-size:.85rem;font-weight:500;margin-bottom:1rem}.detail-text[_ngcontent-%COMP%]{color:var(--text-secondary);font-size:1rem;line-height:1.8;margin-bottom:1.5rem}.detail-meta[_ngcontent-%COMP%]{color:var(--text-muted);font-size:.85rem;padding-top:1rem;border-top:1px solid var(--border-color)}.toast[_ngcontent-%COMP%]{position:fixed;bottom:2rem;right:2rem;background:var(--bg-secondary);color:var(--text-primary);padding:1rem 1.5rem;border-radius:var(--border-radius);border:1px solid var(--border-color);box-shadow:var(--shadow-lg);transform:translate(calc(100% + 2rem));transition:transform .3s ease;z-index:1001}.toast.active[_ngcontent-%COMP%]{transform:translate(0)}.toast.success[_ngcontent-%COMP%]{border-color:var(--success)}.toast.error[_ngcontent-%COMP%]{border-color:var(--error)}.toast.info[_ngcontent-%COMP%]{border-color:var(--accent-primary)}.scroll-top-btn[_ngcontent-%COMP%]{position:fixed;bottom:2rem;left:2rem;width:48px;height:48px;border-radius:50%;background:var(--accent-gradient);color:#fff;border:none;font-size:1.5rem;cursor:pointer;opacity:0;visibility:hidden;transition:all .3s ease;z-index:999;box-shadow:var(--shadow-md)}.scroll-top-btn.visible[_ngcontent-%COMP%]{opacity:1;visibility:visible}.scroll-top-btn[_ngcontent-%COMP%]:hover{transform:translateY(-4px);box-shadow:var(--shadow-glow)}.loading[_ngcontent-%COMP%]{display:flex;align-items:center;justify-content:center;padding:3rem;color:var(--text-muted)}@keyframes _ngcontent-%COMP%_fadeIn{0%{opacity:0}to{opacity:1}}@keyframes _ngcontent-%COMP%_fadeInDown{0%{opacity:0;transform:translateY(-20px)}to{opacity:1;transform:translateY(0)}}@keyframes _ngcontent-%COMP%_pulse{0%,to{transform:scale(1)}50%{transform:scale(1.1)}}@media (max-width: 768px){.user-menu[_ngcontent-%COMP%]{position:relative;top:auto;right:auto;justify-content:center;margin-top:1rem}.section-header[_ngcontent-%COMP%]{flex-direction:column;gap:1rem;align-items:flex-start}.header-actions[_ngcontent-%COMP%]{flex-wrap:wrap}.documents-grid[_ngcontent-%COMP%]{grid-template-columns:1fr}}']})};var Om=(e,t)=>{let n=v(ft),r=v(Oe);return n.fetchCurrentUser().pipe(ke(1),N(o=>o?!0:(r.navigate(["/login"]),!1)))};var Pm=[{path:"login",component:fa},{path:"register",component:ha},{path:"dashboard",component:ma,canActivate:[Om]},{path:"",redirectTo:"/dashboard",pathMatch:"full"},{path:"**",redirectTo:"/dashboard"}];var km={providers:[Vp({eventCoalescing:!0}),Au(Pm),su(au())]};var va=class e{static \u0275fac=function(n){return new(n||e)};static \u0275cmp=st({type:e,selectors:[["app-root"]],decls:1,vars:0,template:function(n,r){n&1&&hn(0,"router-outlet")},dependencies:[Ro],encapsulation:2})};Jl(va,km).catch(e=>console.error(e));
+This action cannot be undone!`)&&this.apiService.deleteAllDocuments().subscribe({next:()=>{this.toastService.show("\u{1F5D1}\uFE0F All documents deleted successfully!","success"),this.refreshData()},error:()=>this.toastService.show("Failed to delete all documents","error")})}onFileSelected(t){let n=t.target,r=n.files?.[0];r&&(this.toastService.show("Importing documents... This may take a moment.","info"),this.apiService.importFile(r).subscribe({next:o=>{this.toastService.show(`\u2713 Imported ${o.imported} documents!`,"success"),this.refreshData()},error:o=>this.toastService.show("Failed to import: "+(o.error?.error||o.message),"error")}),n.value="")}handleLogout(){this.authService.logout().subscribe({next:()=>this.router.navigate(["/login"]),error:()=>this.router.navigate(["/login"])})}formatDate(t){return t?new Date(t).toLocaleDateString("en-US",{year:"numeric",month:"short",day:"numeric",hour:"2-digit",minute:"2-digit"}):"Unknown"}onScroll(){this.showScrollTop=window.scrollY>300}scrollToTop(){window.scrollTo({top:0,behavior:"smooth"})}onModalBackdropClick(t,n){t.target===t.currentTarget&&(n==="add"&&this.closeAddModal(),n==="detail"&&this.closeDetailModal())}onEscape(){this.closeAddModal(),this.closeDetailModal()}static \u0275fac=function(n){return new(n||e)(T(pa),T(ft),T(ga),T(Oe))};static \u0275cmp=st({type:e,selectors:[["app-dashboard"]],hostBindings:function(n,r){n&1&&H("scroll",function(){return r.onScroll()},!1,Yh)("keydown.escape",function(){return r.onEscape()},!1,Qh)},decls:88,vars:38,consts:[["fileInput",""],[1,"app-container"],[1,"header"],[1,"logo"],[1,"logo-icon"],[1,"subtitle"],[1,"user-menu"],[1,"user-info"],[1,"user-icon"],[1,"user-role"],[1,"logout-btn",3,"click"],[1,"stats-bar"],[1,"stat-item"],[1,"stat-value"],[1,"stat-label"],[1,"search-section"],[1,"search-container"],[1,"search-box"],[1,"search-icon"],["type","text","placeholder","Search by meaning","autocomplete","off",3,"ngModelChange","keypress","ngModel"],[1,"search-btn",3,"click"],[1,"search-hint"],["class","results-section",4,"ngIf"],[1,"documents-section"],[1,"section-header"],["class","header-actions",4,"ngIf"],[1,"documents-grid"],["class","loading",4,"ngIf"],["class","document-card",3,"click",4,"ngFor","ngForOf"],[1,"modal-overlay",3,"click"],[1,"modal"],[1,"modal-header"],[1,"close-btn",3,"click"],[3,"ngSubmit"],[1,"form-group"],["for","docTitle"],["type","text","id","docTitle","name","docTitle","placeholder","Document title","required","",3,"ngModelChange","ngModel"],["for","docCategory"],["type","text","id","docCategory","name","docCategory","placeholder","e.g., Programming, DevOps, AI/ML",3,"ngModelChange","ngModel"],["for","docContent"],["id","docContent","name","docContent","rows","5","placeholder","Document content...","required","",3,"ngModelChange","ngModel"],[1,"form-actions"],["type","button",1,"cancel-btn",3,"click"],["type","submit",1,"submit-btn"],["class","modal detail-modal",4,"ngIf"],["title","Go to top",1,"scroll-top-btn",3,"click"],[1,"toast"],[1,"results-section"],[1,"results-header"],[1,"results-count"],[1,"results-container"],["class","result-card",3,"best-match","click",4,"ngFor","ngForOf"],[1,"loading"],[1,"result-card",3,"click"],[1,"result-header"],[1,"result-title"],["class","similarity-badge most-matched",4,"ngIf"],[1,"result-content"],[1,"result-category"],[1,"similarity-badge","most-matched"],[1,"header-actions"],["type","file","accept",".csv, .xlsx",2,"display","none",3,"change"],[1,"import-btn",3,"click"],[1,"add-btn",3,"click"],[1,"delete-all-btn",3,"click"],[1,"document-card",3,"click"],[1,"document-title"],[1,"document-category"],["class","document-meta-small",4,"ngIf"],[1,"document-snippet"],["class","document-actions",4,"ngIf"],[1,"document-meta-small"],[1,"document-actions"],[1,"delete-btn",3,"click"],[1,"modal","detail-modal"],[1,"detail-content"],[1,"detail-category"],[1,"detail-text"],[1,"detail-meta"],[4,"ngIf"]],template:function(n,r){if(n&1&&(p(0,"div",1)(1,"header",2)(2,"div",3)(3,"span",4),D(4,"\u{1F9E0}"),g(),p(5,"h1"),D(6,"Knowledge Base"),g()(),p(7,"p",5),D(8,"Semantic Search Demo"),g(),p(9,"div",6)(10,"span",7)(11,"span",8),D(12,"\u{1F464}"),g(),p(13,"span"),D(14),g(),p(15,"span",9),D(16),g()(),p(17,"button",10),H("click",function(){return r.handleLogout()}),D(18,"Logout"),g()()(),p(19,"div",11)(20,"div",12)(21,"span",13),D(22),g(),p(23,"span",14),D(24,"Documents"),g()(),p(25,"div",12)(26,"span",13),D(27),g(),p(28,"span",14),D(29,"Embedding Dimensions"),g()()(),p(30,"section",15)(31,"div",16)(32,"div",17)(33,"span",18),D(34,"\u{1F50D}"),g(),p(35,"input",19),ve("ngModelChange",function(i){return Ee(r.searchQuery,i)||(r.searchQuery=i),i}),H("keypress",function(i){return r.onSearchKeypress(i)}),g(),p(36,"button",20),H("click",function(){return r.handleSearch()}),D(37,"Search"),g()(),p(38,"p",21),D(39," \u{1F4A1} "),p(40,"strong"),D(41,"Semantic Search"),g(),D(42," finds documents by meaning, not just keywords! "),g()()(),ge(43,QI,9,3,"section",22),p(44,"section",23)(45,"div",24)(46,"h2"),D(47,"All Documents"),g(),ge(48,KI,9,0,"div",25),g(),p(49,"div",26),ge(50,XI,2,0,"div",27)(51,t0,9,5,"div",28),g()(),p(52,"div",29),H("click",function(i){return r.onModalBackdropClick(i,"add")}),p(53,"div",30)(54,"div",31)(55,"h3"),D(56,"Add New Document"),g(),p(57,"button",32),H("click",function(){return r.closeAddModal()}),D(58,"\xD7"),g()(),p(59,"form",33),H("ngSubmit",function(){return r.submitDocument()}),p(60,"div",34)(61,"label",35),D(62,"Title"),g(),p(63,"input",36),ve("ngModelChange",function(i){return Ee(r.newDocTitle,i)||(r.newDocTitle=i),i}),g()(),p(64,"div",34)(65,"label",37),D(66,"Category"),g(),p(67,"input",38),ve("ngModelChange",function(i){return Ee(r.newDocCategory,i)||(r.newDocCategory=i),i}),g()(),p(68,"div",34)(69,"label",39),D(70,"Content"),g(),p(71,"textarea",40),ve("ngModelChange",function(i){return Ee(r.newDocContent,i)||(r.newDocContent=i),i}),g()(),p(72,"div",41)(73,"button",42),H("click",function(){return r.closeAddModal()}),D(74,"Cancel"),g(),p(75,"button",43),D(76,"Add Document"),g()()()()(),p(77,"div",29),H("click",function(i){return r.onModalBackdropClick(i,"detail")}),ge(78,o0,16,6,"div",44),g(),p(79,"button",45),H("click",function(){return r.scrollToTop()}),D(80,"\u2191"),g(),p(81,"div",46),or(82,"async"),or(83,"async"),or(84,"async"),or(85,"async"),D(86),or(87,"async"),g()()),n&2){let o,i,s,a,c;E(14),re((r.currentUser==null?null:r.currentUser.username)||"User"),E(2),re(r.currentUser==null?null:r.currentUser.role),E(6),re(r.stats.documentCount),E(5),re(r.stats.embeddingDimension||768),E(8),me("ngModel",r.searchQuery),E(8),X("ngIf",r.showResults),E(5),X("ngIf",r.isAdmin),E(2),X("ngIf",r.documents.length===0),E(),X("ngForOf",r.documents),E(),at("active",r.showAddModal),E(11),me("ngModel",r.newDocTitle),E(4),me("ngModel",r.newDocCategory),E(4),me("ngModel",r.newDocContent),E(6),at("active",r.showDetailModal),E(),X("ngIf",r.selectedDoc),E(),at("visible",r.showScrollTop),E(2),at("active",(o=ir(82,28,r.toastService.toast$))==null?null:o.visible)("success",((i=ir(83,30,r.toastService.toast$))==null?null:i.type)==="success")("error",((s=ir(84,32,r.toastService.toast$))==null?null:s.type)==="error")("info",((a=ir(85,34,r.toastService.toast$))==null?null:a.type)==="info"),E(5),Ue(" ",(c=ir(87,36,r.toastService.toast$))==null?null:c.message," ")}},dependencies:[$t,ys,mn,zl,Ar,Nr,Wt,Tr,xr,In,En,_n],styles:['.app-container[_ngcontent-%COMP%]{max-width:1200px;margin:0 auto;padding:2rem}.header[_ngcontent-%COMP%]{text-align:center;margin-bottom:2rem;animation:_ngcontent-%COMP%_fadeInDown .6s ease-out}.logo[_ngcontent-%COMP%]{display:flex;align-items:center;justify-content:center;gap:.75rem;margin-bottom:.5rem}.logo-icon[_ngcontent-%COMP%]{font-size:2.5rem;animation:_ngcontent-%COMP%_pulse 2s infinite}.logo[_ngcontent-%COMP%]   h1[_ngcontent-%COMP%]{font-size:2.5rem;font-weight:700;background:var(--accent-gradient);-webkit-background-clip:text;-webkit-text-fill-color:transparent;background-clip:text}.subtitle[_ngcontent-%COMP%]{color:var(--text-secondary);font-size:1.1rem;font-weight:300}.user-menu[_ngcontent-%COMP%]{position:absolute;top:2rem;right:2rem;display:flex;align-items:center;gap:1rem}.user-info[_ngcontent-%COMP%]{display:flex;align-items:center;gap:.5rem;color:var(--text-secondary);font-size:.95rem}.user-icon[_ngcontent-%COMP%]{font-size:1.2rem}.user-role[_ngcontent-%COMP%]{background:var(--accent-gradient);color:#fff;padding:.2rem .6rem;border-radius:20px;font-size:.75rem;font-weight:600;text-transform:uppercase}.logout-btn[_ngcontent-%COMP%]{background:var(--bg-glass);border:1px solid var(--border-color);color:var(--text-secondary);padding:.5rem 1rem;border-radius:var(--border-radius);cursor:pointer;font-size:.9rem;transition:all .3s ease}.logout-btn[_ngcontent-%COMP%]:hover{background:var(--error);border-color:var(--error);color:#fff}.stats-bar[_ngcontent-%COMP%]{display:flex;justify-content:center;gap:3rem;padding:1.5rem;background:var(--bg-glass);border-radius:var(--border-radius);border:1px solid var(--border-color);margin-bottom:2rem;backdrop-filter:blur(10px);animation:_ngcontent-%COMP%_fadeIn .6s ease-out .2s both}.stat-item[_ngcontent-%COMP%]{display:flex;flex-direction:column;align-items:center;gap:.25rem}.stat-value[_ngcontent-%COMP%]{font-size:2rem;font-weight:700;background:var(--accent-gradient);-webkit-background-clip:text;-webkit-text-fill-color:transparent;background-clip:text}.stat-label[_ngcontent-%COMP%]{font-size:.85rem;color:var(--text-muted);text-transform:uppercase;letter-spacing:.5px}.search-section[_ngcontent-%COMP%]{margin-bottom:2rem;animation:_ngcontent-%COMP%_fadeIn .6s ease-out .3s both}.search-container[_ngcontent-%COMP%]{max-width:800px;margin:0 auto}.search-box[_ngcontent-%COMP%]{display:flex;align-items:center;background:var(--bg-card);border-radius:var(--border-radius-lg);border:2px solid var(--border-color);padding:.5rem .5rem .5rem 1.5rem;box-shadow:var(--shadow-md);transition:all .3s ease}.search-box[_ngcontent-%COMP%]:focus-within{border-color:var(--accent-primary);box-shadow:var(--shadow-glow)}.search-icon[_ngcontent-%COMP%]{font-size:1.5rem;margin-right:1rem;opacity:.7}.search-box[_ngcontent-%COMP%]   input[_ngcontent-%COMP%]{flex:1;background:transparent;border:none;outline:none;color:var(--text-primary);font-size:1.1rem;padding:1rem 0}.search-box[_ngcontent-%COMP%]   input[_ngcontent-%COMP%]::placeholder{color:var(--text-muted)}.search-btn[_ngcontent-%COMP%]{background:var(--accent-gradient);color:#fff;border:none;padding:1rem 2rem;border-radius:12px;font-size:1rem;font-weight:600;cursor:pointer;transition:all .3s ease;white-space:nowrap}.search-btn[_ngcontent-%COMP%]:hover{transform:translateY(-2px);box-shadow:var(--shadow-glow)}.search-hint[_ngcontent-%COMP%]{text-align:center;margin-top:1rem;color:var(--text-secondary);font-size:.9rem}.results-section[_ngcontent-%COMP%]{margin-bottom:3rem;animation:_ngcontent-%COMP%_fadeIn .4s ease-out}.results-header[_ngcontent-%COMP%]{display:flex;align-items:center;gap:1rem;margin-bottom:1.5rem}.results-header[_ngcontent-%COMP%]   h2[_ngcontent-%COMP%]{font-size:1.5rem;font-weight:600}.results-count[_ngcontent-%COMP%]{background:var(--accent-primary);color:#fff;padding:.25rem .75rem;border-radius:20px;font-size:.85rem;font-weight:600}.results-container[_ngcontent-%COMP%]{display:flex;flex-direction:column;gap:1rem}.result-card[_ngcontent-%COMP%]{background:var(--bg-card);border-radius:var(--border-radius);border:1px solid var(--border-color);padding:1.5rem;transition:all .3s ease;cursor:pointer;backdrop-filter:blur(10px)}.result-card[_ngcontent-%COMP%]:hover{transform:translate(8px);border-color:var(--accent-primary);box-shadow:var(--shadow-md)}.result-card.best-match[_ngcontent-%COMP%]{border-color:#f59e0b66;box-shadow:0 0 20px #f59e0b1a}.result-header[_ngcontent-%COMP%]{display:flex;justify-content:space-between;align-items:flex-start;margin-bottom:.75rem}.result-title[_ngcontent-%COMP%]{font-size:1.2rem;font-weight:600;color:var(--text-primary)}.similarity-badge.most-matched[_ngcontent-%COMP%]{display:flex;align-items:center;gap:.5rem;background:#f59e0b33;color:#f59e0b;padding:.25rem .75rem;border-radius:20px;font-size:.85rem;font-weight:600;white-space:nowrap;border:1px solid rgba(245,158,11,.3);animation:_ngcontent-%COMP%_fadeIn .4s ease-out}.result-content[_ngcontent-%COMP%]{color:var(--text-secondary);font-size:.95rem;line-height:1.6;display:-webkit-box;-webkit-line-clamp:3;line-clamp:3;-webkit-box-orient:vertical;overflow:hidden}.result-category[_ngcontent-%COMP%]{display:inline-block;margin-top:.75rem;background:var(--bg-glass);color:var(--text-secondary);padding:.25rem .75rem;border-radius:6px;font-size:.8rem}.documents-section[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_fadeIn .6s ease-out .4s both}.section-header[_ngcontent-%COMP%]{display:flex;justify-content:space-between;align-items:center;margin-bottom:1.5rem}.section-header[_ngcontent-%COMP%]   h2[_ngcontent-%COMP%]{font-size:1.5rem;font-weight:600}.header-actions[_ngcontent-%COMP%]{display:flex;gap:1rem}.add-btn[_ngcontent-%COMP%]{background:var(--accent-gradient);color:#fff;border:none;padding:.75rem 1.5rem;border-radius:var(--border-radius);font-size:1rem;font-weight:600;cursor:pointer;transition:all .3s ease}.add-btn[_ngcontent-%COMP%]:hover{transform:translateY(-2px);box-shadow:var(--shadow-glow)}.import-btn[_ngcontent-%COMP%]{background:var(--bg-glass);color:var(--text-primary);border:1px solid var(--border-color);padding:.75rem 1.5rem;border-radius:var(--border-radius);font-size:1rem;font-weight:500;cursor:pointer;transition:all .3s ease}.import-btn[_ngcontent-%COMP%]:hover{background:var(--accent-primary);border-color:var(--accent-primary);transform:translateY(-2px)}.delete-all-btn[_ngcontent-%COMP%]{background:transparent;border:1px solid var(--error);color:var(--error);padding:.6rem 1.2rem;border-radius:var(--border-radius);font-size:.95rem;font-weight:500;cursor:pointer;transition:all .3s ease;display:flex;align-items:center;gap:.5rem}.delete-all-btn[_ngcontent-%COMP%]:hover{background:#ef44441a;transform:translateY(-2px);box-shadow:0 4px 12px #ef444433}.documents-grid[_ngcontent-%COMP%]{display:grid;grid-template-columns:repeat(auto-fill,minmax(300px,1fr));gap:1.5rem}.document-card[_ngcontent-%COMP%]{background:var(--bg-card);border-radius:var(--border-radius);border:1px solid var(--border-color);padding:1.5rem;transition:all .3s ease;cursor:pointer;backdrop-filter:blur(10px);position:relative;overflow:hidden}.document-card[_ngcontent-%COMP%]:before{content:"";position:absolute;top:0;left:0;right:0;height:3px;background:var(--accent-gradient);opacity:0;transition:opacity .3s ease}.document-card[_ngcontent-%COMP%]:hover{transform:translateY(-4px);border-color:var(--accent-primary);box-shadow:var(--shadow-md)}.document-card[_ngcontent-%COMP%]:hover:before{opacity:1}.document-title[_ngcontent-%COMP%]{font-size:1.1rem;font-weight:600;margin-bottom:.5rem;color:var(--text-primary)}.document-category[_ngcontent-%COMP%]{display:inline-block;background:var(--accent-primary);color:#fff;padding:.2rem .6rem;border-radius:4px;font-size:.75rem;font-weight:500;margin-bottom:.75rem}.document-meta-small[_ngcontent-%COMP%]{font-size:.8em;color:#666;margin-bottom:5px}.document-snippet[_ngcontent-%COMP%]{color:var(--text-secondary);font-size:.9rem;line-height:1.5;display:-webkit-box;-webkit-line-clamp:3;line-clamp:3;-webkit-box-orient:vertical;overflow:hidden}.document-actions[_ngcontent-%COMP%]{display:flex;justify-content:flex-end;gap:.5rem;margin-top:1rem;padding-top:1rem;border-top:1px solid var(--border-color)}.delete-btn[_ngcontent-%COMP%]{background:transparent;color:var(--error);border:1px solid var(--error);padding:.4rem .8rem;border-radius:6px;font-size:.8rem;cursor:pointer;transition:all .3s ease}.delete-btn[_ngcontent-%COMP%]:hover{background:var(--error);color:#fff}.modal-overlay[_ngcontent-%COMP%]{position:fixed;inset:0;background:#000c;display:flex;align-items:center;justify-content:center;opacity:0;visibility:hidden;transition:all .3s ease;z-index:1000;backdrop-filter:blur(5px)}.modal-overlay.active[_ngcontent-%COMP%]{opacity:1;visibility:visible}.modal-overlay.active[_ngcontent-%COMP%]   .modal[_ngcontent-%COMP%]{transform:scale(1)}.modal[_ngcontent-%COMP%]{background:var(--bg-secondary);border-radius:var(--border-radius-lg);border:1px solid var(--border-color);width:90%;max-width:500px;padding:2rem;transform:scale(.9);transition:transform .3s ease;box-shadow:var(--shadow-lg)}.detail-modal[_ngcontent-%COMP%]{max-width:700px}.modal-header[_ngcontent-%COMP%]{display:flex;justify-content:space-between;align-items:center;margin-bottom:1.5rem}.modal-header[_ngcontent-%COMP%]   h3[_ngcontent-%COMP%]{font-size:1.5rem;font-weight:600}.close-btn[_ngcontent-%COMP%]{background:transparent;border:none;color:var(--text-secondary);font-size:1.5rem;cursor:pointer;width:40px;height:40px;display:flex;align-items:center;justify-content:center;border-radius:50%;transition:all .3s ease}.close-btn[_ngcontent-%COMP%]:hover{background:var(--bg-glass);color:var(--text-primary)}.form-group[_ngcontent-%COMP%]{margin-bottom:1.5rem}.form-group[_ngcontent-%COMP%]   label[_ngcontent-%COMP%]{display:block;margin-bottom:.5rem;color:var(--text-secondary);font-weight:500}.form-group[_ngcontent-%COMP%]   input[_ngcontent-%COMP%], .form-group[_ngcontent-%COMP%]   textarea[_ngcontent-%COMP%]{width:100%;background:var(--bg-glass);border:1px solid var(--border-color);border-radius:var(--border-radius);padding:1rem;color:var(--text-primary);font-size:1rem;font-family:inherit;transition:all .3s ease;resize:vertical}.form-group[_ngcontent-%COMP%]   input[_ngcontent-%COMP%]:focus, .form-group[_ngcontent-%COMP%]   textarea[_ngcontent-%COMP%]:focus{outline:none;border-color:var(--accent-primary);box-shadow:0 0 0 3px #6366f133}.form-actions[_ngcontent-%COMP%]{display:flex;gap:1rem;justify-content:flex-end}.cancel-btn[_ngcontent-%COMP%]{background:transparent;color:var(--text-secondary);border:1px solid var(--border-color);padding:.75rem 1.5rem;border-radius:var(--border-radius);font-size:1rem;cursor:pointer;transition:all .3s ease}.cancel-btn[_ngcontent-%COMP%]:hover{background:var(--bg-glass)}.submit-btn[_ngcontent-%COMP%]{background:var(--accent-gradient);color:#fff;border:none;padding:.75rem 1.5rem;border-radius:var(--border-radius);font-size:1rem;font-weight:600;cursor:pointer;transition:all .3s ease}.submit-btn[_ngcontent-%COMP%]:hover{transform:translateY(-2px);box-shadow:var(--shadow-glow)}.detail-content[_ngcontent-%COMP%]{padding-top:1rem}.detail-category[_ngcontent-%COMP%]{display:inline-block;background:var(--accent-primary);color:#fff;padding:.3rem 1rem;border-radius:20px;font-size:.85rem;font-weight:500;margin-bottom:1rem}.detail-text[_ngcontent-%COMP%]{color:var(--text-secondary);font-size:1rem;line-height:1.8;margin-bottom:1.5rem}.detail-meta[_ngcontent-%COMP%]{color:var(--text-muted);font-size:.85rem;padding-top:1rem;border-top:1px solid var(--border-color)}.toast[_ngcontent-%COMP%]{position:fixed;bottom:2rem;right:2rem;background:var(--bg-secondary);color:var(--text-primary);padding:1rem 1.5rem;border-radius:var(--border-radius);border:1px solid var(--border-color);box-shadow:var(--shadow-lg);transform:translate(calc(100% + 2rem));transition:transform .3s ease;z-index:1001}.toast.active[_ngcontent-%COMP%]{transform:translate(0)}.toast.success[_ngcontent-%COMP%]{border-color:var(--success)}.toast.error[_ngcontent-%COMP%]{border-color:var(--error)}.toast.info[_ngcontent-%COMP%]{border-color:var(--accent-primary)}.scroll-top-btn[_ngcontent-%COMP%]{position:fixed;bottom:2rem;left:2rem;width:48px;height:48px;border-radius:50%;background:var(--accent-gradient);color:#fff;border:none;font-size:1.5rem;cursor:pointer;opacity:0;visibility:hidden;transition:all .3s ease;z-index:999;box-shadow:var(--shadow-md)}.scroll-top-btn.visible[_ngcontent-%COMP%]{opacity:1;visibility:visible}.scroll-top-btn[_ngcontent-%COMP%]:hover{transform:translateY(-4px);box-shadow:var(--shadow-glow)}.loading[_ngcontent-%COMP%]{display:flex;align-items:center;justify-content:center;padding:3rem;color:var(--text-muted)}@keyframes _ngcontent-%COMP%_fadeIn{0%{opacity:0}to{opacity:1}}@keyframes _ngcontent-%COMP%_fadeInDown{0%{opacity:0;transform:translateY(-20px)}to{opacity:1;transform:translateY(0)}}@keyframes _ngcontent-%COMP%_pulse{0%,to{transform:scale(1)}50%{transform:scale(1.1)}}@media (max-width: 768px){.user-menu[_ngcontent-%COMP%]{position:relative;top:auto;right:auto;justify-content:center;margin-top:1rem}.section-header[_ngcontent-%COMP%]{flex-direction:column;gap:1rem;align-items:flex-start}.header-actions[_ngcontent-%COMP%]{flex-wrap:wrap}.documents-grid[_ngcontent-%COMP%]{grid-template-columns:1fr}}']})};var Om=(e,t)=>{let n=v(ft),r=v(Oe);return n.fetchCurrentUser().pipe(ke(1),N(o=>o?!0:(r.navigate(["/login"]),!1)))};var Pm=[{path:"login",component:fa},{path:"register",component:ha},{path:"dashboard",component:ma,canActivate:[Om]},{path:"",redirectTo:"/dashboard",pathMatch:"full"},{path:"**",redirectTo:"/dashboard"}];var km={providers:[Vp({eventCoalescing:!0}),Au(Pm),su(au())]};var va=class e{static \u0275fac=function(n){return new(n||e)};static \u0275cmp=st({type:e,selectors:[["app-root"]],decls:1,vars:0,template:function(n,r){n&1&&hn(0,"router-outlet")},dependencies:[Ro],encapsulation:2})};Jl(va,km).catch(e=>console.error(e));
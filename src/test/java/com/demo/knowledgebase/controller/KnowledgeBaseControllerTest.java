@@ -0,0 +1,157 @@
+package com.demo.knowledgebase.controller;
+
+import com.demo.knowledgebase.model.Document;
+import com.demo.knowledgebase.service.ImportJobService;
+import com.demo.knowledgebase.service.KnowledgeBaseService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Request handling of the document listing and search endpoints through the
+ * MVC stack, with the service mocked.
+ */
+@WebMvcTest(KnowledgeBaseController.class)
+@WithMockUser
+class KnowledgeBaseControllerTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private KnowledgeBaseService knowledgeBaseService;
+
+    @MockBean
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        when(knowledgeBaseService.getContentVersion()).thenReturn("test-1");
+        doAnswer(invocation -> {
+            Consumer<Document> consumer = invocation.getArgument(2);
+            consumer.accept(new Document("a", "Alpha", "First document", "General", CREATED, "admin"));
+            consumer.accept(new Document("b", "Beta", "Second document", "News", CREATED, "editor"));
+            return null;
+        }).when(knowledgeBaseService).forEachDocument(any(), anyLong(), any());
+    }
+
+    @Test
+    void streamsOneDocumentPerLine() throws Exception {
+        MvcResult started = mvc.perform(get("/api/documents").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"test-1\""))
+                .andReturn();
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertTrue(body.endsWith("\n"), "every line ends with a newline");
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("a", first.get("id").asText());
+        assertEquals("Alpha", first.get("title").asText());
+        assertEquals("First document", first.get("content").asText());
+        assertEquals("General", first.get("category").asText());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("b", second.get("id").asText());
+        assertEquals("News", second.get("category").asText());
+        assertEquals("editor", second.get("createdBy").asText());
+
+        verify(knowledgeBaseService).forEachDocument(isNull(), eq(Long.MAX_VALUE), any());
+    }
+
+    @Test
+    void streamsSummariesFromTheCursor() throws Exception {
+        // "YQ" is the cursor for ID "a"
+        MvcResult started = mvc.perform(get("/api/documents")
+                .param("format", "ndjson")
+                .param("cursor", "YQ")
+                .param("limit", "5")
+                .param("content", "false"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            JsonNode summary = objectMapper.readTree(line);
+            assertTrue(summary.has("title"));
+            assertFalse(summary.has("content"), "content=false leaves out the content");
+        }
+        verify(knowledgeBaseService).forEachDocument(eq("a"), eq(5L), any());
+    }
+
+    @Test
+    void answersNotModifiedWithoutReadingDocuments() throws Exception {
+        mvc.perform(get("/api/documents")
+                .param("format", "ndjson")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"test-1\""))
+                .andExpect(status().isNotModified());
+
+        verify(knowledgeBaseService, never()).forEachDocument(any(), anyLong(), any());
+    }
+
+    @Test
+    void rejectsUnknownFormatsAndBadLimits() throws Exception {
+        mvc.perform(get("/api/documents").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/documents").param("format", "ndjson").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsSearchParametersOutOfRange() throws Exception {
+        String[][] invalid = {
+                { "maxResults", "0" }, { "maxResults", "1001" },
+                { "ef", "0" }, { "ef", "200000000" },
+                { "nprobe", "-1" }, { "oversample", "101" } };
+        for (String[] parameter : invalid) {
+            mvc.perform(get("/api/search").param("query", "test").param(parameter[0], parameter[1]))
+                    .andExpect(status().isBadRequest());
+        }
+        verify(knowledgeBaseService, never()).semanticSearch(any(), anyInt(), any(), any());
+    }
+}
@@ -0,0 +1,205 @@
+package com.demo.knowledgebase.service;
+
+import com.demo.knowledgebase.model.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistenceServiceTest {
+
+    private static final int DIMENSION = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversTheLogWithoutASnapshot() {
+        PersistenceService store = open();
+        try {
+            assertTrue(store.isFresh());
+            store.recover((document, vector) -> {
+            });
+            store.put(List.of(document("a", "first"), document("b", "second"), document("c", "third")),
+                    List.of(vector(1), vector(2), vector(3)));
+            store.delete("b");
+            store.put(List.of(document("a", "first, edited")), List.of(vector(4)));
+        } finally {
+            store.close();
+        }
+
+        Recovered recovered = reopen();
+        assertEquals(List.of("c", "a"), List.copyOf(recovered.documents.keySet()));
+        assertEquals("first, edited", recovered.documents.get("a").getContent());
+        assertArrayEquals(vector(4), recovered.vectors.get("a"));
+        assertArrayEquals(vector(3), recovered.vectors.get("c"));
+    }
+
+    @Test
+    void replaysTheLogOnTopOfTheSnapshot() throws IOException {
+        PersistenceService store = open();
+        try {
+            store.recover((document, vector) -> {
+            });
+            store.put(List.of(document("a", "first"), document("b", "second"), document("c", "third")),
+                    List.of(vector(1), vector(2), vector(3)));
+            store.snapshot();
+            store.delete("a");
+            store.put(List.of(document("b", "second, edited"), document("d", "fourth")),
+                    List.of(vector(5), vector(6)));
+        } finally {
+            store.close();
+        }
+        assertEquals(1, files("snapshot-", ".docs").size());
+
+        Recovered recovered = reopen();
+        // Unchanged snapshot documents first, then the log's in the order last written
+        assertEquals(List.of("c", "b", "d"), List.copyOf(recovered.documents.keySet()));
+        assertEquals("second, edited", recovered.documents.get("b").getContent());
+        assertArrayEquals(vector(5), recovered.vectors.get("b"));
+        assertArrayEquals(vector(3), recovered.vectors.get("c"));
+    }
+
+    @Test
+    void snapshotMergesThePreviousSnapshotAndDeletesCoveredSegments() throws IOException {
+        PersistenceService store = open();
+        try {
+            store.recover((document, vector) -> {
+            });
+            store.put(List.of(document("a", "first"), document("b", "second")), List.of(vector(1), vector(2)));
+            store.snapshot();
+            store.delete("a");
+            store.put(List.of(document("c", "third")), List.of(vector(3)));
+            store.snapshot();
+        } finally {
+            store.close();
+        }
+
+        assertEquals(1, files("snapshot-", ".docs").size(), "the older snapshot is deleted");
+        for (Path segment : files("wal-", ".log")) {
+            assertEquals(0, Files.size(segment), "only an empty active segment is left");
+        }
+
+        Recovered recovered = reopen();
+        assertEquals(List.of("b", "c"), List.copyOf(recovered.documents.keySet()));
+        assertArrayEquals(vector(2), recovered.vectors.get("b"));
+    }
+
+    @Test
+    void clearInTheLogVoidsTheSnapshot() {
+        PersistenceService store = open();
+        try {
+            store.recover((document, vector) -> {
+            });
+            store.put(List.of(document("a", "first"), document("b", "second")), List.of(vector(1), vector(2)));
+            store.snapshot();
+            store.clear();
+            store.put(List.of(document("c", "third")), List.of(vector(3)));
+        } finally {
+            store.close();
+        }
+
+        Recovered recovered = reopen();
+        assertEquals(List.of("c"), List.copyOf(recovered.documents.keySet()));
+
+        // And once the clear is compacted into a snapshot
+        PersistenceService compacted = open();
+        try {
+            assertFalse(compacted.isFresh());
+            compacted.recover((document, vector) -> {
+            });
+            compacted.snapshot();
+        } finally {
+            compacted.close();
+        }
+        assertEquals(List.of("c"), List.copyOf(reopen().documents.keySet()));
+    }
+
+    @Test
+    void dropsATornWriteAtTheEndOfTheLog() throws IOException {
+        PersistenceService store = open();
+        try {
+            store.recover((document, vector) -> {
+            });
+            store.put(List.of(document("a", "first")), List.of(vector(1)));
+            store.put(List.of(document("b", "second")), List.of(vector(2)));
+        } finally {
+            store.close();
+        }
+        Path segment = files("wal-", ".log").get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        Recovered recovered = reopen();
+        assertEquals(List.of("a"), List.copyOf(recovered.documents.keySet()));
+    }
+
+    @Test
+    void recoversOnlyOnce() {
+        PersistenceService store = open();
+        try {
+            store.recover((document, vector) -> {
+            });
+            assertThrows(IllegalStateException.class, () -> store.recover((document, vector) -> {
+            }));
+        } finally {
+            store.close();
+        }
+    }
+
+    private PersistenceService open() {
+        // fsync off and no background snapshots: the tests snapshot explicitly
+        return new PersistenceService(directory.toString(), DIMENSION, "float32", false, 1, 64, 3600);
+    }
+
+    private Recovered reopen() {
+        PersistenceService store = open();
+        try {
+            Recovered recovered = new Recovered();
+            int count = store.recover((document, vector) -> {
+                recovered.documents.put(document.getId(), document);
+                recovered.vectors.put(document.getId(), vector);
+            });
+            assertEquals(recovered.documents.size(), count);
+            return recovered;
+        } finally {
+            store.close();
+        }
+    }
+
+    private List<Path> files(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().startsWith(prefix)
+                    && p.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    private static Document document(String id, String content) {
+        return new Document(id, "Title " + id, content, "General", LocalDateTime.of(2024, 1, 1, 12, 0), "admin");
+    }
+
+    private static float[] vector(int seed) {
+        return new float[] { seed, seed + 0.5f, -seed, 1f };
+    }
+
+    private static final class Recovered {
+        final Map<String, Document> documents = new LinkedHashMap<>();
+        final Map<String, float[]> vectors = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,58 @@
+package com.demo.knowledgebase.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RawVectorFileTest {
+
+    private static final int DIMENSION = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void survivesAnInterruptedRead() throws IOException {
+        try (RawVectorFile file = new RawVectorFile(directory.resolve("vectors.bin"), DIMENSION)) {
+            ByteBuffer buffer = file.newBuffer();
+            int first = file.allocate();
+            int second = file.allocate();
+            file.write(first, new float[] { 1, 2, 3, 4 }, buffer);
+            file.write(second, new float[] { 5, 6, 7, 8 }, buffer);
+
+            // An interrupted thread closes the channel as soon as it touches it
+            float[] vector = new float[DIMENSION];
+            Thread.currentThread().interrupt();
+            try {
+                file.read(second, vector, buffer);
+                assertTrue(Thread.currentThread().isInterrupted(), "the interrupt is kept for the caller");
+            } finally {
+                Thread.interrupted();
+            }
+            assertArrayEquals(new float[] { 5, 6, 7, 8 }, vector);
+
+            // The reopened channel still holds everything written before
+            file.read(first, vector, buffer);
+            assertArrayEquals(new float[] { 1, 2, 3, 4 }, vector);
+        }
+    }
+
+    @Test
+    void doesNotReopenOnceClosed() throws IOException {
+        RawVectorFile file = new RawVectorFile(directory.resolve("vectors.bin"), DIMENSION);
+        ByteBuffer buffer = file.newBuffer();
+        int slot = file.allocate();
+        file.write(slot, new float[] { 1, 2, 3, 4 }, buffer);
+        file.close();
+
+        assertThrows(UncheckedIOException.class, () -> file.read(slot, new float[DIMENSION], buffer));
+    }
+}
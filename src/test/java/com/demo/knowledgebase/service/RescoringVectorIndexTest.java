@@ -0,0 +1,104 @@
+package com.demo.knowledgebase.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RescoringVectorIndexTest {
+
+    private static final int DIMENSION = 16;
+    private static final int VECTORS = 500;
+
+    @TempDir
+    Path directory;
+
+    private final List<RescoringVectorIndex> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeIndexes() throws IOException {
+        for (RescoringVectorIndex index : opened) {
+            index.close();
+        }
+    }
+
+    @Test
+    void filteredSearchRanksOnlyTheFilteredVectors() {
+        for (RescoringVectorIndex index : indexes()) {
+            float[][] vectors = fill(index);
+            Set<String> filter = new HashSet<>();
+            for (int i = 0; i < VECTORS; i += 10) {
+                filter.add("doc-" + i);
+            }
+            filter.add("not-indexed");
+
+            float[] query = vectors[123]; // Not in the filter
+            List<VectorIndex.Hit> hits = index.search(query, 5, SearchOptions.DEFAULT, filter);
+
+            // Every filtered vector is a candidate, so the exact rescore finds the true best
+            List<String> expected = bruteForce(vectors, query, filter, 5);
+            assertEquals(expected, hits.stream().map(VectorIndex.Hit::id).toList(),
+                    index.getClass().getSimpleName());
+            assertTrue(hits.get(0).score() >= hits.get(4).score());
+        }
+    }
+
+    @Test
+    void filteredSearchSkipsRemovedVectors() {
+        for (RescoringVectorIndex index : indexes()) {
+            fill(index);
+            index.remove("doc-1");
+            index.remove("doc-2");
+
+            assertEquals(List.of("doc-3"), index.search(vector(new Random(1)), 5, SearchOptions.DEFAULT,
+                    Set.of("doc-1", "doc-2", "doc-3")).stream().map(VectorIndex.Hit::id).toList());
+            assertTrue(index.search(vector(new Random(1)), 5, SearchOptions.DEFAULT, Set.of()).isEmpty());
+        }
+    }
+
+    private List<RescoringVectorIndex> indexes() {
+        // Large candidate factors: every filtered row reaches the rescore
+        opened.add(new QuantizedVectorIndex(DIMENSION, true, 100, 100, directory.resolve("int8.bin")));
+        opened.add(new BinaryVectorIndex(DIMENSION, 100, directory.resolve("binary.bin")));
+        return opened;
+    }
+
+    private static float[][] fill(RescoringVectorIndex index) {
+        Random random = new Random(42);
+        float[][] vectors = new float[VECTORS][];
+        for (int i = 0; i < VECTORS; i++) {
+            vectors[i] = VectorMath.normalize(vector(random));
+            index.add("doc-" + i, vectors[i]);
+        }
+        return vectors;
+    }
+
+    private static List<String> bruteForce(float[][] vectors, float[] query, Set<String> filter, int topK) {
+        List<Integer> rows = new ArrayList<>();
+        for (int i = 0; i < vectors.length; i++) {
+            if (filter.contains("doc-" + i)) {
+                rows.add(i);
+            }
+        }
+        rows.sort((a, b) -> Float.compare(VectorMath.dot(query, vectors[b]), VectorMath.dot(query, vectors[a])));
+        return rows.subList(0, topK).stream().map(i -> "doc-" + i).toList();
+    }
+
+    private static float[] vector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
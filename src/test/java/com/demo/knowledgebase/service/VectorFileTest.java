@@ -0,0 +1,149 @@
+package com.demo.knowledgebase.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VectorFileTest {
+
+    private static final int DIMENSION = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void keepsIdsOfAnyLength() throws IOException {
+        String longId = "doc-" + "x".repeat(300);
+        String arabicId = "مستند-" + "ع".repeat(100); // Two bytes per letter
+        Path path = directory.resolve("vectors.kbvf");
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT32)) {
+            file.append(List.of(longId, arabicId, "short"),
+                    List.of(vector(1), vector(2), vector(3)));
+            file.appendDeletion("short");
+            file.append(List.of(longId), List.of(vector(4))); // Last record wins
+        }
+
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT32)) {
+            Map<String, float[]> replayed = replay(file);
+            assertEquals(List.of(arabicId, longId), List.copyOf(replayed.keySet()));
+            assertArrayEquals(vector(4), replayed.get(longId));
+            assertArrayEquals(vector(2), replayed.get(arabicId));
+            assertEquals(5, file.recordCount());
+        }
+    }
+
+    @Test
+    void dropsPartialRecordLeftByInterruptedAppend() throws IOException {
+        Path path = directory.resolve("vectors.kbvf");
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT32)) {
+            file.append(List.of("a", "b"), List.of(vector(1), vector(2)));
+        }
+        // Bytes of a record whose header count was never written
+        Files.write(path, new byte[] { 1, 10, 0, 0, 0, 'c' }, StandardOpenOption.APPEND);
+
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT32)) {
+            assertEquals(2, file.recordCount());
+            file.append(List.of("c"), List.of(vector(3)));
+        }
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT32)) {
+            Map<String, float[]> replayed = replay(file);
+            assertEquals(List.of("a", "b", "c"), List.copyOf(replayed.keySet()));
+            assertArrayEquals(vector(3), replayed.get("c"));
+        }
+    }
+
+    @Test
+    void keepsCompleteRecordsWhenTheHeaderIsAheadOfThem() throws IOException {
+        Path path = directory.resolve("vectors.kbvf");
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT32)) {
+            file.append(List.of("a", "b"), List.of(vector(1), vector(2)));
+        }
+        // Lose the second half of the last record, as after a crash
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 8);
+        }
+
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT32)) {
+            assertEquals(1, file.recordCount());
+            Map<String, float[]> replayed = replay(file);
+            assertEquals(List.of("a"), List.copyOf(replayed.keySet()));
+            assertArrayEquals(vector(1), replayed.get("a"));
+        }
+    }
+
+    @Test
+    void roundTripsFloat16() throws IOException {
+        Path path = directory.resolve("vectors.kbvf");
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT16)) {
+            file.append(List.of("a"), List.of(vector(1)));
+        }
+        // The encoding of an existing file wins over the requested one
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT32)) {
+            assertEquals(VectorEncoding.FLOAT16, file.encoding());
+            assertArrayEquals(vector(1), replay(file).get("a"), 1e-3f);
+        }
+    }
+
+    @Test
+    void readsButDoesNotAppendToVersion1Files() throws IOException {
+        Path path = directory.resolve("old.kbvf");
+        int stride = 64 + DIMENSION * Float.BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(VectorFile.HEADER_BYTES + 2 * stride).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(VectorFile.MAGIC).putInt(1).putInt(DIMENSION).putInt(0).putLong(2);
+        buffer.position(VectorFile.HEADER_BYTES);
+        putVersion1Record(buffer, "a", vector(1));
+        putVersion1Record(buffer, "b", vector(2));
+        Files.write(path, buffer.array());
+
+        try (VectorFile file = new VectorFile(path, DIMENSION, VectorEncoding.FLOAT32)) {
+            Map<String, float[]> replayed = replay(file);
+            assertEquals(List.of("a", "b"), List.copyOf(replayed.keySet()));
+            assertArrayEquals(vector(2), replayed.get("b"));
+            assertThrows(IllegalStateException.class, () -> file.append(List.of("c"), List.of(vector(3))));
+
+            // Clearing starts the file over in the current layout
+            file.clear();
+            file.append(List.of("c"), List.of(vector(3)));
+            assertEquals(List.of("c"), List.copyOf(replay(file).keySet()));
+        }
+    }
+
+    private static void putVersion1Record(ByteBuffer buffer, String id, float[] vector) {
+        int start = buffer.position();
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        buffer.put((byte) 1).put((byte) bytes.length).put(bytes);
+        buffer.position(start + 64);
+        for (float value : vector) {
+            buffer.putFloat(value);
+        }
+    }
+
+    private static Map<String, float[]> replay(VectorFile file) {
+        Map<String, float[]> replayed = new LinkedHashMap<>();
+        file.replay(replayed::put);
+        return replayed;
+    }
+
+    private static float[] vector(int seed) {
+        float[] vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = seed + d / 10f;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,201 @@
+package com.demo.knowledgebase.service;
+
+import com.demo.knowledgebase.model.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteAheadLogTest {
+
+    private static final long SEGMENT_BYTES = 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysEveryEntryInOrderAfterReopening() throws IOException {
+        try (WriteAheadLog log = open(0, new ArrayList<>())) {
+            log.append(List.of(put("a", 1), put("b", 2)));
+            log.append(List.of(WriteAheadLog.Entry.delete("a")));
+            log.append(List.of(WriteAheadLog.Entry.clear()));
+            assertEquals(5, log.append(List.of(put("c", 3))));
+        }
+
+        List<WriteAheadLog.Entry> replayed = new ArrayList<>();
+        try (WriteAheadLog log = open(0, replayed)) {
+            assertEquals(5, log.lastSequence());
+        }
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), sequences(replayed));
+        assertEquals(List.of(WriteAheadLog.Type.PUT, WriteAheadLog.Type.PUT, WriteAheadLog.Type.DELETE,
+                WriteAheadLog.Type.CLEAR, WriteAheadLog.Type.PUT),
+                replayed.stream().map(WriteAheadLog.Entry::type).toList());
+
+        WriteAheadLog.Entry first = replayed.get(0);
+        assertEquals("a", first.id());
+        assertEquals("Title a", first.document().getTitle());
+        assertEquals("General", first.document().getCategory());
+        assertArrayEquals(vector(1), first.vector());
+        assertEquals("a", replayed.get(2).id());
+        assertNull(replayed.get(3).id());
+    }
+
+    @Test
+    void truncatesATornTailAndAppendsAfterIt() throws IOException {
+        try (WriteAheadLog log = open(0, new ArrayList<>())) {
+            log.append(List.of(put("a", 1), put("b", 2), put("c", 3)));
+        }
+        Path segment = onlySegment();
+        long intact = Files.size(segment);
+        // Cut the last record in half, as a crash mid-write would
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(intact - 20);
+        }
+
+        List<WriteAheadLog.Entry> replayed = new ArrayList<>();
+        try (WriteAheadLog log = open(0, replayed)) {
+            assertEquals(List.of(1L, 2L), sequences(replayed));
+            assertEquals(2, log.lastSequence());
+            assertEquals(3, log.append(List.of(put("d", 4))));
+        }
+
+        replayed.clear();
+        try (WriteAheadLog log = open(0, replayed)) {
+            assertEquals(List.of("a", "b", "d"), replayed.stream().map(WriteAheadLog.Entry::id).toList());
+        }
+    }
+
+    @Test
+    void stopsAtARecordWhoseChecksumDoesNotMatch() throws IOException {
+        try (WriteAheadLog log = open(0, new ArrayList<>())) {
+            log.append(List.of(put("a", 1)));
+            log.append(List.of(put("b", 2)));
+        }
+        Path segment = onlySegment();
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x5A; // Last byte of the last record's vector
+        Files.write(segment, bytes);
+
+        List<WriteAheadLog.Entry> replayed = new ArrayList<>();
+        try (WriteAheadLog log = open(0, replayed)) {
+            assertEquals(List.of("a"), replayed.stream().map(WriteAheadLog.Entry::id).toList());
+            assertEquals(1, log.lastSequence());
+        }
+        assertTrue(Files.size(segment) < bytes.length, "the corrupt record is truncated away");
+    }
+
+    @Test
+    void failsOnACorruptSealedSegment() throws IOException {
+        try (WriteAheadLog log = open(0, new ArrayList<>())) {
+            log.append(List.of(put("a", 1)));
+            log.seal();
+            log.append(List.of(put("b", 2)));
+        }
+        Path sealed = segments().get(0);
+        byte[] bytes = Files.readAllBytes(sealed);
+        bytes[bytes.length - 1] ^= 0x5A;
+        Files.write(sealed, bytes);
+
+        // Only the last segment can have a torn tail; anything else is lost data
+        assertThrows(UncheckedIOException.class, () -> open(0, new ArrayList<>()));
+    }
+
+    @Test
+    void replaysOnlyEntriesAfterTheSnapshot() throws IOException {
+        try (WriteAheadLog log = open(0, new ArrayList<>())) {
+            log.append(List.of(put("a", 1), put("b", 2), put("c", 3)));
+        }
+
+        List<WriteAheadLog.Entry> replayed = new ArrayList<>();
+        try (WriteAheadLog log = open(2, replayed)) {
+            assertEquals(List.of(3L), sequences(replayed));
+            assertEquals(4, log.append(List.of(put("d", 4))));
+        }
+    }
+
+    @Test
+    void continuesNumberingAfterSealedSegmentsAreDeleted() throws IOException {
+        WriteAheadLog.Sealed sealed;
+        try (WriteAheadLog log = open(0, new ArrayList<>())) {
+            log.append(List.of(put("a", 1), put("b", 2)));
+            sealed = log.seal();
+            assertEquals(2, sealed.lastSequence());
+            assertEquals(1, sealed.segments().size());
+            log.deleteSealed(sealed.segments());
+            log.append(List.of(put("c", 3)));
+        }
+        assertEquals(1, segments().size());
+
+        List<WriteAheadLog.Entry> replayed = new ArrayList<>();
+        try (WriteAheadLog log = open(sealed.lastSequence(), replayed)) {
+            assertEquals(List.of(3L), sequences(replayed));
+            assertEquals(3, log.lastSequence());
+        }
+    }
+
+    @Test
+    void rotatesIntoNewSegmentsAndReadsThemBack() throws IOException {
+        try (WriteAheadLog log = WriteAheadLog.open(directory, 256, false, 0, entry -> {
+        })) {
+            for (int i = 0; i < 10; i++) {
+                log.append(List.of(put("doc-" + i, i)));
+            }
+        }
+        assertTrue(segments().size() > 1, "small segments rotate");
+
+        List<WriteAheadLog.Entry> replayed = new ArrayList<>();
+        try (WriteAheadLog log = open(0, replayed)) {
+            assertEquals(10, replayed.size());
+            assertEquals(10, log.lastSequence());
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + 1L, replayed.get(i).sequence());
+            assertEquals("doc-" + i, replayed.get(i).id());
+        }
+    }
+
+    private WriteAheadLog open(long afterSequence, List<WriteAheadLog.Entry> replayed) {
+        return WriteAheadLog.open(directory, SEGMENT_BYTES, false, afterSequence, replayed::add);
+    }
+
+    private Path onlySegment() throws IOException {
+        List<Path> segments = segments();
+        assertEquals(1, segments.size());
+        return segments.get(0);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().startsWith("wal-")).sorted().toList();
+        }
+    }
+
+    private static List<Long> sequences(List<WriteAheadLog.Entry> entries) {
+        return entries.stream().map(WriteAheadLog.Entry::sequence).toList();
+    }
+
+    private static WriteAheadLog.Entry put(String id, int seed) {
+        Document document = new Document(id, "Title " + id, "Content of " + id, "General",
+                LocalDateTime.of(2024, 1, 1, 12, 0), "admin");
+        return WriteAheadLog.Entry.put(document, vector(seed));
+    }
+
+    private static float[] vector(int seed) {
+        return new float[] { seed, seed + 0.5f, -seed, 1f };
+    }
+}